@@ -0,0 +1,76 @@
+package akuma.whiplash.global.config.security.jwt;
+
+import static akuma.whiplash.global.config.security.jwt.constants.TokenType.ACCESS;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청 1건당 JWT 인증 비용 비교
+ * - legacy: 요청마다 키·파서를 새로 만들고, validateToken / getAuthentication에서 토큰을 두 번 파싱
+ * - cached: JwtKeyHolder의 키·파서를 재사용하고, 한 번 파싱한 Claims를 재사용
+ * (회원 조회 등 DB 비용은 제외하고 토큰 처리 비용만 측정)
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtKeyHolder jwtKeyHolder;
+
+    @Setup
+    public void setUp() {
+        secret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        jwtKeyHolder = new JwtKeyHolder(secret);
+
+        token = Jwts.builder()
+            .claim("role", "USER")
+            .claim("type", ACCESS)
+            .claim("deviceId", "benchmark-device")
+            .setSubject("1")
+            .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+            .signWith(jwtKeyHolder.getSecretKey(), SignatureAlgorithm.HS256)
+            .compact();
+    }
+
+    @Benchmark
+    public Object legacy() {
+        Claims validated = legacyParse(token);
+        if (!validated.get("type").equals(ACCESS.name())) {
+            throw new IllegalStateException();
+        }
+        Claims claims = legacyParse(token);
+        return claims.getSubject() + claims.get("role") + claims.get("deviceId");
+    }
+
+    @Benchmark
+    public Object cached() {
+        Claims claims = jwtKeyHolder.parseClaims(token);
+        if (!claims.get("type").equals(ACCESS.name())) {
+            throw new IllegalStateException();
+        }
+        return claims.getSubject() + claims.get("role") + claims.get("deviceId");
+    }
+
+    private Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+
+        return Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+    }
+}
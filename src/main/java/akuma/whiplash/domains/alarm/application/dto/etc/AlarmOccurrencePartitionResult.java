@@ -0,0 +1,12 @@
+package akuma.whiplash.domains.alarm.application.dto.etc;
+
+import java.time.YearMonth;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record AlarmOccurrencePartitionResult(
+    List<YearMonth> createdMonths,
+    List<YearMonth> archivedMonths
+) {
+}
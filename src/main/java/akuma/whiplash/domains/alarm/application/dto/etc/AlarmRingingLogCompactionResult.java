@@ -0,0 +1,11 @@
+package akuma.whiplash.domains.alarm.application.dto.etc;
+
+import lombok.Builder;
+
+@Builder
+public record AlarmRingingLogCompactionResult(
+    int compactedOccurrenceCount,   // 요약을 생성/갱신한 발생 내역 수
+    int purgedLogCount,             // 삭제한 울림 기록 행 수
+    int failedOccurrenceCount
+) {
+}
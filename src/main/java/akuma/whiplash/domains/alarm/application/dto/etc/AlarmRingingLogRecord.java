@@ -0,0 +1,12 @@
+package akuma.whiplash.domains.alarm.application.dto.etc;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record AlarmRingingLogRecord(
+    Long occurrenceId,
+    int ringIndex,
+    LocalDateTime ringedAt
+) {
+}
@@ -0,0 +1,14 @@
+package akuma.whiplash.domains.alarm.application.dto.etc;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record AlarmRingingSummary(
+    Long occurrenceId,
+    LocalDateTime firstRingedAt,
+    LocalDateTime lastRingedAt,
+    int ringCount,
+    String gapMicros        // 연속 울림 간격(μs)의 콤마 구분 배열 (울림 1회면 빈 문자열)
+) {
+}
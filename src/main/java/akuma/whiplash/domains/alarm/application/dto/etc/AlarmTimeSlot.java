@@ -0,0 +1,11 @@
+package akuma.whiplash.domains.alarm.application.dto.etc;
+
+import java.time.LocalTime;
+import lombok.Builder;
+
+@Builder
+public record AlarmTimeSlot(
+    Long alarmId,
+    LocalTime time
+) {
+}
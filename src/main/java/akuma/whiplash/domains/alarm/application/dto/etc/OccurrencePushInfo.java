@@ -1,12 +1,14 @@
 package akuma.whiplash.domains.alarm.application.dto.etc;
 
+import java.time.LocalDateTime;
 import lombok.Builder;
 
 @Builder
 public record OccurrencePushInfo(
     Long occurrenceId,
     Long memberId,
-    String address
+    String address,
+    LocalDateTime alarmAt   // 알람이 울릴 시각 (분 단위)
 ) {
 
 }
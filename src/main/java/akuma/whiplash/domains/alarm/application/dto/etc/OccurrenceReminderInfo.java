@@ -0,0 +1,26 @@
+package akuma.whiplash.domains.alarm.application.dto.etc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import lombok.Builder;
+
+@Builder
+public record OccurrenceReminderInfo(
+    Long occurrenceId,
+    Long memberId,
+    String address,
+    LocalDate date,
+    LocalTime time
+) {
+
+    public OccurrencePushInfo toPushInfo() {
+        return OccurrencePushInfo.builder()
+            .occurrenceId(occurrenceId)
+            .memberId(memberId)
+            .address(address)
+            .alarmAt(LocalDateTime.of(date, time).truncatedTo(ChronoUnit.MINUTES))
+            .build();
+    }
+}
@@ -0,0 +1,19 @@
+package akuma.whiplash.domains.alarm.application.dto.etc;
+
+import akuma.whiplash.domains.alarm.domain.constant.PushType;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record PushOutboxMessage(
+    Long id,                // 적재 전에는 null
+    String dedupKey,
+    PushType type,
+    Long occurrenceId,
+    Long alarmId,
+    Long memberId,
+    String address,
+    int attempts,
+    LocalDateTime expiresAt
+) {
+}
@@ -4,7 +4,10 @@ import lombok.Builder;
 
 @Builder
 public record RingingPushInfo(
+    Long occurrenceId,
     Long alarmId,
-    Long memberId
+    Long memberId,
+    long ringStartedAtMillis,   // 울림 시작 시각 (epoch ms)
+    Long lastSentAtMillis       // 마지막 울림 푸시 전송 시각 (epoch ms, 미전송이면 null)
 ) {
 }
\ No newline at end of file
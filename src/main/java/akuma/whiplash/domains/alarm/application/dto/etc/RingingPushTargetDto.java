@@ -5,6 +5,7 @@ import lombok.Builder;
 @Builder
 public record RingingPushTargetDto(
     String token,
+    Long occurrenceId,
     Long alarmId,
     Long memberId
 ) {
@@ -1,5 +1,6 @@
 package akuma.whiplash.domains.alarm.application.mapper;
 
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrenceReminderInfo;
 import akuma.whiplash.domains.alarm.application.dto.request.AlarmRegisterRequest;
 import akuma.whiplash.domains.alarm.application.dto.response.AlarmInfoPreviewResponse;
 import akuma.whiplash.domains.alarm.application.dto.response.CreateAlarmOccurrenceResponse;
@@ -10,12 +11,9 @@ import akuma.whiplash.domains.alarm.exception.AlarmErrorCode;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOffLogEntity;
-import akuma.whiplash.domains.alarm.persistence.entity.AlarmRingingLogEntity;
 import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
 import akuma.whiplash.global.exception.ApplicationException;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
@@ -44,10 +42,7 @@ public class AlarmMapper {
 
     public static AlarmOccurrenceEntity mapToTodayFirstAlarmOccurrenceEntity(AlarmEntity alarmEntity) {
         LocalDate today = LocalDate.now();
-        DayOfWeek todayDayOfWeek = today.getDayOfWeek();
-
-        boolean isTodayAlarmDay = alarmEntity.getRepeatDays().stream()
-            .anyMatch(weekday -> weekday.getDayOfWeek() == todayDayOfWeek);
+        boolean isTodayAlarmDay = (alarmEntity.getRepeatMask() & Weekday.bitOf(today.getDayOfWeek())) != 0;
 
         if (!isTodayAlarmDay) {
             throw ApplicationException.from(AlarmErrorCode.TODAY_IS_NOT_ALARM_DAY); // 오늘은 울릴 날이 아님
@@ -80,15 +75,15 @@ public class AlarmMapper {
             .build();
     }
 
-    public static AlarmRingingLogEntity mapToAlarmRingingLogEntity(
-        AlarmOccurrenceEntity occurrence,
-        int ringIndex,
-        LocalDateTime ringedAt
-    ) {
-        return AlarmRingingLogEntity.builder()
-            .alarmOccurrence(occurrence)
-            .ringIndex(ringIndex)
-            .ringedAt(ringedAt)
+    public static OccurrenceReminderInfo mapToOccurrenceReminderInfo(AlarmOccurrenceEntity occurrence) {
+        AlarmEntity alarm = occurrence.getAlarm();
+
+        return OccurrenceReminderInfo.builder()
+            .occurrenceId(occurrence.getId())
+            .memberId(alarm.getMember().getId())
+            .address(alarm.getAddress())
+            .date(occurrence.getDate())
+            .time(occurrence.getTime())
             .build();
     }
 
@@ -2,6 +2,11 @@ package akuma.whiplash.domains.alarm.application.scheduler;
 
 import akuma.whiplash.domains.alarm.application.dto.etc.AlarmOccurrenceCreateBatchResult;
 import akuma.whiplash.domains.alarm.domain.service.AlarmOccurrenceBatchService;
+import akuma.whiplash.domains.alarm.domain.service.PreAlarmReminderIndex;
+import akuma.whiplash.global.config.scheduler.SchedulerConfig;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.Duration;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,13 +19,24 @@ public class AlarmOccurrenceBatchScheduler {
 
     private final AlarmOccurrenceBatchService alarmOccurrenceBatchService;
     private final BatchRetryExecutor batchRetryExecutor;
+    private final PreAlarmReminderIndex preAlarmReminderIndex;
+    private final SchedulerShardCoordinator schedulerShardCoordinator;
 
     private static final int MAX_RETRY = 3;
     private static final long RETRY_DELAY_MILLIS = 5000;
 
+    private static final String BATCH_JOB_NAME = "alarm-occurrence-batch";
+    private static final Duration BATCH_JOB_LOCK_TTL = Duration.ofHours(6);
+
     // 매일 자정에 실행
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul") // 00:00:00
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_LANE) // 00:00:00
     public void scheduleDailyAlarmOccurrenceCreation() {
+        // 여러 인스턴스 중 한 노드만 실행 (리마인드 인덱스는 공유되므로 실행한 노드만 적재)
+        if (!schedulerShardCoordinator.tryAcquireJob(BATCH_JOB_NAME, LocalDate.now().toString(), BATCH_JOB_LOCK_TTL)) {
+            log.info("알람 발생 내역 배치는 다른 노드에서 실행 중");
+            return;
+        }
+
         log.info("알람 발생 내역 배치 생성 스케줄러 시작");
         runWithRetry(1);
         log.info("알람 발생 내역 배치 생성 스케줄러 종료");
@@ -32,6 +48,9 @@ public class AlarmOccurrenceBatchScheduler {
     private void runWithRetry(int attempt) {
         AlarmOccurrenceCreateBatchResult result = alarmOccurrenceBatchService.createTodayAlarmOccurrences();
 
+        // 커밋된 오늘 발생 내역으로 리마인드 타임휠 인덱스 재적재 (재시도로 추가 생성된 건도 반영)
+        preAlarmReminderIndex.warmUp(LocalDate.now());
+
         if (result.failedCount() == 0) {
             log.info("[AlarmOccurrence Create Batch] 성공적으로 완료됨 (재시도 {}회)", attempt - 1);
             return;
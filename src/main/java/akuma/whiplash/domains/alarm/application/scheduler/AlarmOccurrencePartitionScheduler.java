@@ -0,0 +1,41 @@
+package akuma.whiplash.domains.alarm.application.scheduler;
+
+import akuma.whiplash.domains.alarm.domain.service.AlarmOccurrencePartitionService;
+import akuma.whiplash.global.config.scheduler.SchedulerConfig;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AlarmOccurrencePartitionScheduler {
+
+    private final AlarmOccurrencePartitionService alarmOccurrencePartitionService;
+    private final SchedulerShardCoordinator schedulerShardCoordinator;
+
+    private static final String PARTITION_JOB_NAME = "alarm-occurrence-partition";
+    private static final Duration PARTITION_JOB_LOCK_TTL = Duration.ofHours(6);
+
+    // 매일 새벽 3시 30분에 실행 (이미 만들어진/분리된 파티션은 건너뛰므로 매일 돌아도 멱등)
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_LANE)
+    public void maintainPartitions() {
+        // 파티션 DDL은 여러 노드가 동시에 실행하면 충돌하므로 한 노드만 실행
+        if (!schedulerShardCoordinator.tryAcquireJob(PARTITION_JOB_NAME, LocalDate.now().toString(), PARTITION_JOB_LOCK_TTL)) {
+            log.info("알람 발생 내역 파티션 유지보수는 다른 노드에서 실행 중");
+            return;
+        }
+
+        try {
+            alarmOccurrencePartitionService.maintain(YearMonth.now());
+        } catch (Exception e) {
+            // 다음 날 다시 실행되며, 누락된 파티션은 p_max가 받으므로 적재는 중단되지 않음
+            log.error("[AlarmOccurrence Partition] 파티션 유지보수 실패", e);
+        }
+    }
+}
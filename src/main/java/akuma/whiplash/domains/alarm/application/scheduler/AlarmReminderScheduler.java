@@ -1,24 +1,23 @@
 package akuma.whiplash.domains.alarm.application.scheduler;
 
 import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
-import akuma.whiplash.domains.alarm.application.dto.etc.PushTargetDto;
 import akuma.whiplash.domains.alarm.domain.service.AlarmCommandService;
-import akuma.whiplash.domains.alarm.domain.service.AlarmQueryService;
-import akuma.whiplash.infrastructure.firebase.FcmService;
-import akuma.whiplash.infrastructure.firebase.dto.FcmSendResult;
-import akuma.whiplash.infrastructure.redis.RedisService;
+import akuma.whiplash.domains.alarm.domain.service.PreAlarmReminderIndex;
+import akuma.whiplash.global.config.scheduler.SchedulerConfig;
 import akuma.whiplash.global.log.NoMethodLog;
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
-import jakarta.annotation.PostConstruct;
+import akuma.whiplash.infrastructure.redis.RedisService;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -27,98 +26,60 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AlarmReminderScheduler {
 
-    private final AlarmQueryService alarmQueryService;
-    private final RedisService redisService;
-    private final FcmService fcmService;
+    private final PreAlarmReminderIndex preAlarmReminderIndex;
     private final AlarmCommandService alarmCommandService;
-    private final MeterRegistry meterRegistry;
-
-    private Counter preAlarmPushAttemptCounter;
-    private Counter preAlarmPushSuccessCounter;
-    private Counter preAlarmPushFailureCounter;
-    private Counter invalidFcmTokenCounter;
-
-    @PostConstruct
-    void registerMetrics() {
-        preAlarmPushAttemptCounter = meterRegistry.counter(
-            "pre_alarm.push_attempt", "scheduler", "pre-alarm");
-
-        preAlarmPushSuccessCounter = meterRegistry.counter(
-            "pre_alarm.push_success", "scheduler", "pre-alarm");
+    private final SchedulerShardCoordinator schedulerShardCoordinator;
+    private final RedisService redisService;
 
-        preAlarmPushFailureCounter = meterRegistry.counter(
-            "pre_alarm.push_failure", "scheduler", "pre-alarm");
+    private static final long REMINDER_LEAD_MINUTES = 60;
 
-        invalidFcmTokenCounter = meterRegistry.counter(
-            "pre_alarm.invalid_token_removed", "scheduler", "pre-alarm");
+    // 서버 재기동 시 자정 배치를 기다리지 않고 오늘 리마인드 대상을 다시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpReminderIndex() {
+        preAlarmReminderIndex.warmUp(LocalDate.now());
     }
 
     // 매 분 마다 실행
-    @Scheduled(cron = "0 * * * * *")
+    @Scheduled(cron = "0 * * * * *", scheduler = SchedulerConfig.REMINDER_LANE)
     @NoMethodLog
     public void sendPreAlarmNotifications() {
 
-        // 0. 시간 기준 (분 단위 정렬)
+        // 0. 시간 기준 (분 단위 정렬): 알람 시각이 (워터마크, now+60] 인 발생 내역이 대상
         LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
-        LocalDateTime windowStart = now.plusMinutes(59);
-        LocalDateTime windowEnd = now.plusMinutes(61);
-
-        // 1. DB에서 알림 대상 필터링 (자정 크로스 안전)
-        List<OccurrencePushInfo> infos = alarmQueryService.getPreNotificationTargets(windowStart, windowEnd);
+        LocalDateTime windowEnd = now.plusMinutes(REMINDER_LEAD_MINUTES);
 
-        if (infos.isEmpty())
+        // 1. 이 노드가 점유한 샤드별로 마지막으로 처리한 알람 시각(워터마크) 조회
+        //    - 워터마크가 없으면 이번 분부터, 밀린 틱은 한 번에 따라잡되 이미 울릴 시각이 지난 알람은 제외
+        Set<Integer> shards = schedulerShardCoordinator.getOwnedShards();
+        if (shards.isEmpty())
             return;
 
-        // 2. Redis에서 FCM 토큰 조회 → push 대상 생성
-        List<PushTargetDto> targets = infos.stream()
-            .flatMap(info ->
-                redisService.getFcmTokens(info.memberId()).stream()
-                    .map(token -> PushTargetDto.builder()
-                        .token(token)
-                        .address(info.address())
-                        .memberId(info.memberId())
-                        .occurrenceId(info.occurrenceId())
-                        .build()
-                    )
-            )
-            .toList();
+        Map<Integer, LocalDateTime> watermarks = redisService.getReminderWatermarks(shards);
 
-        if (targets.isEmpty())
-            return;
-
-        // 실제 전송 시도한 횟수 기록
-        preAlarmPushAttemptCounter.increment(targets.size());
-
-        log.info("알람 울리기 1시간 전 푸시 알림 대상 {}건 전송 시도", targets.size());
-
-        // 3. FCM 전송
-        FcmSendResult result = fcmService.sendBulkNotification(targets);
+        // 2. 공유 타임휠 인덱스에서 샤드별 (워터마크, now+60] 구간만 조회 (DB 조회 없음, 연속된 틱은 겹치지 않는 구간을 읽음)
+        List<OccurrencePushInfo> infos = new ArrayList<>();
+        boolean scanned = false;
+        for (Integer shard : shards) {
+            LocalDateTime watermark = watermarks.getOrDefault(shard, windowEnd.minusMinutes(1));
+            LocalDateTime startExclusive = watermark.isBefore(now) ? now : watermark;
+            if (!startExclusive.isBefore(windowEnd))
+                continue;
 
-        // 전송 성공/실패 횟수 기록
-        preAlarmPushSuccessCounter.increment(result.getSuccessCount());
-        preAlarmPushFailureCounter.increment(result.getFailedCount());
-
-        // 4. 성공한 occurrence만 reminderSent=true 벌크 업데이트
-        if (!result.getSuccessOccurrenceIds().isEmpty()) {
-            alarmCommandService.markReminderSent(result.getSuccessOccurrenceIds());
+            infos.addAll(preAlarmReminderIndex.getTargets(shard, startExclusive.plusMinutes(1), windowEnd));
+            scanned = true;
         }
 
-        // 5. 무효 토큰 정리: 각 회원의 토큰 중 무효한 것만 제거
-        Set<String> invalidTokenSet = new HashSet<>(result.getInvalidTokens());
-        int invalidCount = 0;
+        if (!scanned)
+            return;
 
-        for (Map.Entry<Long, List<String>> e : result.getMemberToTokens().entrySet()) {
-            Long memberId = e.getKey();
-            invalidCount += (int) e.getValue().stream()
-                .filter(invalidTokenSet::contains)
-                .peek(token -> redisService.removeInvalidToken(memberId, token))
-                .count();
+        // 3. reminderSent=true 처리와 push_outbox 적재를 한 트랜잭션으로 (전송·재시도는 PushOutboxDispatcher)
+        if (!infos.isEmpty()) {
+            int enqueued = alarmCommandService.enqueueReminderPushes(infos);
+            log.info("알람 울리기 1시간 전 푸시 알림 대상 {}건 적재", enqueued);
         }
 
-        // 제거된 무효 토큰 개수 기록
-        if (invalidCount > 0) {
-            invalidFcmTokenCounter.increment(invalidCount);
-        }
+        // 4. 적재가 커밋된 뒤에만 워터마크 전진 (실패하면 다음 틱이 같은 구간을 다시 읽음)
+        redisService.setReminderWatermarks(shards, windowEnd);
     }
 
 }
@@ -0,0 +1,41 @@
+package akuma.whiplash.domains.alarm.application.scheduler;
+
+import akuma.whiplash.domains.alarm.domain.service.AlarmRingingLogCompactionService;
+import akuma.whiplash.global.config.scheduler.SchedulerConfig;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AlarmRingingLogCompactionScheduler {
+
+    private final AlarmRingingLogCompactionService alarmRingingLogCompactionService;
+    private final SchedulerShardCoordinator schedulerShardCoordinator;
+
+    private static final String COMPACTION_JOB_NAME = "alarm-ringing-log-compaction";
+    private static final Duration COMPACTION_JOB_LOCK_TTL = Duration.ofHours(6);
+
+    // 매일 새벽 4시에 실행 (파티션 유지보수 이후, 압축된 기록은 다시 조회되지 않으므로 매일 돌아도 멱등)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_LANE)
+    public void compactRingingLogs() {
+        // 같은 발생 내역을 여러 노드가 동시에 압축하면 삭제/갱신이 충돌하므로 한 노드만 실행
+        if (!schedulerShardCoordinator.tryAcquireJob(COMPACTION_JOB_NAME, LocalDate.now().toString(), COMPACTION_JOB_LOCK_TTL)) {
+            log.info("알람 울림 기록 압축은 다른 노드에서 실행 중");
+            return;
+        }
+
+        try {
+            alarmRingingLogCompactionService.compact(LocalDateTime.now());
+        } catch (Exception e) {
+            // 압축되지 않은 기록은 그대로 남아 다음 날 다시 처리됨
+            log.error("[AlarmRingingLog Compaction] 울림 기록 압축 실패", e);
+        }
+    }
+}
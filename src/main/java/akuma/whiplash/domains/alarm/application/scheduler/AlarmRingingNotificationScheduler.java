@@ -1,15 +1,16 @@
 package akuma.whiplash.domains.alarm.application.scheduler;
 
 import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
-import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushTargetDto;
-import akuma.whiplash.domains.alarm.domain.service.AlarmQueryService;
-import akuma.whiplash.infrastructure.firebase.FcmService;
-import akuma.whiplash.infrastructure.firebase.dto.FcmMetricResult;
+import akuma.whiplash.domains.alarm.domain.service.PushOutboxService;
+import akuma.whiplash.domains.alarm.domain.service.RingingPushSchedule;
 import akuma.whiplash.infrastructure.redis.RedisService;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import akuma.whiplash.global.config.scheduler.SchedulerConfig;
 import akuma.whiplash.global.log.NoMethodLog;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,78 +22,50 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AlarmRingingNotificationScheduler {
 
-    private final AlarmQueryService alarmQueryService;
     private final RedisService redisService;
-    private final FcmService fcmService;
+    private final SchedulerShardCoordinator schedulerShardCoordinator;
+    private final PushOutboxService pushOutboxService;
+    private final RingingPushSchedule ringingPushSchedule;
     private final MeterRegistry meterRegistry;
 
-    private Counter ringingPushAttemptCounter;
-    private Counter ringingPushSuccessCounter;
-    private Counter ringingPushFailureCounter;
-    //private Counter ringingInvalidTokenCounter;
+    private Counter ringingPushSkippedCounter;
 
     @PostConstruct
     void registerMetrics() {
-        ringingPushAttemptCounter = meterRegistry.counter(
-            "ringing_alarm.push_attempt", "scheduler", "alarm-ringing");
-
-        ringingPushSuccessCounter = meterRegistry.counter(
-            "ringing_alarm.push_success", "scheduler", "alarm-ringing");
-
-        ringingPushFailureCounter = meterRegistry.counter(
-            "ringing_alarm.push_failure", "scheduler", "alarm-ringing");
-
-        /*ringingInvalidTokenCounter = meterRegistry.counter(
-            "ringing_alarm.invalid_token_removed", "scheduler", "alarm-ringing");*/
+        ringingPushSkippedCounter = meterRegistry.counter(
+            "ringing_alarm.push_skipped_backoff", "scheduler", "alarm-ringing");
     }
 
     // 10초 간격으로 실행
-    @Scheduled(fixedRate = 10000, zone = "Asia/Seoul")
+    @Scheduled(fixedRate = 10000, zone = "Asia/Seoul", scheduler = SchedulerConfig.RINGING_LANE)
     @NoMethodLog
     public void sendRingingAlarmNotifications() {
 
-        List<RingingPushInfo> infos = alarmQueryService.getRingingNotificationTargets();
-        if (infos.isEmpty()) {
+        long now = System.currentTimeMillis();
+
+        // 울리는 중인 알람은 Redis ZSET에서 조회 (MySQL 전체 이력 스캔 없음, 방치된 알람은 자동 만료)
+        // 여러 인스턴스가 떠 있으면 이 노드가 점유한 memberId 샤드만 처리
+        List<RingingPushInfo> ringing = schedulerShardCoordinator.filterOwned(
+            redisService.getRingingAlarms(now), RingingPushInfo::memberId);
+        if (ringing.isEmpty()) {
             return;
         }
 
-        List<RingingPushTargetDto> targets = infos.stream()
-            .flatMap(info -> redisService.getFcmTokens(info.memberId()).stream()
-                .map(token -> RingingPushTargetDto.builder()
-                    .token(token)
-                    .alarmId(info.alarmId())
-                    .memberId(info.memberId())
-                    .build()))
+        // 발생 내역별 재전송 간격(초반 촘촘히 → 이후 느슨하게)이 돌아온 것만 전송
+        List<RingingPushInfo> infos = ringing.stream()
+            .filter(info -> ringingPushSchedule.isDue(info, now))
             .toList();
 
-        if (targets.isEmpty()) {
+        ringingPushSkippedCounter.increment(ringing.size() - infos.size());
+
+        if (infos.isEmpty()) {
             return;
         }
 
-        // 전송 시도 횟수 기록
-        ringingPushAttemptCounter.increment(targets.size());
+        // 전송·재시도는 PushOutboxDispatcher가 담당 (스케줄러 스레드는 FCM 지연과 무관)
+        pushOutboxService.enqueueRinging(infos, LocalDateTime.now());
 
-        log.info("알람 울림 푸시 알림 대상 {}건 전송 시도", targets.size());
-
-        FcmMetricResult result = fcmService.sendRingingNotifications(targets);
-
-        // 성공/실패 횟수 기록
-        ringingPushSuccessCounter.increment(result.getSuccessCount());
-        ringingPushFailureCounter.increment(result.getFailedCount());
-
-        /*
-        // 무효 토큰 제거된 개수 카운트
-        if (!result.getInvalidTokens().isEmpty()) {
-            ringingInvalidTokenCounter.increment(result.getInvalidTokens().size());
-        }
-
-        // Redis에서 무효 토큰 제거
-        for (Map.Entry<Long, List<String>> e : result.getMemberToTokens().entrySet()) {
-            Long memberId = e.getKey();
-            e.getValue().stream()
-                .filter(result.getInvalidTokens()::contains)
-                .forEach(token -> redisService.removeInvalidToken(memberId, token));
-        }
-        */
+        // 토큰 유무와 관계없이 전송 시각을 기록해 다음 간격 전까지 재전송하지 않음
+        redisService.markRingingPushSent(infos, now);
     }
 }
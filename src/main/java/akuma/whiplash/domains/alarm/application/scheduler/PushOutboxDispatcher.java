@@ -0,0 +1,335 @@
+package akuma.whiplash.domains.alarm.application.scheduler;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.PushOutboxMessage;
+import akuma.whiplash.domains.alarm.application.dto.etc.PushTargetDto;
+import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushTargetDto;
+import akuma.whiplash.domains.alarm.domain.constant.PushType;
+import akuma.whiplash.domains.alarm.persistence.repository.PushOutboxRepository;
+import akuma.whiplash.infrastructure.firebase.FcmService;
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendResult;
+import akuma.whiplash.infrastructure.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * push_outbox에 적재된 푸시를 전송하는 디스패처
+ * - 워커 스레드마다 SELECT ... FOR UPDATE SKIP LOCKED로 배치를 점유 (서버를 늘려도 같은 행을 중복 전송하지 않음)
+ * - 점유 트랜잭션은 상태만 SENDING으로 바꾸고 바로 커밋, FCM 전송은 트랜잭션 밖에서 수행
+ * - 전송 성공(또는 보낼 토큰이 없음) → 삭제, 실패 → 지수 백오프로 재시도, 최대 시도/유효 시간 초과 → DEAD
+ */
+@Slf4j
+@Component
+public class PushOutboxDispatcher {
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final RedisService redisService;
+    private final FcmService fcmService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Duration lease;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+    private final int maxAttempts;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private Counter preAlarmPushAttemptCounter;
+    private Counter preAlarmPushSuccessCounter;
+    private Counter preAlarmPushFailureCounter;
+    private Counter invalidFcmTokenCounter;
+    private Counter ringingPushAttemptCounter;
+    private Counter ringingPushSuccessCounter;
+    private Counter ringingPushFailureCounter;
+    private Counter outboxRetryCounter;
+    private Counter outboxDeadCounter;
+
+    public PushOutboxDispatcher(
+        PushOutboxRepository pushOutboxRepository,
+        RedisService redisService,
+        FcmService fcmService,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${push.outbox.enabled:true}") boolean enabled,
+        @Value("${push.outbox.workers:2}") int workerCount,
+        @Value("${push.outbox.batch-size:500}") int batchSize,
+        @Value("${push.outbox.poll-interval-ms:500}") long pollIntervalMillis,
+        @Value("${push.outbox.lease-seconds:60}") long leaseSeconds,
+        @Value("${push.outbox.retry.base-delay-seconds:5}") long retryBaseDelaySeconds,
+        @Value("${push.outbox.retry.max-delay-seconds:300}") long retryMaxDelaySeconds,
+        @Value("${push.outbox.retry.max-attempts:6}") int maxAttempts
+    ) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.redisService = redisService;
+        this.fcmService = fcmService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryBaseDelay = Duration.ofSeconds(retryBaseDelaySeconds);
+        this.retryMaxDelay = Duration.ofSeconds(retryMaxDelaySeconds);
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    public void start() {
+        preAlarmPushAttemptCounter = meterRegistry.counter("pre_alarm.push_attempt", "scheduler", "pre-alarm");
+        preAlarmPushSuccessCounter = meterRegistry.counter("pre_alarm.push_success", "scheduler", "pre-alarm");
+        preAlarmPushFailureCounter = meterRegistry.counter("pre_alarm.push_failure", "scheduler", "pre-alarm");
+        invalidFcmTokenCounter = meterRegistry.counter("pre_alarm.invalid_token_removed", "scheduler", "pre-alarm");
+        ringingPushAttemptCounter = meterRegistry.counter("ringing_alarm.push_attempt", "scheduler", "alarm-ringing");
+        ringingPushSuccessCounter = meterRegistry.counter("ringing_alarm.push_success", "scheduler", "alarm-ringing");
+        ringingPushFailureCounter = meterRegistry.counter("ringing_alarm.push_failure", "scheduler", "alarm-ringing");
+        outboxRetryCounter = meterRegistry.counter("push_outbox.retry");
+        outboxDeadCounter = meterRegistry.counter("push_outbox.dead");
+
+        if (!enabled) {
+            log.info("[PushOutbox] 디스패처 비활성화");
+            return;
+        }
+
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "push-outbox-dispatcher-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        // 점유 후 전송하지 못한 행은 점유 만료 후 다른 서버가 이어서 전송
+        for (Thread worker : workers) {
+            worker.join(pollIntervalMillis * 2);
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                int dispatched = dispatchOnce();
+                if (dispatched < batchSize) {
+                    Thread.sleep(pollIntervalMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[PushOutbox] 디스패치 실패", e);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송 시각이 된 푸시를 한 배치 점유해 전송하고 결과를 기록한다.
+     *
+     * @return 점유한 행 수
+     */
+    public int dispatchOnce() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PushOutboxMessage> claimed = transactionTemplate.execute(
+            status -> pushOutboxRepository.claim(now, now.plus(lease), batchSize));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<Boolean, List<PushOutboxMessage>> partitioned = claimed.stream()
+            .collect(Collectors.partitioningBy(message -> message.expiresAt().isBefore(now)));
+
+        List<PushOutboxMessage> expired = partitioned.get(true);
+        if (!expired.isEmpty()) {
+            pushOutboxRepository.markDead(expired.stream().map(PushOutboxMessage::id).toList(), "expired", now);
+            outboxDeadCounter.increment(expired.size());
+        }
+
+        Map<PushType, List<PushOutboxMessage>> byType = partitioned.get(false).stream()
+            .collect(Collectors.groupingBy(PushOutboxMessage::type));
+
+        dispatchReminders(byType.getOrDefault(PushType.REMINDER, List.of()), now);
+        dispatchRinging(byType.getOrDefault(PushType.RINGING, List.of()), now);
+
+        return claimed.size();
+    }
+
+    private void dispatchReminders(List<PushOutboxMessage> messages, LocalDateTime now) {
+        if (messages.isEmpty()) return;
+
+        Map<Long, Set<String>> tokensByMember = redisService.getFcmTokensBulk(
+            messages.stream().map(PushOutboxMessage::memberId).toList());
+
+        List<PushTargetDto> targets = messages.stream()
+            .flatMap(message -> tokensByMember.getOrDefault(message.memberId(), Set.of()).stream()
+                .map(token -> PushTargetDto.builder()
+                    .token(token)
+                    .address(message.address())
+                    .memberId(message.memberId())
+                    .occurrenceId(message.occurrenceId())
+                    .build()))
+            .toList();
+
+        Set<Long> successOccurrenceIds = new HashSet<>();
+        if (!targets.isEmpty()) {
+            preAlarmPushAttemptCounter.increment(targets.size());
+            log.info("알람 울리기 1시간 전 푸시 알림 대상 {}건 전송 시도", targets.size());
+
+            try {
+                FcmSendResult result = fcmService.sendBulkNotification(targets);
+                preAlarmPushSuccessCounter.increment(result.getSuccessCount());
+                preAlarmPushFailureCounter.increment(result.getFailedCount());
+                successOccurrenceIds.addAll(result.getSuccessOccurrenceIds());
+                removeInvalidTokens(result);
+            } catch (Exception e) {
+                log.warn("[PushOutbox] 리마인드 전송 실패: {}건", targets.size(), e);
+            }
+        }
+
+        complete(messages, tokensByMember, successOccurrenceIds, now);
+    }
+
+    private void dispatchRinging(List<PushOutboxMessage> messages, LocalDateTime now) {
+        if (messages.isEmpty()) return;
+
+        Map<Long, Set<String>> tokensByMember = redisService.getFcmTokensBulk(
+            messages.stream().map(PushOutboxMessage::memberId).toList());
+
+        // 같은 발생 내역의 울림 알림이 여러 건 밀려 있으면 한 번만 전송 (collapse key로 어차피 하나만 보임)
+        Map<Long, PushOutboxMessage> latestByOccurrence = new LinkedHashMap<>();
+        messages.forEach(message -> latestByOccurrence.put(message.occurrenceId(), message));
+
+        List<RingingPushTargetDto> targets = latestByOccurrence.values().stream()
+            .flatMap(message -> tokensByMember.getOrDefault(message.memberId(), Set.of()).stream()
+                .map(token -> RingingPushTargetDto.builder()
+                    .token(token)
+                    .occurrenceId(message.occurrenceId())
+                    .alarmId(message.alarmId())
+                    .memberId(message.memberId())
+                    .build()))
+            .toList();
+
+        Set<Long> successOccurrenceIds = new HashSet<>();
+        if (!targets.isEmpty()) {
+            ringingPushAttemptCounter.increment(targets.size());
+            log.info("알람 울림 푸시 알림 대상 {}건 전송 시도", targets.size());
+
+            try {
+                FcmSendResult result = fcmService.sendRingingNotifications(targets);
+                ringingPushSuccessCounter.increment(result.getSuccessCount());
+                ringingPushFailureCounter.increment(result.getFailedCount());
+                successOccurrenceIds.addAll(result.getSuccessOccurrenceIds());
+            } catch (Exception e) {
+                log.warn("[PushOutbox] 울림 알림 전송 실패: {}건", targets.size(), e);
+            }
+        }
+
+        complete(messages, tokensByMember, successOccurrenceIds, now);
+    }
+
+    // 성공했거나 보낼 토큰이 없는 푸시는 삭제, 나머지는 재시도 예약
+    private void complete(
+        List<PushOutboxMessage> messages,
+        Map<Long, Set<String>> tokensByMember,
+        Set<Long> successOccurrenceIds,
+        LocalDateTime now
+    ) {
+        List<Long> done = new ArrayList<>();
+        List<PushOutboxMessage> failed = new ArrayList<>();
+
+        for (PushOutboxMessage message : messages) {
+            boolean noToken = tokensByMember.getOrDefault(message.memberId(), Set.of()).isEmpty();
+            if (noToken || successOccurrenceIds.contains(message.occurrenceId())) {
+                done.add(message.id());
+            } else {
+                failed.add(message);
+            }
+        }
+
+        pushOutboxRepository.deleteAll(done);
+        retryLater(failed, now);
+    }
+
+    private void retryLater(List<PushOutboxMessage> failed, LocalDateTime now) {
+        if (failed.isEmpty()) return;
+
+        Map<PushOutboxMessage, LocalDateTime> rescheduled = new LinkedHashMap<>();
+        List<Long> dead = new ArrayList<>();
+
+        for (PushOutboxMessage message : failed) {
+            int attempts = message.attempts() + 1;
+            LocalDateTime nextAttemptAt = nextAttemptAt(attempts, now);
+
+            if (attempts >= maxAttempts || nextAttemptAt.isAfter(message.expiresAt())) {
+                dead.add(message.id());
+            } else {
+                rescheduled.put(message, nextAttemptAt);
+            }
+        }
+
+        pushOutboxRepository.reschedule(rescheduled, "FCM 전송 실패", now);
+        pushOutboxRepository.markDead(dead, "FCM 전송 실패 (재시도 중단)", now);
+
+        outboxRetryCounter.increment(rescheduled.size());
+        outboxDeadCounter.increment(dead.size());
+    }
+
+    /**
+     * attempts번째 실패 후 다음 전송 시각: base * 2^(attempts-1), 최대 max-delay
+     */
+    LocalDateTime nextAttemptAt(int attempts, LocalDateTime now) {
+        long multiplier = 1L << Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = retryBaseDelay.multipliedBy(multiplier);
+        return now.plus(delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay);
+    }
+
+    // 무효 토큰 정리: 각 회원의 토큰 중 무효한 것만 제거
+    private void removeInvalidTokens(FcmSendResult result) {
+        Set<String> invalidTokenSet = new HashSet<>(result.getInvalidTokens());
+        if (invalidTokenSet.isEmpty()) return;
+
+        int invalidCount = 0;
+        for (Map.Entry<Long, List<String>> e : result.getMemberToTokens().entrySet()) {
+            Long memberId = e.getKey();
+            invalidCount += (int) e.getValue().stream()
+                .filter(invalidTokenSet::contains)
+                .peek(token -> redisService.removeInvalidToken(memberId, token))
+                .count();
+        }
+
+        if (invalidCount > 0) {
+            invalidFcmTokenCounter.increment(invalidCount);
+        }
+    }
+}
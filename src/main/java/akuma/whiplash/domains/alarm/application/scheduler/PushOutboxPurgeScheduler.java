@@ -0,0 +1,58 @@
+package akuma.whiplash.domains.alarm.application.scheduler;
+
+import akuma.whiplash.domains.alarm.domain.service.PushOutboxService;
+import akuma.whiplash.global.config.scheduler.SchedulerConfig;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보존 기간이 지난 DEAD 푸시를 push_outbox에서 정리한다.
+ * 만료된 울림 알림(유효 시간 30초)은 모두 DEAD로 남으므로 정리하지 않으면 테이블이 계속 커진다.
+ */
+@Slf4j
+@Component
+public class PushOutboxPurgeScheduler {
+
+    private static final String PURGE_JOB_NAME = "push-outbox-purge";
+    private static final Duration PURGE_JOB_LOCK_TTL = Duration.ofHours(1);
+
+    private final PushOutboxService pushOutboxService;
+    private final SchedulerShardCoordinator schedulerShardCoordinator;
+    private final Duration deadRetention;
+    private final int batchSize;
+
+    public PushOutboxPurgeScheduler(
+        PushOutboxService pushOutboxService,
+        SchedulerShardCoordinator schedulerShardCoordinator,
+        @Value("${push.outbox.purge.dead-retention-days:7}") long deadRetentionDays,
+        @Value("${push.outbox.purge.batch-size:1000}") int batchSize
+    ) {
+        this.pushOutboxService = pushOutboxService;
+        this.schedulerShardCoordinator = schedulerShardCoordinator;
+        this.deadRetention = Duration.ofDays(deadRetentionDays);
+        this.batchSize = batchSize;
+    }
+
+    // 매일 새벽 4시 30분에 실행 (울림 기록 압축 이후)
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_LANE)
+    public void purgeDeadPushes() {
+        if (!schedulerShardCoordinator.tryAcquireJob(PURGE_JOB_NAME, LocalDate.now().toString(), PURGE_JOB_LOCK_TTL)) {
+            log.info("push_outbox 정리는 다른 노드에서 실행 중");
+            return;
+        }
+
+        try {
+            int purged = pushOutboxService.purgeDead(LocalDateTime.now().minus(deadRetention), batchSize);
+            log.info("[PushOutbox Purge] DEAD 푸시 {}건 삭제", purged);
+        } catch (Exception e) {
+            // 남은 행은 다음 날 다시 정리됨
+            log.error("[PushOutbox Purge] DEAD 푸시 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package akuma.whiplash.domains.alarm.domain.constant;
+
+public enum PushOutboxStatus {
+    PENDING,    // 전송 대기 (재시도 대기 포함)
+    SENDING,    // 디스패처가 점유해 전송 중 (점유 만료 시 다시 점유 가능)
+    DEAD        // 최대 재시도 초과 또는 유효 시간 만료로 포기
+}
@@ -0,0 +1,6 @@
+package akuma.whiplash.domains.alarm.domain.constant;
+
+public enum PushType {
+    REMINDER,   // 알람 울리기 1시간 전 알림
+    RINGING     // 알람 울림 알림
+}
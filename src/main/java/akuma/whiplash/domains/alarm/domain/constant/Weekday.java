@@ -5,7 +5,10 @@ import static akuma.whiplash.domains.alarm.exception.AlarmErrorCode.*;
 import akuma.whiplash.domains.alarm.exception.AlarmErrorCode;
 import akuma.whiplash.global.exception.ApplicationException;
 import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +26,51 @@ public enum Weekday {
     private final String description;
     private final DayOfWeek dayOfWeek;
 
+    // 반복 요일 비트마스크 (월=1, 화=2, 수=4, ... 일=64)
+    public static final int FULL_MASK = 0b1111111;
+
+    public int getBit() {
+        return bitOf(dayOfWeek);
+    }
+
+    public static int bitOf(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    public static int toMask(Collection<Weekday> weekdays) {
+        if (weekdays == null) return 0;
+
+        int mask = 0;
+        for (Weekday weekday : weekdays) {
+            mask |= weekday.getBit();
+        }
+        return mask;
+    }
+
+    public static List<Weekday> fromMask(int mask) {
+        List<Weekday> weekdays = new ArrayList<>(7);
+        for (Weekday weekday : values()) {
+            if ((mask & weekday.getBit()) != 0) {
+                weekdays.add(weekday);
+            }
+        }
+        return weekdays;
+    }
+
+    /**
+     * 해당 요일 비트를 포함하는 모든 반복 요일 마스크 값 (7비트 중 해당 요일이 켜진 64가지)
+     */
+    public static List<Integer> masksContaining(DayOfWeek dayOfWeek) {
+        int bit = bitOf(dayOfWeek);
+        List<Integer> masks = new ArrayList<>(64);
+        for (int mask = 1; mask <= FULL_MASK; mask++) {
+            if ((mask & bit) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
+
     public static Weekday from(String description) {
         return Arrays.stream(values())
             .filter(w -> w.description.equals(description))
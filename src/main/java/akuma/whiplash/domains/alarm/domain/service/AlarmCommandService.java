@@ -1,12 +1,13 @@
 package akuma.whiplash.domains.alarm.domain.service;
 
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
 import akuma.whiplash.domains.alarm.application.dto.request.AlarmCheckinRequest;
 import akuma.whiplash.domains.alarm.application.dto.request.AlarmRegisterRequest;
 import akuma.whiplash.domains.alarm.application.dto.response.AlarmOffResultResponse;
 import akuma.whiplash.domains.alarm.application.dto.response.CreateAlarmOccurrenceResponse;
 import akuma.whiplash.domains.alarm.application.dto.response.CreateAlarmResponse;
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.List;
 
 public interface AlarmCommandService {
 
@@ -16,5 +17,5 @@ public interface AlarmCommandService {
     void removeAlarm(Long memberId, Long alarmId, String reason);
     void checkinAlarm(Long memberId, Long alarmId, AlarmCheckinRequest request);
     void ringAlarm(Long memberId, Long alarmId);
-    void markReminderSent(Set<Long> occurrenceIds);
+    int enqueueReminderPushes(List<OccurrencePushInfo> infos);
 }
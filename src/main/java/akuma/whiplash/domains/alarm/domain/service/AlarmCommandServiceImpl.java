@@ -2,6 +2,8 @@ package akuma.whiplash.domains.alarm.domain.service;
 
 import static akuma.whiplash.domains.alarm.exception.AlarmErrorCode.*;
 
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
+import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
 import akuma.whiplash.domains.alarm.application.dto.request.AlarmCheckinRequest;
 import akuma.whiplash.domains.alarm.application.dto.request.AlarmRegisterRequest;
 import akuma.whiplash.domains.alarm.application.dto.response.AlarmOffResultResponse;
@@ -9,15 +11,15 @@ import akuma.whiplash.domains.alarm.application.dto.response.CreateAlarmOccurren
 import akuma.whiplash.domains.alarm.application.dto.response.CreateAlarmResponse;
 import akuma.whiplash.domains.alarm.application.mapper.AlarmMapper;
 import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
-import akuma.whiplash.domains.alarm.domain.constant.Weekday;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOffLogEntity;
-import akuma.whiplash.domains.alarm.persistence.entity.AlarmRingingLogEntity;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrencePartitionRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogRepository;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingSummaryRepository;
 import akuma.whiplash.domains.auth.exception.AuthErrorCode;
 import akuma.whiplash.domains.member.exception.MemberErrorCode;
 import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
@@ -25,26 +27,18 @@ import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
 import akuma.whiplash.global.exception.ApplicationException;
 import akuma.whiplash.global.service.ArchiveService;
 import akuma.whiplash.global.util.date.DateUtil;
-import com.google.api.services.sheets.v4.Sheets;
-import com.google.api.services.sheets.v4.SheetsScopes;
-import com.google.api.services.sheets.v4.model.ValueRange;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.json.jackson2.JacksonFactory;
-import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.ServiceAccountCredentials;
-import java.time.DayOfWeek;
+import akuma.whiplash.global.util.transaction.TransactionUtil;
+import akuma.whiplash.infrastructure.redis.RedisService;
+import akuma.whiplash.infrastructure.sheets.DeleteReasonSheetLogger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Collections;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,22 +50,22 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
 
     private final AlarmRepository alarmRepository;
     private final AlarmOccurrenceRepository alarmOccurrenceRepository;
+    private final AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
     private final AlarmOffLogRepository alarmOffLogRepository;
     private final AlarmRingingLogRepository alarmRingingLogRepository;
+    private final AlarmRingingLogBuffer alarmRingingLogBuffer;
+    private final AlarmRingingSummaryRepository alarmRingingSummaryRepository;
     private final MemberRepository memberRepository;
     private final ArchiveService archiveService;
-
-    @Value("${oauth.google.sheet.id}")
-    private String spreadsheetsId;
-
-    @Value("${oauth.google.sheet.credentials-path}")
-    private String credentialsPath;
-
-    @Value("${oauth.google.sheet.range}")
-    private String sheetRange;
+    private final PreAlarmReminderIndex preAlarmReminderIndex;
+    private final DeleteReasonSheetLogger deleteReasonSheetLogger;
+    private final RedisService redisService;
+    private final PushOutboxService pushOutboxService;
+    private final WeeklyOffCounter weeklyOffCounter;
 
     private static final double CHECKIN_RADIUS_METERS = 100.0;
-    private static final int WEEKLY_OFF_LIMIT = 2;
+    // 울림 대상 발생 내역 조회 범위 (자정을 넘겨 울리는 알람 포함, date 하한으로 월별 파티션 프루닝)
+    private static final int RING_LOOKBACK_DAYS = 7;
 
     @Override
     public CreateAlarmResponse createAlarm(AlarmRegisterRequest request, Long memberId) {
@@ -105,6 +99,10 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
         AlarmOccurrenceEntity alarmOccurrenceEntity = AlarmMapper.mapToTodayFirstAlarmOccurrenceEntity(alarmEntity);
         alarmOccurrenceRepository.save(alarmOccurrenceEntity);
 
+        if (alarmEntity.getMember().isPushNotificationPolicy()) {
+            preAlarmReminderIndex.register(AlarmMapper.mapToOccurrenceReminderInfo(alarmOccurrenceEntity));
+        }
+
         return AlarmMapper.mapToCreateAlarmOccurrenceResponse(alarmOccurrenceEntity.getId());
     }
 
@@ -120,63 +118,52 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
         AlarmEntity findAlarm = findAlarmById(alarmId);
         validAlarmOwner(findAlarm.getMember().getId(), memberId);
 
-        // 3. 이번 주 시작~끝 날짜 계산 (주간 OFF 제한용)
-        LocalDate weekStart = DateUtil.getWeekStartDate(clientDate);
-        LocalDate weekEnd = DateUtil.getWeekEndDate(weekStart);
-
-        // 4. 이번 주 끈 횟수 조회
-        long weeklyOffCount = alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(
-            memberId,
-            weekStart.atStartOfDay(),
-            weekEnd.plusDays(1).atStartOfDay()
-        );
-
-        // 5. 제한 초과 시 예외 발생
-        if (weeklyOffCount >= WEEKLY_OFF_LIMIT) {
-            throw ApplicationException.from(ALARM_OFF_LIMIT_EXCEEDED);
-        }
+        // 3. 이번 주 끄기 1회 예약 (한도 확인과 증가를 원자적으로 처리, 커밋되지 않으면 예약 취소)
+        //    한도 초과 시 예외 발생
+        long weeklyOffCount = weeklyOffCounter.tryReserve(memberId, clientDate)
+            .orElseThrow(() -> ApplicationException.from(ALARM_OFF_LIMIT_EXCEEDED));
 
-        // 6. 오늘 알람 발생 내역 조회
+        // 4. 오늘 알람 발생 내역 조회
         Optional<AlarmOccurrenceEntity> todayOccurrenceOpt =
             alarmOccurrenceRepository.findByAlarmIdAndDate(alarmId, clientDate);
 
-        // 7. 알람이 울렸고 비활성화되지 않은 상태라면 → 다음 알람을 대상으로 설정
+        // 5. 알람이 울렸고 비활성화되지 않은 상태라면 → 다음 알람을 대상으로 설정
         boolean isAfterRinging = todayOccurrenceOpt
             .filter(o -> o.isAlarmRinging() && o.getDeactivateType() == DeactivateType.NONE)
             .map(o -> clientNow.isAfter(o.getTime().atDate(clientDate)))
             .orElse(false);
 
-        // 8. 꺼야 할 알람 날짜 계산
+        // 6. 꺼야 할 알람 날짜 계산
         LocalDate searchStartDate = isAfterRinging ? clientDate.plusDays(1) : clientDate;
-        Set<DayOfWeek> repeatDays = findAlarm.getRepeatDays().stream()
-            .map(Weekday::getDayOfWeek)
-            .collect(Collectors.toSet());
-        LocalDate offTargetDate = DateUtil.getNextOccurrenceDate(repeatDays, searchStartDate);
+        int repeatMask = findAlarm.getRepeatMask();
+        LocalDate offTargetDate = DateUtil.getNextOccurrenceDate(repeatMask, searchStartDate);
 
-        // 9. 같은 주인지 검증
+        // 7. 같은 주인지 검증
         validSameWeek(offTargetDate, clientDate);
 
-        // 10. 발생 내역 조회 또는 생성
+        // 8. 발생 내역 조회 또는 생성
         AlarmOccurrenceEntity targetOccurrence = alarmOccurrenceRepository
             .findByAlarmIdAndDate(alarmId, offTargetDate)
             .orElseGet(() -> alarmOccurrenceRepository.save(
                 AlarmMapper.mapToAlarmOccurrenceForDate(findAlarm, offTargetDate)));
 
-        // 11. 이미 꺼져 있다면 예외
+        // 9. 이미 꺼져 있다면 예외
         if (targetOccurrence.getDeactivateType() != DeactivateType.NONE) {
             throw ApplicationException.from(ALREADY_DEACTIVATED);
         }
 
-        // 12. 발생 내역 상태 변경 및 로그 기록
+        // 10. 발생 내역 상태 변경 및 로그 기록
         targetOccurrence.deactivate(DeactivateType.OFF, serverNow);
         AlarmOffLogEntity alarmOffLog = AlarmMapper.mapToAlarmOffLogEntity(findAlarm, findAlarm.getMember());
 
         alarmOccurrenceRepository.save(targetOccurrence);
         alarmOffLogRepository.save(alarmOffLog);
+        preAlarmReminderIndex.remove(targetOccurrence.getId());
+        TransactionUtil.afterCommit(() -> redisService.removeRingingAlarm(targetOccurrence.getId(), alarmId, memberId));
 
-        // 13. 다음 알람 울림 날짜 계산 및 응답 구성
-        LocalDate reactivateDate = DateUtil.getNextOccurrenceDate(repeatDays, offTargetDate.plusDays(1));
-        int remainingCount = (int) Math.max(0, WEEKLY_OFF_LIMIT - (weeklyOffCount + 1));
+        // 11. 다음 알람 울림 날짜 계산 및 응답 구성
+        LocalDate reactivateDate = DateUtil.getNextOccurrenceDate(repeatMask, offTargetDate.plusDays(1));
+        int remainingCount = (int) Math.max(0, WeeklyOffCounter.WEEKLY_OFF_LIMIT - weeklyOffCount);
 
         return AlarmOffResultResponse.builder()
             .offTargetDate(offTargetDate)
@@ -196,18 +183,27 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
         // 1-2. 삭제할 데이터 삭제 전 아카이빙
         archiveService.archiveAlarmWithRelations(alarmId);
 
-        // 2. 삭제 사유를 Google Sheets에 로그로 기록
-        logDeleteReason(alarm.getAlarmPurpose(), reason);
+        // 2. 삭제 사유를 Google Sheets 기록 대기열에 추가 (커밋 후 백그라운드에서 배치 기록)
+        deleteReasonSheetLogger.log(alarm.getAlarmPurpose(), reason);
 
         // 3. 알람 발생 내역 전체 조회 및 관련 로그 제거
         List<AlarmOccurrenceEntity> occurrences = alarmOccurrenceRepository.findAllByAlarmId(alarmId);
         for (AlarmOccurrenceEntity occ : occurrences) {
             alarmRingingLogRepository.deleteAllByAlarmOccurrenceId(occ.getId());
         }
+        List<Long> occurrenceIds = occurrences.stream().map(AlarmOccurrenceEntity::getId).toList();
+        if (!occurrenceIds.isEmpty()) {
+            alarmRingingSummaryRepository.deleteByOccurrenceIds(occurrenceIds);
+        }
 
         // 4. 알람 발생 이력, 끈 이력 삭제
         alarmOccurrenceRepository.deleteAll(occurrences);
+        alarmOccurrencePartitionRepository.deleteArchivedByAlarmId(alarmId);
         alarmOffLogRepository.deleteAllByAlarmId(alarmId);
+        weeklyOffCounter.evict(memberId);
+        preAlarmReminderIndex.removeAll(occurrenceIds);
+        alarmRingingLogBuffer.discard(occurrenceIds);
+        TransactionUtil.afterCommit(() -> redisService.removeRingingAlarms(occurrenceIds, alarmId, memberId));
 
         // 5. 알람 자체 삭제
         alarmRepository.delete(alarm);
@@ -222,12 +218,10 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
 
         // 2. 오늘 날짜 기준으로 다음 알람 발생 날짜 계산
         LocalDate today = LocalDate.now();
-        Set<DayOfWeek> repeatDays = alarm.getRepeatDays().stream()
-            .map(Weekday::getDayOfWeek)
-            .collect(Collectors.toSet());
+        int repeatMask = alarm.getRepeatMask();
 
         // TODO: 요청일보다 이전 날짜에 울려야할 알람을 꺼야하는 경우도 처리해야함(사용자가 알람을 안꺼서
-        LocalDate targetDate = DateUtil.getNextOccurrenceDate(repeatDays, today);
+        LocalDate targetDate = DateUtil.getNextOccurrenceDate(repeatMask, today);
 
         // 3. 요청일과 끄려고 하는 날짜가 같은 주인지 검증
         validSameWeek(targetDate, today);
@@ -254,6 +248,8 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
 
         // 7. 체크인 처리
         occurrence.checkin(LocalDateTime.now());
+        preAlarmReminderIndex.remove(occurrence.getId());
+        TransactionUtil.afterCommit(() -> redisService.removeRingingAlarm(occurrence.getId(), alarmId, memberId));
     }
 
     @Override
@@ -262,9 +258,10 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
         validAlarmOwner(memberId, alarm.getMember().getId());
 
         AlarmOccurrenceEntity occurrence = alarmOccurrenceRepository
-            .findTopByAlarmIdAndDeactivateTypeInOrderByDateDescTimeDesc(
+            .findTopByAlarmIdAndDeactivateTypeInAndDateGreaterThanEqualOrderByDateDescTimeDesc(
                 alarmId,
-                List.of(DeactivateType.NONE)
+                List.of(DeactivateType.NONE),
+                LocalDate.now().minusDays(RING_LOOKBACK_DAYS)
             )
             .orElseThrow(() -> ApplicationException.from(ALARM_OCCURRENCE_NOT_FOUND));
 
@@ -274,20 +271,59 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
             throw ApplicationException.from(NOT_ALARM_TIME);
         }
 
-        int ringIndex = occurrence.ring();
-        AlarmRingingLogEntity log = AlarmMapper.mapToAlarmRingingLogEntity(
-            occurrence,
-            ringIndex,
-            now
-        );
-        alarmRingingLogRepository.save(log);
+        // 울림 횟수는 DB에서 원자적으로 증가시키고, 울림 기록은 커밋 후 버퍼에 모아 다중 행 INSERT
+        alarmOccurrenceRepository.incrementRingingCount(occurrence.getId(), occurrence.getDate(), now);
+        int ringIndex = alarmOccurrenceRepository.findRingingCount(occurrence.getId(), occurrence.getDate());
+        alarmRingingLogBuffer.append(occurrence.getId(), ringIndex, now);
+
+        // 첫 울림일 때만 울리는 중인 알람으로 등록 (푸시 수신 동의 회원만, 울림 알림 스케줄러가 Redis에서 조회)
+        // 클라이언트는 /ring을 반복 호출하므로, 매번 적재하면 중복 푸시가 나가고 재전송 간격(backoff)이 처음부터 다시 시작됨
+        // 첫 울림 알림은 울림 기록과 같은 트랜잭션에서 push_outbox에 적재하고, 이후 재전송은 스케줄러가 간격에 맞춰 적재
+        if (ringIndex == 1 && alarm.getMember().isPushNotificationPolicy()) {
+            long ringStartedAtMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            RingingPushInfo ringingInfo = RingingPushInfo.builder()
+                .occurrenceId(occurrence.getId())
+                .alarmId(alarmId)
+                .memberId(memberId)
+                .ringStartedAtMillis(ringStartedAtMillis)
+                .build();
+
+            pushOutboxService.enqueueRingStarted(ringingInfo, now);
+            TransactionUtil.afterCommit(() -> {
+                redisService.addRingingAlarm(occurrence.getId(), alarmId, memberId, ringStartedAtMillis);
+                redisService.markRingingPushSent(List.of(ringingInfo), ringStartedAtMillis);
+            });
+        }
     }
 
+    /**
+     * 아직 울리기 전이고 리마인드를 보내지 않은 대상만 잠가 reminderSent=true로 바꾸고, 같은 트랜잭션에서 push_outbox에 적재한다.
+     * 인덱스에 남아 있던 사이 끄기/체크인되었거나 다른 노드가 먼저 보낸 발생 내역은 적재하지 않는다.
+     * 실제 전송과 실패 시 재시도는 PushOutboxDispatcher가 담당한다.
+     */
     @Override
-    public void markReminderSent(Set<Long> occurrenceIds) {
-        if (occurrenceIds == null || occurrenceIds.isEmpty()) return;
-        // 벌크 업데이트가 가능하면 JPQL update 사용 권장 (락/동시성 고려)
-        alarmOccurrenceRepository.markReminderSentIn(occurrenceIds);
+    public int enqueueReminderPushes(List<OccurrencePushInfo> infos) {
+        if (infos == null || infos.isEmpty()) return 0;
+
+        Set<Long> occurrenceIds = infos.stream()
+            .map(OccurrencePushInfo::occurrenceId)
+            .collect(Collectors.toSet());
+        Set<LocalDate> dates = infos.stream()
+            .map(info -> info.alarmAt().toLocalDate())
+            .collect(Collectors.toSet());
+
+        // 전송 대상 여부와 관계없이 더 이상 인덱스에 둘 필요가 없음
+        preAlarmReminderIndex.removeAll(occurrenceIds);
+
+        Set<Long> pendingIds = Set.copyOf(alarmOccurrenceRepository.findReminderPendingIdsForUpdate(occurrenceIds, dates));
+        if (pendingIds.isEmpty()) return 0;
+
+        alarmOccurrenceRepository.markReminderSentIn(pendingIds, dates);
+
+        List<OccurrencePushInfo> pendingInfos = infos.stream()
+            .filter(info -> pendingIds.contains(info.occurrenceId()))
+            .toList();
+        return pushOutboxService.enqueueReminders(pendingInfos, LocalDateTime.now());
     }
 
     /**
@@ -317,40 +353,6 @@ public class AlarmCommandServiceImpl implements AlarmCommandService {
         return distance <= radiusMeters;
     }
 
-    private void logDeleteReason(String alarmPurpose, String reason) {
-        try {
-            // 1. Google Sheets API 클라이언트 생성
-            Sheets sheets = new Sheets.Builder(
-                GoogleNetHttpTransport.newTrustedTransport(),
-                JacksonFactory.getDefaultInstance(),
-                new HttpCredentialsAdapter(
-                    ServiceAccountCredentials.fromStream(
-                        new ClassPathResource(credentialsPath).getInputStream() // classpath 리소스 처리
-                    ).createScoped(Collections.singleton(SheetsScopes.SPREADSHEETS))
-                )
-            )
-                .setApplicationName("눈 떠!")
-                .build();
-
-            // 2. 기록할 값 구성
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            String formattedDateTime = LocalDateTime.now().format(formatter);
-
-            ValueRange body = new ValueRange().setValues(
-                List.of(List.of(alarmPurpose, reason, formattedDateTime))
-            );
-
-            // 3. 스프레드시트에 행 추가 (append 방식)
-            sheets.spreadsheets().values()
-                .append(spreadsheetsId, sheetRange, body)
-                .setValueInputOption("RAW")
-                .execute();
-
-        } catch (Exception e) {
-            log.warn("Failed to log delete reason", e);
-        }
-    }
-
     private MemberEntity findMemberById(Long memberId) {
         return memberRepository.findById(memberId)
             .orElseThrow(() -> ApplicationException.from(MemberErrorCode.MEMBER_NOT_FOUND));
@@ -1,73 +1,79 @@
 package akuma.whiplash.domains.alarm.domain.service;
 
 import akuma.whiplash.domains.alarm.application.dto.etc.AlarmOccurrenceCreateBatchResult;
-import akuma.whiplash.domains.alarm.application.mapper.AlarmMapper;
-import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
-import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
-import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
-import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmTimeSlot;
+import akuma.whiplash.domains.alarm.domain.constant.Weekday;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceBulkRepository;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AlarmOccurrenceBatchService {
 
-    private final AlarmRepository alarmRepository;
-    private final AlarmOccurrenceRepository alarmOccurrenceRepository;
+    private final AlarmOccurrenceBulkRepository alarmOccurrenceBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int CHUNK_SIZE = 1000;
 
     /**
      * 오늘 울릴 알람 중 아직 alarm_occurrence가 없는 알람에 대해 이력을 생성합니다.
-     * - 이미 생성된 알람은 건너뜀
-     * - 중간에 실패한 알람은 오류만 로깅하고 전체 배치에는 영향 없음
+     * - 오늘 요일 비트가 켜진 반복 요일 마스크(64가지)별로 알람을 id 기준 keyset 페이지로 읽고,
+     *   페이지(청크) 단위로 다중 행 INSERT IGNORE 후 커밋
+     * - 이미 생성된 알람은 uk_alarm_date 제약으로 건너뜀
+     * - 중간에 실패한 청크는 오류만 로깅하고 다음 청크를 계속 처리 (재시도 시 멱등)
      */
-    @Transactional
     public AlarmOccurrenceCreateBatchResult createTodayAlarmOccurrences() {
         LocalDate today = LocalDate.now();
         DayOfWeek todayDayOfWeek = today.getDayOfWeek();
 
-        // 1. 오늘 반복 요일에 해당하는 알람만 DB에서 조회 (native query + LIKE)
-        String likeKeyword = "\"" + todayDayOfWeek.name() + "\""; // ex: "MONDAY"
-        List<AlarmEntity> todayAlarms = alarmRepository.findByRepeatDaysLike(likeKeyword);
-
-        log.info("[AlarmOccurrence Create Batch] 오늘({}) 울릴 알람 수: {}", todayDayOfWeek, todayAlarms.size());
-
-        // 2. 이미 alarm_occurrence가 생성된 알람 ID 목록 조회
-        Set<Long> existingAlarmIds = alarmOccurrenceRepository.findAlarmIdsByDate(today);
-
         int createdCount = 0;
         int skippedCount = 0;
         int failedCount = 0;
 
-        // 3. 생성되지 않은 알람에 대해서만 alarm_occurrence 생성
-        for (AlarmEntity alarm : todayAlarms) {
-            if (existingAlarmIds.contains(alarm.getId())) {
-                skippedCount++;
-                continue;
-            }
+        for (int repeatMask : Weekday.masksContaining(todayDayOfWeek)) {
+            long lastAlarmId = 0L;
+
+            while (true) {
+                // 1. 해당 반복 요일 마스크의 알람을 청크 크기만큼 조회
+                List<AlarmTimeSlot> slice = alarmOccurrenceBulkRepository
+                    .findAlarmSliceByRepeatMask(repeatMask, lastAlarmId, CHUNK_SIZE);
+
+                if (slice.isEmpty()) {
+                    break;
+                }
+
+                lastAlarmId = slice.get(slice.size() - 1).alarmId();
+
+                // 2. 청크 단위 트랜잭션으로 발생 내역 생성
+                try {
+                    Integer inserted = transactionTemplate.execute(
+                        status -> alarmOccurrenceBulkRepository.insertIgnoreOccurrences(slice, today));
+                    int insertedCount = inserted == null ? 0 : inserted;
 
-            try {
-                AlarmOccurrenceEntity occurrence = AlarmMapper.mapToAlarmOccurrenceForDate(alarm, today);
-                alarmOccurrenceRepository.save(occurrence);
-                createdCount++;
+                    createdCount += insertedCount;
+                    skippedCount += slice.size() - insertedCount;
 
-                log.info("[AlarmOccurrence Create Batch] 생성 완료: alarmId={}, date={}", alarm.getId(), today);
+                } catch (Exception e) {
+                    failedCount += slice.size();
+                    log.error("[AlarmOccurrence Create Batch] 청크 생성 실패: repeatMask={}, alarmId {}~{}, error={}",
+                        repeatMask, slice.get(0).alarmId(), lastAlarmId, e.getMessage());
+                }
 
-            } catch (Exception e) {
-                failedCount++;
-                log.error("[AlarmOccurrence Create Batch] 생성 실패: alarmId={}, error={}", alarm.getId(), e.getMessage());
+                if (slice.size() < CHUNK_SIZE) {
+                    break;
+                }
             }
         }
 
-        log.info("[AlarmOccurrence Create Batch] 완료 - 생성: {}, 건너뜀: {}, 실패: {}",
-            createdCount, skippedCount, failedCount);
+        log.info("[AlarmOccurrence Create Batch] 오늘({}) 완료 - 생성: {}, 건너뜀: {}, 실패: {}",
+            todayDayOfWeek, createdCount, skippedCount, failedCount);
 
         return AlarmOccurrenceCreateBatchResult.builder()
             .createdCount(createdCount)
@@ -75,4 +81,4 @@ public class AlarmOccurrenceBatchService {
             .failedCount(failedCount)
             .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmOccurrencePartitionResult;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrencePartitionRepository;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * alarm_occurrence 월별 파티션 유지보수
+ * - 앞으로 future-months 개월까지 파티션을 미리 만들어 새 데이터가 p_max에 쌓이지 않게 함
+ * - hot-months 개월보다 오래된 파티션은 보관 테이블로 떼어내 스케줄러 쿼리가 보는 파티션 수를 일정하게 유지
+ */
+@Slf4j
+@Service
+public class AlarmOccurrencePartitionService {
+
+    private final AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
+    private final int futureMonths;
+    private final int hotMonths;
+
+    public AlarmOccurrencePartitionService(
+        AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository,
+        @Value("${alarm.occurrence.partition.future-months:3}") int futureMonths,
+        @Value("${alarm.occurrence.partition.hot-months:6}") int hotMonths
+    ) {
+        this.alarmOccurrencePartitionRepository = alarmOccurrencePartitionRepository;
+        this.futureMonths = futureMonths;
+        this.hotMonths = hotMonths;
+    }
+
+    public AlarmOccurrencePartitionResult maintain(YearMonth currentMonth) {
+        List<YearMonth> partitions = alarmOccurrencePartitionRepository.findMonthlyPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("[AlarmOccurrence Partition] 월별 파티션이 없어 유지보수를 건너뜁니다. (마이그레이션 미적용)");
+            return AlarmOccurrencePartitionResult.builder()
+                .createdMonths(List.of())
+                .archivedMonths(List.of())
+                .build();
+        }
+
+        // 1. 마지막 월별 파티션 다음 달부터 future-months 개월 뒤까지 생성
+        List<YearMonth> created = new ArrayList<>();
+        YearMonth lastMonth = partitions.get(partitions.size() - 1);
+        for (YearMonth month = lastMonth.plusMonths(1); !month.isAfter(currentMonth.plusMonths(futureMonths)); month = month.plusMonths(1)) {
+            created.add(month);
+        }
+        alarmOccurrencePartitionRepository.addMonthlyPartitions(created);
+
+        // 2. 보관 기준 월 이전 파티션을 보관 테이블로 분리 (이번 달 파티션은 항상 남김)
+        YearMonth oldestHotMonth = currentMonth.minusMonths(hotMonths);
+        List<YearMonth> archived = new ArrayList<>();
+        for (YearMonth month : partitions) {
+            if (!month.isBefore(oldestHotMonth)) break;
+
+            if (alarmOccurrencePartitionRepository.archivePartition(month)) {
+                archived.add(month);
+            } else {
+                log.error("[AlarmOccurrence Partition] {} 보관 테이블에 이미 데이터가 있어 분리를 건너뜁니다. 수동 확인 필요",
+                    AlarmOccurrencePartitionRepository.archiveTableName(month));
+            }
+        }
+
+        log.info("[AlarmOccurrence Partition] 완료 - 생성: {}, 보관: {}", created, archived);
+
+        return AlarmOccurrencePartitionResult.builder()
+            .createdMonths(created)
+            .archivedMonths(archived)
+            .build();
+    }
+}
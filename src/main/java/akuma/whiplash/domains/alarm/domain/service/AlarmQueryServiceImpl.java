@@ -1,7 +1,5 @@
 package akuma.whiplash.domains.alarm.domain.service;
 
-import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
-import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
 import akuma.whiplash.domains.alarm.application.dto.response.AlarmInfoPreviewResponse;
 import akuma.whiplash.domains.alarm.application.dto.response.AlarmRemainingOffCountResponse;
 import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
@@ -9,22 +7,17 @@ import akuma.whiplash.domains.alarm.domain.constant.Weekday;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
-import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
 import akuma.whiplash.domains.member.exception.MemberErrorCode;
 import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
 import akuma.whiplash.global.exception.ApplicationException;
 import akuma.whiplash.global.util.date.DateUtil;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -38,10 +31,8 @@ public class AlarmQueryServiceImpl implements AlarmQueryService {
 
     private final AlarmRepository alarmRepository;
     private final AlarmOccurrenceRepository alarmOccurrenceRepository;
-    private final AlarmOffLogRepository alarmOffLogRepository;
     private final MemberRepository memberRepository;
-
-    private static final int WEEKLY_OFF_LIMIT = 2;
+    private final WeeklyOffCounter weeklyOffCounter;
 
     @Transactional
     @Override
@@ -54,80 +45,47 @@ public class AlarmQueryServiceImpl implements AlarmQueryService {
         List<AlarmEntity> alarms = alarmRepository.findAllByMemberId(memberId);
         LocalDate today = LocalDate.now();
 
+        // 3. 알람별 가장 최근 OFF 또는 CHECKIN 이력을 한 번에 조회 (알람 수와 무관하게 쿼리 1회)
+        //    오늘 이전 이력은 다음 울림일 계산에 쓰이지 않으므로 오늘 이후만 조회 (월별 파티션 프루닝)
+        Map<Long, AlarmOccurrenceEntity> recentOccurrenceByAlarmId = alarmOccurrenceRepository
+            .findLatestDeactivatedByMemberId(memberId, List.of(DeactivateType.OFF, DeactivateType.CHECKIN), today)
+            .stream()
+            .collect(Collectors.toMap(occ -> occ.getAlarm().getId(), Function.identity(), (a, b) -> a));
+
         return alarms.stream()
-            .map(alarm -> buildPreviewResponse(alarm, today, memberId))
+            .map(alarm -> buildPreviewResponse(
+                alarm, today, Optional.ofNullable(recentOccurrenceByAlarmId.get(alarm.getId()))
+            ))
             .toList();
     }
 
-    @Override
-    public List<OccurrencePushInfo> getPreNotificationTargets(LocalDateTime startInclusive, LocalDateTime endInclusive) {
-        LocalDate startDate = startInclusive.toLocalDate();
-        LocalTime startTime = startInclusive.toLocalTime();
-        LocalDate endDate   = endInclusive.toLocalDate();
-        LocalTime endTime   = endInclusive.toLocalTime();
-
-        // startDate == endDate -> 검색 범위가 같은 날짜 안이면 단일 쿼리
-        if (startDate.equals(endDate)) {
-            return alarmOccurrenceRepository.findPreNotificationTargetsSameDay(
-                startDate, startTime, endTime, DeactivateType.NONE
-            );
-        }
-
-        //  startDate < endDate -> 검색 범위가 다음 날로 넘어가면 두 구간 합집합
-        List<OccurrencePushInfo> part1 = alarmOccurrenceRepository.findPreNotificationTargetsFromTime(
-            startDate, startTime, DeactivateType.NONE
-        ); // [startDate startTime ~ 23:59:59]
-        List<OccurrencePushInfo> part2 = alarmOccurrenceRepository.findPreNotificationTargetsUntilTime(
-            endDate, endTime, DeactivateType.NONE
-        );// [endDate 00:00:00 ~ endTime]
-
-        // 중복 제거(혹시 모를 중복 대비)
-        return Stream.concat(part1.stream(), part2.stream())
-            .collect(Collectors.collectingAndThen(
-                Collectors.toMap(OccurrencePushInfo::occurrenceId, x -> x, (a, b) -> a),
-                m -> new ArrayList<>(m.values())
-            ));
-    }
-
     @Override
     public AlarmRemainingOffCountResponse getWeeklyRemainingOffCount(Long memberId) {
         memberRepository
             .findById(memberId)
             .orElseThrow(() -> ApplicationException.from(MemberErrorCode.MEMBER_NOT_FOUND));
 
-        LocalDate today = LocalDate.now();
-        LocalDate monday = today.with(DayOfWeek.MONDAY);
-        LocalDateTime weekStart = monday.atStartOfDay();
-        LocalDateTime now = LocalDateTime.now();
-
-        long offCount = alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(
-            memberId, weekStart, now
-        );
-
-        int count = (int) Math.max(0, WEEKLY_OFF_LIMIT - offCount);
+        // 이번 주 끈 횟수 (Redis 카운터, 없으면 alarm_off_log 기준으로 채움)
+        long offCount = weeklyOffCounter.getCount(memberId, LocalDate.now());
+        int count = (int) Math.max(0, WeeklyOffCounter.WEEKLY_OFF_LIMIT - offCount);
 
         return AlarmRemainingOffCountResponse.builder()
             .remainingOffCount(count)
             .build();
     }
 
-    private AlarmInfoPreviewResponse buildPreviewResponse(AlarmEntity alarm, LocalDate today, Long memberId) {
-        // 1. 가장 최근 OFF 또는 CHECKIN 이력 조회
-        Optional<AlarmOccurrenceEntity> recentOccurrenceOpt =
-            alarmOccurrenceRepository.findTopByAlarmIdAndDeactivateTypeInOrderByDateDescTimeDesc(
-                alarm.getId(),
-                List.of(DeactivateType.OFF, DeactivateType.CHECKIN)
-            );
-
-        // 2. 반복 요일을 DayOfWeek로 변환
-        Set<DayOfWeek> repeatSet = alarm.getRepeatDays().stream()
-            .map(Weekday::getDayOfWeek)
-            .collect(Collectors.toSet());
+    private AlarmInfoPreviewResponse buildPreviewResponse(
+        AlarmEntity alarm,
+        LocalDate today,
+        Optional<AlarmOccurrenceEntity> recentOccurrenceOpt // 가장 최근 OFF 또는 CHECKIN 이력
+    ) {
+        // 1. 반복 요일 비트마스크
+        int repeatMask = alarm.getRepeatMask();
 
-        // 3. 오늘 기준 알람 예정일 계산: 첫 번째/두 번째/세 번째 텀
-        LocalDate firstDate = DateUtil.getNextOccurrenceDate(repeatSet, today);
-        LocalDate secondDate = DateUtil.getNextOccurrenceDate(repeatSet, firstDate.plusDays(1));
-        LocalDate thirdDate = DateUtil.getNextOccurrenceDate(repeatSet, secondDate.plusDays(1));
+        // 2. 오늘 기준 알람 예정일 계산: 첫 번째/두 번째/세 번째 텀
+        LocalDate firstDate = DateUtil.getNextOccurrenceDate(repeatMask, today);
+        LocalDate secondDate = DateUtil.getNextOccurrenceDate(repeatMask, firstDate.plusDays(1));
+        LocalDate thirdDate = DateUtil.getNextOccurrenceDate(repeatMask, secondDate.plusDays(1));
 
         /**
          * 최근 알람 비활성화(OFF) 이력이 오늘의 알람에 대해 발생한 경우,
@@ -143,7 +101,7 @@ public class AlarmQueryServiceImpl implements AlarmQueryService {
          *   - CHECKIN은 출석으로 꺼졌기 때문에 토글은 그대로 유지됨 (isToggleOn = true)
          */
 
-        // 4. 다음 알람일(firstUpcomingDate), 다음+1 알람일(secondUpcomingDate) 결정
+        // 3. 다음 알람일(firstUpcomingDate), 다음+1 알람일(secondUpcomingDate) 결정
         boolean isCurrentDeactivated = recentOccurrenceOpt
             .map(occ -> occ.getDate().equals(firstDate))
             .orElse(false);
@@ -178,11 +136,6 @@ public class AlarmQueryServiceImpl implements AlarmQueryService {
             .secondUpcomingDayOfWeek(DateUtil.getKoreanDayOfWeek(resolvedSecondUpcomingDate))
             .build();
     }
-
-    @Override
-    public List<RingingPushInfo> getRingingNotificationTargets() {
-        return alarmOccurrenceRepository.findRingingNotificationTargets(DeactivateType.NONE);
-    }
 }
 
 
@@ -0,0 +1,83 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingLogRecord;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogBulkRepository;
+import akuma.whiplash.global.util.batch.BatchingWriter;
+import akuma.whiplash.global.util.batch.BatchingWriter.OverflowPolicy;
+import akuma.whiplash.global.util.transaction.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알람 울림 기록(alarm_ringing_log)을 요청 스레드와 분리해 다중 행 INSERT로 모아 쓰는 write-behind 버퍼
+ * - 커밋된 울림만 대기열에 넣고, 대기열이 가득 차면 유실 대신 요청 스레드에서 바로 기록
+ * - 삭제된 발생 내역의 기록은 대기열에서 버리고, 이미 꺼내 간 배치는 INSERT 시 발생 내역이 없으면 건너뜀
+ * 울림 횟수는 발생 내역의 ringing_count가 원본이며, 이 기록은 최대 flush-interval-ms 늦게 보일 수 있다.
+ */
+@Slf4j
+@Component
+public class AlarmRingingLogBuffer {
+
+    private final BatchingWriter<AlarmRingingLogRecord> writer;
+
+    public AlarmRingingLogBuffer(
+        AlarmRingingLogBulkRepository alarmRingingLogBulkRepository,
+        @Value("${alarm.ringing-log.queue-capacity:10000}") int queueCapacity,
+        @Value("${alarm.ringing-log.batch-size:500}") int batchSize,
+        @Value("${alarm.ringing-log.flush-interval-ms:1000}") long flushIntervalMillis
+    ) {
+        this.writer = new BatchingWriter<>(
+            "ringing-log", alarmRingingLogBulkRepository::insertAll,
+            queueCapacity, batchSize, flushIntervalMillis, OverflowPolicy.WRITE_THROUGH
+        );
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        writer.stop();
+    }
+
+    /**
+     * 울림 기록을 쓰기 대기열에 넣는다.
+     * 트랜잭션 안에서 호출되면 커밋된 울림만 기록되도록 커밋 이후에 넣는다.
+     */
+    public void append(Long occurrenceId, int ringIndex, LocalDateTime ringedAt) {
+        AlarmRingingLogRecord record = AlarmRingingLogRecord.builder()
+            .occurrenceId(occurrenceId)
+            .ringIndex(ringIndex)
+            .ringedAt(ringedAt)
+            .build();
+
+        TransactionUtil.afterCommit(() -> writer.offer(record));
+    }
+
+    /**
+     * 삭제된 발생 내역의 아직 기록되지 않은 울림 기록을 버린다. (커밋 이후)
+     */
+    public void discard(Collection<Long> occurrenceIds) {
+        if (occurrenceIds == null || occurrenceIds.isEmpty()) return;
+
+        Set<Long> targets = Set.copyOf(occurrenceIds);
+        TransactionUtil.afterCommit(() -> {
+            int discarded = writer.discardIf(record -> targets.contains(record.occurrenceId()));
+            if (discarded > 0) {
+                log.debug("[AlarmRingingLog] 삭제된 발생 내역의 울림 기록 {}건 폐기", discarded);
+            }
+        });
+    }
+
+    public int pendingCount() {
+        return writer.pendingCount();
+    }
+}
@@ -0,0 +1,100 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingLogCompactionResult;
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingSummary;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogCompactionRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * retention-days보다 오래된 울림 기록을 발생 내역별 요약(alarm_ringing_summary)으로 접고 원본 행을 삭제한다.
+ * - 발생 내역 ID 기준 keyset 페이지(chunk-size)로 읽고, 청크마다 요약 upsert + 원본 삭제를 한 트랜잭션으로 커밋
+ *   (짧은 트랜잭션으로 나눠 울림 기록 적재와의 잠금 경합과 undo 로그 증가를 막음)
+ * - 이미 요약이 있는 발생 내역은 기존 요약에 합치므로 늦게 적재된 울림이 있어도 중복/누락 없이 재실행 가능
+ * - 중간에 실패한 청크는 오류만 로깅하고 다음 청크를 계속 처리 (원본이 남아 있어 다음 실행에서 다시 압축)
+ */
+@Slf4j
+@Service
+public class AlarmRingingLogCompactionService {
+
+    private final AlarmRingingLogCompactionRepository alarmRingingLogCompactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public AlarmRingingLogCompactionService(
+        AlarmRingingLogCompactionRepository alarmRingingLogCompactionRepository,
+        TransactionTemplate transactionTemplate,
+        @Value("${alarm.ringing-log.compaction.retention-days:7}") int retentionDays,
+        @Value("${alarm.ringing-log.compaction.chunk-size:200}") int chunkSize
+    ) {
+        this.alarmRingingLogCompactionRepository = alarmRingingLogCompactionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    public AlarmRingingLogCompactionResult compact(LocalDateTime now) {
+        LocalDateTime cutoff = now.toLocalDate().minusDays(retentionDays).atStartOfDay();
+
+        int compactedCount = 0;
+        int purgedCount = 0;
+        int failedCount = 0;
+        long lastOccurrenceId = 0L;
+
+        while (true) {
+            // 1. cutoff 이전 울림 기록이 있는 발생 내역을 청크 크기만큼 조회
+            List<Long> occurrenceIds = alarmRingingLogCompactionRepository
+                .findCompactableOccurrenceIds(cutoff, lastOccurrenceId, chunkSize);
+
+            if (occurrenceIds.isEmpty()) {
+                break;
+            }
+
+            lastOccurrenceId = occurrenceIds.get(occurrenceIds.size() - 1);
+
+            // 2. 청크 단위 트랜잭션으로 요약 저장 후 원본 삭제
+            try {
+                Integer purged = transactionTemplate.execute(status -> compactChunk(occurrenceIds, cutoff));
+                purgedCount += purged == null ? 0 : purged;
+                compactedCount += occurrenceIds.size();
+
+            } catch (Exception e) {
+                failedCount += occurrenceIds.size();
+                log.error("[AlarmRingingLog Compaction] 청크 압축 실패: occurrenceId {}~{}, error={}",
+                    occurrenceIds.get(0), lastOccurrenceId, e.getMessage());
+            }
+
+            if (occurrenceIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("[AlarmRingingLog Compaction] {} 이전 완료 - 요약: {}, 삭제: {}, 실패: {}",
+            cutoff, compactedCount, purgedCount, failedCount);
+
+        return AlarmRingingLogCompactionResult.builder()
+            .compactedOccurrenceCount(compactedCount)
+            .purgedLogCount(purgedCount)
+            .failedOccurrenceCount(failedCount)
+            .build();
+    }
+
+    private int compactChunk(List<Long> occurrenceIds, LocalDateTime cutoff) {
+        Map<Long, List<LocalDateTime>> ringedAts = alarmRingingLogCompactionRepository.findRingedAtsBefore(occurrenceIds, cutoff);
+        Map<Long, AlarmRingingSummary> existing = alarmRingingLogCompactionRepository.findSummaries(occurrenceIds);
+
+        List<AlarmRingingSummary> summaries = new ArrayList<>(ringedAts.size());
+        ringedAts.forEach((occurrenceId, times) ->
+            summaries.add(RingingLogRollup.merge(occurrenceId, existing.get(occurrenceId), times)));
+
+        alarmRingingLogCompactionRepository.upsertSummaries(summaries);
+        return alarmRingingLogCompactionRepository.deleteLogsBefore(occurrenceIds, cutoff);
+    }
+}
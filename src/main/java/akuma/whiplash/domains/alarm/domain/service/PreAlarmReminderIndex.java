@@ -0,0 +1,233 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrenceReminderInfo;
+import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
+import akuma.whiplash.global.util.transaction.TransactionUtil;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알람 울리기 1시간 전 푸시 대상을 분 단위로 정렬해 보관하는 Redis 타임휠 인덱스
+ * - 스케줄러 샤드(memberId 해시)마다 ZSET 하나 (member = occurrenceId, score = 울림 시각 epoch 분)
+ * - 푸시 정보는 HASH 하나에 보관 (field = occurrenceId, value = memberId:주소)
+ * - 자정 배치 직후(그리고 서버 기동 시) 오늘 날짜의 미발송 발생 내역을 적재 (중복 적재해도 결과가 같음)
+ * - 알람 끄기/도착 인증/삭제, 리마인드 발송 완료 시 해당 발생 내역을 제거
+ * - 매 분 스케줄러는 DB 조회 없이 점유한 샤드의 ZSET만 조회
+ * 인덱스를 모든 노드가 공유하므로 어느 노드에서 변경해도 샤드를 점유한 노드의 다음 조회에 바로 반영된다.
+ * 변경은 커밋 이후에 반영하며, 조회 결과를 바로 받아야 하므로 트랜잭션 지원(MULTI)이 켜진 redisTemplate 대신
+ * StringRedisTemplate을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreAlarmReminderIndex {
+
+    private static final String KEY_INDEX_PREFIX = "alarm:reminder:index:";
+    private static final String KEY_TARGETS = "alarm:reminder:targets";
+
+    private final AlarmOccurrenceRepository alarmOccurrenceRepository;
+    private final SchedulerShardCoordinator schedulerShardCoordinator;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 지정한 날짜의 미발송 발생 내역을 인덱스에 적재한다.
+     * 다른 노드와 인덱스를 공유하므로 비우지 않고 덮어쓰기만 한다. (이미 발송·비활성화된 항목은 적재 시 걸러짐)
+     */
+    public void warmUp(LocalDate date) {
+        List<OccurrenceReminderInfo> infos = alarmOccurrenceRepository.findReminderIndexTargets(date, DeactivateType.NONE);
+        putAll(infos);
+
+        log.info("[PreAlarmReminderIndex] {} 리마인드 대상 {}건 적재", date, infos.size());
+    }
+
+    /**
+     * 회원의 오늘 발생 내역을 다시 적재한다. (푸시 수신 동의 변경 등)
+     */
+    public void reloadMember(Long memberId) {
+        List<OccurrenceReminderInfo> infos = alarmOccurrenceRepository.findReminderIndexTargetsByMemberId(
+            memberId, LocalDate.now(), DeactivateType.NONE
+        );
+
+        afterCommit(() -> {
+            removeMemberEntries(memberId);
+            putAll(infos);
+        });
+    }
+
+    public void register(OccurrenceReminderInfo info) {
+        afterCommit(() -> putAll(List.of(info)));
+    }
+
+    public void remove(Long occurrenceId) {
+        afterCommit(() -> removeEntries(List.of(occurrenceId)));
+    }
+
+    public void removeAll(Collection<Long> occurrenceIds) {
+        if (occurrenceIds == null || occurrenceIds.isEmpty()) return;
+
+        List<Long> targets = List.copyOf(occurrenceIds);
+        afterCommit(() -> removeEntries(targets));
+    }
+
+    public void removeMember(Long memberId) {
+        afterCommit(() -> removeMemberEntries(memberId));
+    }
+
+    /**
+     * 샤드의 [startInclusive, endInclusive] 구간에 울리는 푸시 대상을 반환하고,
+     * 구간 시작 이전의 항목은 더 이상 조회되지 않으므로 정리한다.
+     */
+    public List<OccurrencePushInfo> getTargets(int shard, LocalDateTime startInclusive, LocalDateTime endInclusive) {
+        String key = indexKey(shard);
+        long start = toScore(startInclusive);
+        long end = toScore(endInclusive);
+
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(key, Double.NEGATIVE_INFINITY, start - 1);
+        if (expired != null && !expired.isEmpty()) {
+            deleteEntries(shard, List.copyOf(expired));
+        }
+
+        Set<TypedTuple<String>> entries = redisTemplate.opsForZSet().rangeByScoreWithScores(key, start, end);
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<TypedTuple<String>> tuples = List.copyOf(entries);
+        List<Object> fields = tuples.stream().map(TypedTuple::getValue).map(Object.class::cast).toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_TARGETS, fields);
+
+        List<OccurrencePushInfo> targets = new ArrayList<>(tuples.size());
+        List<String> orphans = new ArrayList<>();
+        for (int i = 0; i < tuples.size(); i++) {
+            TypedTuple<String> tuple = tuples.get(i);
+            Object value = values.get(i);
+            if (value == null || tuple.getScore() == null) {
+                // 다른 노드에서 동시에 제거 중인 항목
+                orphans.add(tuple.getValue());
+                continue;
+            }
+            targets.add(parseTarget(tuple.getValue(), value.toString(), tuple.getScore().longValue()));
+        }
+        deleteEntries(shard, orphans);
+        return targets;
+    }
+
+    public long size() {
+        return redisTemplate.opsForHash().size(KEY_TARGETS);
+    }
+
+    private void putAll(List<OccurrenceReminderInfo> infos) {
+        if (infos.isEmpty()) return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (OccurrenceReminderInfo info : infos) {
+                String occurrenceId = String.valueOf(info.occurrenceId());
+                conn.hSet(KEY_TARGETS, occurrenceId, info.memberId() + ":" + info.address());
+                conn.zAdd(indexKey(schedulerShardCoordinator.shardOf(info.memberId())),
+                    toScore(info.toPushInfo().alarmAt()), occurrenceId);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 발생 내역의 회원으로 샤드를 찾아 제거한다.
+     */
+    private void removeEntries(List<Long> occurrenceIds) {
+        List<Object> fields = occurrenceIds.stream().map(String::valueOf).map(Object.class::cast).toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_TARGETS, fields);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (int i = 0; i < fields.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) continue;
+
+                String occurrenceId = fields.get(i).toString();
+                conn.zRem(indexKey(schedulerShardCoordinator.shardOf(parseMemberId(value.toString()))), occurrenceId);
+                conn.hDel(KEY_TARGETS, occurrenceId);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 회원이 속한 샤드의 항목만 순회해 해당 회원의 발생 내역을 제거한다.
+     */
+    private void removeMemberEntries(Long memberId) {
+        int shard = schedulerShardCoordinator.shardOf(memberId);
+        Set<String> occurrenceIds = redisTemplate.opsForZSet().range(indexKey(shard), 0, -1);
+        if (occurrenceIds == null || occurrenceIds.isEmpty()) return;
+
+        List<String> ids = List.copyOf(occurrenceIds);
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_TARGETS, List.copyOf(ids));
+
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i);
+            if (value == null || parseMemberId(value.toString()).equals(memberId)) {
+                targets.add(ids.get(i));
+            }
+        }
+        deleteEntries(shard, targets);
+    }
+
+    private void deleteEntries(int shard, List<String> occurrenceIds) {
+        if (occurrenceIds.isEmpty()) return;
+
+        Object[] targets = occurrenceIds.toArray();
+        redisTemplate.opsForZSet().remove(indexKey(shard), targets);
+        redisTemplate.opsForHash().delete(KEY_TARGETS, targets);
+    }
+
+    private void afterCommit(Runnable task) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // 누락된 항목은 다음 적재(자정 배치, 서버 기동) 때 복구되고, 남은 항목은 발송 직전 DB 상태로 걸러짐
+                log.warn("[PreAlarmReminderIndex] 리마인드 인덱스 반영 실패", e);
+            }
+        });
+    }
+
+    private OccurrencePushInfo parseTarget(String occurrenceId, String value, long score) {
+        int separator = value.indexOf(':');
+        return OccurrencePushInfo.builder()
+            .occurrenceId(Long.parseLong(occurrenceId))
+            .memberId(Long.parseLong(value.substring(0, separator)))
+            .address(value.substring(separator + 1))
+            .alarmAt(LocalDateTime.ofEpochSecond(score * 60, 0, ZoneOffset.UTC))
+            .build();
+    }
+
+    private Long parseMemberId(String value) {
+        return Long.parseLong(value.substring(0, value.indexOf(':')));
+    }
+
+    // 울림 시각(분 단위)을 그대로 정렬 키로 쓰므로 시간대 변환 없이 UTC 기준 epoch 분을 사용
+    private long toScore(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MINUTES).toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private String indexKey(int shard) {
+        return KEY_INDEX_PREFIX + shard;
+    }
+}
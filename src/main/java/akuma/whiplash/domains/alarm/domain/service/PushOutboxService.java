@@ -0,0 +1,90 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
+import akuma.whiplash.domains.alarm.application.dto.etc.PushOutboxMessage;
+import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
+import akuma.whiplash.domains.alarm.domain.constant.PushType;
+import akuma.whiplash.domains.alarm.persistence.repository.PushOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 푸시를 push_outbox에 적재한다. 호출자의 트랜잭션에 참여하므로 발생 내역 상태 변경과 함께 커밋/롤백된다.
+ * 실제 전송은 PushOutboxDispatcher가 담당한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PushOutboxService {
+
+    // 리마인드는 알람이 울리기 전까지(울릴 시각을 모르면 1시간), 울림 알림은 FCM 메시지 TTL과 같은 시간 동안만 전송 의미가 있음
+    private static final Duration REMINDER_PUSH_TTL = Duration.ofMinutes(60);
+    private static final Duration RINGING_PUSH_TTL = Duration.ofSeconds(30);
+
+    private final PushOutboxRepository pushOutboxRepository;
+
+    public int enqueueReminders(List<OccurrencePushInfo> infos, LocalDateTime now) {
+        List<PushOutboxMessage> messages = infos.stream()
+            .map(info -> PushOutboxMessage.builder()
+                .dedupKey(PushType.REMINDER.name() + ":" + info.occurrenceId())
+                .type(PushType.REMINDER)
+                .occurrenceId(info.occurrenceId())
+                .memberId(info.memberId())
+                .address(info.address())
+                .expiresAt(info.alarmAt() != null ? info.alarmAt() : now.plus(REMINDER_PUSH_TTL))
+                .build())
+            .toList();
+
+        return pushOutboxRepository.insertIgnore(messages, now);
+    }
+
+    /**
+     * 울림이 시작된 발생 내역의 첫 울림 알림을 적재한다. 발생 내역당 한 번만 적재된다. (같은 dedup key)
+     */
+    public int enqueueRingStarted(RingingPushInfo info, LocalDateTime now) {
+        return pushOutboxRepository.insertIgnore(
+            List.of(ringingMessage(info, PushType.RINGING.name() + ":" + info.occurrenceId(), now)), now);
+    }
+
+    /**
+     * 재전송 간격이 돌아온 울림 알림을 적재한다. (스케줄러가 간격마다 호출하므로 전송 시각을 dedup key에 포함)
+     */
+    public int enqueueRinging(List<RingingPushInfo> infos, LocalDateTime now) {
+        long nowMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        List<PushOutboxMessage> messages = infos.stream()
+            .map(info -> ringingMessage(info, PushType.RINGING.name() + ":" + info.occurrenceId() + ":" + nowMillis, now))
+            .toList();
+
+        return pushOutboxRepository.insertIgnore(messages, now);
+    }
+
+    /**
+     * cutoff 이전에 DEAD 처리된 푸시를 배치 단위로 삭제한다. (전송 성공한 푸시는 디스패처가 바로 삭제)
+     *
+     * @return 삭제한 행 수
+     */
+    public int purgeDead(LocalDateTime cutoff, int batchSize) {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = pushOutboxRepository.deleteDeadBefore(cutoff, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+
+    private PushOutboxMessage ringingMessage(RingingPushInfo info, String dedupKey, LocalDateTime now) {
+        return PushOutboxMessage.builder()
+            .dedupKey(dedupKey)
+            .type(PushType.RINGING)
+            .occurrenceId(info.occurrenceId())
+            .alarmId(info.alarmId())
+            .memberId(info.memberId())
+            .expiresAt(now.plus(RINGING_PUSH_TTL))
+            .build();
+    }
+}
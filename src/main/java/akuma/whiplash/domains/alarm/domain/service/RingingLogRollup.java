@@ -0,0 +1,75 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingSummary;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 발생 내역별 울림 시각 목록 ↔ 요약(첫/마지막 울림, 횟수, 간격 delta 배열) 변환
+ * 간격을 ringed_at(DATETIME(6))과 같은 μs 단위로 보관하므로 요약에서 원래 울림 시각을 그대로 복원할 수 있다.
+ * (ms로 자르면 μs 이하 오차가 간격마다 누적되어 뒤쪽 울림 시각이 어긋남)
+ */
+public final class RingingLogRollup {
+
+    private static final String DELIMITER = ",";
+
+    private RingingLogRollup() {
+    }
+
+    /**
+     * 울림 시각 목록을 요약 한 건으로 접는다. (시각 순으로 정렬해 간격 계산)
+     */
+    public static AlarmRingingSummary fold(Long occurrenceId, List<LocalDateTime> ringedAts) {
+        if (ringedAts.isEmpty()) {
+            throw new IllegalArgumentException("울림 기록이 없는 발생 내역은 요약할 수 없습니다. occurrenceId=" + occurrenceId);
+        }
+
+        List<LocalDateTime> sorted = ringedAts.stream().sorted().toList();
+        StringJoiner gaps = new StringJoiner(DELIMITER);
+        for (int i = 1; i < sorted.size(); i++) {
+            gaps.add(String.valueOf(ChronoUnit.MICROS.between(sorted.get(i - 1), sorted.get(i))));
+        }
+
+        return AlarmRingingSummary.builder()
+            .occurrenceId(occurrenceId)
+            .firstRingedAt(sorted.get(0))
+            .lastRingedAt(sorted.get(sorted.size() - 1))
+            .ringCount(sorted.size())
+            .gapMicros(gaps.toString())
+            .build();
+    }
+
+    /**
+     * 요약에서 울림 시각 목록을 복원한다.
+     */
+    public static List<LocalDateTime> expand(AlarmRingingSummary summary) {
+        List<LocalDateTime> ringedAts = new ArrayList<>(summary.ringCount());
+        LocalDateTime ringedAt = summary.firstRingedAt();
+        ringedAts.add(ringedAt);
+
+        if (!summary.gapMicros().isEmpty()) {
+            for (String gap : summary.gapMicros().split(DELIMITER)) {
+                ringedAt = ringedAt.plus(Long.parseLong(gap), ChronoUnit.MICROS);
+                ringedAts.add(ringedAt);
+            }
+        }
+        return ringedAts;
+    }
+
+    /**
+     * 기존 요약에 새로 압축할 울림 시각을 합친다. (이전 실행 이후 늦게 기록된 울림 등)
+     * 기존 요약이 없으면 새로 접는다.
+     */
+    public static AlarmRingingSummary merge(Long occurrenceId, AlarmRingingSummary existing, List<LocalDateTime> ringedAts) {
+        if (existing == null) {
+            return fold(occurrenceId, ringedAts);
+        }
+
+        List<LocalDateTime> merged = new ArrayList<>(expand(existing));
+        merged.addAll(ringedAts);
+        return fold(occurrenceId, merged);
+    }
+}
@@ -0,0 +1,46 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 울리는 중인 발생 내역별 푸시 재전송 간격(backoff) 정책
+ * - 울림 시작 후 fast-duration 동안은 fast-interval 간격으로 전송
+ * - 이후에는 slow-interval 간격으로 전송
+ * - expire-minutes가 지나면 RedisService에서 울림 목록 자체가 정리되어 더 이상 전송하지 않음
+ */
+@Component
+public class RingingPushSchedule {
+
+    // 스케줄러 실행 주기 오차 허용치 (10초 주기 실행이 9.9초 만에 돌아와도 전송 대상에 포함)
+    private static final long JITTER_TOLERANCE_MILLIS = 1000;
+
+    private final long fastIntervalMillis;
+    private final long fastDurationMillis;
+    private final long slowIntervalMillis;
+
+    public RingingPushSchedule(
+        @Value("${alarm.ringing.fast-interval-seconds:10}") long fastIntervalSeconds,
+        @Value("${alarm.ringing.fast-duration-seconds:120}") long fastDurationSeconds,
+        @Value("${alarm.ringing.slow-interval-seconds:60}") long slowIntervalSeconds
+    ) {
+        this.fastIntervalMillis = fastIntervalSeconds * 1000;
+        this.fastDurationMillis = fastDurationSeconds * 1000;
+        this.slowIntervalMillis = slowIntervalSeconds * 1000;
+    }
+
+    /**
+     * 지금 울림 푸시를 보내야 하는지 판단한다. 한 번도 보내지 않았다면 즉시 전송 대상이다.
+     */
+    public boolean isDue(RingingPushInfo info, long nowMillis) {
+        if (info.lastSentAtMillis() == null) {
+            return true;
+        }
+
+        long elapsedSinceRing = nowMillis - info.ringStartedAtMillis();
+        long interval = elapsedSinceRing < fastDurationMillis ? fastIntervalMillis : slowIntervalMillis;
+
+        return nowMillis - info.lastSentAtMillis() + JITTER_TOLERANCE_MILLIS >= interval;
+    }
+}
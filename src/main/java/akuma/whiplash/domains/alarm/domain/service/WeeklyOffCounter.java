@@ -0,0 +1,155 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
+import akuma.whiplash.global.util.date.DateUtil;
+import akuma.whiplash.global.util.transaction.TransactionUtil;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 주간(월~일) 알람 끄기 횟수를 Redis 카운터로 관리한다.
+ * - 한도 확인과 증가를 Lua 스크립트 하나로 처리해 동시 요청에서도 한도를 넘지 않음 (check-then-act 제거)
+ * - 키가 없으면 alarm_off_log에서 이번 주 횟수를 다시 세어 채움 (SET NX, 다음 주가 시작되고 하루 뒤 만료)
+ * - 예약 후 트랜잭션이 커밋되지 않으면 예약을 되돌림
+ * - 끈 이력이 삭제되면(알람 삭제, 회원 탈퇴) 커밋 후 키를 지워 다음 조회 때 DB 기준으로 다시 채움
+ * - Redis 장애 시 기존처럼 DB COUNT로 확인 (이 경우 동시 요청 한도 보장은 없음)
+ * 알람 끄기 트랜잭션 안에서 스크립트 결과를 바로 받아야 하므로 트랜잭션 지원(MULTI)이 켜진 redisTemplate 대신
+ * StringRedisTemplate을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyOffCounter {
+
+    public static final int WEEKLY_OFF_LIMIT = 2;
+
+    private static final String KEY_PREFIX = "alarm:off-count:";
+    private static final long NOT_LOADED = -1L;
+    private static final long LIMIT_EXCEEDED = -2L;
+
+    // 키가 없으면 -1, 한도에 도달했으면 -2, 아니면 증가시킨 횟수
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local count = redis.call('GET', KEYS[1])
+        if not count then return -1 end
+        if tonumber(count) >= tonumber(ARGV[1]) then return -2 end
+        return redis.call('INCR', KEYS[1])
+        """, Long.class);
+
+    // 만료 후 다시 채워진 키를 음수로 만들지 않도록 0보다 클 때만 감소
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local count = redis.call('GET', KEYS[1])
+        if count and tonumber(count) > 0 then return redis.call('DECR', KEYS[1]) end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AlarmOffLogRepository alarmOffLogRepository;
+
+    /**
+     * 해당 날짜가 속한 주의 끄기 1회를 예약한다.
+     *
+     * @return 이번 예약을 포함한 이번 주 끈 횟수, 한도에 도달했으면 empty
+     */
+    public OptionalLong tryReserve(Long memberId, LocalDate date) {
+        LocalDate weekStart = DateUtil.getWeekStartDate(date);
+        String key = key(memberId, weekStart);
+
+        try {
+            long reserved = reserve(key);
+            if (reserved == NOT_LOADED) {
+                load(key, memberId, weekStart);
+                reserved = reserve(key);
+            }
+            if (reserved == LIMIT_EXCEEDED) {
+                return OptionalLong.empty();
+            }
+            if (reserved != NOT_LOADED) {
+                TransactionUtil.afterRollback(() -> release(key));
+                return OptionalLong.of(reserved);
+            }
+        } catch (Exception e) {
+            log.warn("[WeeklyOffCounter] Redis 카운터 예약 실패, DB로 확인합니다. memberId={}", memberId, e);
+        }
+
+        long offCount = countFromDb(memberId, weekStart);
+        return offCount >= WEEKLY_OFF_LIMIT ? OptionalLong.empty() : OptionalLong.of(offCount + 1);
+    }
+
+    /**
+     * 해당 날짜가 속한 주의 끈 횟수
+     */
+    public long getCount(Long memberId, LocalDate date) {
+        LocalDate weekStart = DateUtil.getWeekStartDate(date);
+        String key = key(memberId, weekStart);
+
+        try {
+            String count = redisTemplate.opsForValue().get(key);
+            if (count == null) {
+                return load(key, memberId, weekStart);
+            }
+            return Long.parseLong(count);
+        } catch (Exception e) {
+            log.warn("[WeeklyOffCounter] Redis 카운터 조회 실패, DB로 확인합니다. memberId={}", memberId, e);
+            return countFromDb(memberId, weekStart);
+        }
+    }
+
+    /**
+     * 끈 이력이 삭제되었을 때 이번 주 카운터를 지운다. (커밋 이후)
+     * 다음 조회/예약 때 삭제가 반영된 alarm_off_log 기준으로 다시 채운다.
+     */
+    public void evict(Long memberId) {
+        String key = key(memberId, DateUtil.getWeekStartDate(LocalDate.now()));
+
+        TransactionUtil.afterCommit(() -> {
+            try {
+                redisTemplate.delete(key);
+            } catch (Exception e) {
+                // 지우지 못하면 이번 주 남은 횟수가 삭제 전 기준으로 보임 (키 만료 시 DB 기준으로 복구)
+                log.warn("[WeeklyOffCounter] 카운터 삭제 실패. key={}", key, e);
+            }
+        });
+    }
+
+    private long reserve(String key) {
+        Long reserved = redisTemplate.execute(RESERVE_SCRIPT, List.of(key), String.valueOf(WEEKLY_OFF_LIMIT));
+        return reserved == null ? NOT_LOADED : reserved;
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key));
+        } catch (Exception e) {
+            // 되돌리지 못하면 이번 주 남은 횟수가 1회 적게 보일 수 있음 (키 만료 시 DB 기준으로 복구)
+            log.warn("[WeeklyOffCounter] 예약 취소 실패. key={}", key, e);
+        }
+    }
+
+    /**
+     * DB 기준 이번 주 횟수로 키를 채운다. 다른 요청이 먼저 채웠으면 그 값을 유지한다.
+     */
+    private long load(String key, Long memberId, LocalDate weekStart) {
+        long offCount = countFromDb(memberId, weekStart);
+        Duration ttl = Duration.between(LocalDateTime.now(), weekStart.plusWeeks(1).plusDays(1).atStartOfDay());
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(offCount), ttl);
+        return offCount;
+    }
+
+    private long countFromDb(Long memberId, LocalDate weekStart) {
+        return alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(
+            memberId, weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay());
+    }
+
+    private String key(Long memberId, LocalDate weekStart) {
+        return KEY_PREFIX + memberId + ":" + weekStart;
+    }
+}
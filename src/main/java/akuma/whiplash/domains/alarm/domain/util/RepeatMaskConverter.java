@@ -0,0 +1,26 @@
+package akuma.whiplash.domains.alarm.domain.util;
+
+import akuma.whiplash.domains.alarm.domain.constant.Weekday;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 반복 요일 목록 ↔ 7비트 마스크 변환 (월=1, 화=2, 수=4, ... 일=64)
+ */
+@Converter
+public class RepeatMaskConverter implements AttributeConverter<List<Weekday>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(List<Weekday> attribute) {
+        return Weekday.toMask(attribute);  // 예: [MONDAY, WEDNESDAY] → 5
+    }
+
+    @Override
+    public List<Weekday> convertToEntityAttribute(Integer dbData) {
+        if (dbData == null || dbData == 0) return Collections.emptyList();
+        return Weekday.fromMask(dbData);
+    }
+}
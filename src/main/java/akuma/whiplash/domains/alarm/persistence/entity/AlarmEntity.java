@@ -2,7 +2,7 @@ package akuma.whiplash.domains.alarm.persistence.entity;
 
 import akuma.whiplash.domains.alarm.domain.constant.SoundType;
 import akuma.whiplash.domains.alarm.domain.constant.Weekday;
-import akuma.whiplash.domains.alarm.domain.util.RepeatDaysConverter;
+import akuma.whiplash.domains.alarm.domain.util.RepeatMaskConverter;
 import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
 import akuma.whiplash.global.entity.BaseTimeEntity;
 import jakarta.persistence.Column;
@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -32,7 +33,13 @@ import org.hibernate.annotations.DynamicInsert;
 @SuperBuilder
 @DynamicInsert
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "alarm")
+@Table(
+    name = "alarm",
+    indexes = {
+        // 요일별 알람 조회: repeat_mask = ? AND id > ? ORDER BY id (커버링)
+        @Index(name = "idx_alarm_repeat_mask_id", columnList = "repeat_mask, id, time")
+    }
+)
 public class AlarmEntity extends BaseTimeEntity {
 
     @Id
@@ -49,8 +56,8 @@ public class AlarmEntity extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalTime time;
 
-    @Convert(converter = RepeatDaysConverter.class)
-    @Column(name = "repeat_days", columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = RepeatMaskConverter.class)
+    @Column(name = "repeat_mask", nullable = false)
     private List<Weekday> repeatDays;
 
     @Builder.Default
@@ -66,4 +73,8 @@ public class AlarmEntity extends BaseTimeEntity {
 
     @Column(length = 50, nullable = false)
     private String address;
+
+    public int getRepeatMask() {
+        return Weekday.toMask(repeatDays);
+    }
 }
@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -36,6 +37,12 @@ import org.hibernate.annotations.DynamicInsert;
             name = "uk_alarm_date",
             columnNames = {"alarm_id", "date"}
         )
+    },
+    indexes = {
+        // 리마인드 대상 조회: date = ? AND deactivate_type = ? AND reminder_sent = false AND time 범위 (커버링)
+        @Index(name = "idx_alarm_occurrence_reminder", columnList = "date, deactivate_type, reminder_sent, time, alarm_id"),
+        // 알람별 최근 OFF/CHECKIN 발생 내역: alarm_id = ? ORDER BY date DESC, time DESC
+        @Index(name = "idx_alarm_occurrence_alarm_latest", columnList = "alarm_id, date, time, deactivate_type")
     }
 )
 public class AlarmOccurrenceEntity extends BaseTimeEntity {
@@ -83,11 +90,6 @@ public class AlarmOccurrenceEntity extends BaseTimeEntity {
         this.checkinTime = now;
     }
 
-    public int ring() {
-        this.alarmRinging = true;
-        return ++this.ringingCount;
-    }
-
     public void updateReminderSent(boolean reminderSent) {
         this.reminderSent = reminderSent;
     }
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +22,13 @@ import org.hibernate.annotations.DynamicInsert;
 @SuperBuilder
 @DynamicInsert
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "alarm_off_log")
+@Table(
+    name = "alarm_off_log",
+    indexes = {
+        // 주간 OFF 횟수: member_id = ? AND created_at BETWEEN ? AND ?
+        @Index(name = "idx_alarm_off_log_member_created", columnList = "member_id, created_at")
+    }
+)
 public class AlarmOffLogEntity extends BaseTimeEntity {
 
     @Id
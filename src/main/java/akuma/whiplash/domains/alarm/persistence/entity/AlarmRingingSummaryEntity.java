@@ -0,0 +1,39 @@
+package akuma.whiplash.domains.alarm.persistence.entity;
+
+import akuma.whiplash.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 압축된 울림 기록 (발생 내역당 1행, 적재/갱신은 AlarmRingingLogCompactionRepository가 JDBC로 처리)
+ */
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "alarm_ringing_summary")
+public class AlarmRingingSummaryEntity extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "occurrence_id")
+    private Long occurrenceId;
+
+    @Column(name = "first_ringed_at", nullable = false)
+    private LocalDateTime firstRingedAt;
+
+    @Column(name = "last_ringed_at", nullable = false)
+    private LocalDateTime lastRingedAt;
+
+    @Column(name = "ring_count", nullable = false)
+    private Integer ringCount;
+
+    @Column(name = "gap_micros", nullable = false, columnDefinition = "TEXT")
+    private String gapMicros;
+}
@@ -0,0 +1,83 @@
+package akuma.whiplash.domains.alarm.persistence.entity;
+
+import akuma.whiplash.domains.alarm.domain.constant.PushOutboxStatus;
+import akuma.whiplash.domains.alarm.domain.constant.PushType;
+import akuma.whiplash.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 푸시 전송 아웃박스
+ * - 발생 내역 상태 변경과 같은 트랜잭션에서 기록되고, PushOutboxDispatcher가 점유·전송·삭제한다.
+ * - 쓰기/점유는 PushOutboxRepository(JDBC)로 처리하며, 엔티티는 스키마 정의 용도로 둔다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "push_outbox",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_push_outbox_dedup_key",
+            columnNames = {"dedup_key"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+    }
+)
+public class PushOutboxEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dedup_key", length = 100, nullable = false)
+    private String dedupKey; // 같은 푸시의 중복 적재 방지 (ex: REMINDER:{occurrenceId})
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PushType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PushOutboxStatus status;
+
+    @Column(name = "occurrence_id", nullable = false)
+    private Long occurrenceId;
+
+    @Column(name = "alarm_id")
+    private Long alarmId; // 울림 알림 딥링크용
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(length = 255)
+    private String address; // 리마인드 알림 문구용 주소
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // PENDING: 다음 전송 시각, SENDING: 점유 만료 시각
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 이 시각 이후에는 전송하지 않음
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+}
@@ -0,0 +1,92 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmTimeSlot;
+import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 자정 배치용 alarm_occurrence 대량 처리 (JPA IDENTITY 키는 insert 배치가 불가능하므로 JDBC로 직접 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmOccurrenceBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String FIND_ALARM_SLICE_SQL = """
+        SELECT a.id, a.time
+        FROM alarm a
+        WHERE a.repeat_mask = ?
+          AND a.id > ?
+        ORDER BY a.id
+        LIMIT ?
+        """;
+
+    private static final String INSERT_IGNORE_PREFIX = """
+        INSERT IGNORE INTO alarm_occurrence (
+            alarm_id, date, time, deactivate_type, alarm_ringing,
+            ringing_count, reminder_sent, created_at, updated_at
+        ) VALUES
+        """;
+
+    private static final String INSERT_VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 반복 요일 마스크가 정확히 일치하는 알람을 id 기준 keyset 페이지로 조회
+     * idx_alarm_repeat_mask_id(repeat_mask, id, time) 범위 스캔만으로 처리된다.
+     *
+     * @param repeatMask 반복 요일 비트마스크 (ex: 월·수 → 5)
+     * @param lastAlarmId 이전 페이지의 마지막 알람 ID (첫 페이지는 0)
+     * @param limit 페이지 크기
+     */
+    public List<AlarmTimeSlot> findAlarmSliceByRepeatMask(int repeatMask, long lastAlarmId, int limit) {
+        return jdbcTemplate.query(
+            FIND_ALARM_SLICE_SQL,
+            (rs, rowNum) -> AlarmTimeSlot.builder()
+                .alarmId(rs.getLong("id"))
+                .time(rs.getTime("time").toLocalTime())
+                .build(),
+            repeatMask, lastAlarmId, limit
+        );
+    }
+
+    /**
+     * 다중 행 INSERT IGNORE 한 번으로 발생 내역을 생성한다.
+     * uk_alarm_date(alarm_id, date)에 걸리는 이미 존재하는 행은 건너뛴다.
+     *
+     * @return 실제로 생성된 행 수
+     */
+    public int insertIgnoreOccurrences(List<AlarmTimeSlot> slots, LocalDate date) {
+        if (slots.isEmpty()) return 0;
+
+        StringBuilder sql = new StringBuilder(INSERT_IGNORE_PREFIX);
+        List<Object> params = new ArrayList<>(slots.size() * 9);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < slots.size(); i++) {
+            AlarmTimeSlot slot = slots.get(i);
+            sql.append(i == 0 ? "" : ", ").append(INSERT_VALUES_ROW);
+
+            params.add(slot.alarmId());
+            params.add(Date.valueOf(date));
+            params.add(Time.valueOf(slot.time()));
+            params.add(DeactivateType.NONE.name());
+            params.add(false);
+            params.add(0);
+            params.add(false);
+            params.add(now);
+            params.add(now);
+        }
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
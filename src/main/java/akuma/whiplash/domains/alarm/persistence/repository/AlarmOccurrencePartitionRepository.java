@@ -0,0 +1,198 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * alarm_occurrence 월별 파티션 관리 (DDL이므로 JDBC로 직접 처리)
+ * - 파티션 이름: p{yyyyMM} (해당 월 말일까지), 마지막 p_max는 MAXVALUE
+ * - 보관 테이블: alarm_occurrence_archive_{yyyyMM} (파티션을 EXCHANGE로 통째로 옮김)
+ * - 딸린 울림 기록/요약은 alarm_ringing_log_archive_{yyyyMM}, alarm_ringing_summary_archive_{yyyyMM}로 함께 옮김
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmOccurrencePartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String TABLE = "alarm_occurrence";
+    private static final String MAX_PARTITION = "p_max";
+    private static final String RINGING_LOG_TABLE = "alarm_ringing_log";
+    private static final String RINGING_SUMMARY_TABLE = "alarm_ringing_summary";
+    private static final String ARCHIVE_TABLE_PREFIX = "alarm_occurrence_archive_";
+    private static final String RINGING_LOG_ARCHIVE_TABLE_PREFIX = "alarm_ringing_log_archive_";
+    private static final String RINGING_SUMMARY_ARCHIVE_TABLE_PREFIX = "alarm_ringing_summary_archive_";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("^p(\\d{6})$");
+    private static final Pattern ARCHIVE_TABLE = Pattern.compile("^" + ARCHIVE_TABLE_PREFIX + "(\\d{6})$");
+
+    private static final String BY_ALARM = " WHERE ao.alarm_id = ?";
+    private static final String BY_MEMBER = " JOIN alarm a ON ao.alarm_id = a.id WHERE a.member_id = ?";
+
+    private static final String FIND_PARTITIONS_SQL = """
+        SELECT PARTITION_NAME
+        FROM information_schema.PARTITIONS
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME = ?
+          AND PARTITION_NAME IS NOT NULL
+        ORDER BY PARTITION_ORDINAL_POSITION
+        """;
+
+    private static final String TABLE_EXISTS_SQL = """
+        SELECT COUNT(*)
+        FROM information_schema.TABLES
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME = ?
+        """;
+
+    private static final String FIND_ARCHIVE_TABLES_SQL = """
+        SELECT TABLE_NAME
+        FROM information_schema.TABLES
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME LIKE ?
+        ORDER BY TABLE_NAME
+        """;
+
+    /**
+     * 월별 파티션 목록 (오래된 순). 파티션되지 않은 테이블이면 빈 목록
+     */
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class, TABLE).stream()
+            .map(MONTHLY_PARTITION::matcher)
+            .filter(Matcher::matches)
+            .map(matcher -> YearMonth.parse(matcher.group(1), SUFFIX_FORMAT))
+            .toList();
+    }
+
+    /**
+     * p_max를 쪼개 월별 파티션을 추가한다. p_max에 데이터가 없으면 메타데이터 변경만 일어난다.
+     */
+    public void addMonthlyPartitions(List<YearMonth> months) {
+        if (months.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(TABLE)
+            .append(" REORGANIZE PARTITION ").append(MAX_PARTITION).append(" INTO (");
+        for (YearMonth month : months) {
+            sql.append("PARTITION ").append(partitionName(month))
+                .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("'), ");
+        }
+        sql.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+
+        jdbcTemplate.execute(sql.toString());
+    }
+
+    /**
+     * 파티션을 보관 테이블로 옮기고(EXCHANGE PARTITION, 행 복사 없음) 빈 파티션을 제거한다.
+     * 파티션으로 발생 내역을 가려낼 수 있는 동안 딸린 울림 기록/요약을 먼저 같은 월 보관 테이블로 옮기므로
+     * 발생 내역 보관 테이블이 있으면 울림 기록/요약 보관 테이블도 항상 있다.
+     * 중간에 실패해도 다시 호출하면 남은 단계부터 이어서 처리한다.
+     *
+     * @return 보관 테이블로 옮겨졌으면 true, 보관 테이블에 이미 다른 데이터가 있어 건너뛰었으면 false
+     */
+    public boolean archivePartition(YearMonth month) {
+        String partition = partitionName(month);
+        String partitionRows = TABLE + " PARTITION (" + partition + ")";
+        String archiveTable = archiveTableName(month);
+
+        if (hasRows(partitionRows)) {
+            if (tableExists(archiveTable) && hasRows(archiveTable)) {
+                return false;
+            }
+
+            moveDependentRows(partitionRows, RINGING_LOG_TABLE, "alarm_occurrence_id", ringingLogArchiveTableName(month));
+            moveDependentRows(partitionRows, RINGING_SUMMARY_TABLE, "occurrence_id", ringingSummaryArchiveTableName(month));
+
+            if (!tableExists(archiveTable)) {
+                jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE " + TABLE);
+                jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " EXCHANGE PARTITION " + partition + " WITH TABLE " + archiveTable);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+        return true;
+    }
+
+    /**
+     * 보관된 월 목록 (오래된 순)
+     */
+    public List<YearMonth> findArchivedMonths() {
+        return jdbcTemplate.queryForList(FIND_ARCHIVE_TABLES_SQL, String.class, ARCHIVE_TABLE_PREFIX + "%").stream()
+            .map(ARCHIVE_TABLE::matcher)
+            .filter(Matcher::matches)
+            .map(matcher -> YearMonth.parse(matcher.group(1), SUFFIX_FORMAT))
+            .toList();
+    }
+
+    /**
+     * 보관 테이블에 있는 알람의 발생 내역과 딸린 울림 기록/요약을 삭제한다.
+     */
+    public void deleteArchivedByAlarmId(Long alarmId) {
+        for (YearMonth month : findArchivedMonths()) {
+            deleteArchived(month, BY_ALARM, alarmId);
+        }
+    }
+
+    /**
+     * 보관 테이블에 있는 회원의 발생 내역과 딸린 울림 기록/요약을 삭제한다. (alarm 삭제 전에 호출)
+     */
+    public void deleteArchivedByMemberId(Long memberId) {
+        for (YearMonth month : findArchivedMonths()) {
+            deleteArchived(month, BY_MEMBER, memberId);
+        }
+    }
+
+    private void moveDependentRows(String partitionRows, String table, String occurrenceColumn, String archiveTable) {
+        if (!tableExists(archiveTable)) {
+            jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE " + table);
+        }
+
+        String join = " t JOIN " + partitionRows + " ao ON t." + occurrenceColumn + " = ao.id";
+        jdbcTemplate.update("INSERT IGNORE INTO " + archiveTable + " SELECT t.* FROM " + table + join);
+        jdbcTemplate.update("DELETE t FROM " + table + join);
+    }
+
+    private void deleteArchived(YearMonth month, String filter, Long id) {
+        String archiveTable = archiveTableName(month);
+
+        // 자식 → 부모 순으로 삭제
+        jdbcTemplate.update("DELETE t FROM " + ringingLogArchiveTableName(month) + " t JOIN " + archiveTable
+            + " ao ON t.alarm_occurrence_id = ao.id" + filter, id);
+        jdbcTemplate.update("DELETE t FROM " + ringingSummaryArchiveTableName(month) + " t JOIN " + archiveTable
+            + " ao ON t.occurrence_id = ao.id" + filter, id);
+        jdbcTemplate.update("DELETE ao FROM " + archiveTable + " ao" + filter, id);
+    }
+
+    private boolean hasRows(String from) {
+        List<Integer> rows = jdbcTemplate.queryForList("SELECT 1 FROM " + from + " LIMIT 1", Integer.class);
+        return !rows.isEmpty();
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class, table);
+        return Objects.requireNonNullElse(count, 0) > 0;
+    }
+
+    public static String partitionName(YearMonth month) {
+        return "p" + month.format(SUFFIX_FORMAT);
+    }
+
+    public static String archiveTableName(YearMonth month) {
+        return ARCHIVE_TABLE_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    public static String ringingLogArchiveTableName(YearMonth month) {
+        return RINGING_LOG_ARCHIVE_TABLE_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    public static String ringingSummaryArchiveTableName(YearMonth month) {
+        return RINGING_SUMMARY_ARCHIVE_TABLE_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+}
@@ -1,11 +1,10 @@
 package akuma.whiplash.domains.alarm.persistence.repository;
 
-import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
-import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrenceReminderInfo;
 import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -38,23 +37,45 @@ public interface AlarmOccurrenceRepository extends JpaRepository<AlarmOccurrence
         @Param("date") LocalDate date
     );
 
-    Optional<AlarmOccurrenceEntity> findTopByAlarmIdAndDeactivateTypeInOrderByDateDescTimeDesc(
-        Long alarmId, List<DeactivateType> deactivateTypes
+    /**
+     * fromDate 이후 발생 내역 중 가장 최근 건 (date 하한으로 월별 파티션 프루닝)
+     */
+    Optional<AlarmOccurrenceEntity> findTopByAlarmIdAndDeactivateTypeInAndDateGreaterThanEqualOrderByDateDescTimeDesc(
+        Long alarmId, List<DeactivateType> deactivateTypes, LocalDate fromDate
     );
 
+    /**
+     * 회원의 모든 알람에 대해 fromDate 이후 가장 최근 OFF/CHECKIN 발생 내역을 한 번에 조회
+     * uk_alarm_date(alarm_id, date)로 알람별 날짜가 유일하므로 알람당 최대 1건만 반환된다.
+     * 바깥 쿼리와 서브쿼리 모두 date 하한을 둬 월별 파티션 프루닝이 되게 한다.
+     */
     @Query("""
-    SELECT ao
-    FROM AlarmOccurrenceEntity ao
-    WHERE ao.alarm.id = :alarmId
+    SELECT o
+    FROM AlarmOccurrenceEntity o
+    JOIN o.alarm a
+    WHERE a.member.id = :memberId
+      AND o.date >= :fromDate
+      AND o.deactivateType IN :deactivateTypes
+      AND o.date = (
+          SELECT MAX(o2.date)
+          FROM AlarmOccurrenceEntity o2
+          WHERE o2.alarm = o.alarm
+            AND o2.date >= :fromDate
+            AND o2.deactivateType IN :deactivateTypes
+      )
     """)
-    List<AlarmOccurrenceEntity> findAllByAlarmId(@Param("alarmId") Long alarmId);
+    List<AlarmOccurrenceEntity> findLatestDeactivatedByMemberId(
+        @Param("memberId") Long memberId,
+        @Param("deactivateTypes") List<DeactivateType> deactivateTypes,
+        @Param("fromDate") LocalDate fromDate
+    );
 
     @Query("""
-    SELECT ao.alarm.id
+    SELECT ao
     FROM AlarmOccurrenceEntity ao
-    WHERE ao.date = :date
+    WHERE ao.alarm.id = :alarmId
     """)
-    Set<Long> findAlarmIdsByDate(@Param("date") LocalDate date);
+    List<AlarmOccurrenceEntity> findAllByAlarmId(@Param("alarmId") Long alarmId);
 
     @Modifying
     @Query("""
@@ -63,75 +84,86 @@ public interface AlarmOccurrenceRepository extends JpaRepository<AlarmOccurrence
     """)
     void deleteByMemberId(@Param("memberId") Long memberId);
 
-    // import 생략: 파라미터 바인딩이면 JPQL에 FQN 필요 없음
     @Query("""
-    SELECT new akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo(o.id, m.id, a.address)
+    SELECT new akuma.whiplash.domains.alarm.application.dto.etc.OccurrenceReminderInfo(o.id, m.id, a.address, o.date, o.time)
     FROM AlarmOccurrenceEntity o
     JOIN o.alarm a
     JOIN a.member m
     WHERE o.date = :date
-      AND o.time BETWEEN :start AND :end
       AND o.deactivateType = :status
       AND o.reminderSent = false
       AND m.pushNotificationPolicy = true
 """)
-    List<OccurrencePushInfo> findPreNotificationTargetsSameDay(
+    List<OccurrenceReminderInfo> findReminderIndexTargets(
         @Param("date") LocalDate date,
-        @Param("start") LocalTime start,
-        @Param("end") LocalTime end,
         @Param("status") DeactivateType status
     );
 
     @Query("""
-    SELECT new akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo(o.id, m.id, a.address)
+    SELECT new akuma.whiplash.domains.alarm.application.dto.etc.OccurrenceReminderInfo(o.id, m.id, a.address, o.date, o.time)
     FROM AlarmOccurrenceEntity o
     JOIN o.alarm a
     JOIN a.member m
-    WHERE o.date = :date
-      AND o.time >= :start
+    WHERE m.id = :memberId
+      AND o.date = :date
       AND o.deactivateType = :status
       AND o.reminderSent = false
       AND m.pushNotificationPolicy = true
 """)
-    List<OccurrencePushInfo> findPreNotificationTargetsFromTime(
+    List<OccurrenceReminderInfo> findReminderIndexTargetsByMemberId(
+        @Param("memberId") Long memberId,
         @Param("date") LocalDate date,
-        @Param("start") LocalTime start,
         @Param("status") DeactivateType status
     );
 
+    /**
+     * 울림 횟수를 DB에서 원자적으로 1 증가시킨다. (동시 울림 요청 간 lost update 방지)
+     * 갱신한 행의 잠금은 커밋까지 유지되므로 같은 트랜잭션에서 findRingingCount로 증가된 값을 읽을 수 있다.
+     */
+    @Modifying(flushAutomatically = true)
     @Query("""
-    SELECT new akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo(o.id, m.id, a.address)
-    FROM AlarmOccurrenceEntity o
-    JOIN o.alarm a
-    JOIN a.member m
-    WHERE o.date = :date
-      AND o.time <= :end
-      AND o.deactivateType = :status
-      AND o.reminderSent = false
-      AND m.pushNotificationPolicy = true
-""")
-    List<OccurrencePushInfo> findPreNotificationTargetsUntilTime(
-        @Param("date") LocalDate date,
-        @Param("end") LocalTime end,
-        @Param("status") DeactivateType status
-    );
+        UPDATE AlarmOccurrenceEntity o
+        SET o.ringingCount = o.ringingCount + 1,
+            o.alarmRinging = true,
+            o.updatedAt = :now
+        WHERE o.id = :id AND o.date = :date
+    """)
+    int incrementRingingCount(@Param("id") Long id, @Param("date") LocalDate date, @Param("now") LocalDateTime now);
 
-    @Modifying
     @Query("""
-        UPDATE AlarmOccurrenceEntity o
-        SET o.reminderSent = true
-        WHERE o.id IN :ids AND o.reminderSent = false
+        SELECT o.ringingCount
+        FROM AlarmOccurrenceEntity o
+        WHERE o.id = :id AND o.date = :date
     """)
-    void markReminderSentIn(@Param("ids") Set<Long> ids);
+    int findRingingCount(@Param("id") Long id, @Param("date") LocalDate date);
 
+    /**
+     * 아직 울리기 전(NONE)이고 리마인드를 보내지 않은 발생 내역만 행 잠금과 함께 조회한다.
+     * 잠금 조회는 최신 커밋 값을 읽으므로, 먼저 적재한 트랜잭션이 커밋되면 같은 발생 내역은 다시 조회되지 않는다.
+     * id만으로는 모든 파티션의 PK를 탐색하므로 발생 날짜를 함께 넘겨 해당 월 파티션만 보게 한다.
+     */
+    @Query(value = """
+        SELECT o.id
+        FROM alarm_occurrence o
+        WHERE o.id IN (:ids)
+          AND o.date IN (:dates)
+          AND o.deactivate_type = 'NONE'
+          AND o.reminder_sent = false
+        FOR UPDATE
+    """, nativeQuery = true)
+    List<Long> findReminderPendingIdsForUpdate(@Param("ids") Set<Long> ids, @Param("dates") Set<LocalDate> dates);
+
+    /**
+     * id만으로는 모든 파티션의 PK를 탐색하므로 발생 날짜를 함께 넘겨 해당 월 파티션만 보게 한다.
+     */
+    @Modifying
     @Query("""
-    SELECT new akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo(a.id, m.id)
-    FROM AlarmOccurrenceEntity o
-    JOIN o.alarm a
-    JOIN a.member m
-    WHERE o.alarmRinging = true
-      AND o.deactivateType = :status
-      AND m.pushNotificationPolicy = true
+        UPDATE AlarmOccurrenceEntity o
+        SET o.reminderSent = true
+        WHERE o.id IN :ids
+          AND o.date IN :dates
+          AND o.deactivateType = akuma.whiplash.domains.alarm.domain.constant.DeactivateType.NONE
+          AND o.reminderSent = false
     """)
-    List<RingingPushInfo> findRingingNotificationTargets(@Param("status") DeactivateType status);
+    int markReminderSentIn(@Param("ids") Set<Long> ids, @Param("dates") Set<LocalDate> dates);
 }
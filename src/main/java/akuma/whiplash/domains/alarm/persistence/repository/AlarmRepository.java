@@ -13,9 +13,6 @@ public interface AlarmRepository extends JpaRepository<AlarmEntity, Long> {
 
     boolean existsByMemberIdAndAlarmPurpose(Long memberId, String alarmPurpose);
 
-    @Query(value = "SELECT * FROM alarm WHERE repeat_days LIKE %:day%", nativeQuery = true)
-    List<AlarmEntity> findByRepeatDaysLike(@Param("day") String day);
-
     @Modifying
     @Query("""
         DELETE FROM AlarmEntity a
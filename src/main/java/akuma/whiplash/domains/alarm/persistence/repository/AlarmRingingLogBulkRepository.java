@@ -0,0 +1,63 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingLogRecord;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 울림 기록 다중 행 INSERT (AlarmRingingLogBuffer가 모아서 호출)
+ * alarm_occurrence가 파티션 테이블이라 외래 키가 없으므로, 버퍼에 머무는 사이 삭제된 발생 내역(알람 삭제, 회원 탈퇴)의
+ * 기록은 발생 내역이 있는 행만 INSERT해 고아 행을 만들지 않는다.
+ * (INSERT ... SELECT는 조회한 발생 내역 행에 공유 잠금을 걸어 진행 중인 삭제가 커밋될 때까지 기다림)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmRingingLogBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO alarm_ringing_log (
+            alarm_occurrence_id, ring_index, ringed_at, created_at, updated_at
+        )
+        SELECT r.occurrence_id, r.ring_index, r.ringed_at, r.created_at, r.updated_at
+        FROM (%s) r
+        WHERE EXISTS (
+            SELECT 1 FROM alarm_occurrence ao
+            WHERE ao.id = r.occurrence_id
+        )
+        """;
+
+    private static final String FIRST_ROW =
+        "SELECT ? AS occurrence_id, ? AS ring_index, ? AS ringed_at, ? AS created_at, ? AS updated_at";
+    private static final String NEXT_ROW = " UNION ALL SELECT ?, ?, ?, ?, ?";
+
+    /**
+     * @return 생성된 행 수 (삭제된 발생 내역의 기록은 제외)
+     */
+    public int insertAll(List<AlarmRingingLogRecord> records) {
+        if (records.isEmpty()) return 0;
+
+        StringBuilder rows = new StringBuilder(FIRST_ROW);
+        List<Object> params = new ArrayList<>(records.size() * 5);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < records.size(); i++) {
+            AlarmRingingLogRecord record = records.get(i);
+            if (i > 0) rows.append(NEXT_ROW);
+
+            params.add(record.occurrenceId());
+            params.add(record.ringIndex());
+            params.add(Timestamp.valueOf(record.ringedAt()));
+            params.add(now);
+            params.add(now);
+        }
+
+        return jdbcTemplate.update(INSERT_SQL.formatted(rows), params.toArray());
+    }
+}
@@ -0,0 +1,172 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingSummary;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 오래된 alarm_ringing_log → alarm_ringing_summary 압축 (대량 조회/삭제이므로 JDBC로 직접 처리)
+ * 모든 조회/삭제는 idx_alarm_ringing_log_occurrence_ringed(alarm_occurrence_id, ringed_at) 범위 스캔으로 처리된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmRingingLogCompactionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String FIND_COMPACTABLE_OCCURRENCE_IDS_SQL = """
+        SELECT DISTINCT arl.alarm_occurrence_id
+        FROM alarm_ringing_log arl
+        WHERE arl.alarm_occurrence_id > ?
+          AND arl.ringed_at < ?
+        ORDER BY arl.alarm_occurrence_id
+        LIMIT ?
+        """;
+
+    private static final String FIND_RINGED_ATS_SQL = """
+        SELECT arl.alarm_occurrence_id, arl.ringed_at
+        FROM alarm_ringing_log arl
+        WHERE arl.alarm_occurrence_id IN (%s)
+          AND arl.ringed_at < ?
+        ORDER BY arl.alarm_occurrence_id, arl.ringed_at
+        """;
+
+    private static final String FIND_SUMMARIES_SQL = """
+        SELECT ars.occurrence_id, ars.first_ringed_at, ars.last_ringed_at, ars.ring_count, ars.gap_micros
+        FROM alarm_ringing_summary ars
+        WHERE ars.occurrence_id IN (%s)
+        """;
+
+    private static final String UPSERT_SUMMARY_PREFIX = """
+        INSERT INTO alarm_ringing_summary (
+            occurrence_id, first_ringed_at, last_ringed_at, ring_count, gap_micros, created_at, updated_at
+        ) VALUES
+        """;
+
+    private static final String UPSERT_VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_SUMMARY_SUFFIX = """
+         AS new
+        ON DUPLICATE KEY UPDATE
+            first_ringed_at = new.first_ringed_at,
+            last_ringed_at = new.last_ringed_at,
+            ring_count = new.ring_count,
+            gap_micros = new.gap_micros,
+            updated_at = new.updated_at
+        """;
+
+    private static final String DELETE_LOGS_SQL = """
+        DELETE FROM alarm_ringing_log
+        WHERE alarm_occurrence_id IN (%s)
+          AND ringed_at < ?
+        """;
+
+    /**
+     * cutoff 이전 울림 기록이 남아 있는 발생 내역 ID를 keyset 페이지로 조회
+     *
+     * @param lastOccurrenceId 이전 페이지의 마지막 발생 내역 ID (첫 페이지는 0)
+     */
+    public List<Long> findCompactableOccurrenceIds(LocalDateTime cutoff, long lastOccurrenceId, int limit) {
+        return jdbcTemplate.queryForList(
+            FIND_COMPACTABLE_OCCURRENCE_IDS_SQL, Long.class, lastOccurrenceId, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 발생 내역별 cutoff 이전 울림 시각 (시각 순)
+     */
+    public Map<Long, List<LocalDateTime>> findRingedAtsBefore(List<Long> occurrenceIds, LocalDateTime cutoff) {
+        if (occurrenceIds.isEmpty()) return Collections.emptyMap();
+
+        List<Object> params = new ArrayList<>(occurrenceIds);
+        params.add(Timestamp.valueOf(cutoff));
+
+        Map<Long, List<LocalDateTime>> ringedAts = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            FIND_RINGED_ATS_SQL.formatted(placeholders(occurrenceIds.size())),
+            rs -> {
+                ringedAts.computeIfAbsent(rs.getLong("alarm_occurrence_id"), id -> new ArrayList<>())
+                    .add(rs.getTimestamp("ringed_at").toLocalDateTime());
+            },
+            params.toArray()
+        );
+        return ringedAts;
+    }
+
+    /**
+     * 이미 압축된 요약 (이전 실행 이후 늦게 기록된 울림을 합치기 위해 조회)
+     */
+    public Map<Long, AlarmRingingSummary> findSummaries(List<Long> occurrenceIds) {
+        if (occurrenceIds.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, AlarmRingingSummary> summaries = new HashMap<>();
+        jdbcTemplate.query(
+            FIND_SUMMARIES_SQL.formatted(placeholders(occurrenceIds.size())),
+            rs -> {
+                AlarmRingingSummary summary = AlarmRingingSummary.builder()
+                    .occurrenceId(rs.getLong("occurrence_id"))
+                    .firstRingedAt(rs.getTimestamp("first_ringed_at").toLocalDateTime())
+                    .lastRingedAt(rs.getTimestamp("last_ringed_at").toLocalDateTime())
+                    .ringCount(rs.getInt("ring_count"))
+                    .gapMicros(rs.getString("gap_micros"))
+                    .build();
+                summaries.put(summary.occurrenceId(), summary);
+            },
+            occurrenceIds.toArray()
+        );
+        return summaries;
+    }
+
+    /**
+     * 요약을 다중 행 INSERT … ON DUPLICATE KEY UPDATE로 저장 (재실행해도 같은 결과)
+     */
+    public int upsertSummaries(List<AlarmRingingSummary> summaries) {
+        if (summaries.isEmpty()) return 0;
+
+        StringBuilder sql = new StringBuilder(UPSERT_SUMMARY_PREFIX);
+        List<Object> params = new ArrayList<>(summaries.size() * 7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < summaries.size(); i++) {
+            AlarmRingingSummary summary = summaries.get(i);
+            sql.append(i == 0 ? "" : ", ").append(UPSERT_VALUES_ROW);
+
+            params.add(summary.occurrenceId());
+            params.add(Timestamp.valueOf(summary.firstRingedAt()));
+            params.add(Timestamp.valueOf(summary.lastRingedAt()));
+            params.add(summary.ringCount());
+            params.add(summary.gapMicros());
+            params.add(now);
+            params.add(now);
+        }
+        sql.append(UPSERT_SUMMARY_SUFFIX);
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * 요약에 반영된 cutoff 이전 울림 기록 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteLogsBefore(List<Long> occurrenceIds, LocalDateTime cutoff) {
+        if (occurrenceIds.isEmpty()) return 0;
+
+        List<Object> params = new ArrayList<>(occurrenceIds);
+        params.add(Timestamp.valueOf(cutoff));
+
+        return jdbcTemplate.update(DELETE_LOGS_SQL.formatted(placeholders(occurrenceIds.size())), params.toArray());
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
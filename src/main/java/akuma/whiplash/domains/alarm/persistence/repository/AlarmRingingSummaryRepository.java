@@ -0,0 +1,28 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import akuma.whiplash.domains.alarm.persistence.entity.AlarmRingingSummaryEntity;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AlarmRingingSummaryRepository extends JpaRepository<AlarmRingingSummaryEntity, Long> {
+
+    @Modifying
+    @Query("""
+        DELETE FROM AlarmRingingSummaryEntity ars
+        WHERE ars.occurrenceId IN :occurrenceIds
+    """)
+    void deleteByOccurrenceIds(@Param("occurrenceIds") Collection<Long> occurrenceIds);
+
+    @Modifying
+    @Query("""
+        DELETE FROM AlarmRingingSummaryEntity ars
+        WHERE ars.occurrenceId IN (
+            SELECT ao.id FROM AlarmOccurrenceEntity ao
+            WHERE ao.alarm.member.id = :memberId
+        )
+    """)
+    void deleteByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,189 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.PushOutboxMessage;
+import akuma.whiplash.domains.alarm.domain.constant.PushOutboxStatus;
+import akuma.whiplash.domains.alarm.domain.constant.PushType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * push_outbox 적재/점유/정리 (다중 행 INSERT, SKIP LOCKED 점유를 위해 JDBC로 직접 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PushOutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_IGNORE_PREFIX = """
+        INSERT IGNORE INTO push_outbox (
+            dedup_key, type, status, occurrence_id, alarm_id, member_id, address,
+            attempts, next_attempt_at, expires_at, created_at, updated_at
+        ) VALUES
+        """;
+
+    private static final String INSERT_VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)";
+
+    private static final String CLAIM_SQL = """
+        SELECT id, dedup_key, type, occurrence_id, alarm_id, member_id, address, attempts, expires_at
+        FROM push_outbox
+        WHERE status IN ('PENDING', 'SENDING')
+          AND next_attempt_at <= ?
+        ORDER BY next_attempt_at
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String RESCHEDULE_SQL = """
+        UPDATE push_outbox
+        SET status = 'PENDING', attempts = ?, next_attempt_at = ?, last_error = ?, updated_at = ?
+        WHERE id = ?
+        """;
+
+    /**
+     * 다중 행 INSERT IGNORE 한 번으로 푸시를 적재한다.
+     * uk_push_outbox_dedup_key에 걸리는 이미 적재된 푸시는 건너뛴다.
+     *
+     * @return 실제로 적재된 행 수
+     */
+    public int insertIgnore(List<PushOutboxMessage> messages, LocalDateTime now) {
+        if (messages.isEmpty()) return 0;
+
+        StringBuilder sql = new StringBuilder(INSERT_IGNORE_PREFIX);
+        List<Object> params = new ArrayList<>(messages.size() * 11);
+        Timestamp nowTs = Timestamp.valueOf(now);
+
+        for (int i = 0; i < messages.size(); i++) {
+            PushOutboxMessage message = messages.get(i);
+            sql.append(i == 0 ? "" : ", ").append(INSERT_VALUES_ROW);
+
+            params.add(message.dedupKey());
+            params.add(message.type().name());
+            params.add(PushOutboxStatus.PENDING.name());
+            params.add(message.occurrenceId());
+            params.add(message.alarmId());
+            params.add(message.memberId());
+            params.add(message.address());
+            params.add(nowTs);
+            params.add(Timestamp.valueOf(message.expiresAt()));
+            params.add(nowTs);
+            params.add(nowTs);
+        }
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * 전송 시각이 된 푸시를 limit건 점유한다. (호출자 트랜잭션 안에서 실행해야 함)
+     * - 다른 디스패처가 잠근 행은 SKIP LOCKED로 건너뛰어 같은 푸시를 중복 점유하지 않음
+     * - 점유한 행은 SENDING + 점유 만료 시각(leaseUntil)으로 바꿔 두고, 전송 도중 죽은 디스패처의 행은
+     *   점유 만료 후 다른 디스패처가 다시 점유한다.
+     */
+    public List<PushOutboxMessage> claim(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<PushOutboxMessage> claimed = jdbcTemplate.query(
+            CLAIM_SQL,
+            (rs, rowNum) -> PushOutboxMessage.builder()
+                .id(rs.getLong("id"))
+                .dedupKey(rs.getString("dedup_key"))
+                .type(PushType.valueOf(rs.getString("type")))
+                .occurrenceId(rs.getLong("occurrence_id"))
+                .alarmId(rs.getObject("alarm_id", Long.class))
+                .memberId(rs.getLong("member_id"))
+                .address(rs.getString("address"))
+                .attempts(rs.getInt("attempts"))
+                .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+                .build(),
+            Timestamp.valueOf(now), limit
+        );
+
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        List<Object> params = new ArrayList<>(claimed.size() + 3);
+        params.add(PushOutboxStatus.SENDING.name());
+        params.add(Timestamp.valueOf(leaseUntil));
+        params.add(Timestamp.valueOf(now));
+        claimed.forEach(message -> params.add(message.id()));
+
+        jdbcTemplate.update(
+            "UPDATE push_outbox SET status = ?, next_attempt_at = ?, updated_at = ? WHERE id IN ("
+                + placeholders(claimed.size()) + ")",
+            params.toArray()
+        );
+        return claimed;
+    }
+
+    /**
+     * 전송을 마친(또는 보낼 필요가 없어진) 푸시를 삭제한다.
+     */
+    public int deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) return 0;
+
+        return jdbcTemplate.update(
+            "DELETE FROM push_outbox WHERE id IN (" + placeholders(ids.size()) + ")",
+            ids.toArray()
+        );
+    }
+
+    /**
+     * 전송 실패한 푸시의 시도 횟수를 올리고 다음 전송 시각으로 되돌린다.
+     *
+     * @param nextAttemptAt 실패한 푸시 → 다음 전송 시각
+     */
+    public void reschedule(Map<PushOutboxMessage, LocalDateTime> nextAttemptAt, String error, LocalDateTime now) {
+        if (nextAttemptAt.isEmpty()) return;
+
+        Timestamp nowTs = Timestamp.valueOf(now);
+        List<Object[]> args = nextAttemptAt.entrySet().stream()
+            .map(e -> new Object[]{
+                e.getKey().attempts() + 1, Timestamp.valueOf(e.getValue()), error, nowTs, e.getKey().id()
+            })
+            .toList();
+
+        jdbcTemplate.batchUpdate(RESCHEDULE_SQL, args);
+    }
+
+    /**
+     * 더 이상 재시도하지 않을 푸시를 DEAD로 남긴다. (원인 확인용)
+     */
+    public int markDead(Collection<Long> ids, String error, LocalDateTime now) {
+        if (ids.isEmpty()) return 0;
+
+        List<Object> params = new ArrayList<>(ids.size() + 3);
+        params.add(PushOutboxStatus.DEAD.name());
+        params.add(error);
+        params.add(Timestamp.valueOf(now));
+        params.addAll(ids);
+
+        return jdbcTemplate.update(
+            "UPDATE push_outbox SET status = ?, last_error = ?, updated_at = ? WHERE id IN ("
+                + placeholders(ids.size()) + ")",
+            params.toArray()
+        );
+    }
+
+    /**
+     * cutoff 이전에 DEAD 처리된 푸시를 최대 limit건 삭제한다. (status 선두 인덱스로 DEAD 행만 탐색)
+     *
+     * @return 삭제한 행 수
+     */
+    public int deleteDeadBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+            "DELETE FROM push_outbox WHERE status = ? AND updated_at < ? LIMIT ?",
+            PushOutboxStatus.DEAD.name(), Timestamp.valueOf(cutoff), limit
+        );
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,15 @@
+package akuma.whiplash.domains.auth.application.dto.etc;
+
+import java.util.Set;
+import lombok.Builder;
+
+/**
+ * 제공자별 ID 토큰 검증 기준
+ */
+@Builder
+public record IdTokenSpec(
+    String jwksUri,         // 서명 검증용 공개키 목록(JWKS) 주소
+    Set<String> issuers,    // 허용하는 iss
+    Set<String> audiences   // 허용하는 aud (앱 client id)
+) {
+}
@@ -33,4 +33,12 @@ public class AuthMapper {
             .deviceId(deviceId)
             .build();
     }
+
+    public static MemberContext mapToMemberContext(Long memberId, Role role, String deviceId) {
+        return MemberContext.builder()
+            .role(role)
+            .memberId(memberId)
+            .deviceId(deviceId)
+            .build();
+    }
 }
@@ -7,6 +7,7 @@ import akuma.whiplash.domains.auth.application.dto.response.TokenResponse;
 import akuma.whiplash.domains.auth.domain.service.AuthCommandService;
 import akuma.whiplash.global.annotation.architecture.UseCase;
 import akuma.whiplash.infrastructure.firebase.FcmService;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 
 @UseCase
@@ -16,8 +17,10 @@ public class AuthUseCase {
     private final AuthCommandService authCommandService;
     private final FcmService fcmService;
 
-    public LoginResponse socialLogin(SocialLoginRequest request) {
-        return authCommandService.login(request);
+    public CompletableFuture<LoginResponse> socialLogin(SocialLoginRequest request) {
+        // 소셜 토큰 검증(외부 API)이 끝나면 회원 조회/가입과 토큰 발급을 한 트랜잭션으로 처리
+        return authCommandService.verifySocialMember(request)
+            .thenApply(socialMemberInfo -> authCommandService.login(request, socialMemberInfo));
     }
 
     public void logout(MemberContext memberContext) {
@@ -1,42 +1,45 @@
 package akuma.whiplash.domains.auth.application.utils;
 
+import akuma.whiplash.domains.auth.application.dto.etc.IdTokenSpec;
 import akuma.whiplash.domains.auth.application.dto.etc.SocialMemberInfo;
 import akuma.whiplash.domains.auth.application.dto.request.SocialLoginRequest;
 import akuma.whiplash.domains.member.application.utils.NicknameGenerator;
 import akuma.whiplash.domains.member.domain.contants.SocialType;
-import akuma.whiplash.global.exception.ApplicationException;
-import akuma.whiplash.global.response.code.CommonErrorCode;
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 @Component("APPLE")
 @Slf4j
-@RequiredArgsConstructor
 public class AppleVerifier implements SocialVerifier {
 
-    @Value("${oauth.apple.client-id}")
-    private String clientId;
+    private static final String ISSUER = "https://appleid.apple.com";
 
+    private final IdTokenVerifier idTokenVerifier;
     private final NicknameGenerator nicknameGenerator;
+    private final IdTokenSpec spec;
 
-    @Override
-    public SocialMemberInfo verify(SocialLoginRequest request) {
-        try {
-            SignedJWT signedJWT = SignedJWT.parse(request.token());
-            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
-
-            // 1. aud(client_id) 검증
-            String audience = claims.getAudience().get(0);
-            if (!clientId.equals(audience)) {
-                log.warn("Invalid audience");
-                throw ApplicationException.from(CommonErrorCode.BAD_REQUEST);
-            }
+    public AppleVerifier(
+        IdTokenVerifier idTokenVerifier,
+        NicknameGenerator nicknameGenerator,
+        @Value("${oauth.apple.client-id}") String clientId,
+        @Value("${oauth.apple.jwks-uri:https://appleid.apple.com/auth/keys}") String jwksUri
+    ) {
+        this.idTokenVerifier = idTokenVerifier;
+        this.nicknameGenerator = nicknameGenerator;
+        this.spec = IdTokenSpec.builder()
+            .jwksUri(jwksUri)
+            .issuers(Set.of(ISSUER))
+            .audiences(Set.of(clientId))
+            .build();
+    }
 
+    @Override
+    public CompletableFuture<SocialMemberInfo> verify(SocialLoginRequest request) {
+        // 서명(애플 공개키), iss, aud(client_id), 만료 검증
+        return idTokenVerifier.verify(request.token(), spec).thenApply(claims -> {
             // nonce 검증은 일단 제거
             // 2. nonce 검증
 //            String tokenNonce = claims.getStringClaim("nonce");
@@ -60,10 +63,6 @@ public class AppleVerifier implements SocialVerifier {
                 .email(email)
                 .name(nickname)
                 .build();
-
-        } catch (Exception e) {
-            log.warn("Apple token verification failed", e);
-            throw ApplicationException.from(CommonErrorCode.BAD_REQUEST);
-        }
+        });
     }
 }
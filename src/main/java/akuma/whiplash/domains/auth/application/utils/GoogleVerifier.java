@@ -1,15 +1,11 @@
 package akuma.whiplash.domains.auth.application.utils;
 
+import akuma.whiplash.domains.auth.application.dto.etc.IdTokenSpec;
 import akuma.whiplash.domains.auth.application.dto.etc.SocialMemberInfo;
 import akuma.whiplash.domains.auth.application.dto.request.SocialLoginRequest;
 import akuma.whiplash.domains.member.domain.contants.SocialType;
-import akuma.whiplash.global.exception.ApplicationException;
-import akuma.whiplash.global.response.code.CommonErrorCode;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.jackson2.JacksonFactory;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -18,46 +14,39 @@ import org.springframework.stereotype.Component;
 @Component("GOOGLE")
 public class GoogleVerifier implements SocialVerifier{
 
-    private final GoogleIdTokenVerifier verifier;
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+
+    private final IdTokenVerifier idTokenVerifier;
+    private final IdTokenSpec spec;
 
     public GoogleVerifier(
+        IdTokenVerifier idTokenVerifier,
         @Value("${oauth.google.client-id.android}") String androidClientId,
-        @Value("${oauth.google.client-id.ios}") String iosClientId
+        @Value("${oauth.google.client-id.ios}") String iosClientId,
+        @Value("${oauth.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri
     ) {
-        this.verifier = new GoogleIdTokenVerifier.Builder(
-            new NetHttpTransport(), JacksonFactory.getDefaultInstance()
-        )
-            .setAudience(List.of(androidClientId, iosClientId))
+        this.idTokenVerifier = idTokenVerifier;
+        this.spec = IdTokenSpec.builder()
+            .jwksUri(jwksUri)
+            .issuers(ISSUERS)
+            .audiences(Set.of(androidClientId, iosClientId))
             .build();
     }
 
     @Override
-    public SocialMemberInfo verify(SocialLoginRequest request) {
-        try {
-            GoogleIdToken idToken = verifier.verify(request.token());
-
-            // TODO: 여기서 에러
-            if (idToken == null) {
-                log.warn("Google idToken verification failed");
-                throw ApplicationException.from(CommonErrorCode.BAD_REQUEST);
-            }
-
-            GoogleIdToken.Payload payload = idToken.getPayload();
-
-            String socialId = SocialType.GOOGLE + "_" + payload.getSubject();
-            String email = payload.getEmail();
-            String name = (String) payload.get("name");
+    public CompletableFuture<SocialMemberInfo> verify(SocialLoginRequest request) {
+        return idTokenVerifier.verify(request.token(), spec).thenApply(claims -> {
+            String socialId = SocialType.GOOGLE + "_" + claims.getSubject();
+            String email = (String) claims.getClaim("email");
+            String name = (String) claims.getClaim("name");
 
             log.info("Google API user info: socialId={}, email={}, name={}", socialId, email, name);
 
             return SocialMemberInfo.builder()
-                .socialId(SocialType.GOOGLE + "_" + payload.getSubject())
-                .email(payload.getEmail())
-                .name((String) payload.get("name"))
+                .socialId(socialId)
+                .email(email)
+                .name(name)
                 .build();
-        } catch (Exception e) {
-            log.warn("Google idToken verification failed", e);
-            throw ApplicationException.from(CommonErrorCode.BAD_REQUEST);
-        }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package akuma.whiplash.domains.auth.application.utils;
+
+import akuma.whiplash.domains.auth.application.dto.etc.IdTokenSpec;
+import akuma.whiplash.global.exception.ApplicationException;
+import akuma.whiplash.global.response.code.CommonErrorCode;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.proc.JWSVerifierFactory;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 소셜 ID 토큰(JWT) 공통 검증
+ * 캐시한 제공자 공개키(JWKS)로 서명을 로컬에서 검증하고 iss/aud/exp/nbf를 확인한다.
+ * 공개키가 캐시에 있으면 외부 호출 없이 완료된 future를 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdTokenVerifier {
+
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+    private static final Set<JWSAlgorithm> ALLOWED_ALGORITHMS = Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+    private static final JWSVerifierFactory VERIFIER_FACTORY = new DefaultJWSVerifierFactory();
+
+    private final JwksCache jwksCache;
+
+    /**
+     * 검증에 실패하면 BAD_REQUEST (토큰 형식 오류는 바로 던지고, 서명/클레임 오류는 future를 예외로 완료)
+     */
+    public CompletableFuture<JWTClaimsSet> verify(String token, IdTokenSpec spec) {
+        SignedJWT jwt = parse(token);
+        JWSHeader header = jwt.getHeader();
+
+        if (!ALLOWED_ALGORITHMS.contains(header.getAlgorithm()) || !StringUtils.hasText(header.getKeyID())) {
+            throw invalid("허용하지 않는 알고리즘이거나 kid가 없습니다. alg=" + header.getAlgorithm());
+        }
+
+        return jwksCache.getKey(spec.jwksUri(), header.getKeyID())
+            .thenApply(key -> {
+                verifySignature(jwt, key.orElseThrow(() -> invalid("알 수 없는 kid입니다. kid=" + header.getKeyID())));
+                JWTClaimsSet claims = getClaims(jwt);
+                verifyClaims(claims, spec);
+                return claims;
+            });
+    }
+
+    private SignedJWT parse(String token) {
+        try {
+            return SignedJWT.parse(token);
+        } catch (ParseException e) {
+            throw invalid("JWT 형식이 아닙니다.");
+        }
+    }
+
+    private void verifySignature(SignedJWT jwt, JWK key) {
+        if (!(key instanceof AsymmetricJWK asymmetricKey)
+            || (key.getKeyUse() != null && !KeyUse.SIGNATURE.equals(key.getKeyUse()))
+            || (key.getAlgorithm() != null && !key.getAlgorithm().equals(jwt.getHeader().getAlgorithm()))) {
+            throw invalid("서명 검증에 사용할 수 없는 키입니다. kid=" + key.getKeyID());
+        }
+
+        try {
+            if (!jwt.verify(VERIFIER_FACTORY.createJWSVerifier(jwt.getHeader(), asymmetricKey.toPublicKey()))) {
+                throw invalid("서명이 올바르지 않습니다. kid=" + key.getKeyID());
+            }
+        } catch (JOSEException e) {
+            throw invalid("서명 검증 실패. kid=" + key.getKeyID());
+        }
+    }
+
+    private void verifyClaims(JWTClaimsSet claims, IdTokenSpec spec) {
+        Instant now = Instant.now();
+
+        if (!spec.issuers().contains(claims.getIssuer())) {
+            throw invalid("허용하지 않는 issuer입니다. iss=" + claims.getIssuer());
+        }
+        if (claims.getAudience() == null || Collections.disjoint(claims.getAudience(), spec.audiences())) {
+            throw invalid("허용하지 않는 audience입니다. aud=" + claims.getAudience());
+        }
+        if (!StringUtils.hasText(claims.getSubject())) {
+            throw invalid("sub가 없습니다.");
+        }
+
+        Date expiresAt = claims.getExpirationTime();
+        if (expiresAt == null || now.minus(CLOCK_SKEW).isAfter(expiresAt.toInstant())) {
+            throw invalid("만료된 토큰입니다. exp=" + expiresAt);
+        }
+        Date notBefore = claims.getNotBeforeTime();
+        if (notBefore != null && now.plus(CLOCK_SKEW).isBefore(notBefore.toInstant())) {
+            throw invalid("아직 사용할 수 없는 토큰입니다. nbf=" + notBefore);
+        }
+    }
+
+    private JWTClaimsSet getClaims(SignedJWT jwt) {
+        try {
+            return jwt.getJWTClaimsSet();
+        } catch (ParseException e) {
+            throw invalid("클레임 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private ApplicationException invalid(String reason) {
+        log.warn("ID token verification failed: {}", reason);
+        return ApplicationException.from(CommonErrorCode.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,90 @@
+package akuma.whiplash.domains.auth.application.utils;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 소셜 제공자 공개키 목록(JWKS) 메모리 캐시 (JWKS 주소 기준)
+ * - refresh-interval이 지나면 다음 조회 때 기존 키를 그대로 쓰면서 백그라운드에서 다시 받아옴 (갱신 실패 시 기존 키 유지)
+ * - 캐시에 없는 kid면(키 교체 직후) 즉시 다시 받아옴. 없는 kid로 반복 요청해도 min-refetch-interval에 한 번만 받아옴
+ * - 같은 주소의 동시 로드/갱신은 한 번만 호출
+ */
+@Slf4j
+@Component
+public class JwksCache {
+
+    private final WebClient webClient;
+    private final Duration minRefetchInterval;
+
+    // JWKS 주소 → 마지막으로 받아온 키 목록
+    private final AsyncLoadingCache<String, FetchedJwks> cache;
+
+    private record FetchedJwks(JWKSet jwkSet, Instant fetchedAt) {
+    }
+
+    public JwksCache(
+        WebClient webClient,
+        @Value("${oauth.jwks.refresh-interval-seconds:3600}") long refreshIntervalSeconds,
+        @Value("${oauth.jwks.min-refetch-interval-seconds:30}") long minRefetchIntervalSeconds
+    ) {
+        this.webClient = webClient;
+        this.minRefetchInterval = Duration.ofSeconds(minRefetchIntervalSeconds);
+        this.cache = Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofSeconds(refreshIntervalSeconds))
+            .buildAsync((jwksUri, executor) -> fetch(jwksUri));
+    }
+
+    /**
+     * kid에 해당하는 공개키. 다시 받아와도 없으면 empty
+     */
+    public CompletableFuture<Optional<JWK>> getKey(String jwksUri, String kid) {
+        return cache.get(jwksUri).thenCompose(jwks -> {
+            JWK key = jwks.jwkSet().getKeyByKeyId(kid);
+            if (key != null) {
+                return CompletableFuture.completedFuture(Optional.of(key));
+            }
+            if (Duration.between(jwks.fetchedAt(), Instant.now()).compareTo(minRefetchInterval) < 0) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+
+            log.info("[JwksCache] 캐시에 없는 kid, 공개키를 다시 받아옵니다. jwksUri={}, kid={}", jwksUri, kid);
+            return cache.synchronous().refresh(jwksUri)
+                .exceptionally(e -> {
+                    log.warn("[JwksCache] 공개키 갱신 실패. jwksUri={}", jwksUri, e);
+                    return jwks;
+                })
+                .thenApply(refreshed -> Optional.ofNullable(refreshed.jwkSet().getKeyByKeyId(kid)));
+        });
+    }
+
+    private CompletableFuture<FetchedJwks> fetch(String jwksUri) {
+        return webClient.get()
+            .uri(jwksUri)
+            .retrieve()
+            .bodyToMono(String.class)
+            .map(body -> parse(jwksUri, body))
+            // 이후 단계(회원 조회/가입 등 블로킹 작업)가 Netty 이벤트 루프 스레드에서 실행되지 않도록 넘김
+            .publishOn(Schedulers.boundedElastic())
+            .toFuture();
+    }
+
+    private FetchedJwks parse(String jwksUri, String body) {
+        try {
+            return new FetchedJwks(JWKSet.parse(body), Instant.now());
+        } catch (ParseException e) {
+            throw new IllegalStateException("JWKS 형식이 아닙니다. jwksUri=" + jwksUri, e);
+        }
+    }
+}
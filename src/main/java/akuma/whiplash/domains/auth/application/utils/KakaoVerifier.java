@@ -4,33 +4,82 @@ import akuma.whiplash.domains.auth.application.dto.etc.KakaoUserInfo;
 import akuma.whiplash.domains.auth.application.dto.etc.SocialMemberInfo;
 import akuma.whiplash.domains.auth.application.dto.request.SocialLoginRequest;
 import akuma.whiplash.domains.member.domain.contants.SocialType;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * 카카오 액세스 토큰 검증 (/v2/user/me)
+ * 카카오 액세스 토큰은 JWT가 아니라 로컬 검증이 불가능하므로, 조회 결과를 토큰 해시 기준으로 짧게(token-cache.ttl-seconds) 캐싱한다.
+ * 같은 토큰으로 재시도/중복 요청이 몰려도 카카오는 한 번만 호출한다. (연결 끊기 등 토큰 폐기는 TTL만큼 늦게 반영)
+ */
 @Slf4j
 @Component("KAKAO")
-@RequiredArgsConstructor
 public class KakaoVerifier implements SocialVerifier {
 
+    private static final String USER_INFO_PATH = "/v2/user/me";
+
     private final WebClient webClient;
+    private final String baseUrl;
+
+    // 토큰 SHA-256 → 사용자 정보 (원본 토큰은 보관하지 않음, 실패한 조회는 캐싱하지 않음)
+    private final AsyncCache<String, KakaoUserInfo> userInfoCache;
+
+    public KakaoVerifier(
+        WebClient webClient,
+        @Value("${oauth.kakao.base-url:https://kapi.kakao.com}") String baseUrl,
+        @Value("${oauth.kakao.token-cache.max-size:10000}") long cacheMaxSize,
+        @Value("${oauth.kakao.token-cache.ttl-seconds:60}") long cacheTtlSeconds
+    ) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.userInfoCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+            .buildAsync();
+    }
 
     @Override
-    public SocialMemberInfo verify(SocialLoginRequest request) {
-        KakaoUserInfo response = webClient.get()
-            .uri("https://kapi.kakao.com/v2/user/me")
-            .headers(h -> h.setBearerAuth(request.token()))
+    public CompletableFuture<SocialMemberInfo> verify(SocialLoginRequest request) {
+        return userInfoCache.get(hash(request.token()), (key, executor) -> fetchUserInfo(request.token()))
+            .thenApply(response -> {
+                log.info("Kakao API response: {}", response);
+
+                return SocialMemberInfo.builder()
+                    .socialId(SocialType.KAKAO.name() + "_" + String.valueOf(response.id()))
+                    .email(response.kakaoAccount().email())
+                    .name(response.properties().nickname())
+                    .build();
+            });
+    }
+
+    private CompletableFuture<KakaoUserInfo> fetchUserInfo(String token) {
+        return webClient.get()
+            .uri(baseUrl + USER_INFO_PATH)
+            .headers(h -> h.setBearerAuth(token))
             .retrieve()
             .bodyToMono(KakaoUserInfo.class)
-            .block();
-
-        log.info("Kakao API response: {}", response);
+            // 이후 단계(회원 조회/가입 등 블로킹 작업)가 Netty 이벤트 루프 스레드에서 실행되지 않도록 넘김
+            .publishOn(Schedulers.boundedElastic())
+            .toFuture();
+    }
 
-        return SocialMemberInfo.builder()
-            .socialId(SocialType.KAKAO.name() + "_" + String.valueOf(response.id()))
-            .email(response.kakaoAccount().email())
-            .name(response.properties().nickname())
-            .build();
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -2,6 +2,7 @@ package akuma.whiplash.domains.auth.application.utils;
 
 import akuma.whiplash.domains.auth.application.dto.etc.SocialMemberInfo;
 import akuma.whiplash.domains.auth.application.dto.request.SocialLoginRequest;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -10,11 +11,11 @@ import org.springframework.stereotype.Component;
 public class MockVerifier implements SocialVerifier {
 
     @Override
-    public SocialMemberInfo verify(SocialLoginRequest request) {
-        return SocialMemberInfo.builder()
+    public CompletableFuture<SocialMemberInfo> verify(SocialLoginRequest request) {
+        return CompletableFuture.completedFuture(SocialMemberInfo.builder()
             .socialId("MOCK" + "_123456789")
             .email("kmh@gmail.com")
             .name("김민형")
-            .build();
+            .build());
     }
 }
@@ -2,8 +2,13 @@ package akuma.whiplash.domains.auth.application.utils;
 
 import akuma.whiplash.domains.auth.application.dto.etc.SocialMemberInfo;
 import akuma.whiplash.domains.auth.application.dto.request.SocialLoginRequest;
+import java.util.concurrent.CompletableFuture;
 
 public interface SocialVerifier {
 
-    SocialMemberInfo verify(SocialLoginRequest request);
+    /**
+     * 소셜 토큰을 검증하고 회원 정보를 반환한다.
+     * 외부 API를 호출하는 구현은 응답을 기다리지 않고 future를 바로 반환한다.
+     */
+    CompletableFuture<SocialMemberInfo> verify(SocialLoginRequest request);
 }
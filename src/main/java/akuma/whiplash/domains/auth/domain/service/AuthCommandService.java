@@ -1,13 +1,16 @@
 package akuma.whiplash.domains.auth.domain.service;
 
 import akuma.whiplash.domains.auth.application.dto.etc.MemberContext;
+import akuma.whiplash.domains.auth.application.dto.etc.SocialMemberInfo;
 import akuma.whiplash.domains.auth.application.dto.request.SocialLoginRequest;
 import akuma.whiplash.domains.auth.application.dto.response.LoginResponse;
 import akuma.whiplash.domains.auth.application.dto.response.TokenResponse;
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthCommandService {
 
-    LoginResponse login(SocialLoginRequest request);
+    CompletableFuture<SocialMemberInfo> verifySocialMember(SocialLoginRequest request);
+    LoginResponse login(SocialLoginRequest request, SocialMemberInfo socialMemberInfo);
     void logout(MemberContext memberContext);
     TokenResponse reissueToken(MemberContext memberContext);
 }
@@ -14,12 +14,13 @@ import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
 import akuma.whiplash.global.config.security.jwt.JwtProvider;
 import akuma.whiplash.global.config.security.jwt.JwtUtils;
 import akuma.whiplash.global.exception.ApplicationException;
-import akuma.whiplash.infrastructure.redis.RedisRepository;
 import akuma.whiplash.infrastructure.redis.RedisService;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -31,20 +32,24 @@ public class AuthCommandServiceImpl implements AuthCommandService {
 
     private final Map<String, SocialVerifier> verifierMap;
     private final MemberRepository memberRepository;
-    private final RedisRepository redisRepository;
     private final JwtProvider jwtProvider;
     private final JwtUtils jwtUtils;
     private final RedisService redisService;
 
+    // 외부 API로 토큰을 검증하는 동안 DB 커넥션/트랜잭션을 잡지 않음
     @Override
-    public LoginResponse login(SocialLoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<SocialMemberInfo> verifySocialMember(SocialLoginRequest request) {
         SocialVerifier verifier = verifierMap.get(request.socialType());
         if (verifier == null) {
             throw ApplicationException.from(UNSUPPORTED_SOCIAL_TYPE);
         }
 
-        SocialMemberInfo socialMemberInfo = verifier.verify(request);
-        
+        return verifier.verify(request);
+    }
+
+    @Override
+    public LoginResponse login(SocialLoginRequest request, SocialMemberInfo socialMemberInfo) {
         // DB에서 사용자 조회 or 신규 가입
         boolean isNewMember = false;
         MemberEntity member;
@@ -60,10 +65,7 @@ public class AuthCommandServiceImpl implements AuthCommandService {
 
         // TODO: 멀티 디바이스 로그인 가능하도록 처리 필요
         // 다른 디바이스 ID로 리프레시 토큰 존재할 시 기존 리프레시 토큰 삭제
-        redisRepository.getKeys("REFRESH:" + member.getId() + ":*")
-            .stream()
-            .filter(key -> !key.endsWith(request.deviceId()))
-            .findFirst().ifPresent(redisRepository::deleteValues);
+        jwtUtils.expireOtherDeviceRefreshTokens(member.getId(), request.deviceId());
 
         // JWT 생성
         String accessToken = jwtProvider.generateAccessToken(member.getId(), member.getRole(), request.deviceId());
@@ -13,6 +13,7 @@ import akuma.whiplash.global.annotation.swagger.CustomErrorCodes;
 import akuma.whiplash.global.response.ApplicationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -35,9 +36,10 @@ public class AuthController {
     )
     @Operation(summary = "소셜 로그인", description = "구글, 애플, 카카오 소셜 로그인을 지원합니다.")
     @PostMapping("/social-login")
-    public ApplicationResponse<LoginResponse> login(@RequestBody @Valid SocialLoginRequest request) {
-        LoginResponse response = authUseCase.socialLogin(request);
-        return ApplicationResponse.onSuccess(response);
+    public CompletableFuture<ApplicationResponse<LoginResponse>> login(@RequestBody @Valid SocialLoginRequest request) {
+        // 소셜 토큰 검증 응답을 기다리는 동안 서블릿 스레드를 반환 (비동기 MVC)
+        return authUseCase.socialLogin(request)
+            .thenApply(ApplicationResponse::onSuccess);
     }
 
     @CustomErrorCodes(commonErrorCodes = {BAD_REQUEST})
@@ -1,9 +1,13 @@
 package akuma.whiplash.domains.member.domain.service;
 
+import akuma.whiplash.domains.alarm.domain.service.PreAlarmReminderIndex;
+import akuma.whiplash.domains.alarm.domain.service.WeeklyOffCounter;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrencePartitionRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogRepository;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingSummaryRepository;
 import akuma.whiplash.domains.member.exception.MemberErrorCode;
 import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
 import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
@@ -23,11 +27,16 @@ public class MemberCommandServiceImpl implements MemberCommandService {
     private final MemberRepository memberRepository;
     private final AlarmRepository alarmRepository;
     private final AlarmOccurrenceRepository alarmOccurrenceRepository;
+    private final AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
     private final AlarmOffLogRepository alarmOffLogRepository;
     private final AlarmRingingLogRepository alarmRingingLogRepository;
+    private final AlarmRingingSummaryRepository alarmRingingSummaryRepository;
     private final JwtUtils jwtUtils;
     private final RedisService redisService;
     private final ArchiveService archiveService;
+    private final PreAlarmReminderIndex preAlarmReminderIndex;
+    private final MemberStatusCache memberStatusCache;
+    private final WeeklyOffCounter weeklyOffCounter;
 
     @Override
     public void modifyPrivacyPolicy(Long memberId, boolean privacyPolicy) {
@@ -46,6 +55,14 @@ public class MemberCommandServiceImpl implements MemberCommandService {
 
         if (member.isPushNotificationPolicy() != pushNotificationPolicy) {
             member.updatePushNotificationPolicy(pushNotificationPolicy);
+
+            // 알람 1시간 전 리마인드 인덱스에 수신 동의 변경 반영
+            if (pushNotificationPolicy) {
+                preAlarmReminderIndex.reloadMember(memberId);
+            } else {
+                preAlarmReminderIndex.removeMember(memberId);
+                redisService.removeRingingAlarmsOfMember(memberId);
+            }
         }
     }
 
@@ -57,23 +74,30 @@ public class MemberCommandServiceImpl implements MemberCommandService {
         // 1. 삭제할 데이터 삭제 전 아카이빙
         archiveService.archiveMemberWithRelations(memberId);
 
-        // 2. alarm_ringing_log 삭제
+        // 2. alarm_ringing_log, alarm_ringing_summary 삭제
+        //    (버퍼에 남아 있던 울림 기록은 INSERT 시 발생 내역이 없으면 건너뜀 - AlarmRingingLogBulkRepository)
         alarmRingingLogRepository.deleteByMemberId(memberId);
+        alarmRingingSummaryRepository.deleteByMemberId(memberId);
 
-        // 3. alarm_occurrence 삭제
+        // 3. alarm_occurrence 삭제 (파티션 보관 테이블로 옮겨진 발생 내역과 울림 기록/요약 포함)
         alarmOccurrenceRepository.deleteByMemberId(memberId);
+        alarmOccurrencePartitionRepository.deleteArchivedByMemberId(memberId);
 
         // 4. alarm_off_log 삭제
         alarmOffLogRepository.deleteByMemberId(memberId);
+        weeklyOffCounter.evict(memberId);
 
         // 5. alarm 삭제
         alarmRepository.deleteByMemberId(memberId);
 
         // 6. member 삭제
         memberRepository.delete(member);
+        preAlarmReminderIndex.removeMember(memberId);
+        memberStatusCache.evict(memberId);
 
         // 리프레시 토큰, FCM 토큰 삭제
         jwtUtils.expireRefreshToken(memberId, deviceId);
         redisService.removeFcmTokenForDevice(memberId, deviceId);
+        redisService.removeRingingAlarmsOfMember(memberId);
     }
 }
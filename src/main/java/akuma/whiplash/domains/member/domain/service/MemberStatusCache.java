@@ -0,0 +1,60 @@
+package akuma.whiplash.domains.member.domain.service;
+
+import akuma.whiplash.domains.member.domain.contants.Role;
+import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
+import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
+import akuma.whiplash.global.util.transaction.TransactionUtil;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 요청 경로에서 회원 존재 여부와 현재 권한을 확인하기 위한 로컬 캐시
+ * - 클레임만으로 인증할 때 탈퇴 회원·권한 변경을 반영하는 용도 (캐시 미스 시에만 DB 조회)
+ * - 회원 탈퇴, 권한 변경 시 evict로 즉시 무효화
+ * - 다른 서버 인스턴스의 캐시는 TTL 만료로 반영되므로 TTL은 짧게 유지
+ */
+@Slf4j
+@Component
+public class MemberStatusCache {
+
+    private final MemberRepository memberRepository;
+
+    // memberId → 현재 권한 (존재하지 않는 회원은 Optional.empty()로 캐싱)
+    private final LoadingCache<Long, Optional<Role>> roles;
+
+    public MemberStatusCache(
+        MemberRepository memberRepository,
+        @Value("${jwt.member-status-cache.ttl-seconds}") long ttlSeconds,
+        @Value("${jwt.member-status-cache.max-size}") long maxSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.roles = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maxSize)
+            .build(this::loadRole);
+    }
+
+    /**
+     * 회원의 현재 권한을 반환한다. 존재하지 않는(탈퇴한) 회원이면 empty
+     */
+    public Optional<Role> getRole(Long memberId) {
+        return roles.get(memberId);
+    }
+
+    /**
+     * 회원 상태 캐시를 무효화한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전 다른 요청이 이전 상태를 다시 적재하는 것 방지)
+     */
+    public void evict(Long memberId) {
+        TransactionUtil.afterCommit(() -> roles.invalidate(memberId));
+    }
+
+    private Optional<Role> loadRole(Long memberId) {
+        return memberRepository.findById(memberId).map(MemberEntity::getRole);
+    }
+}
@@ -5,6 +5,7 @@ import akuma.whiplash.domains.place.application.dto.response.PlaceDetailResponse
 import akuma.whiplash.domains.place.domain.service.PlaceQueryService;
 import akuma.whiplash.global.annotation.architecture.UseCase;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 
 @UseCase
@@ -13,15 +14,15 @@ public class PlaceUseCase {
 
     private final PlaceQueryService placeQueryService;
 
-    public List<PlaceInfoResponse> searchPlaces(String query) {
+    public CompletableFuture<List<PlaceInfoResponse>> searchPlaces(String query) {
         return placeQueryService.searchPlaces(query);
     }
 
-    public PlaceDetailResponse getPlaceDetail(double latitude, double longitude) {
+    public CompletableFuture<PlaceDetailResponse> getPlaceDetail(double latitude, double longitude) {
         return placeQueryService.getPlaceDetailByCoord(latitude, longitude);
     }
 
-    public List<String> searchPlaceKeywords(String query) {
+    public CompletableFuture<List<String>> searchPlaceKeywords(String query) {
         return placeQueryService.searchPlaceKeywords(query);
     }
 }
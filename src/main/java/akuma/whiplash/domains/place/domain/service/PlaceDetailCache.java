@@ -0,0 +1,149 @@
+package akuma.whiplash.domains.place.domain.service;
+
+import akuma.whiplash.domains.place.application.dto.response.PlaceDetailResponse;
+import akuma.whiplash.domains.place.domain.util.Geohash;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌표 → 주소(역지오코딩) 결과 캐시 (geohash 셀 기준)
+ * - 같은 셀 안의 좌표는 셀 중심 좌표의 역지오코딩 결과를 공유 (정밀도 8 ≈ 38m × 19m)
+ * - L1: 인스턴스 로컬 LRU, L2: Redis (주소는 거의 바뀌지 않으므로 긴 TTL)
+ * - 결과가 없는 셀도 negative-ttl 동안 캐싱해 같은 좌표로 외부 API를 반복 호출하지 않음
+ * - 같은 셀의 동시 미스는 한 번만 조회 (single-flight), 외부 API 호출은 loader가 돌려주는 future로 비동기 처리
+ * - 캐시 적중/미스는 place.geocode.cache{result=local_hit|redis_hit|miss} 로 집계
+ */
+@Slf4j
+@Component
+public class PlaceDetailCache {
+
+    private static final String KEY_PREFIX = "place:geocode:";
+    private static final String EMPTY_MARKER = "EMPTY";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int precision;
+    private final Duration redisTtl;
+    private final Duration negativeTtl;
+
+    // geohash → 역지오코딩 결과 (결과 없음은 Optional.empty()로 캐싱)
+    private final AsyncCache<String, Optional<PlaceDetailResponse>> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public PlaceDetailCache(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${naver.map.geocode-cache.precision:8}") int precision,
+        @Value("${naver.map.geocode-cache.local-max-size:50000}") long localMaxSize,
+        @Value("${naver.map.geocode-cache.local-ttl-seconds:3600}") long localTtlSeconds,
+        @Value("${naver.map.geocode-cache.redis-ttl-seconds:2592000}") long redisTtlSeconds,
+        @Value("${naver.map.geocode-cache.negative-ttl-seconds:3600}") long negativeTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.precision = precision;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .buildAsync();
+
+        this.localHitCounter = meterRegistry.counter("place.geocode.cache", "result", "local_hit");
+        this.redisHitCounter = meterRegistry.counter("place.geocode.cache", "result", "redis_hit");
+        this.missCounter = meterRegistry.counter("place.geocode.cache", "result", "miss");
+    }
+
+    /**
+     * 좌표가 속한 셀의 역지오코딩 결과를 캐시에서 찾고, 없으면 셀 중심 좌표로 loader를 호출해 캐싱한다.
+     *
+     * @param loader (위도, 경도) → 역지오코딩 결과 future, 결과가 없으면 empty
+     */
+    public CompletableFuture<Optional<PlaceDetailResponse>> get(
+        double latitude,
+        double longitude,
+        BiFunction<Double, Double, CompletableFuture<Optional<PlaceDetailResponse>>> loader
+    ) {
+        String geohash = Geohash.encode(latitude, longitude, precision);
+
+        CompletableFuture<Optional<PlaceDetailResponse>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<PlaceDetailResponse>> inFlight = localCache.asMap().putIfAbsent(geohash, created);
+        if (inFlight != null) {
+            localHitCounter.increment();
+            return inFlight;
+        }
+
+        // 이 요청이 로드를 맡음 (실패한 future는 캐시에서 자동 제거)
+        loadThroughRedis(geohash, loader).whenComplete((detail, e) -> {
+            if (e != null) {
+                created.completeExceptionally(unwrap(e));
+            } else {
+                created.complete(detail);
+            }
+        });
+        return created;
+    }
+
+    private CompletableFuture<Optional<PlaceDetailResponse>> loadThroughRedis(
+        String geohash,
+        BiFunction<Double, Double, CompletableFuture<Optional<PlaceDetailResponse>>> loader
+    ) {
+        String key = KEY_PREFIX + geohash;
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                redisHitCounter.increment();
+                return CompletableFuture.completedFuture(EMPTY_MARKER.equals(cached)
+                    ? Optional.empty()
+                    : Optional.of(objectMapper.readValue(cached, PlaceDetailResponse.class)));
+            }
+        } catch (Exception e) {
+            log.warn("[PlaceDetailCache] Redis 조회 실패, 외부 API로 조회합니다. geohash={}", geohash, e);
+        }
+
+        missCounter.increment();
+        Geohash.Center center = Geohash.centerOf(geohash);
+
+        CompletableFuture<Optional<PlaceDetailResponse>> loaded;
+        try {
+            loaded = loader.apply(center.latitude(), center.longitude());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return loaded.thenApply(detail -> {
+            try {
+                if (detail.isPresent()) {
+                    redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(detail.get()), redisTtl);
+                } else {
+                    redisTemplate.opsForValue().set(key, EMPTY_MARKER, negativeTtl);
+                }
+            } catch (Exception e) {
+                log.warn("[PlaceDetailCache] Redis 저장 실패. geohash={}", geohash, e);
+            }
+            return detail;
+        });
+    }
+
+    // 로드를 맡은 요청과 같은 예외를 기다리던 요청에도 그대로 전달
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
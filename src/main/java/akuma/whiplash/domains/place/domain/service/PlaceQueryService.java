@@ -3,10 +3,11 @@ package akuma.whiplash.domains.place.domain.service;
 import akuma.whiplash.domains.place.application.dto.response.PlaceInfoResponse;
 import akuma.whiplash.domains.place.application.dto.response.PlaceDetailResponse;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface PlaceQueryService {
 
-    List<PlaceInfoResponse> searchPlaces(String query);
-    PlaceDetailResponse getPlaceDetailByCoord(double latitude, double longitude);
-    List<String> searchPlaceKeywords(String query);
+    CompletableFuture<List<PlaceInfoResponse>> searchPlaces(String query);
+    CompletableFuture<PlaceDetailResponse> getPlaceDetailByCoord(double latitude, double longitude);
+    CompletableFuture<List<String>> searchPlaceKeywords(String query);
 }
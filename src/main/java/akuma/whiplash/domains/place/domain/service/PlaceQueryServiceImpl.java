@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -24,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.scheduler.Schedulers;
 
 @Transactional(readOnly = true)
 @Service
@@ -32,6 +34,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class PlaceQueryServiceImpl implements PlaceQueryService {
 
     private final WebClient webClient;
+    private final PlaceSearchCache placeSearchCache;
+    private final PlaceDetailCache placeDetailCache;
 
     @Value("${naver.search.client-id}")
     private String naverClientId;
@@ -45,30 +49,21 @@ public class PlaceQueryServiceImpl implements PlaceQueryService {
     @Value("${naver.map.client-secret}")
     private String ncpClientSecret;
 
-    private static final String NAVER_LOCAL_SEARCH_URL = "https://openapi.naver.com/v1/search/local.json";
+    @Value("${naver.search.base-url:https://openapi.naver.com}")
+    private String naverSearchBaseUrl;
 
-    private static final String NCP_REVERSE_GEOCODE_URL = "https://maps.apigw.ntruss.com/map-reversegeocode/v2/gc";
+    @Value("${naver.map.base-url:https://maps.apigw.ntruss.com}")
+    private String ncpMapBaseUrl;
 
-    @Override
-    public List<PlaceInfoResponse> searchPlaces(String query) {
-        String uri = UriComponentsBuilder
-            .fromUriString(NAVER_LOCAL_SEARCH_URL)
-            .queryParam("query", query)
-            .queryParam("display", "5")
-            .build()
-            .toUriString();
+    private static final String NAVER_LOCAL_SEARCH_PATH = "/v1/search/local.json";
 
-        PlaceSearchResponse response = webClient.get()
-            .uri(uri)
-            .header("X-Naver-Client-Id", naverClientId)
-            .header("X-Naver-Client-Secret", naverClientSecret)
-            .retrieve()
-            .bodyToMono(PlaceSearchResponse.class)
-            .block();
+    private static final String NCP_REVERSE_GEOCODE_PATH = "/map-reversegeocode/v2/gc";
 
-        if (response == null || response.getItems() == null) return List.of();
+    private static final Pattern KEYWORD_PATTERN = Pattern.compile(".*?(동|로|길)");
 
-        return response.getItems().stream()
+    @Override
+    public CompletableFuture<List<PlaceInfoResponse>> searchPlaces(String query) {
+        return searchNaverPlaces(query).thenApply(items -> items.stream()
             .map(item -> PlaceInfoResponse.builder()
                 .name(sanitize(item.getTitle()))
                 .address(item.getAddress())
@@ -76,30 +71,42 @@ public class PlaceQueryServiceImpl implements PlaceQueryService {
                 .longitude(parseDouble(item.getMapx()) / 1e7)
                 .build()
             )
-            .toList();
+            .toList());
     }
 
     @Override
-    public PlaceDetailResponse getPlaceDetailByCoord(double latitude, double longitude) {
+    public CompletableFuture<PlaceDetailResponse> getPlaceDetailByCoord(double latitude, double longitude) {
+        // geohash 셀 단위 캐시 (결과 없음도 캐싱)
+        return placeDetailCache.get(latitude, longitude, this::fetchPlaceDetail)
+            .thenApply(detail -> detail.orElseThrow(() -> ApplicationException.from(CommonErrorCode.BAD_REQUEST)));
+    }
+
+    private CompletableFuture<Optional<PlaceDetailResponse>> fetchPlaceDetail(double latitude, double longitude) {
         String uri = UriComponentsBuilder
-            .fromUriString(NCP_REVERSE_GEOCODE_URL)
+            .fromUriString(ncpMapBaseUrl + NCP_REVERSE_GEOCODE_PATH)
             .queryParam("coords", longitude + "," + latitude)
             .queryParam("output", "json")
             .queryParam("orders", "roadaddr,addr")
             .build()
             .toUriString();
 
-        ReverseGeocodeApiResponse apiResponse = webClient.get()
+        return webClient.get()
             .uri(uri)
             .header("x-ncp-apigw-api-key-id", ncpClientId)
             .header("x-ncp-apigw-api-key", ncpClientSecret)
             .retrieve()
             .bodyToMono(ReverseGeocodeApiResponse.class)
-            .block();
+            .map(apiResponse -> toPlaceDetail(apiResponse, latitude, longitude))
+            .defaultIfEmpty(Optional.empty())
+            // 이후 단계(Redis 저장 등)가 Netty 이벤트 루프 스레드를 잡지 않도록 넘김
+            .publishOn(Schedulers.boundedElastic())
+            .toFuture();
+    }
 
-        if (apiResponse == null || apiResponse.getResults().isEmpty()) {
+    private Optional<PlaceDetailResponse> toPlaceDetail(ReverseGeocodeApiResponse apiResponse, double latitude, double longitude) {
+        if (apiResponse.getResults() == null || apiResponse.getResults().isEmpty()) {
             log.warn("reverse geocode api result is empty, latitude: {}, longitude: {}", latitude, longitude);
-            throw ApplicationException.from(CommonErrorCode.BAD_REQUEST);
+            return Optional.empty();
         }
 
         // roadaddr 우선 사용, 없으면 addr fallback
@@ -130,41 +137,53 @@ public class PlaceQueryServiceImpl implements PlaceQueryService {
 
         String placeName = buildingName != null ? buildingName : land.getName();
 
-        return PlaceDetailResponse.builder()
+        return Optional.of(PlaceDetailResponse.builder()
             .address(fullAddress)
             .name(placeName != null ? placeName : "장소 없음")
-            .build();
+            .build());
     }
 
     @Override
-    public List<String> searchPlaceKeywords(String query) {
+    public CompletableFuture<List<String>> searchPlaceKeywords(String query) {
+        // 장소 검색과 같은 검색 결과(캐시)에서 키워드 추출
+        return searchNaverPlaces(query).thenApply(items -> {
+            Set<String> keywordSuggestions = new LinkedHashSet<>();
+
+            for (NaverPlaceItem item : items) {
+                extractKeyword(item.getAddress(), KEYWORD_PATTERN).ifPresent(keywordSuggestions::add);
+                extractKeyword(item.getRoadAddress(), KEYWORD_PATTERN).ifPresent(keywordSuggestions::add);
+            }
+
+            return new ArrayList<>(keywordSuggestions);
+        });
+    }
+
+    /**
+     * 네이버 지역 검색 결과 (검색어 단위 캐시, 동시 미스는 한 번만 호출)
+     */
+    private CompletableFuture<List<NaverPlaceItem>> searchNaverPlaces(String query) {
+        return placeSearchCache.get(query, this::fetchNaverPlaces);
+    }
+
+    private CompletableFuture<List<NaverPlaceItem>> fetchNaverPlaces(String query) {
         String uri = UriComponentsBuilder
-            .fromUriString(NAVER_LOCAL_SEARCH_URL)
+            .fromUriString(naverSearchBaseUrl + NAVER_LOCAL_SEARCH_PATH)
             .queryParam("query", query)
             .queryParam("display", "5")
             .build()
             .toUriString();
 
-        PlaceSearchResponse response = webClient.get()
+        return webClient.get()
             .uri(uri)
             .header("X-Naver-Client-Id", naverClientId)
             .header("X-Naver-Client-Secret", naverClientSecret)
             .retrieve()
             .bodyToMono(PlaceSearchResponse.class)
-            .block();
-
-        if (response == null || response.getItems() == null) return List.of();
-
-        Pattern keywordPattern = Pattern.compile(".*?(동|로|길)");
-
-        Set<String> keywordSuggestions = new LinkedHashSet<>();
-
-        for (NaverPlaceItem item : response.getItems()) {
-            extractKeyword(item.getAddress(), keywordPattern).ifPresent(keywordSuggestions::add);
-            extractKeyword(item.getRoadAddress(), keywordPattern).ifPresent(keywordSuggestions::add);
-        }
-
-        return new ArrayList<>(keywordSuggestions);
+            .map(response -> response.getItems() == null ? List.<NaverPlaceItem>of() : response.getItems())
+            .defaultIfEmpty(List.of())
+            // 이후 단계(Redis 저장 등)가 Netty 이벤트 루프 스레드를 잡지 않도록 넘김
+            .publishOn(Schedulers.boundedElastic())
+            .toFuture();
     }
 
     private Optional<String> extractKeyword(String address, Pattern pattern) {
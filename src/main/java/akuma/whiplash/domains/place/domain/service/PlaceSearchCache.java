@@ -0,0 +1,129 @@
+package akuma.whiplash.domains.place.domain.service;
+
+import akuma.whiplash.domains.place.application.dto.response.NaverPlaceItem;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 네이버 지역 검색 결과 2단계 캐시 (정규화한 검색어 기준)
+ * - L1: 인스턴스 로컬 LRU (짧은 TTL), L2: Redis (긴 TTL, 인스턴스 간 공유)
+ * - 같은 검색어의 동시 미스는 먼저 들어온 요청 하나만 Redis/외부 API를 조회하고 나머지는 같은 future를 받음 (single-flight)
+ * - 외부 API 호출은 loader가 돌려주는 future로 비동기 처리 (요청 스레드는 Redis 조회까지만 처리하고 반환)
+ * - 로드 실패는 캐싱하지 않으므로 다음 요청에서 다시 조회
+ * - Redis 장애 시 L1 + 외부 API만으로 동작
+ */
+@Slf4j
+@Component
+public class PlaceSearchCache {
+
+    private static final String KEY_PREFIX = "place:search:";
+    private static final TypeReference<List<NaverPlaceItem>> ITEMS_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    // 정규화한 검색어 → 검색 결과 (로드 중인 항목은 미완료 future로 보관해 동시 미스를 합침)
+    private final AsyncCache<String, List<NaverPlaceItem>> localCache;
+
+    public PlaceSearchCache(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${naver.search.cache.local-max-size:10000}") long localMaxSize,
+        @Value("${naver.search.cache.local-ttl-seconds:300}") long localTtlSeconds,
+        @Value("${naver.search.cache.redis-ttl-seconds:86400}") long redisTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .buildAsync();
+    }
+
+    /**
+     * 검색어의 검색 결과를 캐시에서 찾고, 없으면 loader로 조회해 두 캐시에 저장한다.
+     *
+     * @param loader 정규화한 검색어로 외부 API를 비동기 호출하는 함수
+     */
+    public CompletableFuture<List<NaverPlaceItem>> get(
+        String query,
+        Function<String, CompletableFuture<List<NaverPlaceItem>>> loader
+    ) {
+        String normalized = normalize(query);
+
+        CompletableFuture<List<NaverPlaceItem>> created = new CompletableFuture<>();
+        CompletableFuture<List<NaverPlaceItem>> inFlight = localCache.asMap().putIfAbsent(normalized, created);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        // 이 요청이 로드를 맡음 (실패한 future는 캐시에서 자동 제거)
+        loadThroughRedis(normalized, loader).whenComplete((items, e) -> {
+            if (e != null) {
+                created.completeExceptionally(unwrap(e));
+            } else {
+                created.complete(items);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환 ("  강남 Cafe " → "강남 cafe")
+     */
+    public static String normalize(String query) {
+        return query == null ? "" : query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private CompletableFuture<List<NaverPlaceItem>> loadThroughRedis(
+        String normalized,
+        Function<String, CompletableFuture<List<NaverPlaceItem>>> loader
+    ) {
+        String key = KEY_PREFIX + normalized;
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(objectMapper.readValue(cached, ITEMS_TYPE));
+            }
+        } catch (Exception e) {
+            log.warn("[PlaceSearchCache] Redis 조회 실패, 외부 API로 조회합니다. query={}", normalized, e);
+        }
+
+        CompletableFuture<List<NaverPlaceItem>> loaded;
+        try {
+            loaded = loader.apply(normalized);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return loaded.thenApply(result -> {
+            List<NaverPlaceItem> items = List.copyOf(result);
+            try {
+                redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(items), redisTtl);
+            } catch (Exception e) {
+                log.warn("[PlaceSearchCache] Redis 저장 실패. query={}", normalized, e);
+            }
+            return items;
+        });
+    }
+
+    // 로드를 맡은 요청과 같은 예외를 기다리던 요청에도 그대로 전달
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
@@ -0,0 +1,86 @@
+package akuma.whiplash.domains.place.domain.util;
+
+/**
+ * 위경도 ↔ geohash 셀 변환 (base32, 경도/위도 비트를 번갈아 인코딩)
+ * 셀 크기(적도 기준): 정밀도 7 ≈ 153m × 153m, 8 ≈ 38m × 19m, 9 ≈ 4.8m × 4.8m
+ */
+public final class Geohash {
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final int BITS_PER_CHAR = 5;
+
+    private Geohash() {
+    }
+
+    public record Center(double latitude, double longitude) {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        boolean lonBit = true;
+
+        StringBuilder hash = new StringBuilder(precision);
+        int bits = 0;
+        int value = 0;
+
+        while (hash.length() < precision) {
+            if (lonBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLon = mid;
+                } else {
+                    value = value << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLat = mid;
+                } else {
+                    value = value << 1;
+                    maxLat = mid;
+                }
+            }
+            lonBit = !lonBit;
+
+            if (++bits == BITS_PER_CHAR) {
+                hash.append(BASE32.charAt(value));
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * geohash 셀의 중심 좌표
+     */
+    public static Center centerOf(String geohash) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        boolean lonBit = true;
+
+        for (char c : geohash.toCharArray()) {
+            int value = BASE32.indexOf(c);
+            if (value < 0) {
+                throw new IllegalArgumentException("geohash 형식이 아닙니다: " + geohash);
+            }
+
+            for (int bit = BITS_PER_CHAR - 1; bit >= 0; bit--) {
+                boolean on = ((value >> bit) & 1) == 1;
+                if (lonBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (on) minLon = mid; else maxLon = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (on) minLat = mid; else maxLat = mid;
+                }
+                lonBit = !lonBit;
+            }
+        }
+        return new Center((minLat + maxLat) / 2, (minLon + maxLon) / 2);
+    }
+}
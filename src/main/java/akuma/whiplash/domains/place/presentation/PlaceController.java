@@ -9,12 +9,17 @@ import akuma.whiplash.global.annotation.swagger.CustomErrorCodes;
 import akuma.whiplash.global.response.ApplicationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * 외부 API(네이버 검색, NCP 역지오코딩)를 호출하는 API
+ * 응답을 CompletableFuture로 반환해(비동기 MVC) 외부 API 응답을 기다리는 동안 서블릿 스레드를 점유하지 않는다.
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/places")
@@ -25,24 +30,24 @@ public class PlaceController {
     @CustomErrorCodes(commonErrorCodes = {BAD_REQUEST})
     @Operation(summary = "장소 목록 검색", description = "키워드 기반 장소 검색을 제공합니다.")
     @GetMapping("/search")
-    public ApplicationResponse<List<PlaceInfoResponse>> searchPlaces(@RequestParam String query) {
-        List<PlaceInfoResponse> placeInfoResponses = placeUseCase.searchPlaces(query);
-        return ApplicationResponse.onSuccess(placeInfoResponses);
+    public CompletableFuture<ApplicationResponse<List<PlaceInfoResponse>>> searchPlaces(@RequestParam String query) {
+        return placeUseCase.searchPlaces(query)
+            .thenApply(ApplicationResponse::onSuccess);
     }
 
     @CustomErrorCodes(commonErrorCodes = {BAD_REQUEST})
     @Operation(summary = "장소 상세 조회", description = "위/경도를 기반으로 장소 상세 정보를 조회합니다.")
     @GetMapping("/detail")
-    public ApplicationResponse<PlaceDetailResponse> getPlaceDetail(@RequestParam double latitude, @RequestParam double longitude) {
-        PlaceDetailResponse placeDetail = placeUseCase.getPlaceDetail(latitude, longitude);
-        return ApplicationResponse.onSuccess(placeDetail);
+    public CompletableFuture<ApplicationResponse<PlaceDetailResponse>> getPlaceDetail(@RequestParam double latitude, @RequestParam double longitude) {
+        return placeUseCase.getPlaceDetail(latitude, longitude)
+            .thenApply(ApplicationResponse::onSuccess);
     }
 
     @CustomErrorCodes(commonErrorCodes = {BAD_REQUEST})
     @Operation(summary = "연관 장소 키워드 추천", description = "텍스트 기반 연관 장소 키워드를 도로명 주소 형태로 제공합니다.")
     @GetMapping("/keywords")
-    public ApplicationResponse<List<String>> searchPlaceKeywords(@RequestParam String query) {
-        List<String> keywords = placeUseCase.searchPlaceKeywords(query);
-        return ApplicationResponse.onSuccess(keywords);
+    public CompletableFuture<ApplicationResponse<List<String>>> searchPlaceKeywords(@RequestParam String query) {
+        return placeUseCase.searchPlaceKeywords(query)
+            .thenApply(ApplicationResponse::onSuccess);
     }
 }
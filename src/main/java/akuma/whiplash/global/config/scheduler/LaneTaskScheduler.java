@@ -0,0 +1,160 @@
+package akuma.whiplash.global.config.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 작업 종류별로 격리된 스케줄러 레인
+ * - 트리거 스레드(1개)는 실행 시각에 작업을 레인 전용 워커 풀에 넘기기만 함
+ * - 워커 풀은 레인마다 스레드 수와 대기열 크기가 제한되어, 다른 레인의 느린 작업이 이 레인의 실행을 지연시키지 않음
+ * - 같은 작업이 아직 실행 중이면 overrun-policy(SKIP/COALESCE)에 따라 처리
+ * - scheduler.lane.active / scheduler.lane.queue 게이지로 레인별 실행 중 스레드 수와 대기열 길이를 노출
+ *
+ * 사용: @Scheduled(..., scheduler = SchedulerConfig.RINGING_LANE)
+ */
+@Slf4j
+public class LaneTaskScheduler extends ThreadPoolTaskScheduler {
+
+    private final String lane;
+    private final OverrunPolicy overrunPolicy;
+    private final ThreadPoolExecutor workers;
+    private final Counter overrunCounter;
+    private final Counter rejectedCounter;
+
+    public LaneTaskScheduler(String lane, int poolSize, int queueCapacity, OverrunPolicy overrunPolicy,
+                             MeterRegistry meterRegistry) {
+        this.lane = lane;
+        this.overrunPolicy = overrunPolicy;
+        this.workers = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("lane-" + lane + "-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        setPoolSize(1);
+        setThreadNamePrefix("lane-" + lane + "-trigger-");
+        setAwaitTerminationSeconds(30);
+        setWaitForTasksToCompleteOnShutdown(true);
+
+        Gauge.builder("scheduler.lane.active", workers, ThreadPoolExecutor::getActiveCount)
+            .tag("lane", lane)
+            .register(meterRegistry);
+        Gauge.builder("scheduler.lane.queue", workers, executor -> executor.getQueue().size())
+            .tag("lane", lane)
+            .register(meterRegistry);
+        overrunCounter = meterRegistry.counter("scheduler.lane.overrun", "lane", lane, "policy", overrunPolicy.name());
+        rejectedCounter = meterRegistry.counter("scheduler.lane.rejected", "lane", lane);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        return super.schedule(new LaneTask(task), trigger);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        return super.scheduleAtFixedRate(new LaneTask(task), startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return super.scheduleAtFixedRate(new LaneTask(task), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        return super.scheduleWithFixedDelay(new LaneTask(task), startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return super.scheduleWithFixedDelay(new LaneTask(task), delay);
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 등록된 작업 하나에 대한 실행 상태 (실행 중 여부, 합쳐진 실행 대기 여부)
+     */
+    private class LaneTask implements Runnable {
+
+        private final Runnable delegate;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private final AtomicBoolean pending = new AtomicBoolean(false);
+
+        private LaneTask(Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        // 트리거 스레드에서 호출: 워커 풀에 넘기기만 하고 바로 반환
+        @Override
+        public void run() {
+            if (!running.compareAndSet(false, true)) {
+                overrunCounter.increment();
+                if (overrunPolicy == OverrunPolicy.COALESCE) {
+                    pending.set(true);
+                } else {
+                    log.warn("[SchedulerLane:{}] 이전 실행이 끝나지 않아 이번 실행을 건너뜁니다. task={}", lane, delegate);
+                }
+                return;
+            }
+
+            submit();
+        }
+
+        private void submit() {
+            try {
+                workers.execute(this::runOnWorker);
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+                rejectedCounter.increment();
+                log.warn("[SchedulerLane:{}] 대기열이 가득 차 실행을 버립니다. task={}", lane, delegate);
+            }
+        }
+
+        private void runOnWorker() {
+            try {
+                delegate.run();
+            } catch (Exception e) {
+                log.error("[SchedulerLane:{}] 작업 실행 실패. task={}", lane, delegate, e);
+            } finally {
+                // 실행 중 밀린 실행이 있으면 한 번만 이어서 실행
+                if (pending.getAndSet(false)) {
+                    submit();
+                } else {
+                    running.set(false);
+                    // running 해제 직전에 들어온 COALESCE 요청 처리
+                    if (pending.getAndSet(false) && running.compareAndSet(false, true)) {
+                        submit();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package akuma.whiplash.global.config.scheduler;
+
+/**
+ * 이전 실행이 끝나기 전에 다음 실행 시각이 돌아왔을 때의 처리 방식
+ */
+public enum OverrunPolicy {
+    SKIP,       // 이번 실행을 건너뜀
+    COALESCE    // 밀린 실행을 하나로 합쳐, 진행 중인 실행이 끝나는 즉시 한 번 더 실행
+}
@@ -1,13 +1,26 @@
 package akuma.whiplash.global.config.scheduler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 스케줄 작업을 종류별 레인으로 분리
+ * - ringing: 10초 주기 알람 울림 알림 (지연에 가장 민감)
+ * - reminder: 매 분 알람 1시간 전 리마인드
+ * - batch: 자정 발생 내역 생성 배치
+ * 레인을 지정하지 않은 @Scheduled 작업은 기본 taskScheduler에서 실행된다.
+ */
 @Configuration
 public class SchedulerConfig {
 
+    public static final String RINGING_LANE = "ringingLaneScheduler";
+    public static final String REMINDER_LANE = "reminderLaneScheduler";
+    public static final String BATCH_LANE = "batchLaneScheduler";
+
     @Bean
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
@@ -17,4 +30,34 @@ public class SchedulerConfig {
         scheduler.setWaitForTasksToCompleteOnShutdown(true);
         return scheduler;
     }
-}
\ No newline at end of file
+
+    @Bean(name = RINGING_LANE)
+    public LaneTaskScheduler ringingLaneScheduler(
+        MeterRegistry meterRegistry,
+        @Value("${scheduler.lanes.ringing.pool-size:2}") int poolSize,
+        @Value("${scheduler.lanes.ringing.queue-capacity:10}") int queueCapacity,
+        @Value("${scheduler.lanes.ringing.overrun-policy:SKIP}") OverrunPolicy overrunPolicy
+    ) {
+        return new LaneTaskScheduler("ringing", poolSize, queueCapacity, overrunPolicy, meterRegistry);
+    }
+
+    @Bean(name = REMINDER_LANE)
+    public LaneTaskScheduler reminderLaneScheduler(
+        MeterRegistry meterRegistry,
+        @Value("${scheduler.lanes.reminder.pool-size:1}") int poolSize,
+        @Value("${scheduler.lanes.reminder.queue-capacity:10}") int queueCapacity,
+        @Value("${scheduler.lanes.reminder.overrun-policy:COALESCE}") OverrunPolicy overrunPolicy
+    ) {
+        return new LaneTaskScheduler("reminder", poolSize, queueCapacity, overrunPolicy, meterRegistry);
+    }
+
+    @Bean(name = BATCH_LANE)
+    public LaneTaskScheduler batchLaneScheduler(
+        MeterRegistry meterRegistry,
+        @Value("${scheduler.lanes.batch.pool-size:1}") int poolSize,
+        @Value("${scheduler.lanes.batch.queue-capacity:5}") int queueCapacity,
+        @Value("${scheduler.lanes.batch.overrun-policy:SKIP}") OverrunPolicy overrunPolicy
+    ) {
+        return new LaneTaskScheduler("batch", poolSize, queueCapacity, overrunPolicy, meterRegistry);
+    }
+}
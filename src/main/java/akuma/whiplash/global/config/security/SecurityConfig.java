@@ -5,6 +5,7 @@ import static akuma.whiplash.domains.member.domain.contants.Role.USER;
 
 import akuma.whiplash.global.config.security.jwt.JwtAuthenticationFilter;
 import akuma.whiplash.global.config.security.jwt.JwtUtils;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -44,6 +45,8 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                // 비동기 MVC 응답(CompletableFuture)의 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(requestMatcherHolder.getPatternsByMinPermission(null)).permitAll()
                 .requestMatchers(requestMatcherHolder.getPatternsByMinPermission(USER))
                 .hasAnyAuthority(USER.name(), ADMIN.name())
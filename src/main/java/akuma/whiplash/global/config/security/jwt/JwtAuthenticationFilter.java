@@ -6,6 +6,7 @@ import static akuma.whiplash.global.config.security.jwt.constants.TokenType.REFR
 import akuma.whiplash.domains.auth.exception.AuthErrorCode;
 import akuma.whiplash.global.config.security.RequestMatcherHolder;
 import akuma.whiplash.global.exception.ApplicationException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -54,18 +55,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             try {
+                Claims claims;
                 if (request.getRequestURI().contains("/reissue")) {
                     log.info("재발급 진행");
-                    jwtUtils.validateToken(response, token, REFRESH);
+                    claims = jwtUtils.validateToken(response, token, REFRESH);
                 } else if (request.getRequestURI().contains("/logout")) {
                     log.info("로그아웃 진행");
-                    jwtUtils.validateToken(response, token, REFRESH);
+                    claims = jwtUtils.validateToken(response, token, REFRESH);
                 } else {
                     log.info("일반 접근");
-                    jwtUtils.validateToken(response, token, ACCESS);
+                    claims = jwtUtils.validateToken(response, token, ACCESS);
                 }
 
-                Authentication authentication = jwtUtils.getAuthentication(token);
+                Authentication authentication = jwtUtils.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
                 if (isLocal || isTest) {
@@ -0,0 +1,37 @@
+package akuma.whiplash.global.config.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 키와 파서를 애플리케이션 기동 시 한 번만 생성해 재사용한다.
+ * - 요청마다 Base64 디코딩 + SecretKey 생성 + JwtParser 생성을 반복하지 않음
+ * - jjwt의 JwtParser는 build() 이후 불변이므로 여러 요청 스레드에서 공유해도 안전
+ */
+@Component
+public class JwtKeyHolder {
+
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+
+    public JwtKeyHolder(@Value("${jwt.secret-key}") String secret) {
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(secretKey)
+            .build();
+    }
+
+    public SecretKey getSecretKey() {
+        return secretKey;
+    }
+
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+}
@@ -7,8 +7,6 @@ import akuma.whiplash.domains.member.domain.contants.Role;
 import akuma.whiplash.infrastructure.redis.RedisRepository;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -26,9 +24,7 @@ import org.springframework.stereotype.Component;
 public class JwtProvider {
 
     private final RedisRepository redisRepository;
-
-    @Value("${jwt.secret-key}")
-    private String secret;
+    private final JwtKeyHolder jwtKeyHolder;
 
     @Value("${jwt.refresh-expiration}")
     private int refreshExpiration;
@@ -39,10 +35,11 @@ public class JwtProvider {
     private static final String ROLE = "role";
     private static final String TYPE = "type";
     private static final String DEVICE_ID = "deviceId";
+    private static final String REFRESH_DEVICES = "REFRESH_DEVICES";
 
 
     public String generateAccessToken(Long memberId, Role role, String deviceId) {
-        SecretKey key = getSecretKey();
+        SecretKey key = jwtKeyHolder.getSecretKey();
         Instant accessDate = getExpiration(accessExpiration);
 
         return Jwts.builder()
@@ -56,7 +53,7 @@ public class JwtProvider {
     }
 
     public String generateRefreshToken(Long memberId, String deviceId, Role role) {
-        SecretKey key = getSecretKey();
+        SecretKey key = jwtKeyHolder.getSecretKey();
         Instant refreshDate = getExpiration(refreshExpiration);
 
         String refreshToken = Jwts.builder()
@@ -77,14 +74,17 @@ public class JwtProvider {
             Duration.ofSeconds(refreshExpiration)
         );
 
+        // 회원별 리프레시 토큰 보유 디바이스 목록 (로그인 시 KEYS 없이 디바이스 조회)
+        redisRepository.addSetValue(
+            REFRESH_DEVICES + ":" + memberId,
+            deviceId,
+            Duration.ofSeconds(refreshExpiration)
+        );
+
         return refreshToken;
     }
 
 
-    private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-    }
-
     private Instant getExpiration(long expiration) {
         return LocalDateTime.now().plusSeconds(expiration).atZone(ZoneId.systemDefault()).toInstant();
     }
@@ -7,23 +7,21 @@ import static akuma.whiplash.global.config.security.jwt.constants.TokenType.REFR
 
 import akuma.whiplash.domains.auth.application.dto.etc.MemberContext;
 import akuma.whiplash.domains.auth.application.mapper.AuthMapper;
+import akuma.whiplash.domains.member.domain.contants.Role;
 import akuma.whiplash.domains.member.domain.service.MemberQueryService;
-import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
+import akuma.whiplash.domains.member.domain.service.MemberStatusCache;
 import akuma.whiplash.global.config.security.jwt.constants.TokenType;
 import akuma.whiplash.global.exception.ApplicationException;
 import akuma.whiplash.global.response.ApplicationResponse;
 import akuma.whiplash.global.response.code.BaseErrorCode;
+import akuma.whiplash.global.response.code.CommonErrorCode;
 import akuma.whiplash.infrastructure.redis.RedisRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Collections;
 import java.util.List;
-import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,18 +38,24 @@ public class JwtUtils {
 
     private final RedisRepository redisRepository;
     private final MemberQueryService memberQueryService;
+    private final JwtKeyHolder jwtKeyHolder;
+    private final MemberStatusCache memberStatusCache;
 
-    @Value("${jwt.secret-key}")
-    private String secret;
+    @Value("${jwt.claims-only-authentication}")
+    private boolean claimsOnlyAuthentication;
 
     private static final String CONTENT_TYPE = "application/json";
     private static final String CHARACTER_ENCODING = "UTF-8";
-    private static final String ROLE = "role";
     private static final String TYPE = "type";
+    private static final String REFRESH_DEVICES = "REFRESH_DEVICES";
 
-    public void validateToken(HttpServletResponse response, String token, TokenType tokenType) {
+    /**
+     * 토큰을 한 번만 파싱해 검증하고, 검증된 Claims를 반환한다.
+     * 반환된 Claims는 getAuthentication에서 그대로 재사용한다. (동일 토큰 재파싱 방지)
+     */
+    public Claims validateToken(HttpServletResponse response, String token, TokenType tokenType) {
         try {
-            Claims claims = parseClaims(token);
+            Claims claims = jwtKeyHolder.parseClaims(token);
             if (!claims.get(TYPE).equals(tokenType.name())) {
                 throw ApplicationException.from(INVALID_TOKEN);
             }
@@ -61,6 +65,8 @@ public class JwtUtils {
                 String deviceId = getDeviceIdFromToken(claims);
                 validateRefreshTokenExists(token, memberId, deviceId);
             }
+
+            return claims;
         } catch (ExpiredJwtException e) {
             jwtExceptionHandler(response, TOKEN_EXPIRED);
             throw ApplicationException.from(TOKEN_EXPIRED);
@@ -83,16 +89,29 @@ public class JwtUtils {
 
     public void expireRefreshToken(Long memberId, String deviceId) {
         redisRepository.deleteValues(REFRESH + ":" + memberId + ":" + deviceId);
+        redisRepository.removeSetValue(REFRESH_DEVICES + ":" + memberId, deviceId);
     }
 
-    public Authentication getAuthentication(String token) throws ApplicationException {
-        Claims claims = parseClaims(token);
-        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(claims.get(ROLE).toString()));
+    /**
+     * 회원의 다른 디바이스에 발급된 리프레시 토큰을 모두 만료시킨다.
+     * 회원별 디바이스 Set만 조회하므로 비용은 키스페이스 크기가 아닌 디바이스 수에 비례
+     */
+    public void expireOtherDeviceRefreshTokens(Long memberId, String deviceId) {
+        redisRepository.getSetValues(REFRESH_DEVICES + ":" + memberId)
+            .stream()
+            .filter(otherDeviceId -> !otherDeviceId.equals(deviceId))
+            .forEach(otherDeviceId -> expireRefreshToken(memberId, otherDeviceId));
+    }
 
+    public Authentication getAuthentication(Claims claims) throws ApplicationException {
         Long memberId = getMemberIdFromToken(claims);
         String deviceId = getDeviceIdFromToken(claims);
-        MemberEntity member = memberQueryService.findById(memberId);
-        MemberContext memberContext = AuthMapper.mapToMemberContext(member, deviceId);
+
+        MemberContext memberContext = claimsOnlyAuthentication
+            ? buildMemberContextFromClaims(memberId, deviceId)
+            : AuthMapper.mapToMemberContext(memberQueryService.findById(memberId), deviceId);
+
+        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(memberContext.role().name()));
 
         return new UsernamePasswordAuthenticationToken(memberContext, "", authorities);
     }
@@ -112,14 +131,15 @@ public class JwtUtils {
         }
     }
 
-    private Claims parseClaims(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    /**
+     * 회원 DB 조회 없이 서명된 클레임으로 MemberContext를 만든다.
+     * 탈퇴 여부와 현재 권한은 회원 상태 캐시로 확인 (토큰 발급 이후 권한이 바뀌었으면 현재 권한을 사용)
+     */
+    private MemberContext buildMemberContextFromClaims(Long memberId, String deviceId) {
+        Role role = memberStatusCache.getRole(memberId)
+            .orElseThrow(() -> ApplicationException.from(CommonErrorCode.BAD_REQUEST));
 
-        return Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        return AuthMapper.mapToMemberContext(memberId, role, deviceId);
     }
 
     private static Long getMemberIdFromToken(Claims claims) {
@@ -1,5 +1,9 @@
 package akuma.whiplash.global.service;
 
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrencePartitionRepository;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -13,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProdArchiveService implements ArchiveService {
 
     private final JdbcTemplate jdbcTemplate;
+    private final AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
 
     // member -------------------------------------------------------------
 
@@ -37,10 +42,10 @@ public class ProdArchiveService implements ArchiveService {
 
     private static final String ARCHIVE_ALARM_BY_ID_SQL = """
         INSERT INTO deleted_alarm (
-            original_id, member_id, alarm_purpose, time, repeat_days, sound_type,
+            original_id, member_id, alarm_purpose, time, repeat_mask, sound_type,
             latitude, longitude, address, created_at, updated_at
         )
-        SELECT a.id, a.member_id, a.alarm_purpose, a.time, a.repeat_days, a.sound_type,
+        SELECT a.id, a.member_id, a.alarm_purpose, a.time, a.repeat_mask, a.sound_type,
                a.latitude, a.longitude, a.address, a.created_at, a.updated_at
         FROM alarm a
         WHERE a.id = ?
@@ -52,10 +57,10 @@ public class ProdArchiveService implements ArchiveService {
 
     private static final String ARCHIVE_ALARM_BY_MEMBER_SQL = """
         INSERT INTO deleted_alarm (
-            original_id, member_id, alarm_purpose, time, repeat_days, sound_type,
+            original_id, member_id, alarm_purpose, time, repeat_mask, sound_type,
             latitude, longitude, address, created_at, updated_at
         )
-        SELECT a.id, a.member_id, a.alarm_purpose, a.time, a.repeat_days, a.sound_type,
+        SELECT a.id, a.member_id, a.alarm_purpose, a.time, a.repeat_mask, a.sound_type,
                a.latitude, a.longitude, a.address, a.created_at, a.updated_at
         FROM alarm a
         WHERE a.member_id = ?
@@ -66,6 +71,7 @@ public class ProdArchiveService implements ArchiveService {
         """;
 
     // alarm_occurrence ---------------------------------------------------
+    // 발생 내역/울림 기록/요약 SQL의 %s는 원본 테이블 이름 (운영 테이블 또는 월별 보관 테이블)
 
     private static final String ARCHIVE_ALARM_OCCURRENCE_BY_ALARM_SQL = """
         INSERT INTO deleted_alarm_occurrence (
@@ -75,7 +81,7 @@ public class ProdArchiveService implements ArchiveService {
         SELECT ao.id, ao.alarm_id, ao.date, ao.time, ao.deactivate_type, ao.deactivated_at,
                ao.checkin_time, ao.alarm_ringing, ao.ringing_count, ao.reminder_sent,
                ao.created_at, ao.updated_at
-        FROM alarm_occurrence ao
+        FROM %s ao
         WHERE ao.alarm_id = ?
           AND NOT EXISTS (
                 SELECT 1 FROM deleted_alarm_occurrence dao
@@ -91,7 +97,7 @@ public class ProdArchiveService implements ArchiveService {
         SELECT ao.id, ao.alarm_id, ao.date, ao.time, ao.deactivate_type, ao.deactivated_at,
                ao.checkin_time, ao.alarm_ringing, ao.ringing_count, ao.reminder_sent,
                ao.created_at, ao.updated_at
-        FROM alarm_occurrence ao
+        FROM %s ao
         JOIN alarm a ON ao.alarm_id = a.id
         WHERE a.member_id = ?
           AND NOT EXISTS (
@@ -108,8 +114,8 @@ public class ProdArchiveService implements ArchiveService {
         )
         SELECT arl.id, arl.alarm_occurrence_id, arl.ring_index, arl.ringed_at,
                arl.created_at, arl.updated_at
-        FROM alarm_ringing_log arl
-        JOIN alarm_occurrence ao ON arl.alarm_occurrence_id = ao.id
+        FROM %s arl
+        JOIN %s ao ON arl.alarm_occurrence_id = ao.id
         WHERE ao.alarm_id = ?
           AND NOT EXISTS (
                 SELECT 1 FROM deleted_alarm_ringing_log darl
@@ -123,8 +129,8 @@ public class ProdArchiveService implements ArchiveService {
         )
         SELECT arl.id, arl.alarm_occurrence_id, arl.ring_index, arl.ringed_at,
                arl.created_at, arl.updated_at
-        FROM alarm_ringing_log arl
-        JOIN alarm_occurrence ao ON arl.alarm_occurrence_id = ao.id
+        FROM %s arl
+        JOIN %s ao ON arl.alarm_occurrence_id = ao.id
         JOIN alarm a ON ao.alarm_id = a.id
         WHERE a.member_id = ?
           AND NOT EXISTS (
@@ -133,6 +139,39 @@ public class ProdArchiveService implements ArchiveService {
           )
         """;
 
+    // alarm_ringing_summary ----------------------------------------------
+
+    private static final String ARCHIVE_ALARM_RINGING_SUMMARY_BY_ALARM_SQL = """
+        INSERT INTO deleted_alarm_ringing_summary (
+            original_id, first_ringed_at, last_ringed_at, ring_count, gap_micros, created_at, updated_at
+        )
+        SELECT ars.occurrence_id, ars.first_ringed_at, ars.last_ringed_at, ars.ring_count, ars.gap_micros,
+               ars.created_at, ars.updated_at
+        FROM %s ars
+        JOIN %s ao ON ars.occurrence_id = ao.id
+        WHERE ao.alarm_id = ?
+          AND NOT EXISTS (
+                SELECT 1 FROM deleted_alarm_ringing_summary dars
+                WHERE dars.original_id = ars.occurrence_id
+          )
+        """;
+
+    private static final String ARCHIVE_ALARM_RINGING_SUMMARY_BY_MEMBER_SQL = """
+        INSERT INTO deleted_alarm_ringing_summary (
+            original_id, first_ringed_at, last_ringed_at, ring_count, gap_micros, created_at, updated_at
+        )
+        SELECT ars.occurrence_id, ars.first_ringed_at, ars.last_ringed_at, ars.ring_count, ars.gap_micros,
+               ars.created_at, ars.updated_at
+        FROM %s ars
+        JOIN %s ao ON ars.occurrence_id = ao.id
+        JOIN alarm a ON ao.alarm_id = a.id
+        WHERE a.member_id = ?
+          AND NOT EXISTS (
+                SELECT 1 FROM deleted_alarm_ringing_summary dars
+                WHERE dars.original_id = ars.occurrence_id
+          )
+        """;
+
     // alarm_off_log ------------------------------------------------------
 
     private static final String ARCHIVE_ALARM_OFF_LOG_BY_ALARM_SQL = """
@@ -166,9 +205,12 @@ public class ProdArchiveService implements ArchiveService {
     @Override
     @Transactional(propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
     public void archiveMemberWithRelations(Long memberId) {
-        // 자식 → 부모 순으로 보관
-        jdbcTemplate.update(ARCHIVE_ALARM_RINGING_LOG_BY_MEMBER_SQL, memberId);
-        jdbcTemplate.update(ARCHIVE_ALARM_OCCURRENCE_BY_MEMBER_SQL, memberId);
+        // 자식 → 부모 순으로 보관 (파티션 보관으로 옮겨진 발생 내역 포함)
+        for (OccurrenceTables tables : occurrenceTables()) {
+            jdbcTemplate.update(ARCHIVE_ALARM_RINGING_LOG_BY_MEMBER_SQL.formatted(tables.ringingLog(), tables.occurrence()), memberId);
+            jdbcTemplate.update(ARCHIVE_ALARM_RINGING_SUMMARY_BY_MEMBER_SQL.formatted(tables.ringingSummary(), tables.occurrence()), memberId);
+            jdbcTemplate.update(ARCHIVE_ALARM_OCCURRENCE_BY_MEMBER_SQL.formatted(tables.occurrence()), memberId);
+        }
         jdbcTemplate.update(ARCHIVE_ALARM_OFF_LOG_BY_MEMBER_SQL, memberId);
         jdbcTemplate.update(ARCHIVE_ALARM_BY_MEMBER_SQL, memberId);
         jdbcTemplate.update(ARCHIVE_MEMBER_SQL, memberId);
@@ -177,9 +219,31 @@ public class ProdArchiveService implements ArchiveService {
     @Override
     @Transactional(propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
     public void archiveAlarmWithRelations(Long alarmId) {
-        jdbcTemplate.update(ARCHIVE_ALARM_RINGING_LOG_BY_ALARM_SQL, alarmId);
-        jdbcTemplate.update(ARCHIVE_ALARM_OCCURRENCE_BY_ALARM_SQL, alarmId);
+        for (OccurrenceTables tables : occurrenceTables()) {
+            jdbcTemplate.update(ARCHIVE_ALARM_RINGING_LOG_BY_ALARM_SQL.formatted(tables.ringingLog(), tables.occurrence()), alarmId);
+            jdbcTemplate.update(ARCHIVE_ALARM_RINGING_SUMMARY_BY_ALARM_SQL.formatted(tables.ringingSummary(), tables.occurrence()), alarmId);
+            jdbcTemplate.update(ARCHIVE_ALARM_OCCURRENCE_BY_ALARM_SQL.formatted(tables.occurrence()), alarmId);
+        }
         jdbcTemplate.update(ARCHIVE_ALARM_OFF_LOG_BY_ALARM_SQL, alarmId);
         jdbcTemplate.update(ARCHIVE_ALARM_BY_ID_SQL, alarmId);
     }
+
+    /**
+     * 운영 테이블과 월별 보관 테이블 묶음 목록
+     */
+    private List<OccurrenceTables> occurrenceTables() {
+        List<OccurrenceTables> tables = new ArrayList<>();
+        tables.add(new OccurrenceTables("alarm_occurrence", "alarm_ringing_log", "alarm_ringing_summary"));
+        for (YearMonth month : alarmOccurrencePartitionRepository.findArchivedMonths()) {
+            tables.add(new OccurrenceTables(
+                AlarmOccurrencePartitionRepository.archiveTableName(month),
+                AlarmOccurrencePartitionRepository.ringingLogArchiveTableName(month),
+                AlarmOccurrencePartitionRepository.ringingSummaryArchiveTableName(month)
+            ));
+        }
+        return tables;
+    }
+
+    private record OccurrenceTables(String occurrence, String ringingLog, String ringingSummary) {
+    }
 }
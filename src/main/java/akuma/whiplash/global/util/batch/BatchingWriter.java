@@ -0,0 +1,164 @@
+package akuma.whiplash.global.util.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 스레드와 분리해 항목을 모아 sink에 배치로 쓰는 write-behind 버퍼
+ * - 요청 스레드는 크기 제한 큐에 넣기만 함 (큐가 가득 차면 OverflowPolicy에 따라 바로 쓰거나 버림)
+ * - 백그라운드 flusher 스레드가 batch-size만큼 모이거나 flush-interval-ms가 지나면 한 번에 sink 호출
+ * - 종료 시 큐에 남은 항목을 batch-size 단위로 마지막으로 씀
+ * sink 호출이 실패하면 해당 배치는 로그만 남기고 버린다.
+ */
+@Slf4j
+public class BatchingWriter<T> {
+
+    public enum OverflowPolicy {
+        WRITE_THROUGH, // 요청 스레드에서 바로 sink 호출 (유실 방지)
+        DROP           // 버리고 경고 로그 (요청 지연 방지)
+    }
+
+    /**
+     * 배치를 실제 저장소에 기록하는 대상 (DB INSERT, Google Sheets append 등)
+     */
+    @FunctionalInterface
+    public interface Sink<T> {
+
+        void write(List<T> batch) throws Exception;
+    }
+
+    private final String name;
+    private final Sink<T> sink;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public BatchingWriter(
+        String name,
+        Sink<T> sink,
+        int queueCapacity,
+        int batchSize,
+        long flushIntervalMillis,
+        OverflowPolicy overflowPolicy
+    ) {
+        this.name = name;
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.flusher = new Thread(this::runFlusher, name + "-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    public void start() {
+        flusher.start();
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(flushIntervalMillis);
+
+        List<T> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        while (!remaining.isEmpty()) {
+            List<T> chunk = new ArrayList<>(remaining.subList(0, Math.min(batchSize, remaining.size())));
+            remaining.subList(0, chunk.size()).clear();
+            flush(chunk);
+        }
+    }
+
+    public void offer(T item) {
+        if (queue.offer(item)) {
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.WRITE_THROUGH) {
+            log.warn("[{}] 대기열이 가득 차 바로 기록합니다.", name);
+            flush(new ArrayList<>(List.of(item)));
+        } else {
+            log.warn("[{}] 대기열이 가득 차 항목을 버립니다.", name);
+        }
+    }
+
+    /**
+     * 아직 기록되지 않고 대기열에 남아 있는 항목 중 조건에 맞는 항목을 버린다.
+     * flusher가 이미 꺼내 간 배치에는 적용되지 않는다.
+     *
+     * @return 버린 항목 수
+     */
+    public int discardIf(Predicate<? super T> filter) {
+        int[] discarded = {0};
+        queue.removeIf(item -> {
+            if (!filter.test(item)) return false;
+            discarded[0]++;
+            return true;
+        });
+        return discarded[0];
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void runFlusher() {
+        List<T> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                T first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 항목 이후 flush-interval-ms 동안 batch-size까지 모아서 한 번에 기록
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+
+                    T next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // 종료 중 인터럽트로 빠져나온 경우 모으던 항목까지 기록
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<T> batch) {
+        try {
+            sink.write(List.copyOf(batch));
+            log.debug("[{}] {}건 기록", name, batch.size());
+        } catch (Exception e) {
+            log.error("[{}] {}건 기록 실패", name, batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+}
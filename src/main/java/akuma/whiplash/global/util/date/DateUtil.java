@@ -14,7 +14,6 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.WeekFields;
 import java.util.List;
 import java.util.Locale;
-import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -104,20 +103,21 @@ public class DateUtil {
     /**
      * 주어진 날짜(fromDate)부터 7일 이내 반복 요일 중 가장 빠른 날짜를 반환합니다.
      *
-     * @param repeatDays 알람 반복 요일 (예: 월, 수, 금)
+     * @param repeatMask 알람 반복 요일 비트마스크 (예: 월, 수, 금 → 0b0010101)
      * @param fromDate 기준 날짜
-     * @return repeatDays에 해당하는 가장 가까운 알람 발생일
+     * @return repeatMask에 해당하는 가장 가까운 알람 발생일
      */
-    public static LocalDate getNextOccurrenceDate(Set<DayOfWeek> repeatDays, LocalDate fromDate) {
-
-        for (int i = 0; i < 7; i++) {
-            LocalDate candidate = fromDate.plusDays(i);
-            if (repeatDays.contains(candidate.getDayOfWeek())) {
-                return candidate;
-            }
+    public static LocalDate getNextOccurrenceDate(int repeatMask, LocalDate fromDate) {
+        int mask = repeatMask & Weekday.FULL_MASK;
+        if (mask == 0) {
+            throw ApplicationException.from(REPEAT_DAYS_NOT_CONFIG);
         }
 
-        throw ApplicationException.from(REPEAT_DAYS_NOT_CONFIG);
+        // 기준 요일부터 7비트를 회전시켜 가장 가까운 켜진 비트까지의 거리 계산
+        int shift = fromDate.getDayOfWeek().getValue() - 1;
+        int rotated = ((mask >>> shift) | (mask << (7 - shift))) & Weekday.FULL_MASK;
+
+        return fromDate.plusDays(Integer.numberOfTrailingZeros(rotated));
     }
 }
 
@@ -0,0 +1,48 @@
+package akuma.whiplash.global.util.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    private TransactionUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행하고, 트랜잭션 밖이면 즉시 실행한다.
+     * DB 커밋과 함께 반영되어야 하는 인메모리/Redis 상태 변경에 사용 (롤백 시 오염 방지)
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋되지 않고 끝났을 때(롤백/상태 불명) 실행한다. 트랜잭션 밖이면 되돌릴 것이 없으므로 실행하지 않는다.
+     * 트랜잭션 전에 선반영한 Redis 상태를 보상(되돌리기)하는 용도
+     */
+    public static void afterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package akuma.whiplash.infrastructure.firebase;
+
+import akuma.whiplash.infrastructure.firebase.dto.FcmBatch;
+import akuma.whiplash.infrastructure.firebase.dto.FcmBatchResult;
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendOutcome;
+import akuma.whiplash.infrastructure.firebase.transport.FcmTransport;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 멀티캐스트 배치를 동시에 여러 개 전송하는 디스패처
+ * - 동시에 진행 중인 배치 수를 fcm.dispatch.max-in-flight로 제한 (초과 시 호출 스레드가 대기)
+ * - 배치별로 fcm.dispatch.batch-timeout-ms가 지나면 해당 배치 전체를 실패로 처리
+ *   (호출자가 보는 결과에만 적용하고, 슬롯은 실제 전송이 끝나야 반납하므로 느린 전송도 상한에 포함됨)
+ * - 한 그룹이 느려도 뒤의 배치가 밀리지 않도록 모든 배치를 먼저 흘려보낸 뒤 결과를 모은다
+ */
+@Slf4j
+@Component
+public class FcmDispatcher {
+
+    private final FcmTransport fcmTransport;
+    private final Semaphore inFlight;
+    private final long batchTimeoutMillis;
+
+    public FcmDispatcher(
+        FcmTransport fcmTransport,
+        @Value("${fcm.dispatch.max-in-flight:8}") int maxInFlight,
+        @Value("${fcm.dispatch.batch-timeout-ms:10000}") long batchTimeoutMillis
+    ) {
+        this.fcmTransport = fcmTransport;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.batchTimeoutMillis = batchTimeoutMillis;
+    }
+
+    /**
+     * 배치를 모두 전송하고, 입력 순서대로 결과를 반환한다. (예외를 던지지 않음)
+     */
+    public <T> List<FcmBatchResult<T>> dispatch(List<FcmBatch<T>> batches) {
+        List<CompletableFuture<FcmBatchResult<T>>> futures = new ArrayList<>(batches.size());
+
+        for (FcmBatch<T> batch : batches) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("FCM 배치 전송 대기 중 인터럽트 발생: label={}", batch.label());
+                futures.add(CompletableFuture.completedFuture(failed(batch)));
+                continue;
+            }
+
+            // 슬롯 반납은 전송 future에 걸고, 제한 시간은 사본(copy)에만 걸어 전송 자체를 기다리지 않게 한다
+            // (orTimeout은 대상 future를 직접 완료시키므로 반납 단계에 걸면 반납이 건너뛰어짐)
+            CompletableFuture<List<FcmSendOutcome>> sent = send(batch)
+                .whenComplete((outcomes, ex) -> inFlight.release());
+            futures.add(sent.copy()
+                .orTimeout(batchTimeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((outcomes, ex) -> toResult(batch, outcomes, ex)));
+        }
+
+        return futures.stream()
+            .map(CompletableFuture::join)
+            .toList();
+    }
+
+    public int availableSlots() {
+        return inFlight.availablePermits();
+    }
+
+    private <T> CompletableFuture<List<FcmSendOutcome>> send(FcmBatch<T> batch) {
+        try {
+            return fcmTransport.sendEachForMulticastAsync(batch.tokens(), batch.message());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> FcmBatchResult<T> toResult(FcmBatch<T> batch, List<FcmSendOutcome> outcomes, Throwable ex) {
+        if (ex != null) {
+            log.error("FCM 전송 실패(멀티캐스트 전체). label={}, tokens={}, cause={}",
+                batch.label(), batch.tokens().size(), ex.getClass().getSimpleName(), ex);
+            return failed(batch);
+        }
+
+        if (outcomes.size() != batch.tokens().size()) {
+            log.error("FCM 응답 개수 불일치. label={}, tokens={}, responses={}",
+                batch.label(), batch.tokens().size(), outcomes.size());
+            return failed(batch);
+        }
+
+        return FcmBatchResult.<T>builder()
+            .batch(batch)
+            .outcomes(outcomes)
+            .completed(true)
+            .build();
+    }
+
+    private <T> FcmBatchResult<T> failed(FcmBatch<T> batch) {
+        return FcmBatchResult.<T>builder()
+            .batch(batch)
+            .outcomes(List.of())
+            .completed(false)
+            .build();
+    }
+}
@@ -2,7 +2,9 @@ package akuma.whiplash.infrastructure.firebase;
 
 import akuma.whiplash.domains.alarm.application.dto.etc.PushTargetDto;
 import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushTargetDto;
-import akuma.whiplash.infrastructure.firebase.dto.FcmMetricResult;
+import akuma.whiplash.infrastructure.firebase.dto.FcmBatch;
+import akuma.whiplash.infrastructure.firebase.dto.FcmBatchResult;
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendOutcome;
 import akuma.whiplash.infrastructure.firebase.dto.FcmSendResult;
 import akuma.whiplash.infrastructure.redis.RedisService;
 import com.google.firebase.messaging.AndroidConfig;
@@ -10,11 +12,8 @@ import com.google.firebase.messaging.AndroidConfig.Priority;
 import com.google.firebase.messaging.ApnsConfig;
 import com.google.firebase.messaging.Aps;
 import com.google.firebase.messaging.ApsAlert;
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.MulticastMessage;
-import com.google.firebase.messaging.SendResponse;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -38,8 +37,15 @@ public class FcmService {
     private static final int FCM_MULTICAST_LIMIT = 500;
     private static final String DEFAULT_TITLE = "눈 떠";
     private static final String RINGING_BODY = "알람이 울리고 있어요! 앱으로 접속해서 알람을 꺼주세요!";
+    private static final String RINGING_COLLAPSE_KEY_PREFIX = "ringing-";
+
+    private static final Set<String> INVALID_TOKEN_ERROR_CODES = Set.of(
+        MessagingErrorCode.UNREGISTERED.name(),
+        MessagingErrorCode.INVALID_ARGUMENT.name()
+    );
 
     private final RedisService redisService;
+    private final FcmDispatcher fcmDispatcher;
 
     /**
      * idempotent: 같은 토큰 재등록이어도 안전하게 동작
@@ -53,6 +59,7 @@ public class FcmService {
      * - Notification payload 제거, data만 사용
      * - Android priority=HIGH, iOS apns-priority=10 + content-available=1
      * - 같은 body 문구(=주소)끼리 묶어서 전송 효율화
+     * - 모든 배치를 FcmDispatcher로 동시에 흘려보낸 뒤 결과를 집계
      * - 전송 성공한 occurrenceId 수집, 무효 토큰은 즉시 Redis에서 제거
      */
     public FcmSendResult sendBulkNotification(List<PushTargetDto> targets) {
@@ -79,6 +86,8 @@ public class FcmService {
         int totalSuccessCount = 0
           , totalFailureCount = 0;
 
+        List<FcmBatch<PushTargetDto>> batches = new ArrayList<>();
+
         for (Map.Entry<String, List<PushTargetDto>> entry : groupedByBody.entrySet()) {
             String body = entry.getKey();
             List<PushTargetDto> group = dedupByToken(entry.getValue(), PushTargetDto::token);
@@ -96,8 +105,9 @@ public class FcmService {
             );
 
             for (List<PushTargetDto> batch : partition(group, FCM_MULTICAST_LIMIT)) {
+                List<String> tokens = batch.stream().map(PushTargetDto::token).toList();
                 MulticastMessage message = MulticastMessage.builder()
-                    .addAllTokens(batch.stream().map(PushTargetDto::token).toList())
+                    .addAllTokens(tokens)
                     .putAllData(data)
                     .setAndroidConfig(
                         buildAndroidConfig(Duration.ofMinutes(60), Priority.HIGH)
@@ -107,17 +117,18 @@ public class FcmService {
                     )
                     .build();
 
-                try {
-                    BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
-                    log.info("사전 알림 FCM 멀티캐스트 결과: success={}, failure={}", response.getSuccessCount(), response.getFailureCount());
+                batches.add(new FcmBatch<>(body, batch, tokens, message));
+            }
+        }
 
-                    totalSuccessCount += response.getSuccessCount();
-                    totalFailureCount += response.getFailureCount();
+        for (FcmBatchResult<PushTargetDto> result : fcmDispatcher.dispatch(batches)) {
+            log.info("사전 알림 FCM 멀티캐스트 결과: success={}, failure={}", result.successCount(), result.failureCount());
 
-                    handleSendResult(response.getResponses(), batch, successOccurrenceIds, invalidTokens, memberToTokens);
-                } catch (FirebaseMessagingException e) {
-                    log.error("FCM 전송 실패(멀티캐스트 전체). body={}", body, e);
-                }
+            totalSuccessCount += result.successCount();
+            totalFailureCount += result.failureCount();
+
+            if (result.completed()) {
+                handleSendResult(result.outcomes(), result.batch().targets(), successOccurrenceIds, invalidTokens, memberToTokens);
             }
         }
 
@@ -132,11 +143,15 @@ public class FcmService {
 
     /**
      * 알람 울릴 때 FCM 푸시 알림 전송
+     * - 전송 성공한 occurrenceId 수집, 무효 토큰은 즉시 Redis에서 제거
       * @param targets
      */
-    public FcmMetricResult sendRingingNotifications(List<RingingPushTargetDto> targets) {
+    public FcmSendResult sendRingingNotifications(List<RingingPushTargetDto> targets) {
         if (targets == null || targets.isEmpty()) {
-            return FcmMetricResult.builder()
+            return FcmSendResult.builder()
+                .successOccurrenceIds(Set.of())
+                .invalidTokens(List.of())
+                .memberToTokens(Map.of())
                 .successCount(0)
                 .failedCount(0)
                 .build();
@@ -145,9 +160,13 @@ public class FcmService {
         Map<Long, List<RingingPushTargetDto>> groupedByAlarm = targets.stream()
             .collect(Collectors.groupingBy(RingingPushTargetDto::alarmId));
 
+        Set<Long> successOccurrenceIds = new HashSet<>();
+
         int totalSuccessCount = 0
           , totalFailureCount = 0;
 
+        List<FcmBatch<RingingPushTargetDto>> batches = new ArrayList<>();
+
         for (Map.Entry<Long, List<RingingPushTargetDto>> entry : groupedByAlarm.entrySet()) {
             Long alarmId = entry.getKey();
             List<RingingPushTargetDto> group = dedupByToken(entry.getValue(), RingingPushTargetDto::token);
@@ -160,6 +179,9 @@ public class FcmService {
                 .build()
                 .toUriString();
 
+            // 같은 알람의 반복 울림 푸시는 기기에서 하나로 덮어쓰도록 collapse key 지정
+            String collapseKey = RINGING_COLLAPSE_KEY_PREFIX + alarmId;
+
             Map<String, String> data = Map.of(
                 "title", DEFAULT_TITLE,
                 "body", RINGING_BODY,
@@ -167,48 +189,54 @@ public class FcmService {
             );
 
             for (List<RingingPushTargetDto> batch : partition(group, FCM_MULTICAST_LIMIT)) {
+                List<String> tokens = batch.stream().map(RingingPushTargetDto::token).toList();
                 MulticastMessage message = MulticastMessage.builder()
-                    .addAllTokens(batch.stream().map(RingingPushTargetDto::token).toList())
+                    .addAllTokens(tokens)
                     .putAllData(data)
-                    .setAndroidConfig(buildAndroidConfig(Duration.ofSeconds(30), Priority.HIGH))
-                    .setApnsConfig(buildApnsConfigAlert(DEFAULT_TITLE, RINGING_BODY, Duration.ofSeconds(30)))
+                    .setAndroidConfig(buildAndroidConfig(Duration.ofSeconds(30), Priority.HIGH, collapseKey))
+                    .setApnsConfig(buildApnsConfigAlert(DEFAULT_TITLE, RINGING_BODY, Duration.ofSeconds(30), collapseKey))
                     .build();
 
-                try {
-                    BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
-                    log.info("알람 울림 FCM 멀티캐스트 결과: success={}, failure={}", response.getSuccessCount(), response.getFailureCount());
+                batches.add(new FcmBatch<>("alarmId=" + alarmId, batch, tokens, message));
+            }
+        }
+
+        for (FcmBatchResult<RingingPushTargetDto> result : fcmDispatcher.dispatch(batches)) {
+            log.info("알람 울림 FCM 멀티캐스트 결과: success={}, failure={}", result.successCount(), result.failureCount());
 
-                    totalSuccessCount += response.getSuccessCount();
-                    totalFailureCount += response.getFailureCount();
+            totalSuccessCount += result.successCount();
+            totalFailureCount += result.failureCount();
 
-                    handleRingingSendResult(response.getResponses(), batch);
-                } catch (FirebaseMessagingException e) {
-                    log.error("FCM 전송 실패(알람 울림)", e);
-                }
+            if (result.completed()) {
+                handleRingingSendResult(result.outcomes(), result.batch().targets(), successOccurrenceIds);
             }
         }
 
-        return FcmMetricResult.builder()
+        return FcmSendResult.builder()
+            .successOccurrenceIds(successOccurrenceIds)
+            .invalidTokens(List.of())
+            .memberToTokens(Map.of())
             .successCount(totalSuccessCount)
             .failedCount(totalFailureCount)
             .build();
     }
 
     private void handleRingingSendResult(
-        List<SendResponse> responses,
-        List<RingingPushTargetDto> batch
+        List<FcmSendOutcome> outcomes,
+        List<RingingPushTargetDto> batch,
+        Set<Long> successOccurrenceIds
     ) {
-        for (int i = 0; i < responses.size(); i++) {
-            SendResponse res = responses.get(i);
+        for (int i = 0; i < outcomes.size(); i++) {
+            FcmSendOutcome res = outcomes.get(i);
             RingingPushTargetDto dto = batch.get(i);
 
-            if (!res.isSuccessful()) {
-                Exception ex = res.getException();
-                FirebaseMessagingException fme = (ex instanceof FirebaseMessagingException) ? (FirebaseMessagingException) ex : null;
-                if (fme != null && isTokenInvalid(fme)) {
+            if (res.successful()) {
+                successOccurrenceIds.add(dto.occurrenceId());
+            } else {
+                if (isTokenInvalid(res)) {
                     redisService.removeInvalidToken(dto.memberId(), dto.token());
                 } else {
-                    log.warn("FCM 실패(알람 울림): token={}, ex={}", maskToken(dto.token()), ex != null ? ex.getClass().getSimpleName() : "null");
+                    log.warn("FCM 실패(알람 울림): token={}, ex={}", maskToken(dto.token()), res.exceptionName());
                 }
             }
         }
@@ -218,47 +246,53 @@ public class FcmService {
      * FCM 배치 전송 결과 집계
      */
     private void handleSendResult(
-        List<SendResponse> responses,
+        List<FcmSendOutcome> outcomes,
         List<PushTargetDto> batch,
         Set<Long> successOccurrenceIds,
         List<String> invalidTokens,
         Map<Long, List<String>> memberToTokens
     ) {
-        for (int i = 0; i < responses.size(); i++) {
-            SendResponse res = responses.get(i);
+        for (int i = 0; i < outcomes.size(); i++) {
+            FcmSendOutcome res = outcomes.get(i);
             PushTargetDto dto = batch.get(i);
 
-            if (res.isSuccessful()) {
+            if (res.successful()) {
                 successOccurrenceIds.add(dto.occurrenceId());
                 memberToTokens.computeIfAbsent(dto.memberId(),
                     k -> new ArrayList<>()
                 ).add(dto.token());
-            } else {
-                Exception ex = res.getException();
-                FirebaseMessagingException fme = (ex instanceof FirebaseMessagingException) ? (FirebaseMessagingException) ex : null;
-
-                if (fme != null) {
-                    log.warn("FCM 실패: token={}, error={}", dto.token(), fme.getErrorCode());
-                    if (isTokenInvalid(fme)) {
-                        invalidTokens.add(dto.token());
-                    }
-                } else {
-                    log.warn("FCM 실패(원인 미상): token={}, ex={}", dto.token(), ex != null ? ex.getClass().getSimpleName() : "null");
+            } else if (res.errorCode() != null) {
+                log.warn("FCM 실패: token={}, error={}", dto.token(), res.errorCode());
+                if (isTokenInvalid(res)) {
+                    invalidTokens.add(dto.token());
                 }
+            } else {
+                log.warn("FCM 실패(원인 미상): token={}, ex={}", dto.token(), res.exceptionName());
             }
         }
     }
 
     private AndroidConfig buildAndroidConfig(Duration ttl, Priority priority) {
+        return buildAndroidConfig(ttl, priority, null);
+    }
+
+    private AndroidConfig buildAndroidConfig(Duration ttl, Priority priority, String collapseKey) {
         AndroidConfig.Builder builder = AndroidConfig.builder().setPriority(priority);
         if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
             builder.setTtl(ttl.toMillis());
         }
+        if (collapseKey != null) {
+            builder.setCollapseKey(collapseKey);
+        }
         return builder.build();
     }
 
-    // iOS 알림(백그라운드 알림 X, UI에 표시되는 알림)
     private ApnsConfig buildApnsConfigAlert(String title, String body, Duration ttl) {
+        return buildApnsConfigAlert(title, body, ttl, null);
+    }
+
+    // iOS 알림(백그라운드 알림 X, UI에 표시되는 알림)
+    private ApnsConfig buildApnsConfigAlert(String title, String body, Duration ttl, String collapseId) {
         ApnsConfig.Builder apns = ApnsConfig.builder()
             .putHeader("apns-push-type", "alert")
             .putHeader("apns-priority", "10")
@@ -274,16 +308,15 @@ public class FcmService {
             long epochSec = (System.currentTimeMillis() + ttl.toMillis()) / 1000;
             apns.putHeader("apns-expiration", String.valueOf(epochSec));
         }
+        if (collapseId != null) {
+            apns.putHeader("apns-collapse-id", collapseId);
+        }
         return apns.build();
     }
 
-    private boolean isTokenInvalid(FirebaseMessagingException e) {
-        return List.of(
-            "registration-token-not-registered",
-            "invalid-argument",
-            "unregistered",
-            "messaging/invalid-registration-token"
-        ).contains(e.getErrorCode());
+    // 등록 말소/형식 오류 토큰만 무효 처리 (일시 장애 코드는 유지)
+    private boolean isTokenInvalid(FcmSendOutcome outcome) {
+        return outcome.errorCode() != null && INVALID_TOKEN_ERROR_CODES.contains(outcome.errorCode());
     }
 
     // 같은 FCM 토큰 중복 제거
@@ -0,0 +1,18 @@
+package akuma.whiplash.infrastructure.firebase.dto;
+
+import com.google.firebase.messaging.MulticastMessage;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 멀티캐스트 1회(최대 500 토큰) 전송 단위
+ * - targets[i]는 tokens[i]에 대응
+ */
+@Builder
+public record FcmBatch<T>(
+    String label,
+    List<T> targets,
+    List<String> tokens,
+    MulticastMessage message
+) {
+}
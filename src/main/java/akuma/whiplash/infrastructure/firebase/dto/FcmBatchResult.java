@@ -0,0 +1,24 @@
+package akuma.whiplash.infrastructure.firebase.dto;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 멀티캐스트 1회 전송 결과
+ * - completed=false 이면 배치 전체 실패(타임아웃/전송 오류), outcomes는 비어 있음
+ */
+@Builder
+public record FcmBatchResult<T>(
+    FcmBatch<T> batch,
+    List<FcmSendOutcome> outcomes,
+    boolean completed
+) {
+
+    public int successCount() {
+        return (int) outcomes.stream().filter(FcmSendOutcome::successful).count();
+    }
+
+    public int failureCount() {
+        return completed ? outcomes.size() - successCount() : batch.tokens().size();
+    }
+}
@@ -0,0 +1,28 @@
+package akuma.whiplash.infrastructure.firebase.dto;
+
+import lombok.Builder;
+
+/**
+ * 토큰 1건에 대한 FCM 전송 결과 (Firebase SendResponse를 전송 계층과 분리)
+ */
+@Builder
+public record FcmSendOutcome(
+    boolean successful,
+    String errorCode,       // MessagingErrorCode 이름 (ex: UNREGISTERED), 실패 원인 미상이면 null
+    String exceptionName
+) {
+
+    public static FcmSendOutcome success() {
+        return FcmSendOutcome.builder()
+            .successful(true)
+            .build();
+    }
+
+    public static FcmSendOutcome failure(String errorCode, String exceptionName) {
+        return FcmSendOutcome.builder()
+            .successful(false)
+            .errorCode(errorCode)
+            .exceptionName(exceptionName)
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package akuma.whiplash.infrastructure.firebase.transport;
+
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendOutcome;
+import com.google.firebase.messaging.MulticastMessage;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firebase 호출 없이 지연 시간만 흉내 내는 로컬 전송 (부하 테스트/오프라인 벤치마크용)
+ * - 모든 멀티캐스트는 fcm.fake.latency-ms 후 완료
+ * - fcm.fake.invalid-token-prefix로 시작하는 토큰은 UNREGISTERED로 실패 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "fake")
+public class FakeFcmTransport implements FcmTransport {
+
+    private static final String UNREGISTERED = "UNREGISTERED";
+
+    private final long latencyMillis;
+    private final String invalidTokenPrefix;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong sentMessages = new AtomicLong();
+
+    public FakeFcmTransport(
+        @Value("${fcm.fake.latency-ms:100}") long latencyMillis,
+        @Value("${fcm.fake.invalid-token-prefix:invalid-}") String invalidTokenPrefix
+    ) {
+        this.latencyMillis = latencyMillis;
+        this.invalidTokenPrefix = invalidTokenPrefix;
+        log.warn("FakeFcmTransport 활성화: 실제 푸시가 전송되지 않습니다. latency={}ms", latencyMillis);
+    }
+
+    @Override
+    public CompletableFuture<List<FcmSendOutcome>> sendEachForMulticastAsync(List<String> tokens, MulticastMessage message) {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+
+        CompletableFuture<List<FcmSendOutcome>> result = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            inFlight.decrementAndGet();
+            sentMessages.addAndGet(tokens.size());
+            result.complete(tokens.stream()
+                .map(token -> token.startsWith(invalidTokenPrefix)
+                    ? FcmSendOutcome.failure(UNREGISTERED, "FakeFcmTransport")
+                    : FcmSendOutcome.success())
+                .toList());
+        }, latencyMillis, TimeUnit.MILLISECONDS);
+
+        return result;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,20 @@
+package akuma.whiplash.infrastructure.firebase.transport;
+
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendOutcome;
+import com.google.firebase.messaging.MulticastMessage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * FCM 멀티캐스트 전송 계층
+ * - fcm.transport=firebase(기본): 실제 FirebaseMessaging 비동기 전송
+ * - fcm.transport=fake: 지연 시간만 흉내 내는 로컬 전송 (오프라인 처리량 측정용)
+ */
+public interface FcmTransport {
+
+    /**
+     * @param tokens  message에 담긴 토큰 목록 (결과 순서와 동일)
+     * @return 토큰 순서대로의 전송 결과
+     */
+    CompletableFuture<List<FcmSendOutcome>> sendEachForMulticastAsync(List<String> tokens, MulticastMessage message);
+}
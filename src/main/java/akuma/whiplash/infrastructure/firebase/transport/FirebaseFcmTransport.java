@@ -0,0 +1,55 @@
+package akuma.whiplash.infrastructure.firebase.transport;
+
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendOutcome;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmTransport implements FcmTransport {
+
+    @Override
+    public CompletableFuture<List<FcmSendOutcome>> sendEachForMulticastAsync(List<String> tokens, MulticastMessage message) {
+        CompletableFuture<List<FcmSendOutcome>> result = new CompletableFuture<>();
+        ApiFuture<BatchResponse> future = FirebaseMessaging.getInstance().sendEachForMulticastAsync(message);
+
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(BatchResponse response) {
+                result.complete(response.getResponses().stream()
+                    .map(FirebaseFcmTransport::toOutcome)
+                    .toList());
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+
+        return result;
+    }
+
+    private static FcmSendOutcome toOutcome(SendResponse response) {
+        if (response.isSuccessful()) {
+            return FcmSendOutcome.success();
+        }
+
+        Exception ex = response.getException();
+        if (ex instanceof FirebaseMessagingException fme && fme.getMessagingErrorCode() != null) {
+            return FcmSendOutcome.failure(fme.getMessagingErrorCode().name(), fme.getClass().getSimpleName());
+        }
+        return FcmSendOutcome.failure(null, ex != null ? ex.getClass().getSimpleName() : "null");
+    }
+}
@@ -3,10 +3,14 @@ package akuma.whiplash.infrastructure.redis;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface RedisRepository {
     void setValues(String key, String value, Duration timeout);
     Optional<String> getValues(String key);
     void deleteValues(String key);
+    void addSetValue(String key, String value, Duration timeout);
+    Set<String> getSetValues(String key);
+    void removeSetValue(String key, String value);
     List<String> getKeys(String pattern);
 }
@@ -6,13 +6,23 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * 트랜잭션 지원(MULTI)이 켜진 redisTemplate은 @Transactional 안에서 조회 명령도 큐에 쌓고 null을 반환하므로
+ * 조회는 트랜잭션에 묶이지 않는 StringRedisTemplate으로 처리한다. (ex: 로그인 트랜잭션 안의 디바이스 Set 조회)
+ */
 @Component
 @RequiredArgsConstructor
 public class RedisRepositoryImpl implements RedisRepository {
     private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final long SCAN_COUNT = 1000;
 
     @Override
     public void setValues(String key, String value, Duration timeout) {
@@ -21,7 +31,7 @@ public class RedisRepositoryImpl implements RedisRepository {
 
     @Override
     public Optional<String> getValues(String key) {
-        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(key));
     }
 
     @Override
@@ -29,9 +39,37 @@ public class RedisRepositoryImpl implements RedisRepository {
         redisTemplate.delete(key);
     }
 
+    @Override
+    public void addSetValue(String key, String value, Duration timeout) {
+        redisTemplate.opsForSet().add(key, value);
+        redisTemplate.expire(key, timeout);
+    }
+
+    @Override
+    public Set<String> getSetValues(String key) {
+        return Optional.ofNullable(stringRedisTemplate.opsForSet().members(key)).orElse(Set.of());
+    }
+
+    @Override
+    public void removeSetValue(String key, String value) {
+        redisTemplate.opsForSet().remove(key, value);
+    }
+
+    /**
+     * 패턴에 맞는 키를 커서 기반 SCAN으로 조회 (KEYS처럼 Redis 전체를 블로킹하지 않음)
+     * 키스페이스 전체를 순회하므로 요청 경로가 아닌 운영/관리 용도로만 사용
+     */
     @Override
     public List<String> getKeys(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        return keys == null ? List.of() : new ArrayList<>(keys);
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(pattern)
+            .count(SCAN_COUNT)
+            .build();
+
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
     }
 }
\ No newline at end of file
@@ -1,13 +1,26 @@
 package akuma.whiplash.infrastructure.redis;
 
+import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
+import akuma.whiplash.global.util.transaction.TransactionUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,11 +29,47 @@ public class RedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    // 울리는 중 상태가 이 시간 이상 지속되면 사용자가 방치한 알람으로 보고 푸시 대상에서 제외
+    @Value("${alarm.ringing.expire-minutes:30}")
+    private long ringingExpireMinutes;
+
+    private static final String KEY_RINGING_ALARMS = "alarm:ringing";
+    private static final String KEY_RINGING_LAST_SENT = "alarm:ringing:last-sent";
+    private static final String KEY_REMINDER_WATERMARKS = "alarm:reminder:watermark";
+
     public Set<String> getFcmTokens(Long memberId) {
         String key = "fcm:member:" + memberId;
         return Optional.ofNullable(redisTemplate.opsForSet().members(key)).orElse(Set.of());
     }
 
+    /**
+     * 여러 회원의 FCM 토큰 Set을 파이프라인으로 한 번에 조회 (회원 수와 무관하게 왕복 1회)
+     *
+     * @return memberId → 토큰 Set (토큰이 없는 회원도 빈 Set으로 포함)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Set<String>> getFcmTokensBulk(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = memberIds.stream().distinct().toList();
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : ids) {
+                connection.setCommands().sMembers(keyMemberTokens(memberId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<Long, Set<String>> tokensByMember = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            Object tokens = results.get(i);
+            tokensByMember.put(ids.get(i), tokens instanceof Set<?> set ? (Set<String>) set : Set.of());
+        }
+        return tokensByMember;
+    }
+
     public void removeInvalidToken(Long memberId, String token) {
         redisTemplate.opsForSet().remove("fcm:member:" + memberId, token);
     }
@@ -97,6 +146,132 @@ public class RedisService {
         });
     }
 
+    // ===== 울리는 중인 알람 (ZSET: member = occurrenceId:alarmId:memberId, score = 울림 시작 epoch ms) =====
+    // ===== 마지막 울림 푸시 전송 시각 (HASH: field = ZSET member, value = epoch ms) =====
+
+    /**
+     * 울리기 시작한 발생 내역을 등록한다. 이미 있으면 최초 울림 시각(score)을 유지한다.
+     */
+    public void addRingingAlarm(Long occurrenceId, Long alarmId, Long memberId, long ringStartedAtMillis) {
+        redisTemplate.opsForZSet().addIfAbsent(
+            KEY_RINGING_ALARMS, ringingMember(occurrenceId, alarmId, memberId), ringStartedAtMillis);
+    }
+
+    public void removeRingingAlarm(Long occurrenceId, Long alarmId, Long memberId) {
+        removeRingingMembers(List.of(ringingMember(occurrenceId, alarmId, memberId)));
+    }
+
+    public void removeRingingAlarms(Collection<Long> occurrenceIds, Long alarmId, Long memberId) {
+        if (occurrenceIds == null || occurrenceIds.isEmpty()) return;
+
+        removeRingingMembers(occurrenceIds.stream()
+            .map(occurrenceId -> ringingMember(occurrenceId, alarmId, memberId))
+            .toList());
+    }
+
+    /**
+     * 회원의 울리는 중인 알람을 모두 제거한다. (푸시 수신 거부, 회원 탈퇴)
+     * 울리는 중인 알람 수만큼만 순회한다.
+     * 호출부가 @Transactional이므로 커밋 후에 조회와 제거를 함께 수행한다.
+     * 조회는 읽기 전용 명령이라 트랜잭션에 묶인 MULTI 커넥션이 아닌 별도 커넥션으로 실행되고,
+     * 제거는 같은 트랜잭션의 다른 Redis 쓰기와 함께 EXEC 시점에 반영된다.
+     */
+    public void removeRingingAlarmsOfMember(Long memberId) {
+        TransactionUtil.afterCommit(() -> {
+            Set<String> members = redisTemplate.opsForZSet().range(KEY_RINGING_ALARMS, 0, -1);
+            if (members == null || members.isEmpty()) return;
+
+            String suffix = ":" + memberId;
+            removeRingingMembers(members.stream()
+                .filter(member -> member.endsWith(suffix))
+                .toList());
+        });
+    }
+
+    /**
+     * 현재 울리는 중인 알람을 울림 시작 시각, 마지막 푸시 전송 시각과 함께 조회한다.
+     * 조회 전 만료 시간이 지난(방치된) 항목을 먼저 정리하므로 비용은 실제 울리는 알람 수에 비례한다.
+     */
+    public List<RingingPushInfo> getRingingAlarms(long nowMillis) {
+        long expiredBefore = nowMillis - Duration.ofMinutes(ringingExpireMinutes).toMillis();
+        Set<String> expired = redisTemplate.opsForZSet()
+            .rangeByScore(KEY_RINGING_ALARMS, Double.NEGATIVE_INFINITY, expiredBefore);
+        if (expired != null && !expired.isEmpty()) {
+            removeRingingMembers(List.copyOf(expired));
+        }
+
+        Set<TypedTuple<String>> ringing = redisTemplate.opsForZSet().rangeWithScores(KEY_RINGING_ALARMS, 0, -1);
+        if (ringing == null || ringing.isEmpty()) {
+            return List.of();
+        }
+
+        List<TypedTuple<String>> entries = List.copyOf(ringing);
+        List<Object> fields = entries.stream().map(TypedTuple::getValue).map(Object.class::cast).toList();
+        List<Object> lastSent = redisTemplate.opsForHash().multiGet(KEY_RINGING_LAST_SENT, fields);
+
+        List<RingingPushInfo> infos = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            TypedTuple<String> entry = entries.get(i);
+            Object sentAt = lastSent.get(i);
+            infos.add(parseRingingMember(
+                entry.getValue(),
+                entry.getScore() == null ? nowMillis : entry.getScore().longValue(),
+                sentAt == null ? null : Long.parseLong(sentAt.toString())
+            ));
+        }
+        return infos;
+    }
+
+    /**
+     * 울림 푸시를 보낸 발생 내역의 마지막 전송 시각을 한 번에 기록한다.
+     */
+    public void markRingingPushSent(Collection<RingingPushInfo> infos, long sentAtMillis) {
+        if (infos == null || infos.isEmpty()) return;
+
+        Map<String, String> sentAt = new HashMap<>(infos.size() * 2);
+        String value = String.valueOf(sentAtMillis);
+        for (RingingPushInfo info : infos) {
+            sentAt.put(ringingMember(info.occurrenceId(), info.alarmId(), info.memberId()), value);
+        }
+        redisTemplate.opsForHash().putAll(KEY_RINGING_LAST_SENT, sentAt);
+    }
+
+    private void removeRingingMembers(List<String> members) {
+        if (members.isEmpty()) return;
+
+        Object[] targets = members.toArray();
+        redisTemplate.opsForZSet().remove(KEY_RINGING_ALARMS, targets);
+        redisTemplate.opsForHash().delete(KEY_RINGING_LAST_SENT, targets);
+    }
+
+    // ===== 리마인드 스캔 워터마크 (HASH: field = 스케줄러 샤드, value = 처리 완료한 마지막 알람 시각) =====
+
+    public Map<Integer, LocalDateTime> getReminderWatermarks(Collection<Integer> shards) {
+        if (shards == null || shards.isEmpty()) return Map.of();
+
+        List<Integer> shardList = List.copyOf(shards);
+        List<Object> values = redisTemplate.opsForHash().multiGet(
+            KEY_REMINDER_WATERMARKS, shardList.stream().map(String::valueOf).map(Object.class::cast).toList());
+
+        Map<Integer, LocalDateTime> watermarks = new HashMap<>(shardList.size() * 2);
+        for (int i = 0; i < shardList.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                watermarks.put(shardList.get(i), LocalDateTime.parse(value.toString()));
+            }
+        }
+        return watermarks;
+    }
+
+    public void setReminderWatermarks(Collection<Integer> shards, LocalDateTime watermark) {
+        if (shards == null || shards.isEmpty()) return;
+
+        String value = watermark.toString();
+        Map<String, String> entries = new HashMap<>(shards.size() * 2);
+        shards.forEach(shard -> entries.put(String.valueOf(shard), value));
+        redisTemplate.opsForHash().putAll(KEY_REMINDER_WATERMARKS, entries);
+    }
+
     // ===== 선택: 조회 유틸 =====
 
     public String getFcmTokenByDevice(String deviceId) {
@@ -120,4 +295,19 @@ public class RedisService {
     private String keyTokenToDevice(String token) {
         return "fcm:token:" + token + ":device";
     }
+
+    private static String ringingMember(Long occurrenceId, Long alarmId, Long memberId) {
+        return occurrenceId + ":" + alarmId + ":" + memberId;
+    }
+
+    private static RingingPushInfo parseRingingMember(String member, long ringStartedAtMillis, Long lastSentAtMillis) {
+        String[] parts = member.split(":");
+        return RingingPushInfo.builder()
+            .occurrenceId(Long.parseLong(parts[0]))
+            .alarmId(Long.parseLong(parts[1]))
+            .memberId(Long.parseLong(parts[2]))
+            .ringStartedAtMillis(ringStartedAtMillis)
+            .lastSentAtMillis(lastSentAtMillis)
+            .build();
+    }
 }
@@ -0,0 +1,197 @@
+package akuma.whiplash.infrastructure.redis;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 서버 인스턴스가 스케줄 작업 대상을 memberId 해시 샤드로 나눠 처리하도록 조율한다.
+ * - 각 노드는 heartbeat마다 노드 목록(ZSET, score = lease 만료 시각)에 자신을 갱신하고 살아있는 노드 수 N을 구함
+ * - 샤드별 lease 키(SET NX PX)로 샤드를 독점 점유하며, 노드당 ceil(shardCount / N)개까지 점유
+ * - 노드가 죽으면 lease가 만료되어 남은 노드가 다음 heartbeat에서 해당 샤드를 가져감 (rebalance)
+ * - 새 노드가 들어오면 기존 노드가 목표치를 넘는 샤드를 반납해 새 노드가 점유
+ * - coordination이 꺼져 있으면(단일 인스턴스/테스트) 모든 샤드를 소유한 것으로 동작
+ */
+@Slf4j
+@Component
+public class SchedulerShardCoordinator {
+
+    private static final String KEY_NODES = "scheduler:nodes";
+    private static final String KEY_SHARD_PREFIX = "scheduler:shard:";
+    private static final String KEY_JOB_PREFIX = "scheduler:job:";
+
+    // 내가 점유한 lease만 연장/반납 (다른 노드가 가져간 lease는 건드리지 않음)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+        Long.class
+    );
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final int shardCount;
+    private final Duration lease;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Set<Integer> allShards;
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    public SchedulerShardCoordinator(
+        RedisTemplate<String, String> redisTemplate,
+        @Value("${scheduler.coordination.enabled:true}") boolean enabled,
+        @Value("${scheduler.coordination.shard-count:16}") int shardCount,
+        @Value("${scheduler.coordination.lease-ms:15000}") long leaseMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.allShards = IntStream.range(0, shardCount).boxed().collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 노드 lease를 갱신하고 샤드 점유를 목표치에 맞춘다. lease보다 짧은 주기로 호출해야 한다.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.coordination.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!enabled) return;
+
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(KEY_NODES, nodeId, now + lease.toMillis());
+            redisTemplate.opsForZSet().removeRangeByScore(KEY_NODES, Double.NEGATIVE_INFINITY, now);
+
+            Long liveNodes = redisTemplate.opsForZSet().zCard(KEY_NODES);
+            int target = (int) Math.ceil((double) shardCount / Math.max(1L, liveNodes == null ? 1L : liveNodes));
+
+            TreeSet<Integer> owned = new TreeSet<>();
+
+            // 1. 점유 중인 샤드 연장 (다른 노드가 가져간 샤드는 제외)
+            for (Integer shard : ownedShards) {
+                if (renew(shard)) {
+                    owned.add(shard);
+                }
+            }
+
+            // 2. 목표치를 넘는 샤드 반납 (새로 들어온 노드가 가져갈 수 있도록)
+            while (owned.size() > target) {
+                Integer shard = owned.last();
+                release(shard);
+                owned.remove(shard);
+            }
+
+            // 3. 목표치까지 비어 있는 샤드 점유
+            for (int shard = 0; shard < shardCount && owned.size() < target; shard++) {
+                if (!owned.contains(shard) && acquire(shard)) {
+                    owned.add(shard);
+                }
+            }
+
+            if (!owned.equals(ownedShards)) {
+                log.info("[SchedulerShard] node={} 점유 샤드 변경: {} → {} (노드 {}개)", nodeId, ownedShards, owned, liveNodes);
+            }
+            ownedShards = Collections.unmodifiableSet(owned);
+
+        } catch (Exception e) {
+            // Redis 장애 시 점유를 비워 다른 노드와 중복 처리하지 않음 (lease 만료 후 다른 노드가 가져감)
+            log.warn("[SchedulerShard] heartbeat 실패, 점유 샤드를 비웁니다. node={}", nodeId, e);
+            ownedShards = Set.of();
+        }
+    }
+
+    /**
+     * 종료 시 점유한 샤드와 노드 lease를 바로 반납해 남은 노드가 lease 만료를 기다리지 않고 가져가게 한다.
+     */
+    @PreDestroy
+    public void leave() {
+        if (!enabled) return;
+
+        try {
+            ownedShards.forEach(this::release);
+            redisTemplate.opsForZSet().remove(KEY_NODES, nodeId);
+        } catch (Exception e) {
+            log.warn("[SchedulerShard] 종료 시 샤드 반납 실패. node={}", nodeId, e);
+        } finally {
+            ownedShards = Set.of();
+        }
+    }
+
+    /**
+     * 이 노드가 해당 회원의 샤드를 소유하고 있는지
+     */
+    public boolean ownsMember(Long memberId) {
+        if (!enabled) return true;
+        return ownedShards.contains(shardOf(memberId));
+    }
+
+    /**
+     * 이 노드가 소유한 샤드에 속한 대상만 남긴다.
+     */
+    public <T> List<T> filterOwned(List<T> targets, Function<T, Long> memberIdFn) {
+        if (!enabled) return targets;
+
+        Set<Integer> owned = ownedShards;
+        return targets.stream()
+            .filter(target -> owned.contains(shardOf(memberIdFn.apply(target))))
+            .toList();
+    }
+
+    /**
+     * 샤딩할 수 없는 단일 작업(자정 배치 등)을 한 노드만 실행하도록 실행 권한을 얻는다.
+     * 같은 runKey로는 ttl 동안 한 번만 true를 반환한다. (완료 후에도 반납하지 않아 다른 노드의 재실행을 막음)
+     */
+    public boolean tryAcquireJob(String jobName, String runKey, Duration ttl) {
+        if (!enabled) return true;
+
+        Boolean acquired = redisTemplate.opsForValue()
+            .setIfAbsent(KEY_JOB_PREFIX + jobName + ":" + runKey, nodeId, ttl);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * 이 노드가 점유한 샤드 (coordination이 꺼져 있으면 전체 샤드)
+     */
+    public Set<Integer> getOwnedShards() {
+        return enabled ? ownedShards : allShards;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int shardOf(Long memberId) {
+        return Math.floorMod(Long.hashCode(memberId), shardCount);
+    }
+
+    private boolean acquire(int shard) {
+        return Boolean.TRUE.equals(
+            redisTemplate.opsForValue().setIfAbsent(KEY_SHARD_PREFIX + shard, nodeId, lease));
+    }
+
+    private boolean renew(int shard) {
+        Long renewed = redisTemplate.execute(
+            RENEW_SCRIPT, List.of(KEY_SHARD_PREFIX + shard), nodeId, String.valueOf(lease.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    private void release(int shard) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_SHARD_PREFIX + shard), nodeId);
+    }
+}
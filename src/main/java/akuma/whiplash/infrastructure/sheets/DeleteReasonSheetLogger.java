@@ -0,0 +1,63 @@
+package akuma.whiplash.infrastructure.sheets;
+
+import akuma.whiplash.global.util.batch.BatchingWriter;
+import akuma.whiplash.global.util.batch.BatchingWriter.OverflowPolicy;
+import akuma.whiplash.global.util.transaction.TransactionUtil;
+import akuma.whiplash.infrastructure.sheets.dto.DeleteReasonRow;
+import akuma.whiplash.infrastructure.sheets.sink.DeleteReasonSink;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알람 삭제 사유를 요청 스레드와 분리해 배치로 기록하는 파이프라인
+ * - 커밋된 삭제만 대기열에 넣고, 대기열이 가득 차면 해당 행은 버리고 경고 로그 (요청 지연 방지)
+ * - 배치 수집/기록/종료 처리는 BatchingWriter가 담당
+ */
+@Component
+public class DeleteReasonSheetLogger {
+
+    private final BatchingWriter<DeleteReasonRow> writer;
+
+    public DeleteReasonSheetLogger(
+        DeleteReasonSink deleteReasonSink,
+        @Value("${sheet.delete-reason.queue-capacity:10000}") int queueCapacity,
+        @Value("${sheet.delete-reason.batch-size:100}") int batchSize,
+        @Value("${sheet.delete-reason.flush-interval-ms:5000}") long flushIntervalMillis
+    ) {
+        this.writer = new BatchingWriter<>(
+            "delete-reason", deleteReasonSink::append,
+            queueCapacity, batchSize, flushIntervalMillis, OverflowPolicy.DROP
+        );
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        writer.stop();
+    }
+
+    /**
+     * 삭제 사유를 기록 대기열에 넣는다.
+     * 트랜잭션 안에서 호출되면 커밋된 삭제만 기록되도록 커밋 이후에 넣는다.
+     */
+    public void log(String alarmPurpose, String reason) {
+        DeleteReasonRow row = DeleteReasonRow.builder()
+            .alarmPurpose(alarmPurpose)
+            .reason(reason)
+            .deletedAt(LocalDateTime.now())
+            .build();
+
+        TransactionUtil.afterCommit(() -> writer.offer(row));
+    }
+
+    public int pendingCount() {
+        return writer.pendingCount();
+    }
+}
@@ -0,0 +1,23 @@
+package akuma.whiplash.infrastructure.sheets.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 알람 삭제 사유 시트에 기록할 한 행 (알람 목적, 삭제 사유, 삭제 시각)
+ */
+@Builder
+public record DeleteReasonRow(
+    String alarmPurpose,
+    String reason,
+    LocalDateTime deletedAt
+) {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    public List<Object> toCells() {
+        return List.of(alarmPurpose, reason, deletedAt.format(FORMATTER));
+    }
+}
@@ -0,0 +1,14 @@
+package akuma.whiplash.infrastructure.sheets.sink;
+
+import akuma.whiplash.infrastructure.sheets.dto.DeleteReasonRow;
+import java.util.List;
+
+/**
+ * 삭제 사유 행을 실제 저장소에 한 번에 기록하는 출력 대상
+ * - google: Google Sheets append (운영)
+ * - file: 로컬 파일 append (테스트/로컬)
+ */
+public interface DeleteReasonSink {
+
+    void append(List<DeleteReasonRow> rows) throws Exception;
+}
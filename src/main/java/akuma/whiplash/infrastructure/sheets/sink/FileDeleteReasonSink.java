@@ -0,0 +1,48 @@
+package akuma.whiplash.infrastructure.sheets.sink;
+
+import akuma.whiplash.infrastructure.sheets.dto.DeleteReasonRow;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google Sheets 대신 로컬 파일에 탭 구분 행으로 기록하는 대체 출력 (테스트/로컬용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sheet.sink", havingValue = "file")
+public class FileDeleteReasonSink implements DeleteReasonSink {
+
+    private final Path path;
+
+    public FileDeleteReasonSink(@Value("${sheet.file.path:build/delete-reason.tsv}") String path) {
+        this.path = Path.of(path);
+        log.info("FileDeleteReasonSink 활성화: 삭제 사유를 {}에 기록합니다.", this.path.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void append(List<DeleteReasonRow> rows) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        String lines = rows.stream()
+            .map(row -> row.toCells().stream().map(String::valueOf).collect(Collectors.joining("\t")))
+            .collect(Collectors.joining(System.lineSeparator(), "", System.lineSeparator()));
+
+        Files.writeString(path, lines, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    public List<String> readLines() throws IOException {
+        return Files.exists(path) ? Files.readAllLines(path, StandardCharsets.UTF_8) : List.of();
+    }
+}
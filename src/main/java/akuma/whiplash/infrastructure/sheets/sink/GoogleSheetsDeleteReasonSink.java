@@ -0,0 +1,77 @@
+package akuma.whiplash.infrastructure.sheets.sink;
+
+import akuma.whiplash.infrastructure.sheets.dto.DeleteReasonRow;
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.SheetsScopes;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "sheet.sink", havingValue = "google", matchIfMissing = true)
+public class GoogleSheetsDeleteReasonSink implements DeleteReasonSink {
+
+    private static final String APPLICATION_NAME = "눈 떠!";
+
+    @Value("${oauth.google.sheet.id}")
+    private String spreadsheetsId;
+
+    @Value("${oauth.google.sheet.credentials-path}")
+    private String credentialsPath;
+
+    @Value("${oauth.google.sheet.range}")
+    private String sheetRange;
+
+    // 자격 증명 로딩 + HTTP 트랜스포트 생성은 최초 기록 시 한 번만 수행하고 이후 재사용
+    private volatile Sheets sheets;
+
+    @Override
+    public void append(List<DeleteReasonRow> rows) throws Exception {
+        ValueRange body = new ValueRange().setValues(
+            rows.stream().map(DeleteReasonRow::toCells).toList()
+        );
+
+        getSheets().spreadsheets().values()
+            .append(spreadsheetsId, sheetRange, body)
+            .setValueInputOption("RAW")
+            .execute();
+    }
+
+    private Sheets getSheets() throws Exception {
+        Sheets current = sheets;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (sheets == null) {
+                sheets = createSheets();
+            }
+            return sheets;
+        }
+    }
+
+    private Sheets createSheets() throws Exception {
+        try (InputStream credentials = new ClassPathResource(credentialsPath).getInputStream()) {
+            return new Sheets.Builder(
+                GoogleNetHttpTransport.newTrustedTransport(),
+                JacksonFactory.getDefaultInstance(),
+                new HttpCredentialsAdapter(
+                    ServiceAccountCredentials.fromStream(credentials)
+                        .createScoped(Collections.singleton(SheetsScopes.SPREADSHEETS))
+                )
+            )
+                .setApplicationName(APPLICATION_NAME)
+                .build();
+        }
+    }
+}
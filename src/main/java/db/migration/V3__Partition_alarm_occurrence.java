@@ -0,0 +1,79 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * alarm_occurrence를 date 기준 월별 RANGE 파티션으로 전환한다.
+ * - MySQL 파티션 테이블은 외래 키를 가질 수도, 참조될 수도 없으므로 관련 외래 키를 먼저 제거
+ *   (baseline된 기존 DB는 Hibernate가 만든 임의 이름이므로 information_schema에서 조회)
+ * - 모든 유니크 키에 파티션 컬럼이 포함되어야 하므로 PK를 (id, date)로 변경 (uk_alarm_date는 이미 포함)
+ * - 가장 오래된 데이터의 월부터 3개월 뒤까지 월별 파티션을 만들고, 나머지는 p_max가 받음
+ *   이후 파티션 추가/보관은 AlarmOccurrencePartitionScheduler가 담당
+ * 스키마 이력이므로 애플리케이션 코드에 의존하지 않고 자체적으로 완결되게 둔다.
+ */
+public class V3__Partition_alarm_occurrence extends BaseJavaMigration {
+
+    private static final int INITIAL_FUTURE_MONTHS = 3;
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        dropForeignKeys(connection);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE alarm_occurrence DROP PRIMARY KEY, ADD PRIMARY KEY (id, date)");
+            statement.execute(buildPartitionSql(findOldestMonth(connection), YearMonth.now().plusMonths(INITIAL_FUTURE_MONTHS)));
+        }
+    }
+
+    private void dropForeignKeys(Connection connection) throws SQLException {
+        List<String[]> foreignKeys = new ArrayList<>();
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                 SELECT TABLE_NAME, CONSTRAINT_NAME
+                 FROM information_schema.REFERENTIAL_CONSTRAINTS
+                 WHERE CONSTRAINT_SCHEMA = DATABASE()
+                   AND (TABLE_NAME = 'alarm_occurrence' OR REFERENCED_TABLE_NAME = 'alarm_occurrence')
+                 """)) {
+            while (rs.next()) {
+                foreignKeys.add(new String[]{rs.getString(1), rs.getString(2)});
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String[] foreignKey : foreignKeys) {
+                statement.execute("ALTER TABLE " + foreignKey[0] + " DROP FOREIGN KEY `" + foreignKey[1] + "`");
+            }
+        }
+    }
+
+    private YearMonth findOldestMonth(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(date) FROM alarm_occurrence")) {
+            Date oldest = rs.next() ? rs.getDate(1) : null;
+            return oldest == null ? YearMonth.now() : YearMonth.from(oldest.toLocalDate());
+        }
+    }
+
+    private String buildPartitionSql(YearMonth from, YearMonth to) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE alarm_occurrence PARTITION BY RANGE COLUMNS (date) (");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            sql.append("PARTITION p").append(month.format(PARTITION_SUFFIX))
+                .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("'), ");
+        }
+        return sql.append("PARTITION p_max VALUES LESS THAN (MAXVALUE))").toString();
+    }
+}
@@ -0,0 +1,61 @@
+-- 반복 요일 JSON(repeat_days) → 7비트 마스크(repeat_mask) 전환 (기존 수동 스크립트 db/alarm_repeat_mask.sql)
+-- 월=1, 화=2, 수=4, 목=8, 금=16, 토=32, 일=64
+-- 수동 스크립트를 이미 적용한 DB에서도 실행될 수 있으므로 컬럼/인덱스가 없을 때만 추가하고,
+-- 백필은 이번에 컬럼을 추가한 경우에만 수행한다. (이미 전환된 DB의 repeat_days는 더 이상 갱신되지 않는 값)
+
+-- 1. 컬럼 추가
+SET @alarm_mask_missing = (
+    SELECT COUNT(*) = 0 FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'alarm' AND COLUMN_NAME = 'repeat_mask'
+);
+SET @ddl = IF(@alarm_mask_missing,
+    'ALTER TABLE alarm ADD COLUMN repeat_mask TINYINT UNSIGNED NOT NULL DEFAULT 0 AFTER time',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @deleted_alarm_mask_missing = (
+    SELECT COUNT(*) = 0 FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'deleted_alarm' AND COLUMN_NAME = 'repeat_mask'
+);
+SET @ddl = IF(@deleted_alarm_mask_missing,
+    'ALTER TABLE deleted_alarm ADD COLUMN repeat_mask TINYINT UNSIGNED NOT NULL DEFAULT 0 AFTER time',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. 기존 데이터 백필
+UPDATE alarm
+SET repeat_mask = (IF(repeat_days LIKE '%"MONDAY"%', 1, 0)
+                 | IF(repeat_days LIKE '%"TUESDAY"%', 2, 0)
+                 | IF(repeat_days LIKE '%"WEDNESDAY"%', 4, 0)
+                 | IF(repeat_days LIKE '%"THURSDAY"%', 8, 0)
+                 | IF(repeat_days LIKE '%"FRIDAY"%', 16, 0)
+                 | IF(repeat_days LIKE '%"SATURDAY"%', 32, 0)
+                 | IF(repeat_days LIKE '%"SUNDAY"%', 64, 0))
+WHERE @alarm_mask_missing;
+
+UPDATE deleted_alarm
+SET repeat_mask = (IF(repeat_days LIKE '%"MONDAY"%', 1, 0)
+                 | IF(repeat_days LIKE '%"TUESDAY"%', 2, 0)
+                 | IF(repeat_days LIKE '%"WEDNESDAY"%', 4, 0)
+                 | IF(repeat_days LIKE '%"THURSDAY"%', 8, 0)
+                 | IF(repeat_days LIKE '%"FRIDAY"%', 16, 0)
+                 | IF(repeat_days LIKE '%"SATURDAY"%', 32, 0)
+                 | IF(repeat_days LIKE '%"SUNDAY"%', 64, 0))
+WHERE @deleted_alarm_mask_missing;
+
+-- 3. 요일별 알람 조회 인덱스: repeat_mask = ? AND id > ? ORDER BY id (커버링)
+SET @ddl = IF((
+    SELECT COUNT(*) = 0 FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'alarm' AND INDEX_NAME = 'idx_alarm_repeat_mask_id'
+), 'CREATE INDEX idx_alarm_repeat_mask_id ON alarm (repeat_mask, id, time)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4. 기존 JSON 컬럼은 롤백 대비로 남겨두되 더 이상 쓰지 않으므로 NULL 허용 (반복 실행해도 결과가 같음)
+ALTER TABLE alarm MODIFY COLUMN repeat_days TEXT NULL;
+ALTER TABLE deleted_alarm MODIFY COLUMN repeat_days TEXT NULL;
@@ -0,0 +1,23 @@
+-- 푸시 전송 아웃박스 (기존 수동 스크립트 db/push_outbox.sql)
+-- 수동 스크립트를 이미 적용한 DB에서도 실행될 수 있으므로 없을 때만 생성
+
+CREATE TABLE IF NOT EXISTS push_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    dedup_key       VARCHAR(100) NOT NULL,
+    type            VARCHAR(20)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    occurrence_id   BIGINT       NOT NULL,
+    alarm_id        BIGINT       NULL,
+    member_id       BIGINT       NOT NULL,
+    address         VARCHAR(255) NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(255) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_push_outbox_dedup_key (dedup_key),
+    -- 점유 쿼리: status IN (...) AND next_attempt_at <= ? ORDER BY next_attempt_at
+    KEY idx_push_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
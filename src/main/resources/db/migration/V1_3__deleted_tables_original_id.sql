@@ -0,0 +1,43 @@
+-- 보관 테이블(deleted_*)의 original_id 유니크 키
+-- ProdArchiveService의 중복 보관 확인(NOT EXISTS ... original_id = ?)을 인덱스로 처리하고, 중복 보관을 DB에서도 막음
+-- 키가 이미 있는 DB에서도 실행될 수 있으므로 없을 때만 추가
+
+SET @ddl = IF((
+    SELECT COUNT(*) = 0 FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'deleted_member' AND INDEX_NAME = 'uk_deleted_member_original_id'
+), 'ALTER TABLE deleted_member ADD UNIQUE KEY uk_deleted_member_original_id (original_id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((
+    SELECT COUNT(*) = 0 FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'deleted_alarm' AND INDEX_NAME = 'uk_deleted_alarm_original_id'
+), 'ALTER TABLE deleted_alarm ADD UNIQUE KEY uk_deleted_alarm_original_id (original_id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((
+    SELECT COUNT(*) = 0 FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'deleted_alarm_occurrence' AND INDEX_NAME = 'uk_deleted_alarm_occurrence_original_id'
+), 'ALTER TABLE deleted_alarm_occurrence ADD UNIQUE KEY uk_deleted_alarm_occurrence_original_id (original_id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((
+    SELECT COUNT(*) = 0 FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'deleted_alarm_ringing_log' AND INDEX_NAME = 'uk_deleted_alarm_ringing_log_original_id'
+), 'ALTER TABLE deleted_alarm_ringing_log ADD UNIQUE KEY uk_deleted_alarm_ringing_log_original_id (original_id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((
+    SELECT COUNT(*) = 0 FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'deleted_alarm_off_log' AND INDEX_NAME = 'uk_deleted_alarm_off_log_original_id'
+), 'ALTER TABLE deleted_alarm_off_log ADD UNIQUE KEY uk_deleted_alarm_off_log_original_id (original_id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
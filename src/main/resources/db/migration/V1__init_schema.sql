@@ -0,0 +1,152 @@
+-- 초기 스키마 (Flyway 도입 이전, 수동 스크립트 적용 전의 운영 스키마)
+-- 기존 운영/개발 DB는 이 버전으로 baseline 처리되어 실행되지 않고, 빈 DB에서만 실행된다.
+-- 이후 변경(repeat_mask 전환, push_outbox, 보관 테이블 키 등)은 모두 V1_1 이후 버전에서 적용한다.
+
+CREATE TABLE member (
+    id                       BIGINT       NOT NULL AUTO_INCREMENT,
+    social_id                VARCHAR(255) NOT NULL,
+    email                    VARCHAR(50)  NOT NULL,
+    nickname                 VARCHAR(50)  NOT NULL,
+    role                     VARCHAR(20)  NULL,
+    privacy_policy           BIT(1)       NOT NULL,
+    push_notification_policy BIT(1)       NOT NULL,
+    privacy_agreed_at        DATETIME(6)  NOT NULL,
+    push_agreed_at           DATETIME(6)  NOT NULL,
+    created_at               DATETIME(6)  NOT NULL,
+    updated_at               DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_member_social_id (social_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE alarm (
+    id            BIGINT           NOT NULL AUTO_INCREMENT,
+    member_id     BIGINT           NOT NULL,
+    alarm_purpose VARCHAR(50)      NOT NULL,
+    time          TIME             NOT NULL,
+    repeat_days   TEXT             NOT NULL,
+    sound_type    VARCHAR(20)      NOT NULL,
+    latitude      DOUBLE           NOT NULL,
+    longitude     DOUBLE           NOT NULL,
+    address       VARCHAR(50)      NOT NULL,
+    created_at    DATETIME(6)      NOT NULL,
+    updated_at    DATETIME(6)      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_alarm_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE alarm_occurrence (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    alarm_id        BIGINT      NOT NULL,
+    date            DATE        NOT NULL,
+    time            TIME        NOT NULL,
+    deactivate_type VARCHAR(20) NOT NULL,
+    deactivated_at  DATETIME(6) NULL,
+    checkin_time    DATETIME(6) NULL,
+    alarm_ringing   BIT(1)      NOT NULL,
+    ringing_count   INT         NOT NULL,
+    reminder_sent   BIT(1)      NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_alarm_date (alarm_id, date),
+    CONSTRAINT fk_alarm_occurrence_alarm FOREIGN KEY (alarm_id) REFERENCES alarm (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE alarm_ringing_log (
+    id                  BIGINT      NOT NULL AUTO_INCREMENT,
+    alarm_occurrence_id BIGINT      NOT NULL,
+    ring_index          INT         NOT NULL,
+    ringed_at           DATETIME(6) NULL,
+    created_at          DATETIME(6) NOT NULL,
+    updated_at          DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_alarm_ringing_log_occurrence FOREIGN KEY (alarm_occurrence_id) REFERENCES alarm_occurrence (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE alarm_off_log (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    alarm_id   BIGINT      NOT NULL,
+    member_id  BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_alarm_off_log_alarm FOREIGN KEY (alarm_id) REFERENCES alarm (id),
+    CONSTRAINT fk_alarm_off_log_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 회원 탈퇴/알람 삭제 시 보관 테이블 (ProdArchiveService)
+
+CREATE TABLE deleted_member (
+    id                       BIGINT       NOT NULL AUTO_INCREMENT,
+    original_id              BIGINT       NOT NULL,
+    social_id                VARCHAR(255) NOT NULL,
+    email                    VARCHAR(50)  NOT NULL,
+    nickname                 VARCHAR(50)  NOT NULL,
+    role                     VARCHAR(20)  NULL,
+    privacy_policy           BIT(1)       NOT NULL,
+    push_notification_policy BIT(1)       NOT NULL,
+    privacy_agreed_at        DATETIME(6)  NOT NULL,
+    push_agreed_at           DATETIME(6)  NOT NULL,
+    created_at               DATETIME(6)  NOT NULL,
+    updated_at               DATETIME(6)  NOT NULL,
+    deleted_at               DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE deleted_alarm (
+    id            BIGINT           NOT NULL AUTO_INCREMENT,
+    original_id   BIGINT           NOT NULL,
+    member_id     BIGINT           NOT NULL,
+    alarm_purpose VARCHAR(50)      NOT NULL,
+    time          TIME             NOT NULL,
+    repeat_days   TEXT             NOT NULL,
+    sound_type    VARCHAR(20)      NOT NULL,
+    latitude      DOUBLE           NOT NULL,
+    longitude     DOUBLE           NOT NULL,
+    address       VARCHAR(50)      NOT NULL,
+    created_at    DATETIME(6)      NOT NULL,
+    updated_at    DATETIME(6)      NOT NULL,
+    deleted_at    DATETIME(6)      NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE deleted_alarm_occurrence (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    original_id     BIGINT      NOT NULL,
+    alarm_id        BIGINT      NOT NULL,
+    date            DATE        NOT NULL,
+    time            TIME        NOT NULL,
+    deactivate_type VARCHAR(20) NOT NULL,
+    deactivated_at  DATETIME(6) NULL,
+    checkin_time    DATETIME(6) NULL,
+    alarm_ringing   BIT(1)      NOT NULL,
+    ringing_count   INT         NOT NULL,
+    reminder_sent   BIT(1)      NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    deleted_at      DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE deleted_alarm_ringing_log (
+    id                  BIGINT      NOT NULL AUTO_INCREMENT,
+    original_id         BIGINT      NOT NULL,
+    alarm_occurrence_id BIGINT      NOT NULL,
+    ring_index          INT         NOT NULL,
+    ringed_at           DATETIME(6) NULL,
+    created_at          DATETIME(6) NOT NULL,
+    updated_at          DATETIME(6) NOT NULL,
+    deleted_at          DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE deleted_alarm_off_log (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    original_id BIGINT      NOT NULL,
+    alarm_id    BIGINT      NOT NULL,
+    member_id   BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    deleted_at  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
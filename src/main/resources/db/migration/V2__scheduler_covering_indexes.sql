@@ -0,0 +1,17 @@
+-- 스케줄러/조회 핫 쿼리용 커버링 인덱스
+
+-- 리마인드 인덱스 적재 대상 조회 (findReminderIndexTargets, findReminderIndexTargetsByMemberId)
+-- date = ? AND deactivate_type = ? AND reminder_sent = false → time 순으로 읽으며 alarm_id로 alarm 조인
+-- 등치 조건 컬럼을 앞에, 발생 시각(time)을 뒤에 두고 조인 키(alarm_id)까지 포함해 테이블 접근 없이 처리
+CREATE INDEX idx_alarm_occurrence_reminder
+    ON alarm_occurrence (date, deactivate_type, reminder_sent, time, alarm_id);
+
+-- 알람별 최근 OFF/CHECKIN 발생 내역 (findTopByAlarmIdAndDeactivateTypeInOrderByDateDescTimeDesc, findLatestDeactivatedByMemberId)
+-- alarm_id = ? 구간을 (date, time) 역순으로 읽으며 deactivate_type을 인덱스에서 거르므로 filesort 없이 첫 행에서 종료
+CREATE INDEX idx_alarm_occurrence_alarm_latest
+    ON alarm_occurrence (alarm_id, date, time, deactivate_type);
+
+-- 주간 알람 OFF 횟수 (countByMemberIdAndCreatedAtBetween)
+-- member_id = ? AND created_at BETWEEN ? AND ? 를 인덱스 범위 스캔만으로 카운트
+CREATE INDEX idx_alarm_off_log_member_created
+    ON alarm_off_log (member_id, created_at);
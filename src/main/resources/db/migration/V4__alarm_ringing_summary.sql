@@ -0,0 +1,31 @@
+-- 울림 기록 롤업: retention-days보다 오래된 alarm_ringing_log를 발생 내역별 한 행으로 압축
+-- 울림 시각 = first_ringed_at + gap_micros 누적합 (gap_micros: 연속 울림 간격(μs)의 콤마 구분 배열)
+
+CREATE TABLE alarm_ringing_summary (
+    occurrence_id   BIGINT      NOT NULL,
+    first_ringed_at DATETIME(6) NOT NULL,
+    last_ringed_at  DATETIME(6) NOT NULL,
+    ring_count      INT         NOT NULL,
+    gap_micros      TEXT        NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (occurrence_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE deleted_alarm_ringing_summary (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    original_id     BIGINT      NOT NULL, -- occurrence_id
+    first_ringed_at DATETIME(6) NOT NULL,
+    last_ringed_at  DATETIME(6) NOT NULL,
+    ring_count      INT         NOT NULL,
+    gap_micros      TEXT        NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    deleted_at      DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_deleted_alarm_ringing_summary_original_id (original_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 압축 대상 조회/삭제: alarm_occurrence_id > ? AND ringed_at < ? (발생 내역 keyset 순회)
+CREATE INDEX idx_alarm_ringing_log_occurrence_ringed
+    ON alarm_ringing_log (alarm_occurrence_id, ringed_at);
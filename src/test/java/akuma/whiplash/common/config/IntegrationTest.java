@@ -13,7 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 @Transactional // 각 테스트 메서드 종료 시 롤백
-@SpringBootTest
+@SpringBootTest(
+    properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+    }
+)
 @ActiveProfiles("test")
 @ContextConfiguration(initializers = {
     MySQLContainerInitializer.class,
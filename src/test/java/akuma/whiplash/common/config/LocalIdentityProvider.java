@@ -0,0 +1,134 @@
+package akuma.whiplash.common.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * 소셜 로그인 테스트용 로컬 IdP
+ * - /keys 에서 공개키 목록(JWKS)을 제공하고, 현재 서명키로 ID 토큰을 발급
+ * - rotateKey()로 키 교체(새 키 공개 후 새 키로 서명)를 흉내냄
+ */
+public class LocalIdentityProvider implements AutoCloseable {
+
+    private static final String JWKS_PATH = "/keys";
+
+    private final MockWebServer server = new MockWebServer();
+    private final List<RSAKey> publishedKeys = new CopyOnWriteArrayList<>();
+    private final AtomicInteger jwksRequestCount = new AtomicInteger();
+    private volatile RSAKey signingKey;
+
+    public LocalIdentityProvider() {
+        rotateKey();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (!JWKS_PATH.equals(request.getPath())) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                jwksRequestCount.incrementAndGet();
+                List<JWK> publicKeys = publishedKeys.stream().map(key -> (JWK) key.toPublicJWK()).toList();
+                return new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(new JWKSet(publicKeys).toString());
+            }
+        });
+    }
+
+    public String jwksUri() {
+        return server.url(JWKS_PATH).toString();
+    }
+
+    public int jwksRequestCount() {
+        return jwksRequestCount.get();
+    }
+
+    /**
+     * 새 서명키를 만들어 공개하고 이후 발급하는 토큰에 사용 (기존 키도 계속 공개)
+     */
+    public void rotateKey() {
+        signingKey = generateKey();
+        publishedKeys.add(signingKey);
+    }
+
+    /**
+     * 기본 클레임(iss, aud, sub, 10분 뒤 만료)
+     */
+    public JWTClaimsSet.Builder claims(String issuer, String audience, String subject) {
+        Instant now = Instant.now();
+        return new JWTClaimsSet.Builder()
+            .issuer(issuer)
+            .audience(audience)
+            .subject(subject)
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(Duration.ofMinutes(10))));
+    }
+
+    public String issue(JWTClaimsSet claims) {
+        return sign(claims, signingKey);
+    }
+
+    /**
+     * 공개하지 않은 키로 서명한 토큰 (알 수 없는 kid)
+     */
+    public String issueWithUnpublishedKey(JWTClaimsSet claims) {
+        return sign(claims, generateKey());
+    }
+
+    /**
+     * 공개된 kid를 쓰지만 다른 키로 서명한 토큰 (서명 위조)
+     */
+    public String issueForgedSignature(JWTClaimsSet claims) {
+        RSAKey forger = generateKey();
+        RSAKey impersonated = new RSAKey.Builder(forger).keyID(signingKey.getKeyID()).build();
+        return sign(claims, impersonated);
+    }
+
+    private String sign(JWTClaimsSet claims, RSAKey key) {
+        try {
+            SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+            jwt.sign(new RSASSASigner(key));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048)
+                .keyID(UUID.randomUUID().toString())
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256)
+                .generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+}
@@ -16,7 +16,9 @@ import org.springframework.test.context.ContextConfiguration;
 @ActiveProfiles("test")
 @DataJpaTest(
     properties = {
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        // 운영과 같은 스키마(Flyway 마이그레이션)로 검증
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
     }
 )
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -0,0 +1,173 @@
+package akuma.whiplash.domains.alarm.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
+import akuma.whiplash.domains.alarm.domain.service.AlarmCommandService;
+import akuma.whiplash.domains.alarm.domain.service.PreAlarmReminderIndex;
+import akuma.whiplash.infrastructure.redis.RedisService;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("AlarmReminderScheduler Unit Test")
+@ExtendWith(MockitoExtension.class)
+class AlarmReminderSchedulerTest {
+
+    @Mock private PreAlarmReminderIndex preAlarmReminderIndex;
+    @Mock private AlarmCommandService alarmCommandService;
+    @Mock private SchedulerShardCoordinator schedulerShardCoordinator;
+    @Mock private RedisService redisService;
+
+    @InjectMocks private AlarmReminderScheduler alarmReminderScheduler;
+
+    private static final Set<Integer> SHARDS = Set.of(0);
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+    private OccurrencePushInfo info(Long occurrenceId, LocalDateTime alarmAt) {
+        return OccurrencePushInfo.builder()
+            .occurrenceId(occurrenceId)
+            .memberId(1L)
+            .address("서울시 중구")
+            .alarmAt(alarmAt)
+            .build();
+    }
+
+    private void givenWatermark(LocalDateTime watermark) {
+        given(schedulerShardCoordinator.getOwnedShards()).willReturn(SHARDS);
+        given(redisService.getReminderWatermarks(SHARDS))
+            .willReturn(watermark == null ? Map.of() : Map.of(0, watermark));
+    }
+
+    @Nested
+    @DisplayName("sendPreAlarmNotifications - 워터마크 기반 리마인드 스캔")
+    class SendPreAlarmNotificationsTest {
+
+        @Test
+        @DisplayName("성공: 워터마크 다음 분부터 now+60분까지만 조회하고 워터마크를 now+60분으로 전진한다")
+        void success_incremental() {
+            // given
+            LocalDateTime watermark = now.plusMinutes(58);
+            givenWatermark(watermark);
+            given(preAlarmReminderIndex.getTargets(anyInt(), any(), any())).willReturn(List.of());
+
+            // when
+            alarmReminderScheduler.sendPreAlarmNotifications();
+
+            // then
+            ArgumentCaptor<LocalDateTime> start = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> end = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(preAlarmReminderIndex).getTargets(eq(0), start.capture(), end.capture());
+
+            assertThat(start.getValue()).isEqualTo(watermark.plusMinutes(1));
+            verify(redisService).setReminderWatermarks(SHARDS, end.getValue());
+        }
+
+        @Test
+        @DisplayName("성공: 워터마크가 없으면 now+60분 한 분만 조회한다")
+        void success_noWatermark() {
+            // given
+            givenWatermark(null);
+            given(preAlarmReminderIndex.getTargets(anyInt(), any(), any())).willReturn(List.of());
+
+            // when
+            alarmReminderScheduler.sendPreAlarmNotifications();
+
+            // then
+            ArgumentCaptor<LocalDateTime> start = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> end = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(preAlarmReminderIndex).getTargets(eq(0), start.capture(), end.capture());
+
+            assertThat(start.getValue()).isEqualTo(end.getValue());
+        }
+
+        @Test
+        @DisplayName("성공: 밀린 틱은 한 번에 따라잡되, 이미 울릴 시각이 지난 알람은 조회하지 않는다")
+        void success_catchUp() {
+            // given
+            givenWatermark(now.minusMinutes(30));
+            given(preAlarmReminderIndex.getTargets(anyInt(), any(), any())).willReturn(List.of());
+
+            // when
+            alarmReminderScheduler.sendPreAlarmNotifications();
+
+            // then
+            ArgumentCaptor<LocalDateTime> start = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> end = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(preAlarmReminderIndex).getTargets(eq(0), start.capture(), end.capture());
+
+            assertThat(start.getValue()).isEqualTo(end.getValue().minusMinutes(59));
+        }
+
+        @Test
+        @DisplayName("성공: 조회 구간의 대상을 적재한다")
+        void success_enqueue() {
+            // given
+            LocalDateTime watermark = now.plusMinutes(58);
+            givenWatermark(watermark);
+            given(preAlarmReminderIndex.getTargets(eq(0), any(), any()))
+                .willReturn(List.of(info(2L, watermark.plusMinutes(1))));
+            given(alarmCommandService.enqueueReminderPushes(anyList())).willReturn(1);
+
+            // when
+            alarmReminderScheduler.sendPreAlarmNotifications();
+
+            // then
+            verify(alarmCommandService).enqueueReminderPushes(List.of(info(2L, watermark.plusMinutes(1))));
+        }
+
+        @Test
+        @DisplayName("성공: 샤드마다 자신의 워터마크 다음 분부터 조회하고, 따라잡은 샤드는 조회하지 않는다")
+        void success_perShardWatermark() {
+            // given
+            Set<Integer> shards = Set.of(0, 1, 2);
+            LocalDateTime windowEnd = now.plusMinutes(60);
+            given(schedulerShardCoordinator.getOwnedShards()).willReturn(shards);
+            given(redisService.getReminderWatermarks(shards))
+                .willReturn(Map.of(0, windowEnd.minusMinutes(3), 1, windowEnd));
+            given(preAlarmReminderIndex.getTargets(anyInt(), any(), any())).willReturn(List.of());
+
+            // when
+            alarmReminderScheduler.sendPreAlarmNotifications();
+
+            // then
+            verify(preAlarmReminderIndex).getTargets(0, windowEnd.minusMinutes(2), windowEnd);
+            verify(preAlarmReminderIndex, never()).getTargets(eq(1), any(), any());
+            verify(preAlarmReminderIndex).getTargets(2, windowEnd, windowEnd);
+            verify(redisService).setReminderWatermarks(shards, windowEnd);
+        }
+
+        @Test
+        @DisplayName("성공: 워터마크가 이미 now+60분이면 조회하지 않는다")
+        void success_upToDate() {
+            // given
+            givenWatermark(now.plusMinutes(120));
+
+            // when
+            alarmReminderScheduler.sendPreAlarmNotifications();
+
+            // then
+            verify(preAlarmReminderIndex, never()).getTargets(anyInt(), any(), any());
+            verify(redisService, never()).setReminderWatermarks(eq(SHARDS), any());
+        }
+    }
+}
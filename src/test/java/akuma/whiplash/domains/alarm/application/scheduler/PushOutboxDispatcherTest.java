@@ -0,0 +1,149 @@
+package akuma.whiplash.domains.alarm.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.PushOutboxMessage;
+import akuma.whiplash.domains.alarm.domain.constant.PushType;
+import akuma.whiplash.domains.alarm.persistence.repository.PushOutboxRepository;
+import akuma.whiplash.infrastructure.firebase.FcmService;
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendResult;
+import akuma.whiplash.infrastructure.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("PushOutboxDispatcher Unit Test")
+@ExtendWith(MockitoExtension.class)
+class PushOutboxDispatcherTest {
+
+    @Mock private PushOutboxRepository pushOutboxRepository;
+    @Mock private RedisService redisService;
+    @Mock private FcmService fcmService;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private PushOutboxDispatcher pushOutboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // 재시도: 5초부터 2배씩, 최대 60초, 최대 3회
+        pushOutboxDispatcher = new PushOutboxDispatcher(
+            pushOutboxRepository, redisService, fcmService, transactionTemplate, new SimpleMeterRegistry(),
+            false, 1, 100, 500, 60, 5, 60, 3
+        );
+        pushOutboxDispatcher.start();
+    }
+
+    private PushOutboxMessage reminder(Long id, int attempts) {
+        return PushOutboxMessage.builder()
+            .id(id)
+            .dedupKey(PushType.REMINDER.name() + ":" + id)
+            .type(PushType.REMINDER)
+            .occurrenceId(id)
+            .memberId(id)
+            .address("서울시 중구")
+            .attempts(attempts)
+            .expiresAt(LocalDateTime.now().plusHours(1))
+            .build();
+    }
+
+    private FcmSendResult result(Set<Long> successOccurrenceIds) {
+        return FcmSendResult.builder()
+            .successOccurrenceIds(successOccurrenceIds)
+            .invalidTokens(List.of())
+            .memberToTokens(Map.of())
+            .successCount(successOccurrenceIds.size())
+            .failedCount(0)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenClaimed(List<PushOutboxMessage> claimed) {
+        given(transactionTemplate.execute(any())).willAnswer(
+            invocation -> ((TransactionCallback<List<PushOutboxMessage>>) invocation.getArgument(0)).doInTransaction(null));
+        given(pushOutboxRepository.claim(any(), any(), anyInt())).willReturn(claimed);
+    }
+
+    @Nested
+    @DisplayName("dispatchOnce - 점유한 푸시 전송")
+    class DispatchOnceTest {
+
+        @Test
+        @DisplayName("성공: 전송 성공했거나 토큰이 없는 푸시는 삭제하고, 실패한 푸시는 재시도 예약한다")
+        @SuppressWarnings("unchecked")
+        void success() {
+            // given
+            givenClaimed(List.of(reminder(1L, 0), reminder(2L, 0), reminder(3L, 0)));
+            given(redisService.getFcmTokensBulk(anyList())).willReturn(Map.of(
+                1L, Set.of("token1"),
+                2L, Set.of("token2"),
+                3L, Set.of()
+            ));
+            given(fcmService.sendBulkNotification(anyList())).willReturn(result(Set.of(1L)));
+
+            // when
+            int dispatched = pushOutboxDispatcher.dispatchOnce();
+
+            // then
+            assertThat(dispatched).isEqualTo(3);
+
+            ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+            verify(pushOutboxRepository).deleteAll(deleted.capture());
+            assertThat(deleted.getValue()).containsExactlyInAnyOrder(1L, 3L);
+
+            ArgumentCaptor<Map<PushOutboxMessage, LocalDateTime>> rescheduled = ArgumentCaptor.forClass(Map.class);
+            verify(pushOutboxRepository).reschedule(rescheduled.capture(), anyString(), any());
+            assertThat(rescheduled.getValue().keySet()).extracting(PushOutboxMessage::id).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("성공: 최대 시도 횟수에 도달한 푸시는 DEAD 처리한다")
+        void success_dead() {
+            // given
+            givenClaimed(List.of(reminder(1L, 2)));
+            given(redisService.getFcmTokensBulk(anyList())).willReturn(Map.of(1L, Set.of("token1")));
+            given(fcmService.sendBulkNotification(anyList())).willThrow(new IllegalStateException("FCM 장애"));
+
+            // when
+            pushOutboxDispatcher.dispatchOnce();
+
+            // then
+            verify(pushOutboxRepository).markDead(eq(List.of(1L)), anyString(), any());
+            verify(pushOutboxRepository).reschedule(eq(Map.of()), anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("nextAttemptAt - 재시도 지수 백오프")
+    class NextAttemptAtTest {
+
+        @Test
+        @DisplayName("성공: 실패할 때마다 대기 시간이 2배로 늘어나고 최대 대기 시간을 넘지 않는다")
+        void success() {
+            LocalDateTime now = LocalDateTime.of(2025, 8, 27, 7, 0);
+
+            assertThat(pushOutboxDispatcher.nextAttemptAt(1, now)).isEqualTo(now.plusSeconds(5));
+            assertThat(pushOutboxDispatcher.nextAttemptAt(2, now)).isEqualTo(now.plusSeconds(10));
+            assertThat(pushOutboxDispatcher.nextAttemptAt(3, now)).isEqualTo(now.plusSeconds(20));
+            assertThat(pushOutboxDispatcher.nextAttemptAt(10, now)).isEqualTo(now.plusSeconds(60));
+        }
+    }
+}
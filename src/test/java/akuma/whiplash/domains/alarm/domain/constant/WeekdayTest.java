@@ -0,0 +1,64 @@
+package akuma.whiplash.domains.alarm.domain.constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.global.util.date.DateUtil;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("Weekday - 반복 요일 비트마스크 변환")
+class WeekdayTest {
+
+    @Test
+    @DisplayName("반복 요일 목록을 마스크로 변환한 뒤 다시 목록으로 복원하면 원래 요일과 같다")
+    void maskRoundTrip() {
+        // given
+        List<Weekday> weekdays = List.of(Weekday.MONDAY, Weekday.WEDNESDAY, Weekday.SUNDAY);
+
+        // when
+        int mask = Weekday.toMask(weekdays);
+
+        // then
+        assertThat(mask).isEqualTo(1 | 4 | 64);
+        assertThat(Weekday.fromMask(mask)).containsExactlyElementsOf(weekdays);
+    }
+
+    @Test
+    @DisplayName("특정 요일을 포함하는 마스크는 64가지이며 모두 해당 요일 비트가 켜져 있다")
+    void masksContaining() {
+        // given
+        DayOfWeek dayOfWeek = DayOfWeek.FRIDAY;
+
+        // when
+        List<Integer> masks = Weekday.masksContaining(dayOfWeek);
+
+        // then
+        assertThat(masks).hasSize(64)
+            .allMatch(mask -> (mask & Weekday.FRIDAY.getBit()) != 0);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        // 기준일 2025-08-27(수), 월·금 반복
+        "2025-08-27,17,2025-08-29",
+        // 기준일 당일이 반복 요일이면 당일
+        "2025-08-29,17,2025-08-29",
+        // 주말을 넘어 다음 주 월요일
+        "2025-08-30,17,2025-09-01",
+        // 일요일만 반복
+        "2025-08-25,64,2025-08-31"
+    })
+    @DisplayName("마스크 기준으로 기준일부터 가장 가까운 알람 발생일을 계산한다")
+    void nextOccurrenceDate(LocalDate fromDate, int repeatMask, LocalDate expected) {
+        // when
+        LocalDate result = DateUtil.getNextOccurrenceDate(repeatMask, fromDate);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+}
@@ -8,9 +8,11 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import akuma.whiplash.common.fixture.AlarmFixture;
 import akuma.whiplash.common.fixture.MemberFixture;
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
 import akuma.whiplash.domains.alarm.application.dto.request.AlarmCheckinRequest;
 import akuma.whiplash.domains.alarm.application.dto.request.AlarmRegisterRequest;
 import akuma.whiplash.domains.alarm.application.dto.response.AlarmOffResultResponse;
@@ -22,25 +24,33 @@ import akuma.whiplash.domains.alarm.exception.AlarmErrorCode;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmOffLogEntity;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrencePartitionRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogRepository;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingSummaryRepository;
 import akuma.whiplash.domains.auth.exception.AuthErrorCode;
 import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
 import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
 import akuma.whiplash.global.exception.ApplicationException;
+import akuma.whiplash.global.service.ArchiveService;
+import akuma.whiplash.infrastructure.redis.RedisService;
+import akuma.whiplash.infrastructure.sheets.DeleteReasonSheetLogger;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -56,11 +66,29 @@ class AlarmCommandServiceTest {
     @Mock
     private AlarmOccurrenceRepository alarmOccurrenceRepository;
     @Mock
+    private AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
+    @Mock
     private AlarmOffLogRepository alarmOffLogRepository;
     @Mock
     private AlarmRingingLogRepository alarmRingingLogRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private PreAlarmReminderIndex preAlarmReminderIndex;
+    @Mock
+    private DeleteReasonSheetLogger deleteReasonSheetLogger;
+    @Mock
+    private ArchiveService archiveService;
+    @Mock
+    private RedisService redisService;
+    @Mock
+    private PushOutboxService pushOutboxService;
+    @Mock
+    private AlarmRingingLogBuffer alarmRingingLogBuffer;
+    @Mock
+    private AlarmRingingSummaryRepository alarmRingingSummaryRepository;
+    @Mock
+    private WeeklyOffCounter weeklyOffCounter;
 
     @InjectMocks
     private AlarmCommandServiceImpl alarmCommandService;
@@ -306,8 +334,7 @@ class AlarmCommandServiceTest {
             try (MockedStatic<LocalDateTime> mocked = Mockito.mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
                 mocked.when(LocalDateTime::now).thenReturn(now);
                 given(alarmRepository.findById(1L)).willReturn(Optional.of(alarm));
-                given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(anyLong(), any(), any()))
-                    .willReturn(0L);
+                given(weeklyOffCounter.tryReserve(anyLong(), any())).willReturn(OptionalLong.of(1L));
                 given(alarmOccurrenceRepository.findByAlarmIdAndDate(anyLong(), any()))
                     .willReturn(Optional.empty());
                 given(alarmOccurrenceRepository.save(any(AlarmOccurrenceEntity.class)))
@@ -388,8 +415,7 @@ class AlarmCommandServiceTest {
             try (MockedStatic<LocalDateTime> mocked = Mockito.mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
                 mocked.when(LocalDateTime::now).thenReturn(now);
                 given(alarmRepository.findById(1L)).willReturn(Optional.of(alarm));
-                given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(anyLong(), any(), any()))
-                    .willReturn(2L);
+                given(weeklyOffCounter.tryReserve(anyLong(), any())).willReturn(OptionalLong.empty());
 
                 // when & then
                 assertThatThrownBy(() -> alarmCommandService.alarmOff(1L, 1L, now))
@@ -419,8 +445,7 @@ class AlarmCommandServiceTest {
             try (MockedStatic<LocalDateTime> mocked = Mockito.mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
                 mocked.when(LocalDateTime::now).thenReturn(now);
                 given(alarmRepository.findById(1L)).willReturn(Optional.of(alarm));
-                given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(anyLong(), any(), any()))
-                    .willReturn(0L);
+                given(weeklyOffCounter.tryReserve(anyLong(), any())).willReturn(OptionalLong.of(1L));
                 given(alarmOccurrenceRepository.findByAlarmIdAndDate(anyLong(), any()))
                     .willReturn(Optional.of(occurrence));
 
@@ -443,6 +468,7 @@ class AlarmCommandServiceTest {
             try (MockedStatic<LocalDateTime> mocked = Mockito.mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
                 mocked.when(LocalDateTime::now).thenReturn(now);
                 given(alarmRepository.findById(1L)).willReturn(Optional.of(alarm));
+                given(weeklyOffCounter.tryReserve(anyLong(), any())).willReturn(OptionalLong.of(1L));
 
                 // when & then
                 assertThatThrownBy(() -> alarmCommandService.alarmOff(1L, 1L, now))
@@ -491,9 +517,13 @@ class AlarmCommandServiceTest {
 
             // then
             verify(alarmRingingLogRepository).deleteAllByAlarmOccurrenceId(occurrence.getId());
+            verify(alarmRingingSummaryRepository).deleteByOccurrenceIds(List.of(occurrence.getId()));
             verify(alarmOccurrenceRepository).deleteAll(List.of(occurrence));
+            verify(alarmOccurrencePartitionRepository).deleteArchivedByAlarmId(alarm.getId());
             verify(alarmOffLogRepository).deleteAllByAlarmId(alarm.getId());
+            verify(weeklyOffCounter).evict(member.getId());
             verify(alarmRepository).delete(alarm);
+            verify(deleteReasonSheetLogger).log(alarm.getAlarmPurpose(), "사유");
         }
 
         @Test
@@ -532,6 +562,126 @@ class AlarmCommandServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("ringAlarm - 울림 알림 적재")
+    class RingAlarmPushTest {
+
+        private AlarmEntity alarm;
+        private AlarmOccurrenceEntity occurrence;
+
+        @BeforeEach
+        void setUp() {
+            MemberEntity member = MemberFixture.MEMBER_5.toMockEntity();
+            AlarmFixture fixture = AlarmFixture.ALARM_05;
+            alarm = AlarmEntity.builder()
+                .id(fixture.getId())
+                .alarmPurpose(fixture.getAlarmPurpose())
+                .time(fixture.getTime())
+                .repeatDays(fixture.getRepeatDays())
+                .soundType(fixture.getSoundType())
+                .latitude(fixture.getLatitude())
+                .longitude(fixture.getLongitude())
+                .address(fixture.getAddress())
+                .member(member)
+                .build();
+            occurrence = AlarmOccurrenceEntity.builder()
+                .id(1L)
+                .alarm(alarm)
+                .date(LocalDate.now().minusDays(1))
+                .time(alarm.getTime())
+                .deactivateType(DeactivateType.NONE)
+                .alarmRinging(false)
+                .ringingCount(0)
+                .reminderSent(false)
+                .build();
+
+            given(alarmRepository.findById(alarm.getId())).willReturn(Optional.of(alarm));
+            given(
+                alarmOccurrenceRepository
+                    .findTopByAlarmIdAndDeactivateTypeInAndDateGreaterThanEqualOrderByDateDescTimeDesc(eq(alarm.getId()), anyList(), any())
+            ).willReturn(Optional.of(occurrence));
+        }
+
+        @Test
+        @DisplayName("성공: 첫 울림이면 울림 알림을 적재하고 울리는 중인 알람으로 등록한다")
+        void success_firstRing() {
+            // given
+            given(alarmOccurrenceRepository.findRingingCount(occurrence.getId(), occurrence.getDate())).willReturn(1);
+
+            // when
+            alarmCommandService.ringAlarm(alarm.getMember().getId(), alarm.getId());
+
+            // then
+            verify(alarmRingingLogBuffer).append(eq(occurrence.getId()), eq(1), any());
+            verify(pushOutboxService).enqueueRingStarted(any(), any());
+            verify(redisService).addRingingAlarm(eq(occurrence.getId()), eq(alarm.getId()), eq(alarm.getMember().getId()), anyLong());
+            verify(redisService).markRingingPushSent(anyList(), anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 반복 울림이면 울림 기록만 남기고 울림 알림 적재와 재전송 간격은 건드리지 않는다")
+        void success_repeatedRing() {
+            // given
+            given(alarmOccurrenceRepository.findRingingCount(occurrence.getId(), occurrence.getDate())).willReturn(2);
+
+            // when
+            alarmCommandService.ringAlarm(alarm.getMember().getId(), alarm.getId());
+
+            // then
+            verify(alarmRingingLogBuffer).append(eq(occurrence.getId()), eq(2), any());
+            verifyNoInteractions(pushOutboxService, redisService);
+        }
+    }
+
+    @Nested
+    @DisplayName("enqueueReminderPushes - 리마인드 적재")
+    class EnqueueReminderPushesTest {
+
+        private OccurrencePushInfo info(Long occurrenceId) {
+            return OccurrencePushInfo.builder()
+                .occurrenceId(occurrenceId)
+                .memberId(occurrenceId)
+                .address("서울시 중구")
+                .alarmAt(LocalDate.now().atTime(8, 0))
+                .build();
+        }
+
+        @Test
+        @DisplayName("성공: 아직 울리기 전이고 리마인드를 보내지 않은 발생 내역만 적재한다")
+        @SuppressWarnings("unchecked")
+        void success_onlyPending() {
+            // given (2번은 그 사이 꺼졌거나 다른 노드가 먼저 보냄)
+            given(alarmOccurrenceRepository.findReminderPendingIdsForUpdate(any(), any())).willReturn(List.of(1L, 3L));
+            given(pushOutboxService.enqueueReminders(anyList(), any())).willReturn(2);
+
+            // when
+            int enqueued = alarmCommandService.enqueueReminderPushes(List.of(info(1L), info(2L), info(3L)));
+
+            // then
+            assertThat(enqueued).isEqualTo(2);
+            verify(alarmOccurrenceRepository).markReminderSentIn(eq(Set.of(1L, 3L)), any());
+
+            ArgumentCaptor<List<OccurrencePushInfo>> captor = ArgumentCaptor.forClass(List.class);
+            verify(pushOutboxService).enqueueReminders(captor.capture(), any());
+            assertThat(captor.getValue()).extracting(OccurrencePushInfo::occurrenceId).containsExactly(1L, 3L);
+            verify(preAlarmReminderIndex).removeAll(Set.of(1L, 2L, 3L));
+        }
+
+        @Test
+        @DisplayName("성공: 보낼 대상이 없으면 적재하지 않는다")
+        void success_nothingPending() {
+            // given
+            given(alarmOccurrenceRepository.findReminderPendingIdsForUpdate(any(), any())).willReturn(List.of());
+
+            // when
+            int enqueued = alarmCommandService.enqueueReminderPushes(List.of(info(1L)));
+
+            // then
+            assertThat(enqueued).isZero();
+            verifyNoInteractions(pushOutboxService);
+        }
+    }
+
 /*    @Nested
     @DisplayName("ringAlarm - 알람 울림")
     class RingAlarmTest {
@@ -556,16 +706,16 @@ class AlarmCommandServiceTest {
 
             given(
                 alarmOccurrenceRepository
-                    .findTopByAlarmIdAndDeactivateTypeInOrderByDateDescTimeDesc(eq(alarm.getId()), anyList())
+                    .findTopByAlarmIdAndDeactivateTypeInAndDateGreaterThanEqualOrderByDateDescTimeDesc(eq(alarm.getId()), anyList(), any())
             ).willReturn(Optional.of(occurrence));
+            given(alarmOccurrenceRepository.findRingingCount(occurrence.getId(), occurrence.getDate())).willReturn(1);
 
             // when
             alarmCommandService.ringAlarm(member.getId(), alarm.getId());
 
             // then
-            verify(alarmRingingLogRepository).save(any());
-            assertThat(occurrence.isAlarmRinging()).isTrue();
-            assertThat(occurrence.getRingingCount()).isEqualTo(1);
+            verify(alarmOccurrenceRepository).incrementRingingCount(eq(occurrence.getId()), eq(occurrence.getDate()), any());
+            verify(alarmRingingLogBuffer).append(eq(occurrence.getId()), eq(1), any());
         }
 
         @Test
@@ -588,7 +738,7 @@ class AlarmCommandServiceTest {
 
             given(
                 alarmOccurrenceRepository
-                    .findTopByAlarmIdAndDeactivateTypeInOrderByDateDescTimeDesc(eq(alarm.getId()), anyList())
+                    .findTopByAlarmIdAndDeactivateTypeInAndDateGreaterThanEqualOrderByDateDescTimeDesc(eq(alarm.getId()), anyList(), any())
             ).willReturn(Optional.of(occurrence));
 
             // when & then
@@ -0,0 +1,93 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmOccurrencePartitionResult;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrencePartitionRepository;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("AlarmOccurrencePartitionService Unit Test")
+@ExtendWith(MockitoExtension.class)
+class AlarmOccurrencePartitionServiceTest {
+
+    @Mock private AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
+
+    private AlarmOccurrencePartitionService alarmOccurrencePartitionService;
+
+    private static final YearMonth CURRENT = YearMonth.of(2025, 8);
+
+    @BeforeEach
+    void setUp() {
+        // 3개월 뒤까지 생성, 2개월 이전 파티션 보관
+        alarmOccurrencePartitionService = new AlarmOccurrencePartitionService(alarmOccurrencePartitionRepository, 3, 2);
+    }
+
+    @Nested
+    @DisplayName("maintain - 월별 파티션 유지보수")
+    class MaintainTest {
+
+        @Test
+        @DisplayName("성공: 마지막 파티션 다음 달부터 미래 파티션을 만들고 보관 기준 이전 파티션을 분리한다")
+        void success() {
+            // given
+            given(alarmOccurrencePartitionRepository.findMonthlyPartitions()).willReturn(List.of(
+                YearMonth.of(2025, 5), YearMonth.of(2025, 6), YearMonth.of(2025, 7), YearMonth.of(2025, 8), YearMonth.of(2025, 9)
+            ));
+            given(alarmOccurrencePartitionRepository.archivePartition(any())).willReturn(true);
+
+            // when
+            AlarmOccurrencePartitionResult result = alarmOccurrencePartitionService.maintain(CURRENT);
+
+            // then
+            assertThat(result.createdMonths()).containsExactly(YearMonth.of(2025, 10), YearMonth.of(2025, 11));
+            assertThat(result.archivedMonths()).containsExactly(YearMonth.of(2025, 5));
+            verify(alarmOccurrencePartitionRepository).addMonthlyPartitions(List.of(YearMonth.of(2025, 10), YearMonth.of(2025, 11)));
+            verify(alarmOccurrencePartitionRepository, never()).archivePartition(YearMonth.of(2025, 6));
+        }
+
+        @Test
+        @DisplayName("성공: 보관 테이블에 이미 데이터가 있어 건너뛴 파티션은 결과에서 제외한다")
+        void success_skipArchiveConflict() {
+            // given
+            given(alarmOccurrencePartitionRepository.findMonthlyPartitions()).willReturn(List.of(
+                YearMonth.of(2025, 4), YearMonth.of(2025, 5), YearMonth.of(2025, 11)
+            ));
+            given(alarmOccurrencePartitionRepository.archivePartition(YearMonth.of(2025, 4))).willReturn(false);
+            given(alarmOccurrencePartitionRepository.archivePartition(YearMonth.of(2025, 5))).willReturn(true);
+
+            // when
+            AlarmOccurrencePartitionResult result = alarmOccurrencePartitionService.maintain(CURRENT);
+
+            // then
+            assertThat(result.createdMonths()).isEmpty();
+            assertThat(result.archivedMonths()).containsExactly(YearMonth.of(2025, 5));
+        }
+
+        @Test
+        @DisplayName("성공: 파티션되지 않은 테이블이면 아무것도 하지 않는다")
+        void success_notPartitioned() {
+            // given
+            given(alarmOccurrencePartitionRepository.findMonthlyPartitions()).willReturn(List.of());
+
+            // when
+            AlarmOccurrencePartitionResult result = alarmOccurrencePartitionService.maintain(CURRENT);
+
+            // then
+            assertThat(result.createdMonths()).isEmpty();
+            assertThat(result.archivedMonths()).isEmpty();
+            verify(alarmOccurrencePartitionRepository, never()).addMonthlyPartitions(any());
+        }
+    }
+}
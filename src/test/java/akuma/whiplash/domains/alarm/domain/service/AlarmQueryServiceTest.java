@@ -16,7 +16,6 @@ import akuma.whiplash.domains.alarm.application.dto.response.AlarmInfoPreviewRes
 import akuma.whiplash.domains.alarm.application.dto.response.AlarmRemainingOffCountResponse;
 import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
-import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
 import akuma.whiplash.domains.member.exception.MemberErrorCode;
 import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
@@ -38,7 +37,7 @@ class AlarmQueryServiceTest {
 
     @Mock private AlarmRepository alarmRepository;
     @Mock private AlarmOccurrenceRepository alarmOccurrenceRepository;
-    @Mock private AlarmOffLogRepository alarmOffLogRepository;
+    @Mock private WeeklyOffCounter weeklyOffCounter;
     @Mock private MemberRepository memberRepository;
 
     @InjectMocks private AlarmQueryServiceImpl alarmQueryService;
@@ -55,8 +54,8 @@ class AlarmQueryServiceTest {
             AlarmEntity alarm = AlarmFixture.ALARM_11.toMockEntity();
             given(memberRepository.findById(member.getId())).willReturn(Optional.of(member));
             given(alarmRepository.findAllByMemberId(member.getId())).willReturn(List.of(alarm));
-            given(alarmOccurrenceRepository.findTopByAlarmIdAndDeactivateTypeInOrderByDateDescTimeDesc(anyLong(), anyList()))
-                .willReturn(Optional.empty());
+            given(alarmOccurrenceRepository.findLatestDeactivatedByMemberId(eq(member.getId()), anyList(), any()))
+                .willReturn(List.of());
 
             // when
             List<AlarmInfoPreviewResponse> result = alarmQueryService.getAlarms(member.getId());
@@ -91,15 +90,14 @@ class AlarmQueryServiceTest {
             Long memberId = MemberFixture.MEMBER_5.getId();
             MemberEntity member = MemberFixture.MEMBER_5.toMockEntity();
             given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-            given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(eq(memberId), any(), any()))
-                .willReturn(1L);
+            given(weeklyOffCounter.getCount(eq(memberId), any())).willReturn(1L);
 
             // when
             AlarmRemainingOffCountResponse response = alarmQueryService.getWeeklyRemainingOffCount(memberId);
 
             // then
             assertThat(response.remainingOffCount()).isEqualTo(1);
-            verify(alarmOffLogRepository).countByMemberIdAndCreatedAtBetween(eq(memberId), any(), any());
+            verify(weeklyOffCounter).getCount(eq(memberId), any());
         }
 
         @Test
@@ -0,0 +1,51 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingLogRecord;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogBulkRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * 배치 수집/기록/종료 동작은 BatchingWriterTest에서 검증하고, 여기서는 울림 기록 버퍼 고유 동작만 검증한다.
+ */
+@DisplayName("AlarmRingingLogBuffer Unit Test")
+class AlarmRingingLogBufferTest {
+
+    private final AlarmRingingLogBulkRepository alarmRingingLogBulkRepository = mock(AlarmRingingLogBulkRepository.class);
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 27, 7, 0);
+
+    @Nested
+    @DisplayName("discard - 삭제된 발생 내역의 울림 기록 폐기")
+    class DiscardTest {
+
+        @Test
+        @DisplayName("성공: 삭제된 발생 내역의 대기 중인 울림 기록은 INSERT하지 않는다")
+        @SuppressWarnings("unchecked")
+        void success() throws InterruptedException {
+            // given
+            AlarmRingingLogBuffer buffer = new AlarmRingingLogBuffer(alarmRingingLogBulkRepository, 100, 100, 60_000);
+            buffer.append(1L, 1, NOW);
+            buffer.append(2L, 1, NOW);
+            buffer.append(2L, 2, NOW.plusSeconds(10));
+
+            // when
+            buffer.discard(List.of(2L));
+            buffer.stop();
+
+            // then
+            ArgumentCaptor<List<AlarmRingingLogRecord>> captor = ArgumentCaptor.forClass(List.class);
+            verify(alarmRingingLogBulkRepository).insertAll(captor.capture());
+            assertThat(captor.getValue()).extracting(AlarmRingingLogRecord::occurrenceId).containsExactly(1L);
+            assertThat(buffer.pendingCount()).isZero();
+        }
+    }
+}
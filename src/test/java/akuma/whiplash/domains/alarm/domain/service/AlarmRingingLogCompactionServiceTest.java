@@ -0,0 +1,175 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.PersistenceTest;
+import akuma.whiplash.common.fixture.AlarmFixture;
+import akuma.whiplash.common.fixture.AlarmOccurrenceFixture;
+import akuma.whiplash.common.fixture.MemberFixture;
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingLogCompactionResult;
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingLogRecord;
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingSummary;
+import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
+import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
+import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogBulkRepository;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogCompactionRepository;
+import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
+import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@PersistenceTest
+@Import({AlarmRingingLogBulkRepository.class, AlarmRingingLogCompactionRepository.class})
+@DisplayName("AlarmRingingLogCompactionService Test")
+class AlarmRingingLogCompactionServiceTest {
+
+    private static final int RETENTION_DAYS = 7;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 27, 4, 0);
+    private static final LocalDateTime OLD_RINGED_AT = NOW.minusDays(10).withHour(7);
+
+    @Autowired
+    private AlarmRingingLogBulkRepository alarmRingingLogBulkRepository;
+    @Autowired
+    private AlarmRingingLogCompactionRepository alarmRingingLogCompactionRepository;
+    @Autowired
+    private AlarmOccurrenceRepository alarmOccurrenceRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AlarmRingingLogCompactionService alarmRingingLogCompactionService;
+    private AlarmOccurrenceEntity occurrence;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 크기 1로 여러 청크에 걸친 keyset 순회까지 검증
+        alarmRingingLogCompactionService = new AlarmRingingLogCompactionService(
+            alarmRingingLogCompactionRepository, transactionTemplate, RETENTION_DAYS, 1);
+
+        MemberEntity member = memberRepository.save(MemberFixture.MEMBER_17.toEntity());
+        AlarmEntity alarm = alarmRepository.save(AlarmFixture.ALARM_17.toEntity(member));
+        occurrence = alarmOccurrenceRepository.saveAndFlush(AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(
+            alarm, OLD_RINGED_AT.toLocalDate(), LocalTime.of(7, 0), DeactivateType.OFF));
+    }
+
+    @Nested
+    @DisplayName("compact - 오래된 울림 기록 압축")
+    class CompactTest {
+
+        @Test
+        @DisplayName("성공: 보관 기간이 지난 울림 기록을 요약으로 접고 원본 행을 삭제한다")
+        void success() {
+            // given
+            alarmRingingLogBulkRepository.insertAll(List.of(
+                new AlarmRingingLogRecord(occurrence.getId(), 1, OLD_RINGED_AT),
+                new AlarmRingingLogRecord(occurrence.getId(), 2, OLD_RINGED_AT.plusSeconds(10)),
+                new AlarmRingingLogRecord(occurrence.getId(), 3, OLD_RINGED_AT.plusSeconds(70))
+            ));
+
+            // when
+            AlarmRingingLogCompactionResult result = alarmRingingLogCompactionService.compact(NOW);
+
+            // then
+            assertThat(result.compactedOccurrenceCount()).isGreaterThanOrEqualTo(1);
+            assertThat(result.failedOccurrenceCount()).isZero();
+            assertThat(countLogs(occurrence.getId())).isZero();
+
+            AlarmRingingSummary summary = findSummary(occurrence.getId());
+            assertThat(summary.ringCount()).isEqualTo(3);
+            assertThat(summary.firstRingedAt()).isEqualTo(OLD_RINGED_AT);
+            assertThat(summary.lastRingedAt()).isEqualTo(OLD_RINGED_AT.plusSeconds(70));
+            assertThat(summary.gapMicros()).isEqualTo("10000000,60000000");
+        }
+
+        @Test
+        @DisplayName("성공: 보관 기간 이내의 울림 기록은 남겨 둔다")
+        void success_keepRecent() {
+            // given
+            LocalDateTime recentRingedAt = NOW.minusDays(1);
+            alarmRingingLogBulkRepository.insertAll(List.of(
+                new AlarmRingingLogRecord(occurrence.getId(), 1, OLD_RINGED_AT),
+                new AlarmRingingLogRecord(occurrence.getId(), 2, recentRingedAt)
+            ));
+
+            // when
+            alarmRingingLogCompactionService.compact(NOW);
+
+            // then
+            assertThat(countLogs(occurrence.getId())).isEqualTo(1);
+            assertThat(findSummary(occurrence.getId()).ringCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 이미 요약이 있으면 늦게 적재된 울림 기록을 기존 요약에 합친다")
+        void success_mergeExisting() {
+            // given
+            alarmRingingLogBulkRepository.insertAll(List.of(
+                new AlarmRingingLogRecord(occurrence.getId(), 1, OLD_RINGED_AT)));
+            alarmRingingLogCompactionService.compact(NOW);
+
+            alarmRingingLogBulkRepository.insertAll(List.of(
+                new AlarmRingingLogRecord(occurrence.getId(), 2, OLD_RINGED_AT.plusSeconds(30))));
+
+            // when
+            alarmRingingLogCompactionService.compact(NOW);
+
+            // then
+            AlarmRingingSummary summary = findSummary(occurrence.getId());
+            assertThat(summary.ringCount()).isEqualTo(2);
+            assertThat(summary.gapMicros()).isEqualTo("30000000");
+            assertThat(countLogs(occurrence.getId())).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: DATETIME(6)에 저장된 μs 단위 울림 시각이 요약에서 그대로 복원된다")
+        void success_microsecondPrecision() {
+            // given
+            LocalDateTime first = OLD_RINGED_AT.plusNanos(123_456_000);
+            List<LocalDateTime> ringedAts = List.of(
+                first, first.plusSeconds(30).plusNanos(999_000), first.plusSeconds(60).plusNanos(1_998_000));
+            alarmRingingLogBulkRepository.insertAll(List.of(
+                new AlarmRingingLogRecord(occurrence.getId(), 1, ringedAts.get(0)),
+                new AlarmRingingLogRecord(occurrence.getId(), 2, ringedAts.get(1)),
+                new AlarmRingingLogRecord(occurrence.getId(), 3, ringedAts.get(2))
+            ));
+
+            // when
+            alarmRingingLogCompactionService.compact(NOW);
+
+            // then
+            AlarmRingingSummary summary = findSummary(occurrence.getId());
+            assertThat(summary.gapMicros()).isEqualTo("30000999,30000999");
+            assertThat(RingingLogRollup.expand(summary)).containsExactlyElementsOf(ringedAts);
+        }
+    }
+
+    private int countLogs(Long occurrenceId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM alarm_ringing_log WHERE alarm_occurrence_id = ?", Integer.class, occurrenceId);
+    }
+
+    private AlarmRingingSummary findSummary(Long occurrenceId) {
+        Map<Long, AlarmRingingSummary> summaries = alarmRingingLogCompactionRepository.findSummaries(List.of(occurrenceId));
+        assertThat(summaries).containsKey(occurrenceId);
+        return summaries.get(occurrenceId);
+    }
+}
@@ -0,0 +1,220 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import akuma.whiplash.common.config.RedisContainerInitializer;
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrencePushInfo;
+import akuma.whiplash.domains.alarm.application.dto.etc.OccurrenceReminderInfo;
+import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
+import akuma.whiplash.infrastructure.redis.SchedulerShardCoordinator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+@DisplayName("PreAlarmReminderIndex Redis Test")
+@DataRedisTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {RedisContainerInitializer.class})
+class PreAlarmReminderIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 8, 27);
+    private static final int SHARD_COUNT = 4;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    private AlarmOccurrenceRepository alarmOccurrenceRepository;
+    private SchedulerShardCoordinator schedulerShardCoordinator;
+    private PreAlarmReminderIndex preAlarmReminderIndex;
+
+    @BeforeEach
+    void setUp() {
+        alarmOccurrenceRepository = mock(AlarmOccurrenceRepository.class);
+        schedulerShardCoordinator = new SchedulerShardCoordinator(redisTemplate, false, SHARD_COUNT, 15000);
+        preAlarmReminderIndex = newNode();
+    }
+
+    @AfterEach
+    void clean() {
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            conn.serverCommands().flushAll();
+        }
+    }
+
+    // 같은 Redis를 공유하는 다른 서버 인스턴스
+    private PreAlarmReminderIndex newNode() {
+        return new PreAlarmReminderIndex(alarmOccurrenceRepository, schedulerShardCoordinator, redisTemplate);
+    }
+
+    private OccurrenceReminderInfo info(Long occurrenceId, Long memberId, LocalTime time) {
+        return OccurrenceReminderInfo.builder()
+            .occurrenceId(occurrenceId)
+            .memberId(memberId)
+            .address("서울시 중구")
+            .date(DATE)
+            .time(time)
+            .build();
+    }
+
+    private void givenWarmedUp(OccurrenceReminderInfo... infos) {
+        given(alarmOccurrenceRepository.findReminderIndexTargets(DATE, DeactivateType.NONE))
+            .willReturn(List.of(infos));
+        preAlarmReminderIndex.warmUp(DATE);
+    }
+
+    private List<OccurrencePushInfo> getAllTargets(PreAlarmReminderIndex index, LocalTime start, LocalTime end) {
+        List<OccurrencePushInfo> targets = new ArrayList<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            targets.addAll(index.getTargets(shard, LocalDateTime.of(DATE, start), LocalDateTime.of(DATE, end)));
+        }
+        return targets;
+    }
+
+    @Nested
+    @DisplayName("getTargets - 리마인드 대상 조회")
+    class GetTargetsTest {
+
+        @Test
+        @DisplayName("성공: 적재된 발생 내역 중 조회 구간에 울리는 대상만 푸시 정보와 함께 반환한다")
+        void success() {
+            // given
+            givenWarmedUp(
+                info(1L, 1L, LocalTime.of(8, 0)),
+                info(2L, 2L, LocalTime.of(8, 1)),
+                info(3L, 3L, LocalTime.of(9, 0))
+            );
+
+            // when
+            List<OccurrencePushInfo> result = getAllTargets(preAlarmReminderIndex, LocalTime.of(7, 59), LocalTime.of(8, 1));
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(
+                info(1L, 1L, LocalTime.of(8, 0)).toPushInfo(),
+                info(2L, 2L, LocalTime.of(8, 1)).toPushInfo()
+            );
+        }
+
+        @Test
+        @DisplayName("성공: 회원이 속한 샤드에서만 조회된다")
+        void success_byShard() {
+            // given
+            givenWarmedUp(
+                info(1L, 1L, LocalTime.of(8, 0)),
+                info(2L, 2L, LocalTime.of(8, 0))
+            );
+            int shard = schedulerShardCoordinator.shardOf(1L);
+
+            // when
+            List<OccurrencePushInfo> result = preAlarmReminderIndex.getTargets(
+                shard, LocalDateTime.of(DATE, LocalTime.of(8, 0)), LocalDateTime.of(DATE, LocalTime.of(8, 0)));
+
+            // then
+            assertThat(result).extracting(OccurrencePushInfo::occurrenceId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 조회 구간 이전의 항목은 정리된다")
+        void success_evictExpired() {
+            // given
+            givenWarmedUp(
+                info(1L, 1L, LocalTime.of(8, 0)),
+                info(2L, 2L, LocalTime.of(9, 0))
+            );
+
+            // when
+            getAllTargets(preAlarmReminderIndex, LocalTime.of(8, 30), LocalTime.of(8, 32));
+
+            // then
+            assertThat(preAlarmReminderIndex.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("remove - 리마인드 대상 제거")
+    class RemoveTest {
+
+        @Test
+        @DisplayName("성공: 발송 완료·비활성화된 발생 내역은 더 이상 조회되지 않는다")
+        void success() {
+            // given
+            givenWarmedUp(
+                info(1L, 1L, LocalTime.of(8, 0)),
+                info(2L, 2L, LocalTime.of(8, 0)),
+                info(3L, 3L, LocalTime.of(8, 0))
+            );
+
+            // when
+            preAlarmReminderIndex.remove(1L);
+            preAlarmReminderIndex.removeAll(Set.of(2L));
+
+            // then
+            List<OccurrencePushInfo> result = getAllTargets(preAlarmReminderIndex, LocalTime.of(8, 0), LocalTime.of(8, 0));
+            assertThat(result).extracting(OccurrencePushInfo::occurrenceId).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드에서 등록·제거한 발생 내역이 샤드를 점유한 노드의 조회에 반영된다")
+        void success_sharedAcrossNodes() {
+            // given
+            givenWarmedUp(info(1L, 1L, LocalTime.of(8, 0)));
+            PreAlarmReminderIndex otherNode = newNode();
+
+            // when
+            otherNode.remove(1L);
+            otherNode.register(info(2L, 2L, LocalTime.of(8, 0)));
+
+            // then
+            List<OccurrencePushInfo> result = getAllTargets(preAlarmReminderIndex, LocalTime.of(8, 0), LocalTime.of(8, 0));
+            assertThat(result).extracting(OccurrencePushInfo::occurrenceId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("성공: 푸시 수신 거부 회원의 발생 내역은 모두 제거되고, 재동의 시 다시 적재된다")
+        void success_memberPolicyChanged() {
+            // given
+            givenWarmedUp(
+                info(1L, 1L, LocalTime.of(8, 0)),
+                info(2L, 1L, LocalTime.of(9, 0)),
+                info(3L, 2L, LocalTime.of(8, 0))
+            );
+
+            // when
+            preAlarmReminderIndex.removeMember(1L);
+
+            // then
+            assertThat(preAlarmReminderIndex.size()).isEqualTo(1);
+
+            // when
+            given(alarmOccurrenceRepository.findReminderIndexTargetsByMemberId(anyLong(), any(), eq(DeactivateType.NONE)))
+                .willReturn(List.of(info(1L, 1L, LocalTime.of(8, 0))));
+            preAlarmReminderIndex.reloadMember(1L);
+
+            // then
+            assertThat(preAlarmReminderIndex.size()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingSummary;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RingingLogRollup Unit Test")
+class RingingLogRollupTest {
+
+    private static final LocalDateTime RINGED_AT = LocalDateTime.of(2025, 8, 20, 7, 0, 0, 123_000_000);
+
+    @Nested
+    @DisplayName("fold - 울림 시각 목록 요약")
+    class FoldTest {
+
+        @Test
+        @DisplayName("성공: 첫/마지막 울림, 횟수, 울림 간격(μs)을 계산한다")
+        void success() {
+            // given
+            List<LocalDateTime> ringedAts = List.of(RINGED_AT.plusSeconds(10), RINGED_AT, RINGED_AT.plusSeconds(70));
+
+            // when
+            AlarmRingingSummary summary = RingingLogRollup.fold(1L, ringedAts);
+
+            // then
+            assertThat(summary.occurrenceId()).isEqualTo(1L);
+            assertThat(summary.firstRingedAt()).isEqualTo(RINGED_AT);
+            assertThat(summary.lastRingedAt()).isEqualTo(RINGED_AT.plusSeconds(70));
+            assertThat(summary.ringCount()).isEqualTo(3);
+            assertThat(summary.gapMicros()).isEqualTo("10000000,60000000");
+        }
+
+        @Test
+        @DisplayName("성공: 한 번만 울렸으면 간격은 빈 문자열이다")
+        void success_singleRing() {
+            AlarmRingingSummary summary = RingingLogRollup.fold(1L, List.of(RINGED_AT));
+
+            assertThat(summary.ringCount()).isEqualTo(1);
+            assertThat(summary.firstRingedAt()).isEqualTo(summary.lastRingedAt());
+            assertThat(summary.gapMicros()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패: 울림 기록이 없으면 예외가 발생한다")
+        void fail_empty() {
+            assertThatThrownBy(() -> RingingLogRollup.fold(1L, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("expand - 요약에서 울림 시각 복원")
+    class ExpandTest {
+
+        @Test
+        @DisplayName("성공: 요약했다가 복원하면 원래 울림 시각과 같다")
+        void success_roundTrip() {
+            // given
+            List<LocalDateTime> ringedAts = List.of(
+                RINGED_AT, RINGED_AT.plusSeconds(10), RINGED_AT.plusSeconds(20).plusNanos(456_000_000), RINGED_AT.plusMinutes(5));
+
+            // when
+            List<LocalDateTime> expanded = RingingLogRollup.expand(RingingLogRollup.fold(1L, ringedAts));
+
+            // then
+            assertThat(expanded).containsExactlyElementsOf(ringedAts);
+        }
+
+        @Test
+        @DisplayName("성공: μs 단위 울림 시각도 오차 없이 복원되고, 간격이 많아도 오차가 누적되지 않는다")
+        void success_roundTripMicros() {
+            // given
+            LocalDateTime ringedAt = LocalDateTime.of(2025, 8, 20, 7, 0, 0, 123_456_000);
+            List<LocalDateTime> ringedAts = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ringedAts.add(ringedAt);
+                ringedAt = ringedAt.plusSeconds(30).plusNanos(999_000);
+            }
+
+            // when
+            AlarmRingingSummary summary = RingingLogRollup.fold(1L, ringedAts);
+            List<LocalDateTime> expanded = RingingLogRollup.expand(summary);
+
+            // then
+            assertThat(summary.gapMicros()).startsWith("30000999,");
+            assertThat(expanded).containsExactlyElementsOf(ringedAts);
+        }
+    }
+
+    @Nested
+    @DisplayName("merge - 기존 요약에 울림 시각 합치기")
+    class MergeTest {
+
+        @Test
+        @DisplayName("성공: 기존 요약과 새 울림 시각을 합쳐 다시 요약한다")
+        void success() {
+            // given
+            AlarmRingingSummary existing = RingingLogRollup.fold(1L, List.of(RINGED_AT, RINGED_AT.plusSeconds(10)));
+
+            // when
+            AlarmRingingSummary merged = RingingLogRollup.merge(1L, existing, List.of(RINGED_AT.plusSeconds(40)));
+
+            // then
+            assertThat(merged.ringCount()).isEqualTo(3);
+            assertThat(merged.lastRingedAt()).isEqualTo(RINGED_AT.plusSeconds(40));
+            assertThat(merged.gapMicros()).isEqualTo("10000000,30000000");
+        }
+
+        @Test
+        @DisplayName("성공: 기존 요약이 없으면 새로 요약한다")
+        void success_noExisting() {
+            AlarmRingingSummary merged = RingingLogRollup.merge(1L, null, List.of(RINGED_AT));
+
+            assertThat(merged.occurrenceId()).isEqualTo(1L);
+            assertThat(merged.ringCount()).isEqualTo(1);
+        }
+    }
+}
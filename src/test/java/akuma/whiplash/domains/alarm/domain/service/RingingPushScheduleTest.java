@@ -0,0 +1,56 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RingingPushSchedule Unit Test")
+class RingingPushScheduleTest {
+
+    // 2분 동안 10초 간격, 이후 60초 간격
+    private final RingingPushSchedule ringingPushSchedule = new RingingPushSchedule(10, 120, 60);
+
+    private static final long RING_STARTED_AT = 1_000_000L;
+
+    private RingingPushInfo info(Long lastSentAtMillis) {
+        return RingingPushInfo.builder()
+            .occurrenceId(1L)
+            .alarmId(1L)
+            .memberId(1L)
+            .ringStartedAtMillis(RING_STARTED_AT)
+            .lastSentAtMillis(lastSentAtMillis)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("isDue - 울림 푸시 전송 시점 판단")
+    class IsDueTest {
+
+        @Test
+        @DisplayName("성공: 한 번도 보내지 않은 발생 내역은 즉시 전송 대상이다")
+        void success_neverSent() {
+            assertThat(ringingPushSchedule.isDue(info(null), RING_STARTED_AT)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 초반 구간에서는 10초 간격으로 전송한다")
+        void success_fastInterval() {
+            long lastSent = RING_STARTED_AT + 30_000;
+
+            assertThat(ringingPushSchedule.isDue(info(lastSent), lastSent + 5_000)).isFalse();
+            assertThat(ringingPushSchedule.isDue(info(lastSent), lastSent + 9_900)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 초반 구간이 지나면 60초 간격으로 전송한다")
+        void success_slowInterval() {
+            long lastSent = RING_STARTED_AT + 120_000;
+
+            assertThat(ringingPushSchedule.isDue(info(lastSent), lastSent + 10_000)).isFalse();
+            assertThat(ringingPushSchedule.isDue(info(lastSent), lastSent + 60_000)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package akuma.whiplash.domains.alarm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.common.config.RedisContainerInitializer;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("WeeklyOffCounter Redis Test")
+@DataRedisTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {RedisContainerInitializer.class})
+class WeeklyOffCounterTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    private AlarmOffLogRepository alarmOffLogRepository;
+    private WeeklyOffCounter weeklyOffCounter;
+
+    @BeforeEach
+    void setUp() {
+        alarmOffLogRepository = mock(AlarmOffLogRepository.class);
+        weeklyOffCounter = new WeeklyOffCounter(redisTemplate, alarmOffLogRepository);
+    }
+
+    @AfterEach
+    void clean() {
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            conn.serverCommands().flushAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("tryReserve - 주간 끄기 횟수 예약")
+    class TryReserveTest {
+
+        @Test
+        @DisplayName("성공: 카운터가 없으면 DB 기준으로 채운 뒤 예약한다")
+        void success_loadFromDb() {
+            // given
+            given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(eq(MEMBER_ID), any(), any())).willReturn(1L);
+
+            // when
+            OptionalLong reserved = weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+
+            // then
+            assertThat(reserved).hasValue(2L);
+            assertThat(weeklyOffCounter.getCount(MEMBER_ID, TODAY)).isEqualTo(2L);
+            verify(alarmOffLogRepository, times(1)).countByMemberIdAndCreatedAtBetween(eq(MEMBER_ID), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패: 한도에 도달하면 더 이상 예약하지 않는다")
+        void fail_limitExceeded() {
+            // given
+            given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(eq(MEMBER_ID), any(), any())).willReturn(0L);
+            weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+            weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+
+            // when
+            OptionalLong reserved = weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+
+            // then
+            assertThat(reserved).isEmpty();
+            assertThat(weeklyOffCounter.getCount(MEMBER_ID, TODAY)).isEqualTo(WeeklyOffCounter.WEEKLY_OFF_LIMIT);
+        }
+
+        @Test
+        @DisplayName("성공: 동시에 요청해도 한도만큼만 예약된다")
+        void success_concurrent() throws Exception {
+            // given
+            given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(eq(MEMBER_ID), any(), any())).willReturn(0L);
+            int requests = 10;
+            ExecutorService executor = Executors.newFixedThreadPool(requests);
+            CountDownLatch start = new CountDownLatch(1);
+
+            List<Future<OptionalLong>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                Callable<OptionalLong> task = () -> {
+                    start.await();
+                    return weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+                };
+                futures.add(executor.submit(task));
+            }
+
+            // when
+            start.countDown();
+            long succeeded = 0;
+            for (Future<OptionalLong> future : futures) {
+                if (future.get().isPresent()) succeeded++;
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(succeeded).isEqualTo(WeeklyOffCounter.WEEKLY_OFF_LIMIT);
+            assertThat(weeklyOffCounter.getCount(MEMBER_ID, TODAY)).isEqualTo(WeeklyOffCounter.WEEKLY_OFF_LIMIT);
+        }
+
+        @Test
+        @DisplayName("성공: 트랜잭션이 롤백되면 예약을 되돌린다")
+        void success_releaseOnRollback() {
+            // given
+            given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(eq(MEMBER_ID), any(), any())).willReturn(0L);
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // when
+                weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(weeklyOffCounter.getCount(MEMBER_ID, TODAY)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict - 끈 이력 삭제 후 카운터 초기화")
+    class EvictTest {
+
+        @Test
+        @DisplayName("성공: 알람을 삭제해 끈 이력이 지워지면 커밋 후 남은 끄기 횟수가 DB 기준으로 돌아온다")
+        void success_afterRemoveAlarm() {
+            // given
+            given(alarmOffLogRepository.countByMemberIdAndCreatedAtBetween(eq(MEMBER_ID), any(), any())).willReturn(0L);
+            weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+            weeklyOffCounter.tryReserve(MEMBER_ID, TODAY);
+            assertThat(weeklyOffCounter.getCount(MEMBER_ID, TODAY)).isEqualTo(WeeklyOffCounter.WEEKLY_OFF_LIMIT);
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // when: 알람 삭제 트랜잭션에서 끈 이력 삭제 후 커밋
+                weeklyOffCounter.evict(MEMBER_ID);
+                assertThat(weeklyOffCounter.getCount(MEMBER_ID, TODAY)).isEqualTo(WeeklyOffCounter.WEEKLY_OFF_LIMIT);
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(weeklyOffCounter.getCount(MEMBER_ID, TODAY)).isZero();
+            assertThat(weeklyOffCounter.tryReserve(MEMBER_ID, TODAY)).hasValue(1L);
+        }
+    }
+}
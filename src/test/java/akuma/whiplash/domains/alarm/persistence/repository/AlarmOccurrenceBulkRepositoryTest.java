@@ -0,0 +1,84 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.PersistenceTest;
+import akuma.whiplash.common.fixture.AlarmFixture;
+import akuma.whiplash.common.fixture.MemberFixture;
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmTimeSlot;
+import akuma.whiplash.domains.alarm.domain.constant.Weekday;
+import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
+import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
+import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@PersistenceTest
+@Import(AlarmOccurrenceBulkRepository.class)
+class AlarmOccurrenceBulkRepositoryTest {
+
+    @Autowired
+    private AlarmOccurrenceBulkRepository alarmOccurrenceBulkRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Nested
+    @DisplayName("findAlarmSliceByRepeatMask - 반복 요일 마스크별 알람 keyset 페이지 조회")
+    class FindAlarmSliceByRepeatMaskTest {
+
+        @Test
+        @DisplayName("성공: 마지막 알람 ID 이후의 같은 마스크 알람만 페이지 크기만큼 반환한다")
+        void success() {
+            // given
+            MemberEntity member = memberRepository.save(MemberFixture.MEMBER_1.toEntity());
+            AlarmEntity monFri1 = alarmRepository.saveAndFlush(AlarmFixture.ALARM_05.toEntity(member));
+            alarmRepository.saveAndFlush(AlarmFixture.ALARM_01.toEntity(member)); // 월, 화
+            AlarmEntity monFri2 = alarmRepository.saveAndFlush(AlarmFixture.ALARM_10.toEntity(member));
+            AlarmEntity monFri3 = alarmRepository.saveAndFlush(AlarmFixture.ALARM_16.toEntity(member));
+            int monFriMask = Weekday.toMask(List.of(Weekday.MONDAY, Weekday.FRIDAY));
+
+            // when
+            List<AlarmTimeSlot> first = alarmOccurrenceBulkRepository.findAlarmSliceByRepeatMask(monFriMask, 0L, 2);
+            List<AlarmTimeSlot> second = alarmOccurrenceBulkRepository.findAlarmSliceByRepeatMask(
+                monFriMask, first.get(first.size() - 1).alarmId(), 2);
+
+            // then
+            assertThat(first).extracting(AlarmTimeSlot::alarmId).containsExactly(monFri1.getId(), monFri2.getId());
+            assertThat(second).extracting(AlarmTimeSlot::alarmId).containsExactly(monFri3.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("insertIgnoreOccurrences - 발생 내역 다중 행 생성")
+    class InsertIgnoreOccurrencesTest {
+
+        @Test
+        @DisplayName("성공: 이미 같은 날짜의 발생 내역이 있는 알람은 건너뛰고 생성된 행 수만 반환한다")
+        void success_skipDuplicates() {
+            // given
+            MemberEntity member = memberRepository.save(MemberFixture.MEMBER_2.toEntity());
+            AlarmEntity alarm1 = alarmRepository.saveAndFlush(AlarmFixture.ALARM_05.toEntity(member));
+            AlarmEntity alarm2 = alarmRepository.saveAndFlush(AlarmFixture.ALARM_10.toEntity(member));
+            LocalDate date = LocalDate.of(2025, 8, 25);
+
+            List<AlarmTimeSlot> slots = List.of(
+                new AlarmTimeSlot(alarm1.getId(), alarm1.getTime()),
+                new AlarmTimeSlot(alarm2.getId(), alarm2.getTime())
+            );
+            alarmOccurrenceBulkRepository.insertIgnoreOccurrences(slots.subList(0, 1), date);
+
+            // when
+            int inserted = alarmOccurrenceBulkRepository.insertIgnoreOccurrences(slots, date);
+
+            // then
+            assertThat(inserted).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.PersistenceTest;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파티션 DDL은 암묵적 커밋을 일으키므로 테스트 트랜잭션 없이 실행하고,
+ * 다른 테스트 데이터와 겹치지 않도록 먼 미래 월의 파티션만 다룬 뒤 정리한다.
+ */
+@PersistenceTest
+@Import(AlarmOccurrencePartitionRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AlarmOccurrencePartitionRepositoryTest {
+
+    @Autowired
+    private AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final YearMonth FAR_MONTH = YearMonth.now().plusYears(50);
+    private static final long ALARM_ID = Long.MAX_VALUE;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("""
+            DELETE arl FROM alarm_ringing_log arl
+            JOIN alarm_occurrence ao ON arl.alarm_occurrence_id = ao.id
+            WHERE ao.alarm_id = ?
+            """, ALARM_ID);
+        jdbcTemplate.update("""
+            DELETE ars FROM alarm_ringing_summary ars
+            JOIN alarm_occurrence ao ON ars.occurrence_id = ao.id
+            WHERE ao.alarm_id = ?
+            """, ALARM_ID);
+        if (alarmOccurrencePartitionRepository.findMonthlyPartitions().contains(FAR_MONTH)) {
+            jdbcTemplate.execute("ALTER TABLE alarm_occurrence DROP PARTITION "
+                + AlarmOccurrencePartitionRepository.partitionName(FAR_MONTH));
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + AlarmOccurrencePartitionRepository.archiveTableName(FAR_MONTH));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + AlarmOccurrencePartitionRepository.ringingLogArchiveTableName(FAR_MONTH));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + AlarmOccurrencePartitionRepository.ringingSummaryArchiveTableName(FAR_MONTH));
+    }
+
+    private Long insertOccurrence() {
+        jdbcTemplate.update("""
+            INSERT INTO alarm_occurrence (alarm_id, date, time, deactivate_type, alarm_ringing,
+                                          ringing_count, reminder_sent, created_at, updated_at)
+            VALUES (?, ?, '07:00:00', 'OFF', false, 0, true, NOW(6), NOW(6))
+            """, ALARM_ID, Date.valueOf(FAR_MONTH.atDay(15)));
+        return jdbcTemplate.queryForObject(
+            "SELECT MAX(id) FROM alarm_occurrence WHERE alarm_id = ?", Long.class, ALARM_ID);
+    }
+
+    private void insertRingingRows(Long occurrenceId) {
+        jdbcTemplate.update("""
+            INSERT INTO alarm_ringing_log (alarm_occurrence_id, ring_index, ringed_at, created_at, updated_at)
+            VALUES (?, 1, NOW(6), NOW(6), NOW(6))
+            """, occurrenceId);
+        jdbcTemplate.update("""
+            INSERT INTO alarm_ringing_summary (occurrence_id, first_ringed_at, last_ringed_at, ring_count,
+                                               gap_micros, created_at, updated_at)
+            VALUES (?, NOW(6), NOW(6), 1, '', NOW(6), NOW(6))
+            """, occurrenceId);
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private int countByOccurrence(String table, String occurrenceColumn, Long occurrenceId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + table + " WHERE " + occurrenceColumn + " = ?", Integer.class, occurrenceId);
+    }
+
+    @Nested
+    @DisplayName("addMonthlyPartitions - 월별 파티션 추가")
+    class AddMonthlyPartitionsTest {
+
+        @Test
+        @DisplayName("성공: p_max를 쪼개 월별 파티션을 추가한다")
+        void success() {
+            // when
+            alarmOccurrencePartitionRepository.addMonthlyPartitions(List.of(FAR_MONTH));
+
+            // then
+            List<YearMonth> partitions = alarmOccurrencePartitionRepository.findMonthlyPartitions();
+            assertThat(partitions).contains(FAR_MONTH);
+            assertThat(partitions.get(partitions.size() - 1)).isEqualTo(FAR_MONTH);
+        }
+    }
+
+    @Nested
+    @DisplayName("archivePartition - 파티션을 보관 테이블로 분리")
+    class ArchivePartitionTest {
+
+        @Test
+        @DisplayName("성공: 파티션 데이터를 보관 테이블로 옮기고 파티션을 제거한다")
+        void success() {
+            // given
+            alarmOccurrencePartitionRepository.addMonthlyPartitions(List.of(FAR_MONTH));
+            insertOccurrence();
+
+            // when
+            boolean archived = alarmOccurrencePartitionRepository.archivePartition(FAR_MONTH);
+
+            // then
+            assertThat(archived).isTrue();
+            assertThat(alarmOccurrencePartitionRepository.findMonthlyPartitions()).doesNotContain(FAR_MONTH);
+            assertThat(alarmOccurrencePartitionRepository.findArchivedMonths()).contains(FAR_MONTH);
+            assertThat(count(AlarmOccurrencePartitionRepository.archiveTableName(FAR_MONTH))).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 발생 내역에 딸린 울림 기록/요약도 같은 월 보관 테이블로 옮긴다")
+        void success_moveRingingRows() {
+            // given
+            alarmOccurrencePartitionRepository.addMonthlyPartitions(List.of(FAR_MONTH));
+            Long occurrenceId = insertOccurrence();
+            insertRingingRows(occurrenceId);
+
+            // when
+            boolean archived = alarmOccurrencePartitionRepository.archivePartition(FAR_MONTH);
+
+            // then
+            assertThat(archived).isTrue();
+            assertThat(countByOccurrence("alarm_ringing_log", "alarm_occurrence_id", occurrenceId)).isZero();
+            assertThat(countByOccurrence("alarm_ringing_summary", "occurrence_id", occurrenceId)).isZero();
+            assertThat(count(AlarmOccurrencePartitionRepository.ringingLogArchiveTableName(FAR_MONTH))).isEqualTo(1);
+            assertThat(count(AlarmOccurrencePartitionRepository.ringingSummaryArchiveTableName(FAR_MONTH))).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 빈 파티션은 보관 테이블 없이 바로 제거한다")
+        void success_emptyPartition() {
+            // given
+            alarmOccurrencePartitionRepository.addMonthlyPartitions(List.of(FAR_MONTH));
+
+            // when
+            boolean archived = alarmOccurrencePartitionRepository.archivePartition(FAR_MONTH);
+
+            // then
+            assertThat(archived).isTrue();
+            assertThat(alarmOccurrencePartitionRepository.findMonthlyPartitions()).doesNotContain(FAR_MONTH);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteArchivedByAlarmId - 보관된 발생 내역 삭제")
+    class DeleteArchivedByAlarmIdTest {
+
+        @Test
+        @DisplayName("성공: 보관 테이블에서 알람의 발생 내역과 울림 기록/요약을 삭제한다")
+        void success() {
+            // given
+            alarmOccurrencePartitionRepository.addMonthlyPartitions(List.of(FAR_MONTH));
+            insertRingingRows(insertOccurrence());
+            alarmOccurrencePartitionRepository.archivePartition(FAR_MONTH);
+
+            // when
+            alarmOccurrencePartitionRepository.deleteArchivedByAlarmId(ALARM_ID);
+
+            // then
+            assertThat(count(AlarmOccurrencePartitionRepository.archiveTableName(FAR_MONTH))).isZero();
+            assertThat(count(AlarmOccurrencePartitionRepository.ringingLogArchiveTableName(FAR_MONTH))).isZero();
+            assertThat(count(AlarmOccurrencePartitionRepository.ringingSummaryArchiveTableName(FAR_MONTH))).isZero();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import akuma.whiplash.common.config.PersistenceTest;
 import akuma.whiplash.common.fixture.AlarmFixture;
+import akuma.whiplash.common.fixture.AlarmOccurrenceFixture;
 import akuma.whiplash.common.fixture.MemberFixture;
 import akuma.whiplash.domains.alarm.application.mapper.AlarmMapper;
 import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
@@ -16,6 +17,8 @@ import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
 import akuma.whiplash.global.util.date.DateUtil;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -139,4 +142,86 @@ class AlarmOccurrenceRepositoryTest {
             assertThat(count).isZero();
         }
     }
+
+    @Nested
+    @DisplayName("findLatestDeactivatedByMemberId - 알람별 최근 비활성화 이력 일괄 조회")
+    class FindLatestDeactivatedByMemberIdTest {
+
+        @Test
+        @DisplayName("성공: 회원의 알람마다 가장 최근 OFF/CHECKIN 발생 내역 한 건씩만 반환한다")
+        void success() {
+            // given
+            MemberEntity member = memberRepository.save(MemberFixture.MEMBER_13.toEntity());
+            AlarmEntity alarm1 = alarmRepository.save(AlarmFixture.ALARM_13.toEntity(member));
+            AlarmEntity alarm2 = alarmRepository.save(AlarmFixture.ALARM_14.toEntity(member));
+            AlarmEntity alarm3 = alarmRepository.save(AlarmFixture.ALARM_15.toEntity(member));
+            LocalDate today = LocalDate.now();
+            LocalTime time = LocalTime.of(7, 0);
+
+            alarmOccurrenceRepository.save(AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm1, today.minusDays(2), time, DeactivateType.OFF));
+            AlarmOccurrenceEntity latest1 = alarmOccurrenceRepository.save(
+                AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm1, today.minusDays(1), time, DeactivateType.CHECKIN));
+            alarmOccurrenceRepository.save(AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm1, today, time, DeactivateType.NONE));
+            AlarmOccurrenceEntity latest2 = alarmOccurrenceRepository.save(
+                AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm2, today, time, DeactivateType.OFF));
+            alarmOccurrenceRepository.save(AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm3, today, time, DeactivateType.NONE));
+
+            // when
+            List<AlarmOccurrenceEntity> result = alarmOccurrenceRepository.findLatestDeactivatedByMemberId(
+                member.getId(), List.of(DeactivateType.OFF, DeactivateType.CHECKIN), today.minusDays(7)
+            );
+
+            // then
+            assertThat(result).extracting(AlarmOccurrenceEntity::getId)
+                .containsExactlyInAnyOrder(latest1.getId(), latest2.getId());
+        }
+
+        @Test
+        @DisplayName("성공: 조회 시작일 이전의 이력은 제외한다")
+        void success_excludesBeforeFromDate() {
+            // given
+            MemberEntity member = memberRepository.save(MemberFixture.MEMBER_14.toEntity());
+            AlarmEntity alarm1 = alarmRepository.save(AlarmFixture.ALARM_13.toEntity(member));
+            AlarmEntity alarm2 = alarmRepository.save(AlarmFixture.ALARM_14.toEntity(member));
+            LocalDate today = LocalDate.now();
+            LocalTime time = LocalTime.of(7, 0);
+
+            alarmOccurrenceRepository.save(AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm1, today.minusDays(40), time, DeactivateType.OFF));
+            AlarmOccurrenceEntity recent = alarmOccurrenceRepository.save(
+                AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm2, today, time, DeactivateType.OFF));
+
+            // when
+            List<AlarmOccurrenceEntity> result = alarmOccurrenceRepository.findLatestDeactivatedByMemberId(
+                member.getId(), List.of(DeactivateType.OFF, DeactivateType.CHECKIN), today
+            );
+
+            // then
+            assertThat(result).extracting(AlarmOccurrenceEntity::getId).containsExactly(recent.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementRingingCount - 울림 횟수 원자적 증가")
+    class IncrementRingingCountTest {
+
+        @Test
+        @DisplayName("성공: 울림 횟수를 DB에서 1씩 증가시키고 증가된 값을 조회한다")
+        void success() {
+            // given
+            MemberEntity member = memberRepository.save(MemberFixture.MEMBER_15.toEntity());
+            AlarmEntity alarm = alarmRepository.save(AlarmFixture.ALARM_15.toEntity(member));
+            LocalDate today = LocalDate.now();
+            AlarmOccurrenceEntity occurrence = alarmOccurrenceRepository.save(
+                AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm, today, LocalTime.of(7, 0), DeactivateType.NONE));
+
+            // when
+            int updated = alarmOccurrenceRepository.incrementRingingCount(occurrence.getId(), today, LocalDateTime.now());
+            alarmOccurrenceRepository.incrementRingingCount(occurrence.getId(), today, LocalDateTime.now());
+            int ringingCount = alarmOccurrenceRepository.findRingingCount(occurrence.getId(), today);
+
+            // then
+            assertThat(updated).isEqualTo(1);
+            assertThat(ringingCount).isEqualTo(occurrence.getRingingCount() + 2);
+        }
+    }
 }
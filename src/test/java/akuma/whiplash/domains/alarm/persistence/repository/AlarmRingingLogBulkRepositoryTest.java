@@ -0,0 +1,95 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.PersistenceTest;
+import akuma.whiplash.common.fixture.AlarmFixture;
+import akuma.whiplash.common.fixture.AlarmOccurrenceFixture;
+import akuma.whiplash.common.fixture.MemberFixture;
+import akuma.whiplash.domains.alarm.application.dto.etc.AlarmRingingLogRecord;
+import akuma.whiplash.domains.alarm.domain.constant.DeactivateType;
+import akuma.whiplash.domains.alarm.persistence.entity.AlarmEntity;
+import akuma.whiplash.domains.alarm.persistence.entity.AlarmOccurrenceEntity;
+import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
+import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@PersistenceTest
+@Import(AlarmRingingLogBulkRepository.class)
+class AlarmRingingLogBulkRepositoryTest {
+
+    @Autowired
+    private AlarmRingingLogBulkRepository alarmRingingLogBulkRepository;
+    @Autowired
+    private AlarmRingingLogRepository alarmRingingLogRepository;
+    @Autowired
+    private AlarmOccurrenceRepository alarmOccurrenceRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Nested
+    @DisplayName("insertAll - 울림 기록 다중 행 생성")
+    class InsertAllTest {
+
+        @Test
+        @DisplayName("성공: 모아 둔 울림 기록을 한 번에 생성하고 생성된 행 수를 반환한다")
+        void success() {
+            // given
+            MemberEntity member = memberRepository.save(MemberFixture.MEMBER_16.toEntity());
+            AlarmEntity alarm = alarmRepository.save(AlarmFixture.ALARM_16.toEntity(member));
+            AlarmOccurrenceEntity occurrence = alarmOccurrenceRepository.saveAndFlush(
+                AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm, LocalDate.now(), LocalTime.of(7, 0), DeactivateType.NONE));
+            LocalDateTime ringedAt = LocalDateTime.now();
+
+            List<AlarmRingingLogRecord> records = List.of(
+                new AlarmRingingLogRecord(occurrence.getId(), 1, ringedAt),
+                new AlarmRingingLogRecord(occurrence.getId(), 2, ringedAt.plusSeconds(10)),
+                new AlarmRingingLogRecord(occurrence.getId(), 3, ringedAt.plusSeconds(20))
+            );
+
+            // when
+            int inserted = alarmRingingLogBulkRepository.insertAll(records);
+
+            // then
+            assertThat(inserted).isEqualTo(3);
+            assertThat(alarmRingingLogRepository.count()).isGreaterThanOrEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("성공: 버퍼에 머무는 사이 삭제된 발생 내역의 울림 기록은 생성하지 않는다")
+        void success_skipDeletedOccurrence() {
+            // given
+            MemberEntity member = memberRepository.save(MemberFixture.MEMBER_16.toEntity());
+            AlarmEntity alarm = alarmRepository.save(AlarmFixture.ALARM_16.toEntity(member));
+            AlarmOccurrenceEntity occurrence = alarmOccurrenceRepository.saveAndFlush(
+                AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm, LocalDate.now(), LocalTime.of(7, 0), DeactivateType.NONE));
+            AlarmOccurrenceEntity deleted = alarmOccurrenceRepository.saveAndFlush(
+                AlarmOccurrenceFixture.ALARM_OCCURRENCE_01.toEntity(alarm, LocalDate.now().plusDays(1), LocalTime.of(7, 0), DeactivateType.NONE));
+            alarmOccurrenceRepository.delete(deleted);
+            alarmOccurrenceRepository.flush();
+            LocalDateTime ringedAt = LocalDateTime.now();
+
+            // when
+            int inserted = alarmRingingLogBulkRepository.insertAll(List.of(
+                new AlarmRingingLogRecord(occurrence.getId(), 1, ringedAt),
+                new AlarmRingingLogRecord(deleted.getId(), 1, ringedAt)
+            ));
+
+            // then
+            assertThat(inserted).isEqualTo(1);
+            assertThat(alarmRingingLogRepository.findAll())
+                .extracting(ringingLog -> ringingLog.getAlarmOccurrence().getId())
+                .doesNotContain(deleted.getId());
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.PersistenceTest;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스케줄러/조회 핫 쿼리가 Flyway 마이그레이션의 인덱스를 타는지 MySQL EXPLAIN으로 검증한다.
+ * - 옵티마이저가 실제와 비슷한 선택을 하도록 회원/알람/발생 내역을 충분히 적재하고 ANALYZE TABLE로 통계를 갱신
+ * - ANALYZE TABLE은 암묵적 커밋을 일으키므로 테스트 트랜잭션 없이 적재하고 종료 시 직접 정리
+ */
+@PersistenceTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("핫 쿼리 실행 계획 검증")
+class HotQueryExplainTest {
+
+    private static final String SOCIAL_ID_PREFIX = "explain-";
+    private static final int MEMBER_COUNT = 500;
+    private static final int OCCURRENCE_DAYS = 60;
+    private static final int OFF_LOG_PER_MEMBER = 10;
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 8, 27);
+    private static final LocalDateTime NOW = TODAY.atTime(7, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long sampleMemberId;
+    private Long sampleAlarmId;
+
+    @BeforeAll
+    void setUp() {
+        insertMembers();
+        List<Long> memberIds = jdbcTemplate.queryForList(
+            "SELECT id FROM member WHERE social_id LIKE ? ORDER BY id", Long.class, SOCIAL_ID_PREFIX + "%");
+
+        insertAlarms(memberIds);
+        List<Long> alarmIds = jdbcTemplate.queryForList("""
+            SELECT a.id FROM alarm a JOIN member m ON a.member_id = m.id
+            WHERE m.social_id LIKE ? ORDER BY a.id
+            """, Long.class, SOCIAL_ID_PREFIX + "%");
+
+        insertOccurrences(alarmIds);
+        insertOffLogs(memberIds, alarmIds);
+
+        jdbcTemplate.execute("ANALYZE TABLE member, alarm, alarm_occurrence, alarm_off_log");
+
+        sampleMemberId = memberIds.get(0);
+        sampleAlarmId = alarmIds.get(0);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("""
+            DELETE aol FROM alarm_off_log aol JOIN member m ON aol.member_id = m.id
+            WHERE m.social_id LIKE ?
+            """, SOCIAL_ID_PREFIX + "%");
+        jdbcTemplate.update("""
+            DELETE o FROM alarm_occurrence o JOIN alarm a ON o.alarm_id = a.id JOIN member m ON a.member_id = m.id
+            WHERE m.social_id LIKE ?
+            """, SOCIAL_ID_PREFIX + "%");
+        jdbcTemplate.update("""
+            DELETE a FROM alarm a JOIN member m ON a.member_id = m.id
+            WHERE m.social_id LIKE ?
+            """, SOCIAL_ID_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM member WHERE social_id LIKE ?", SOCIAL_ID_PREFIX + "%");
+    }
+
+    @Nested
+    @DisplayName("findReminderIndexTargets - 리마인드 인덱스 적재 대상 조회")
+    class ReminderIndexTargetsTest {
+
+        private static final String SQL = """
+            SELECT o.id, m.id, a.address, o.date, o.time
+            FROM alarm_occurrence o
+            JOIN alarm a ON a.id = o.alarm_id
+            JOIN member m ON m.id = a.member_id
+            WHERE o.date = ?
+              AND o.deactivate_type = ?
+              AND o.reminder_sent = false
+              AND m.push_notification_policy = true
+            """;
+
+        @Test
+        @DisplayName("성공: 하루치 적재 조회는 리마인드 인덱스로 범위 스캔한다")
+        void success() {
+            List<Map<String, Object>> plan = explain(SQL, Date.valueOf(TODAY), "NONE");
+
+            assertNoFullScan(plan);
+            assertThat(keyOf(plan, "o")).isEqualTo("idx_alarm_occurrence_reminder");
+            // date 등치 조건으로 월별 파티션 하나만 읽음
+            assertThat(partitionsOf(plan, "o")).doesNotContain(",");
+        }
+    }
+
+    @Nested
+    @DisplayName("countByMemberIdAndCreatedAtBetween - 주간 알람 OFF 횟수")
+    class CountOffLogTest {
+
+        @Test
+        @DisplayName("성공: 회원+생성 시각 인덱스로 범위 스캔한다")
+        void success() {
+            LocalDateTime weekStart = TODAY.with(DayOfWeek.MONDAY).atStartOfDay();
+
+            List<Map<String, Object>> plan = explain("""
+                SELECT COUNT(aol.id)
+                FROM alarm_off_log aol
+                WHERE aol.member_id = ?
+                  AND aol.created_at BETWEEN ? AND ?
+                """, sampleMemberId, Timestamp.valueOf(weekStart), Timestamp.valueOf(NOW));
+
+            assertNoFullScan(plan);
+            assertThat(keyOf(plan, "aol")).isEqualTo("idx_alarm_off_log_member_created");
+        }
+    }
+
+    @Nested
+    @DisplayName("findTopByAlarmIdAndDeactivateTypeIn... - 알람별 최근 발생 내역")
+    class LatestDeactivatedTest {
+
+        @Test
+        @DisplayName("성공: 알람 ID로 인덱스 조회한다")
+        void success() {
+            List<Map<String, Object>> plan = explain("""
+                SELECT o.id
+                FROM alarm_occurrence o
+                WHERE o.alarm_id = ?
+                  AND o.deactivate_type IN (?, ?)
+                  AND o.date >= ?
+                ORDER BY o.date DESC, o.time DESC
+                LIMIT 1
+                """, sampleAlarmId, "OFF", "CHECKIN", Date.valueOf(TODAY.minusDays(7)));
+
+            assertNoFullScan(plan);
+            assertThat(keyOf(plan, "o")).isNotNull();
+        }
+    }
+
+    private List<Map<String, Object>> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+    }
+
+    private void assertNoFullScan(List<Map<String, Object>> plan) {
+        assertThat(plan).allSatisfy(row ->
+            assertThat(row.get("type"))
+                .as("테이블 %s 전체 스캔 (plan=%s)", row.get("table"), plan)
+                .isNotEqualTo("ALL"));
+    }
+
+    private String keyOf(List<Map<String, Object>> plan, String table) {
+        return columnOf(plan, table, "key");
+    }
+
+    private String partitionsOf(List<Map<String, Object>> plan, String table) {
+        return columnOf(plan, table, "partitions");
+    }
+
+    private String columnOf(List<Map<String, Object>> plan, String table, String column) {
+        return plan.stream()
+            .filter(row -> table.equals(row.get("table")))
+            .findFirst()
+            .map(row -> (String) row.get(column))
+            .orElse(null);
+    }
+
+    private void insertMembers() {
+        Timestamp now = Timestamp.valueOf(NOW);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            rows.add(new Object[]{SOCIAL_ID_PREFIX + i, i % 2 == 0, now, now, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO member (social_id, email, nickname, role, privacy_policy, push_notification_policy,
+                                privacy_agreed_at, push_agreed_at, created_at, updated_at)
+            VALUES (?, 'explain@test.com', 'explain', 'USER', true, ?, ?, ?, ?, ?)
+            """, rows);
+    }
+
+    private void insertAlarms(List<Long> memberIds) {
+        Timestamp now = Timestamp.valueOf(NOW);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            // 하루 전체에 고르게 분포
+            LocalTime time = LocalTime.MIN.plusMinutes((i * 7L) % (24 * 60));
+            rows.add(new Object[]{memberIds.get(i), Time.valueOf(time), now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO alarm (member_id, alarm_purpose, time, repeat_mask, sound_type,
+                               latitude, longitude, address, created_at, updated_at)
+            VALUES (?, '출근', ?, 127, 'NONE', 37.5665, 126.9780, '서울시 중구', ?, ?)
+            """, rows);
+    }
+
+    private void insertOccurrences(List<Long> alarmIds) {
+        List<Map<String, Object>> alarms = jdbcTemplate.queryForList(
+            "SELECT id, time FROM alarm WHERE id BETWEEN ? AND ?", alarmIds.get(0), alarmIds.get(alarmIds.size() - 1));
+        Timestamp now = Timestamp.valueOf(NOW);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < alarms.size(); i++) {
+            Map<String, Object> alarm = alarms.get(i);
+            for (int day = 0; day < OCCURRENCE_DAYS; day++) {
+                LocalDate date = TODAY.minusDays(day);
+                // 과거 발생 내역은 모두 종료, 오늘은 일부만 아직 울리기 전(NONE + 리마인드 미발송)
+                boolean pending = day == 0 && i % 10 == 0;
+                String deactivateType = pending ? "NONE" : (i + day) % 3 == 0 ? "CHECKIN" : "OFF";
+                rows.add(new Object[]{alarm.get("id"), Date.valueOf(date), alarm.get("time"), deactivateType, !pending, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO alarm_occurrence (alarm_id, date, time, deactivate_type, alarm_ringing,
+                                          ringing_count, reminder_sent, created_at, updated_at)
+            VALUES (?, ?, ?, ?, false, 0, ?, ?, ?)
+            """, rows);
+    }
+
+    private void insertOffLogs(List<Long> memberIds, List<Long> alarmIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            for (int n = 0; n < OFF_LOG_PER_MEMBER; n++) {
+                Timestamp createdAt = Timestamp.valueOf(NOW.minusDays(n * 6L));
+                rows.add(new Object[]{alarmIds.get(i), memberIds.get(i), createdAt, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO alarm_off_log (alarm_id, member_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            """, rows);
+    }
+}
@@ -0,0 +1,133 @@
+package akuma.whiplash.domains.alarm.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.PersistenceTest;
+import akuma.whiplash.domains.alarm.application.dto.etc.PushOutboxMessage;
+import akuma.whiplash.domains.alarm.domain.constant.PushType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@PersistenceTest
+@Import(PushOutboxRepository.class)
+class PushOutboxRepositoryTest {
+
+    @Autowired
+    private PushOutboxRepository pushOutboxRepository;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 27, 7, 0);
+
+    private PushOutboxMessage reminder(Long occurrenceId) {
+        return PushOutboxMessage.builder()
+            .dedupKey(PushType.REMINDER.name() + ":" + occurrenceId)
+            .type(PushType.REMINDER)
+            .occurrenceId(occurrenceId)
+            .memberId(1L)
+            .address("서울시 중구")
+            .expiresAt(NOW.plusHours(1))
+            .build();
+    }
+
+    @Nested
+    @DisplayName("insertIgnore - 푸시 적재")
+    class InsertIgnoreTest {
+
+        @Test
+        @DisplayName("성공: 이미 적재된 푸시(dedup key 중복)는 건너뛰고 적재된 행 수만 반환한다")
+        void success_skipDuplicates() {
+            // given
+            pushOutboxRepository.insertIgnore(List.of(reminder(1L)), NOW);
+
+            // when
+            int inserted = pushOutboxRepository.insertIgnore(List.of(reminder(1L), reminder(2L)), NOW);
+
+            // then
+            assertThat(inserted).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("claim - 전송할 푸시 점유")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("성공: 점유한 푸시는 점유 만료 전까지 다시 점유되지 않는다")
+        void success_leased() {
+            // given
+            pushOutboxRepository.insertIgnore(List.of(reminder(1L), reminder(2L)), NOW);
+
+            // when
+            List<PushOutboxMessage> first = pushOutboxRepository.claim(NOW, NOW.plusMinutes(1), 10);
+            List<PushOutboxMessage> second = pushOutboxRepository.claim(NOW.plusSeconds(30), NOW.plusMinutes(2), 10);
+            List<PushOutboxMessage> afterLease = pushOutboxRepository.claim(NOW.plusMinutes(1), NOW.plusMinutes(2), 10);
+
+            // then
+            assertThat(first).extracting(PushOutboxMessage::occurrenceId).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(first.get(0).address()).isEqualTo("서울시 중구");
+            assertThat(second).isEmpty();
+            assertThat(afterLease).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("성공: 재시도 예약된 푸시는 다음 전송 시각 이후에 시도 횟수와 함께 다시 점유된다")
+        void success_rescheduled() {
+            // given
+            pushOutboxRepository.insertIgnore(List.of(reminder(1L)), NOW);
+            PushOutboxMessage claimed = pushOutboxRepository.claim(NOW, NOW.plusMinutes(1), 10).get(0);
+
+            // when
+            pushOutboxRepository.reschedule(Map.of(claimed, NOW.plusSeconds(5)), "FCM 전송 실패", NOW);
+
+            // then
+            assertThat(pushOutboxRepository.claim(NOW.plusSeconds(4), NOW.plusMinutes(1), 10)).isEmpty();
+            assertThat(pushOutboxRepository.claim(NOW.plusSeconds(5), NOW.plusMinutes(1), 10))
+                .extracting(PushOutboxMessage::attempts).containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("성공: 삭제되거나 DEAD 처리된 푸시는 점유되지 않는다")
+        void success_doneOrDead() {
+            // given
+            pushOutboxRepository.insertIgnore(List.of(reminder(1L), reminder(2L)), NOW);
+            List<PushOutboxMessage> claimed = pushOutboxRepository.claim(NOW, NOW, 10);
+
+            // when
+            pushOutboxRepository.deleteAll(List.of(claimed.get(0).id()));
+            pushOutboxRepository.markDead(List.of(claimed.get(1).id()), "expired", NOW);
+
+            // then
+            assertThat(pushOutboxRepository.claim(NOW.plusMinutes(5), NOW.plusMinutes(6), 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteDeadBefore - DEAD 푸시 정리")
+    class DeleteDeadBeforeTest {
+
+        @Test
+        @DisplayName("성공: 보존 기간이 지난 DEAD 푸시만 삭제하고, 전송 대기 중인 푸시와 최근 DEAD 푸시는 남긴다")
+        void success() {
+            // given
+            pushOutboxRepository.insertIgnore(List.of(reminder(1L), reminder(2L), reminder(3L)), NOW);
+            List<PushOutboxMessage> claimed = pushOutboxRepository.claim(NOW, NOW, 10);
+            pushOutboxRepository.markDead(List.of(claimed.get(0).id()), "expired", NOW.minusDays(8));
+            pushOutboxRepository.markDead(List.of(claimed.get(1).id()), "expired", NOW);
+
+            // when
+            int deleted = pushOutboxRepository.deleteDeadBefore(NOW.minusDays(7), 100);
+
+            // then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(pushOutboxRepository.deleteDeadBefore(NOW.plusSeconds(1), 100)).isEqualTo(1);
+            // 전송 대기 중인 푸시는 그대로 점유 가능
+            assertThat(pushOutboxRepository.claim(NOW.plusMinutes(5), NOW.plusMinutes(6), 10))
+                .extracting(PushOutboxMessage::id).containsExactly(claimed.get(2).id());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package akuma.whiplash.domains.auth.application.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import akuma.whiplash.common.config.LocalIdentityProvider;
+import akuma.whiplash.domains.auth.application.dto.etc.IdTokenSpec;
+import akuma.whiplash.global.exception.ApplicationException;
+import akuma.whiplash.global.response.code.CommonErrorCode;
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@DisplayName("IdTokenVerifier Unit Test")
+class IdTokenVerifierTest {
+
+    private static final String ISSUER = "https://appleid.apple.com";
+    private static final String CLIENT_ID = "akuma.whiplash";
+    private static final String SUBJECT = "001234.abcdef";
+
+    private LocalIdentityProvider idp;
+    private IdTokenSpec spec;
+
+    @BeforeEach
+    void setUp() {
+        idp = new LocalIdentityProvider();
+        spec = IdTokenSpec.builder()
+            .jwksUri(idp.jwksUri())
+            .issuers(Set.of(ISSUER))
+            .audiences(Set.of(CLIENT_ID))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        idp.close();
+    }
+
+    private IdTokenVerifier verifier(long minRefetchIntervalSeconds) {
+        return new IdTokenVerifier(new JwksCache(WebClient.create(), 3600, minRefetchIntervalSeconds));
+    }
+
+    private String validToken() {
+        return idp.issue(idp.claims(ISSUER, CLIENT_ID, SUBJECT).claim("email", "user@privaterelay.appleid.com").build());
+    }
+
+    private void assertBadRequest(ThrowingCallable verification) {
+        assertThatThrownBy(verification)
+            .satisfies(e -> {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                assertThat(cause).isInstanceOf(ApplicationException.class);
+                assertThat(((ApplicationException) cause).getCode()).isEqualTo(CommonErrorCode.BAD_REQUEST);
+            });
+    }
+
+    @Nested
+    @DisplayName("verify - 서명/클레임 검증")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("성공: 공개키로 서명을 검증하고 클레임을 반환한다")
+        void success() {
+            // when
+            JWTClaimsSet claims = verifier(30).verify(validToken(), spec).join();
+
+            // then
+            assertThat(claims.getSubject()).isEqualTo(SUBJECT);
+            assertThat(claims.getClaim("email")).isEqualTo("user@privaterelay.appleid.com");
+        }
+
+        @Test
+        @DisplayName("성공: 공개키를 캐싱해 두 번째 검증부터는 IdP를 호출하지 않고 바로 완료된다")
+        void success_cachedKeys() {
+            // given
+            IdTokenVerifier verifier = verifier(30);
+            verifier.verify(validToken(), spec).join();
+
+            // when
+            CompletableFuture<JWTClaimsSet> second = verifier.verify(validToken(), spec);
+
+            // then
+            assertThat(second).isCompletedWithValueMatching(claims -> SUBJECT.equals(claims.getSubject()));
+            assertThat(idp.jwksRequestCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 키가 교체되어 캐시에 없는 kid면 공개키를 다시 받아와 검증한다")
+        void success_kidMissRefetch() {
+            // given
+            IdTokenVerifier verifier = verifier(0);
+            verifier.verify(validToken(), spec).join();
+            idp.rotateKey();
+
+            // when
+            JWTClaimsSet claims = verifier.verify(validToken(), spec).join();
+
+            // then
+            assertThat(claims.getSubject()).isEqualTo(SUBJECT);
+            assertThat(idp.jwksRequestCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("실패: 알 수 없는 kid는 거부하고, 최소 간격 안에서는 공개키를 다시 받아오지 않는다")
+        void fail_unknownKidThrottled() {
+            // given
+            IdTokenVerifier verifier = verifier(3600);
+            verifier.verify(validToken(), spec).join();
+            String unknownKid = idp.issueWithUnpublishedKey(idp.claims(ISSUER, CLIENT_ID, SUBJECT).build());
+
+            // when & then
+            assertBadRequest(() -> verifier.verify(unknownKid, spec).join());
+            assertBadRequest(() -> verifier.verify(unknownKid, spec).join());
+            assertThat(idp.jwksRequestCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패: 서명이 위조된 토큰은 거부한다")
+        void fail_forgedSignature() {
+            String forged = idp.issueForgedSignature(idp.claims(ISSUER, CLIENT_ID, SUBJECT).build());
+
+            assertBadRequest(() -> verifier(30).verify(forged, spec).join());
+        }
+
+        @Test
+        @DisplayName("실패: 다른 앱(aud)에 발급된 토큰은 거부한다")
+        void fail_wrongAudience() {
+            String token = idp.issue(idp.claims(ISSUER, "other.app", SUBJECT).build());
+
+            assertBadRequest(() -> verifier(30).verify(token, spec).join());
+        }
+
+        @Test
+        @DisplayName("실패: 다른 발급자(iss)의 토큰은 거부한다")
+        void fail_wrongIssuer() {
+            String token = idp.issue(idp.claims("https://evil.example.com", CLIENT_ID, SUBJECT).build());
+
+            assertBadRequest(() -> verifier(30).verify(token, spec).join());
+        }
+
+        @Test
+        @DisplayName("실패: 만료된 토큰은 거부한다")
+        void fail_expired() {
+            String token = idp.issue(idp.claims(ISSUER, CLIENT_ID, SUBJECT)
+                .expirationTime(Date.from(Instant.now().minus(Duration.ofMinutes(5))))
+                .build());
+
+            assertBadRequest(() -> verifier(30).verify(token, spec).join());
+        }
+
+        @Test
+        @DisplayName("실패: JWT 형식이 아니면 거부한다")
+        void fail_malformed() {
+            assertBadRequest(() -> verifier(30).verify("not-a-jwt", spec));
+            assertThat(idp.jwksRequestCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package akuma.whiplash.domains.auth.application.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.domains.auth.application.dto.etc.SocialMemberInfo;
+import akuma.whiplash.domains.auth.application.dto.request.SocialLoginRequest;
+import java.io.IOException;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@DisplayName("KakaoVerifier Unit Test")
+class KakaoVerifierTest {
+
+    private static final String USER_INFO_BODY = """
+        {"id":1234567890,"properties":{"nickname":"휘플"},"kakao_account":{"email":"user@kakao.com"}}
+        """;
+
+    private MockWebServer kakao;
+    private KakaoVerifier kakaoVerifier;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        kakao = new MockWebServer();
+        kakao.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(USER_INFO_BODY);
+            }
+        });
+        kakao.start();
+
+        String baseUrl = "http://" + kakao.getHostName() + ":" + kakao.getPort();
+        kakaoVerifier = new KakaoVerifier(WebClient.create(), baseUrl, 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        kakao.shutdown();
+    }
+
+    private SocialLoginRequest request(String token) {
+        return new SocialLoginRequest("KAKAO", token, "device_id");
+    }
+
+    @Nested
+    @DisplayName("verify - 카카오 토큰 검증")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("성공: 카카오 사용자 정보로 회원 정보를 만든다")
+        void success() throws InterruptedException {
+            // when
+            SocialMemberInfo info = kakaoVerifier.verify(request("kakao-token")).join();
+
+            // then
+            assertThat(info.socialId()).isEqualTo("KAKAO_1234567890");
+            assertThat(info.email()).isEqualTo("user@kakao.com");
+            assertThat(info.name()).isEqualTo("휘플");
+            assertThat(kakao.takeRequest().getHeader("Authorization")).isEqualTo("Bearer kakao-token");
+        }
+
+        @Test
+        @DisplayName("성공: 같은 토큰은 캐싱된 결과를 사용해 카카오를 한 번만 호출한다")
+        void success_cachedByToken() {
+            // when
+            kakaoVerifier.verify(request("kakao-token")).join();
+            kakaoVerifier.verify(request("kakao-token")).join();
+
+            // then
+            assertThat(kakao.getRequestCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 다른 토큰은 캐시를 공유하지 않고 각각 카카오를 호출한다")
+        void success_differentToken() {
+            // when
+            kakaoVerifier.verify(request("kakao-token-1")).join();
+            kakaoVerifier.verify(request("kakao-token-2")).join();
+
+            // then
+            assertThat(kakao.getRequestCount()).isEqualTo(2);
+        }
+    }
+}
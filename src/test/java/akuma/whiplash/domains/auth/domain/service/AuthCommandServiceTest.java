@@ -13,7 +13,6 @@ import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
 import akuma.whiplash.global.config.security.jwt.JwtProvider;
 import akuma.whiplash.global.config.security.jwt.JwtUtils;
 import akuma.whiplash.global.exception.ApplicationException;
-import akuma.whiplash.infrastructure.redis.RedisRepository;
 import akuma.whiplash.infrastructure.redis.RedisService;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,7 +30,6 @@ class AuthCommandServiceTest {
 
     @Mock private Map<String, Object> verifierMap = new HashMap<>();
     @Mock private MemberRepository memberRepository;
-    @Mock private RedisRepository redisRepository;
     @Mock private JwtProvider jwtProvider;
     @Mock private JwtUtils jwtUtils;
     @Mock private RedisService redisService;
@@ -8,10 +8,14 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import akuma.whiplash.common.fixture.MemberFixture;
+import akuma.whiplash.domains.alarm.domain.service.PreAlarmReminderIndex;
+import akuma.whiplash.domains.alarm.domain.service.WeeklyOffCounter;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrencePartitionRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOccurrenceRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmOffLogRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRepository;
 import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingLogRepository;
+import akuma.whiplash.domains.alarm.persistence.repository.AlarmRingingSummaryRepository;
 import akuma.whiplash.domains.member.exception.MemberErrorCode;
 import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
 import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
@@ -38,10 +42,15 @@ class MemberCommandServiceTest {
     private MemberRepository memberRepository;
     @Mock private AlarmRepository alarmRepository;
     @Mock private AlarmOccurrenceRepository alarmOccurrenceRepository;
+    @Mock private AlarmOccurrencePartitionRepository alarmOccurrencePartitionRepository;
     @Mock private AlarmOffLogRepository alarmOffLogRepository;
     @Mock private AlarmRingingLogRepository alarmRingingLogRepository;
+    @Mock private AlarmRingingSummaryRepository alarmRingingSummaryRepository;
     @Mock private JwtUtils jwtUtils;
     @Mock private RedisService redisService;
+    @Mock private PreAlarmReminderIndex preAlarmReminderIndex;
+    @Mock private MemberStatusCache memberStatusCache;
+    @Mock private WeeklyOffCounter weeklyOffCounter;
 
     @Nested
     @DisplayName("modifyPushNotificationPolicy - 회원 푸시 알림 수신 동의 변경")
@@ -0,0 +1,90 @@
+package akuma.whiplash.domains.member.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.common.fixture.MemberFixture;
+import akuma.whiplash.domains.member.domain.contants.Role;
+import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
+import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("MemberStatusCache Unit Test")
+@ExtendWith(MockitoExtension.class)
+class MemberStatusCacheTest {
+
+    @Mock private MemberRepository memberRepository;
+
+    private MemberStatusCache memberStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        memberStatusCache = new MemberStatusCache(memberRepository, 60, 100);
+    }
+
+    @Nested
+    @DisplayName("getRole - 회원 현재 권한 조회")
+    class GetRoleTest {
+
+        @Test
+        @DisplayName("성공: 같은 회원을 여러 번 조회해도 DB는 한 번만 조회한다")
+        void success_cached() {
+            // given
+            MemberEntity member = MemberFixture.MEMBER_1.toMockEntity();
+            given(memberRepository.findById(member.getId())).willReturn(Optional.of(member));
+
+            // when
+            memberStatusCache.getRole(member.getId());
+            Optional<Role> role = memberStatusCache.getRole(member.getId());
+
+            // then
+            assertThat(role).contains(member.getRole());
+            verify(memberRepository, times(1)).findById(member.getId());
+        }
+
+        @Test
+        @DisplayName("성공: 존재하지 않는 회원이면 empty를 반환한다")
+        void success_memberNotFound() {
+            // given
+            given(memberRepository.findById(999L)).willReturn(Optional.empty());
+
+            // when
+            Optional<Role> role = memberStatusCache.getRole(999L);
+
+            // then
+            assertThat(role).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict - 회원 상태 캐시 무효화")
+    class EvictTest {
+
+        @Test
+        @DisplayName("성공: 탈퇴 후 무효화하면 다음 조회에서 탈퇴 상태가 반영된다")
+        void success_afterHardDelete() {
+            // given
+            MemberEntity member = MemberFixture.MEMBER_1.toMockEntity();
+            given(memberRepository.findById(member.getId()))
+                .willReturn(Optional.of(member))
+                .willReturn(Optional.empty());
+            memberStatusCache.getRole(member.getId());
+
+            // when
+            memberStatusCache.evict(member.getId());
+
+            // then
+            assertThat(memberStatusCache.getRole(member.getId())).isEmpty();
+            verify(memberRepository, times(2)).findById(member.getId());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package akuma.whiplash.domains.place.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.domains.place.application.dto.response.PlaceDetailResponse;
+import akuma.whiplash.domains.place.domain.util.Geohash;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@DisplayName("PlaceDetailCache Unit Test")
+@ExtendWith(MockitoExtension.class)
+class PlaceDetailCacheTest {
+
+    private static final int PRECISION = 8;
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+    private static final String KEY = "place:geocode:" + Geohash.encode(LATITUDE, LONGITUDE, PRECISION);
+    private static final PlaceDetailResponse DETAIL = PlaceDetailResponse.builder()
+        .address("서울특별시 중구 태평로1가 세종대로 110")
+        .name("서울특별시청")
+        .build();
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private PlaceDetailCache placeDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        placeDetailCache = new PlaceDetailCache(
+            redisTemplate, objectMapper, meterRegistry, PRECISION, 100, 3600, 86400, 600);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("place.geocode.cache", "result", result).count();
+    }
+
+    @Nested
+    @DisplayName("get - 역지오코딩 결과 캐시 조회")
+    class GetTest {
+
+        @Test
+        @DisplayName("성공: 미스면 셀 중심 좌표로 조회해 캐싱하고, 같은 셀의 다른 좌표는 로컬 캐시에서 반환한다")
+        void success_missThenLocalHit() {
+            // given
+            List<double[]> requested = new ArrayList<>();
+            BiFunction<Double, Double, CompletableFuture<Optional<PlaceDetailResponse>>> loader = (lat, lon) -> {
+                requested.add(new double[]{lat, lon});
+                return CompletableFuture.completedFuture(Optional.of(DETAIL));
+            };
+            Geohash.Center center = Geohash.centerOf(Geohash.encode(LATITUDE, LONGITUDE, PRECISION));
+
+            // when
+            Optional<PlaceDetailResponse> first = placeDetailCache.get(LATITUDE, LONGITUDE, loader).join();
+            Optional<PlaceDetailResponse> second = placeDetailCache.get(center.latitude(), center.longitude(), loader).join();
+
+            // then
+            assertThat(first).contains(DETAIL);
+            assertThat(second).contains(DETAIL);
+            assertThat(requested).singleElement()
+                .satisfies(coord -> assertThat(coord).containsExactly(center.latitude(), center.longitude()));
+            verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofSeconds(86400)));
+            assertThat(count("miss")).isEqualTo(1);
+            assertThat(count("local_hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: Redis에 있으면 외부 API를 호출하지 않는다")
+        void success_redisHit() throws Exception {
+            // given
+            given(valueOperations.get(KEY)).willReturn(objectMapper.writeValueAsString(DETAIL));
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            Optional<PlaceDetailResponse> detail = placeDetailCache.get(LATITUDE, LONGITUDE, (lat, lon) -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(Optional.of(DETAIL));
+            }).join();
+
+            // then
+            assertThat(detail).contains(DETAIL);
+            assertThat(calls).hasValue(0);
+            verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+            assertThat(count("redis_hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 결과가 없는 셀은 짧은 TTL로 캐싱해 다시 호출하지 않는다")
+        void success_negativeCaching() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+            BiFunction<Double, Double, CompletableFuture<Optional<PlaceDetailResponse>>> emptyLoader = (lat, lon) -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(Optional.empty());
+            };
+
+            // when
+            Optional<PlaceDetailResponse> first = placeDetailCache.get(LATITUDE, LONGITUDE, emptyLoader).join();
+            Optional<PlaceDetailResponse> second = placeDetailCache.get(LATITUDE, LONGITUDE, emptyLoader).join();
+
+            // then
+            assertThat(first).isEmpty();
+            assertThat(second).isEmpty();
+            assertThat(calls).hasValue(1);
+            verify(valueOperations).set(KEY, "EMPTY", Duration.ofSeconds(600));
+        }
+
+        @Test
+        @DisplayName("성공: Redis의 결과 없음 표시도 캐시 적중으로 처리한다")
+        void success_negativeRedisHit() {
+            // given
+            given(valueOperations.get(KEY)).willReturn("EMPTY");
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            Optional<PlaceDetailResponse> detail = placeDetailCache.get(LATITUDE, LONGITUDE, (lat, lon) -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(Optional.of(DETAIL));
+            }).join();
+
+            // then
+            assertThat(detail).isEmpty();
+            assertThat(calls).hasValue(0);
+        }
+    }
+}
@@ -2,10 +2,14 @@ package akuma.whiplash.domains.place.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 
 import akuma.whiplash.domains.place.application.dto.response.PlaceInfoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -16,6 +20,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
@@ -39,7 +44,11 @@ class PlaceQueryServiceTest {
             .build();
 
         // ✅ 구현체가 WebClient를 주입받아 상대경로로 호출한다고 가정
-        placeQueryService = new PlaceQueryServiceImpl(webClient);
+        // Redis 없이 로컬 캐시 + 외부 API만으로 동작
+        PlaceSearchCache placeSearchCache = new PlaceSearchCache(mock(StringRedisTemplate.class), new ObjectMapper(), 100, 60, 60);
+        PlaceDetailCache placeDetailCache = new PlaceDetailCache(
+            mock(StringRedisTemplate.class), new ObjectMapper(), new SimpleMeterRegistry(), 8, 100, 60, 60, 60);
+        placeQueryService = new PlaceQueryServiceImpl(webClient, placeSearchCache, placeDetailCache);
     }
 
     @AfterEach
@@ -66,7 +75,7 @@ class PlaceQueryServiceTest {
                 .addHeader("Content-Type", "application/json"));
 
             // when
-            List<PlaceInfoResponse> responses = placeQueryService.searchPlaces("카페");
+            List<PlaceInfoResponse> responses = placeQueryService.searchPlaces("카페").join();
 
             // then
             assertThat(responses).hasSize(1);
@@ -90,8 +99,9 @@ class PlaceQueryServiceTest {
             mockWebServer.enqueue(new MockResponse().setResponseCode(400));
 
             // when & then (구현이 retrieve() 기본 onStatus 사용 시 WebClientResponseException 발생)
-            assertThatThrownBy(() -> placeQueryService.searchPlaces("카페"))
-                .isInstanceOf(WebClientResponseException.class);
+            assertThatThrownBy(() -> placeQueryService.searchPlaces("카페").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(WebClientResponseException.class);
 
             // ✅ 요청이 MockWebServer로 갔는지 확인
             RecordedRequest req = mockWebServer.takeRequest(3, TimeUnit.SECONDS);
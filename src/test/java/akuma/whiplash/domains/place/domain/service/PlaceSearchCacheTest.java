@@ -0,0 +1,161 @@
+package akuma.whiplash.domains.place.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import akuma.whiplash.domains.place.application.dto.response.NaverPlaceItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@DisplayName("PlaceSearchCache Unit Test")
+@ExtendWith(MockitoExtension.class)
+class PlaceSearchCacheTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PlaceSearchCache placeSearchCache;
+
+    private static final List<NaverPlaceItem> ITEMS = List.of(NaverPlaceItem.builder()
+        .title("<b>스타벅스</b> 강남점")
+        .address("서울특별시 강남구 역삼동 825")
+        .roadAddress("서울특별시 강남구 강남대로 390")
+        .mapx("1270276000")
+        .mapy("374979000")
+        .build());
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        placeSearchCache = new PlaceSearchCache(redisTemplate, objectMapper, 100, 60, 3600);
+    }
+
+    private Function<String, CompletableFuture<List<NaverPlaceItem>>> countingLoader(AtomicInteger calls) {
+        return query -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(ITEMS);
+        };
+    }
+
+    @Nested
+    @DisplayName("get - 검색 결과 캐시 조회")
+    class GetTest {
+
+        @Test
+        @DisplayName("성공: 미스면 외부 API 결과를 Redis에 저장하고, 이후 같은 검색어는 로컬 캐시에서 반환한다")
+        void success_missThenLocalHit() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            List<NaverPlaceItem> first = placeSearchCache.get("스타벅스", countingLoader(calls)).join();
+            List<NaverPlaceItem> second = placeSearchCache.get("스타벅스", countingLoader(calls)).join();
+
+            // then
+            assertThat(calls).hasValue(1);
+            assertThat(first).hasSize(1);
+            assertThat(second).isSameAs(first);
+            verify(valueOperations).set(eq("place:search:스타벅스"), anyString(), eq(Duration.ofSeconds(3600)));
+        }
+
+        @Test
+        @DisplayName("성공: Redis에 있으면 외부 API를 호출하지 않는다")
+        void success_redisHit() throws Exception {
+            // given
+            given(valueOperations.get("place:search:스타벅스")).willReturn(objectMapper.writeValueAsString(ITEMS));
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            List<NaverPlaceItem> items = placeSearchCache.get("스타벅스", countingLoader(calls)).join();
+
+            // then
+            assertThat(calls).hasValue(0);
+            assertThat(items).singleElement()
+                .extracting(NaverPlaceItem::getRoadAddress)
+                .isEqualTo("서울특별시 강남구 강남대로 390");
+            verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("성공: 공백/대소문자만 다른 검색어는 같은 캐시 항목을 쓴다")
+        void success_normalizedKey() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            placeSearchCache.get("  강남   Cafe ", countingLoader(calls)).join();
+            placeSearchCache.get("강남 cafe", countingLoader(calls)).join();
+
+            // then
+            assertThat(calls).hasValue(1);
+            assertThat(PlaceSearchCache.normalize("  강남   Cafe ")).isEqualTo("강남 cafe");
+        }
+
+        @Test
+        @DisplayName("성공: 같은 검색어의 동시 미스는 외부 API를 한 번만 호출하고, 응답 전에도 기다리지 않고 future를 반환한다")
+        void success_singleFlight() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+            CompletableFuture<List<NaverPlaceItem>> upstream = new CompletableFuture<>();
+            Function<String, CompletableFuture<List<NaverPlaceItem>>> pendingLoader = query -> {
+                calls.incrementAndGet();
+                return upstream;
+            };
+
+            // when (외부 API 응답 전)
+            List<CompletableFuture<List<NaverPlaceItem>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(placeSearchCache.get("스타벅스", pendingLoader));
+            }
+
+            // then
+            assertThat(futures).noneMatch(CompletableFuture::isDone);
+            assertThat(calls).hasValue(1);
+
+            upstream.complete(ITEMS);
+            assertThat(futures).allSatisfy(future -> assertThat(future.join()).hasSize(1));
+            verify(valueOperations).set(eq("place:search:스타벅스"), anyString(), eq(Duration.ofSeconds(3600)));
+        }
+
+        @Test
+        @DisplayName("실패: 외부 API 실패는 캐싱하지 않고 다음 요청에서 다시 호출한다")
+        void fail_loaderErrorNotCached() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+
+            // when & then
+            CompletableFuture<List<NaverPlaceItem>> failed = placeSearchCache.get("스타벅스", query -> {
+                calls.incrementAndGet();
+                return CompletableFuture.failedFuture(new IllegalStateException("upstream error"));
+            });
+            assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+            placeSearchCache.get("스타벅스", countingLoader(calls)).join();
+            assertThat(calls).hasValue(2);
+        }
+    }
+}
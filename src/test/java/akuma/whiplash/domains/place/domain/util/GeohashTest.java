@@ -0,0 +1,58 @@
+package akuma.whiplash.domains.place.domain.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Geohash Unit Test")
+class GeohashTest {
+
+    @Nested
+    @DisplayName("encode - 좌표 → geohash")
+    class EncodeTest {
+
+        @Test
+        @DisplayName("성공: 알려진 좌표를 표준 geohash로 인코딩한다")
+        void success_knownValue() {
+            assertThat(Geohash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        }
+
+        @Test
+        @DisplayName("성공: 가까운 좌표(약 5m 차이)는 정밀도 8에서 같은 셀이다")
+        void success_nearbySameCell() {
+            // 서울시청 부근 셀 중심 기준 ±0.00002도(약 2m) 이동
+            Geohash.Center center = Geohash.centerOf(Geohash.encode(37.5665, 126.9780, 8));
+
+            assertThat(Geohash.encode(center.latitude() + 0.00002, center.longitude() - 0.00002, 8))
+                .isEqualTo(Geohash.encode(center.latitude() - 0.00002, center.longitude() + 0.00002, 8));
+        }
+    }
+
+    @Nested
+    @DisplayName("centerOf - geohash 셀 중심 좌표")
+    class CenterOfTest {
+
+        @Test
+        @DisplayName("성공: 셀 중심 좌표는 원래 좌표와 셀 크기 이내로 가깝고 같은 셀로 다시 인코딩된다")
+        void success_roundTrip() {
+            String geohash = Geohash.encode(37.5665, 126.9780, 8);
+
+            Geohash.Center center = Geohash.centerOf(geohash);
+
+            assertThat(center.latitude()).isCloseTo(37.5665, within(0.0002));
+            assertThat(center.longitude()).isCloseTo(126.9780, within(0.0004));
+            assertThat(Geohash.encode(center.latitude(), center.longitude(), 8)).isEqualTo(geohash);
+        }
+
+        @Test
+        @DisplayName("실패: base32 문자가 아니면 예외를 던진다")
+        void fail_invalidCharacter() {
+            assertThatThrownBy(() -> Geohash.centerOf("wydm9a"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -2,7 +2,10 @@ package akuma.whiplash.domains.place.presentation;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import akuma.whiplash.domains.place.application.dto.response.PlaceInfoResponse;
@@ -12,6 +15,7 @@ import akuma.whiplash.global.config.security.jwt.JwtAuthenticationFilter;
 import akuma.whiplash.global.exception.ApplicationException;
 import akuma.whiplash.global.response.code.CommonErrorCode;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(
     controllers = PlaceController.class,
@@ -57,11 +62,17 @@ class PlaceControllerTest {
                     .longitude(127.0)
                     .build()
             );
-            when(placeUseCase.searchPlaces(anyString())).thenReturn(responses);
+            when(placeUseCase.searchPlaces(anyString())).thenReturn(CompletableFuture.completedFuture(responses));
 
-            // when & then
-            mockMvc.perform(get(BASE + "/search").param("query", "카페"))
-                .andExpect(status().isOk());
+            // when
+            MvcResult result = mockMvc.perform(get(BASE + "/search").param("query", "카페"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result[0].name").value("카페"));
         }
 
         @Test
@@ -83,5 +94,22 @@ class PlaceControllerTest {
             mockMvc.perform(get(BASE + "/search").param("query", "카페"))
                 .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("실패: 비동기 조회가 예외로 끝나면 400과 에러 코드를 반환한다")
+        void fail_asyncFailure() throws Exception {
+            // given
+            when(placeUseCase.searchPlaces(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(ApplicationException.from(CommonErrorCode.BAD_REQUEST)));
+
+            // when
+            MvcResult result = mockMvc.perform(get(BASE + "/search").param("query", "카페"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+        }
     }
 }
\ No newline at end of file
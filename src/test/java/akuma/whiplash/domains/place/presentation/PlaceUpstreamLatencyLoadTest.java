@@ -0,0 +1,203 @@
+package akuma.whiplash.domains.place.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.MySQLContainerInitializer;
+import akuma.whiplash.common.config.RedisContainerInitializer;
+import akuma.whiplash.common.fixture.MemberFixture;
+import akuma.whiplash.domains.member.persistence.entity.MemberEntity;
+import akuma.whiplash.domains.member.persistence.repository.MemberRepository;
+import akuma.whiplash.global.config.security.jwt.JwtProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 외부 API(네이버 검색)가 느릴 때 장소 API가 서블릿 스레드를 점유하지 않는지 실제 Tomcat으로 검증한다.
+ * - 서블릿 스레드를 TOMCAT_THREADS개로 줄이고, 지연을 주입한 로컬 스텁 서버를 외부 API로 사용
+ * - 스레드 수보다 많은 장소 검색 요청이 외부 API 응답을 기다리는 동안 알람 목록 API의 응답 시간을 측정
+ * - 블로킹 호출이었다면 장소 요청이 스레드를 모두 잡아 알람 요청이 외부 API 지연만큼 밀린다
+ */
+@Slf4j
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "server.tomcat.threads.max=" + PlaceUpstreamLatencyLoadTest.TOMCAT_THREADS,
+        "server.tomcat.threads.min-spare=" + PlaceUpstreamLatencyLoadTest.TOMCAT_THREADS
+    }
+)
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {
+    MySQLContainerInitializer.class,
+    RedisContainerInitializer.class
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("외부 API 지연 부하 테스트")
+class PlaceUpstreamLatencyLoadTest {
+
+    static final int TOMCAT_THREADS = 4;
+
+    private static final Duration UPSTREAM_DELAY = Duration.ofSeconds(2);
+    private static final int SLOW_REQUESTS = TOMCAT_THREADS * 3;
+    private static final int ALARM_REQUESTS = 20;
+
+    private static final String SEARCH_BODY = """
+        {"items":[{"title":"<b>카페</b>","address":"서울특별시 강남구 역삼동 825",
+                   "roadAddress":"서울특별시 강남구 강남대로 390","mapx":"1270276000","mapy":"374979000"}]}
+        """;
+
+    private static final MockWebServer upstream = new MockWebServer();
+
+    static {
+        upstream.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(SEARCH_BODY)
+                    .setHeadersDelay(UPSTREAM_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    @DynamicPropertySource
+    static void registerUpstream(DynamicPropertyRegistry registry) {
+        registry.add("naver.search.base-url", () -> "http://" + upstream.getHostName() + ":" + upstream.getPort());
+    }
+
+    @AfterAll
+    static void shutdownUpstream() throws IOException {
+        upstream.shutdown();
+    }
+
+    @LocalServerPort private int port;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private JwtProvider jwtProvider;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private MemberEntity member;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.MEMBER_1.toEntity());
+        authorization = "Bearer " + jwtProvider.generateAccessToken(member.getId(), member.getRole(), "load_test_device");
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("성공: 외부 API 응답을 기다리는 장소 검색이 서블릿 스레드보다 많아도 알람 API는 지연 없이 응답한다")
+    void alarmApiNotBlockedBySlowUpstream() throws Exception {
+        // given (커넥션 풀, JIT 등 워밍업)
+        assertThat(send(alarmRequest()).statusCode()).isEqualTo(200);
+        int requestCountBefore = upstream.getRequestCount();
+
+        // when: 캐시에 없는 검색어로 서블릿 스레드 수보다 많은 장소 검색 요청을 동시에 보냄
+        String prefix = UUID.randomUUID().toString();
+        List<CompletableFuture<HttpResponse<String>>> slowResponses = new ArrayList<>();
+        for (int i = 0; i < SLOW_REQUESTS; i++) {
+            slowResponses.add(httpClient.sendAsync(placeSearchRequest(prefix + i), HttpResponse.BodyHandlers.ofString()));
+        }
+        awaitUpstreamRequests(requestCountBefore + SLOW_REQUESTS, UPSTREAM_DELAY.dividedBy(2));
+
+        // 장소 검색이 외부 API 응답을 기다리는 동안 알람 목록 API 호출
+        long maxLatencyMillis = 0;
+        long burstStart = System.nanoTime();
+        for (int i = 0; i < ALARM_REQUESTS; i++) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = send(alarmRequest());
+            maxLatencyMillis = Math.max(maxLatencyMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        long burstMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - burstStart));
+        boolean slowStillPending = slowResponses.stream().noneMatch(CompletableFuture::isDone);
+
+        log.info("[LoadTest] 외부 API 지연 {}ms, 대기 중 장소 요청 {}건, 알람 API {}건 {}ms (최대 {}ms, {} req/s)",
+            UPSTREAM_DELAY.toMillis(), SLOW_REQUESTS, ALARM_REQUESTS, burstMillis, maxLatencyMillis,
+            ALARM_REQUESTS * 1000L / burstMillis);
+
+        // then
+        // 모든 장소 요청이 스레드 수와 관계없이 동시에 외부 API까지 도달
+        assertThat(upstream.getRequestCount() - requestCountBefore).isEqualTo(SLOW_REQUESTS);
+        // 알람 API는 외부 API 지연의 영향을 받지 않음 (측정하는 동안 장소 요청은 아직 대기 중)
+        assertThat(slowStillPending).isTrue();
+        assertThat(maxLatencyMillis).isLessThan(UPSTREAM_DELAY.toMillis() / 2);
+
+        // 장소 요청도 외부 API 지연 한 번만큼만 걸려 모두 정상 응답
+        for (CompletableFuture<HttpResponse<String>> slowResponse : slowResponses) {
+            HttpResponse<String> response = slowResponse.get(UPSTREAM_DELAY.toMillis() * 3, TimeUnit.MILLISECONDS);
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).contains("강남대로 390");
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest alarmRequest() {
+        return HttpRequest.newBuilder(URI.create(baseUrl() + "/api/alarms"))
+            .header("Authorization", authorization)
+            .timeout(Duration.ofSeconds(10))
+            .GET()
+            .build();
+    }
+
+    private HttpRequest placeSearchRequest(String query) {
+        String encoded = URLEncoder.encode(query, StandardCharsets.UTF_8);
+        return HttpRequest.newBuilder(URI.create(baseUrl() + "/api/places/search?query=" + encoded))
+            .header("Authorization", authorization)
+            .timeout(Duration.ofSeconds(10))
+            .GET()
+            .build();
+    }
+
+    private void awaitUpstreamRequests(int expected, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (upstream.getRequestCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+}
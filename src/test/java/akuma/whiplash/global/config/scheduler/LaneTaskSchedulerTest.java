@@ -0,0 +1,109 @@
+package akuma.whiplash.global.config.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.Trigger;
+
+@DisplayName("LaneTaskScheduler Unit Test")
+class LaneTaskSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LaneTaskScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.destroy();
+        }
+    }
+
+    private LaneTaskScheduler createScheduler(OverrunPolicy policy) {
+        LaneTaskScheduler laneTaskScheduler = new LaneTaskScheduler("test", 1, 1, policy, meterRegistry);
+        laneTaskScheduler.initialize();
+        return laneTaskScheduler;
+    }
+
+    // 10ms 간격으로 fireCount번만 실행 시각을 돌려주는 트리거
+    private Trigger fixedTimes(int fireCount, CountDownLatch allFired) {
+        AtomicInteger fired = new AtomicInteger();
+        return context -> {
+            if (fired.getAndIncrement() >= fireCount) {
+                allFired.countDown();
+                return null;
+            }
+            return Instant.now().plusMillis(10);
+        };
+    }
+
+    /**
+     * 첫 실행이 모든 트리거가 끝날 때까지 붙잡혀 있는 작업을 실행하고 총 실행 횟수를 반환
+     */
+    private int runWithBlockedFirstExecution(OverrunPolicy policy) throws InterruptedException {
+        scheduler = createScheduler(policy);
+
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch allFired = new CountDownLatch(1);
+
+        scheduler.schedule(() -> {
+            if (runs.incrementAndGet() == 1) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, fixedTimes(5, allFired));
+
+        assertThat(allFired.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        Thread.sleep(200);
+        return runs.get();
+    }
+
+    @Nested
+    @DisplayName("overrun-policy - 이전 실행이 끝나기 전 다음 실행 처리")
+    class OverrunPolicyTest {
+
+        @Test
+        @DisplayName("성공: SKIP이면 실행 중에 돌아온 실행은 모두 건너뛴다")
+        void success_skip() throws InterruptedException {
+            int runs = runWithBlockedFirstExecution(OverrunPolicy.SKIP);
+
+            assertThat(runs).isEqualTo(1);
+            assertThat(meterRegistry.counter("scheduler.lane.overrun", "lane", "test", "policy", "SKIP").count())
+                .isPositive();
+        }
+
+        @Test
+        @DisplayName("성공: COALESCE이면 밀린 실행을 하나로 합쳐 한 번만 이어서 실행한다")
+        void success_coalesce() throws InterruptedException {
+            int runs = runWithBlockedFirstExecution(OverrunPolicy.COALESCE);
+
+            assertThat(runs).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("gauge - 레인 지표")
+    class GaugeTest {
+
+        @Test
+        @DisplayName("성공: 레인별 실행 중 스레드 수와 대기열 길이 게이지를 등록한다")
+        void success() {
+            scheduler = createScheduler(OverrunPolicy.SKIP);
+
+            assertThat(meterRegistry.find("scheduler.lane.active").tag("lane", "test").gauge()).isNotNull();
+            assertThat(meterRegistry.find("scheduler.lane.queue").tag("lane", "test").gauge()).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package akuma.whiplash.global.util.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.global.util.batch.BatchingWriter.OverflowPolicy;
+import akuma.whiplash.global.util.batch.BatchingWriter.Sink;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BatchingWriter Unit Test")
+class BatchingWriterTest {
+
+    private BatchingWriter<String> writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    /**
+     * 기록된 배치를 보관하고, 기대한 배치 수만큼 기록되면 latch를 내리는 테스트용 sink
+     */
+    private static class RecordingSink implements Sink<String> {
+
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        RecordingSink(int expectedBatches) {
+            this.latch = new CountDownLatch(expectedBatches);
+        }
+
+        @Override
+        public void write(List<String> batch) {
+            batches.add(batch);
+            latch.countDown();
+        }
+
+        int itemCount() {
+            return batches.stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private BatchingWriter<String> writer(RecordingSink sink, int queueCapacity, int batchSize, long flushIntervalMillis,
+                                          OverflowPolicy overflowPolicy) {
+        return new BatchingWriter<>("test", sink, queueCapacity, batchSize, flushIntervalMillis, overflowPolicy);
+    }
+
+    @Nested
+    @DisplayName("offer - 배치 기록")
+    class OfferTest {
+
+        @Test
+        @DisplayName("성공: batch-size만큼 모이면 한 번에 기록한다")
+        void success_flushBySize() throws InterruptedException {
+            // given
+            RecordingSink sink = new RecordingSink(1);
+            writer = writer(sink, 100, 3, 60_000, OverflowPolicy.DROP);
+            writer.start();
+
+            // when
+            writer.offer("a");
+            writer.offer("b");
+            writer.offer("c");
+
+            // then
+            assertThat(sink.latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(sink.batches.get(0)).containsExactly("a", "b", "c");
+        }
+
+        @Test
+        @DisplayName("성공: batch-size에 못 미쳐도 flush-interval-ms가 지나면 기록한다")
+        void success_flushByInterval() throws InterruptedException {
+            // given
+            RecordingSink sink = new RecordingSink(1);
+            writer = writer(sink, 100, 100, 100, OverflowPolicy.DROP);
+            writer.start();
+
+            // when
+            writer.offer("a");
+
+            // then
+            assertThat(sink.latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(sink.batches.get(0)).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("성공: WRITE_THROUGH면 대기열이 가득 찼을 때 초과한 항목을 요청 스레드에서 바로 기록한다")
+        void success_writeThroughWhenFull() {
+            // given
+            RecordingSink sink = new RecordingSink(1);
+            writer = writer(sink, 2, 100, 60_000, OverflowPolicy.WRITE_THROUGH);
+
+            // when
+            writer.offer("a");
+            writer.offer("b");
+            writer.offer("c");
+
+            // then
+            assertThat(writer.pendingCount()).isEqualTo(2);
+            assertThat(sink.batches).containsExactly(List.of("c"));
+        }
+
+        @Test
+        @DisplayName("성공: DROP이면 대기열이 가득 찼을 때 초과한 항목을 버리고 요청 스레드는 막히지 않는다")
+        void success_dropWhenFull() {
+            // given
+            RecordingSink sink = new RecordingSink(1);
+            writer = writer(sink, 2, 100, 60_000, OverflowPolicy.DROP);
+
+            // when
+            writer.offer("a");
+            writer.offer("b");
+            writer.offer("c");
+
+            // then
+            assertThat(writer.pendingCount()).isEqualTo(2);
+            assertThat(sink.batches).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("discardIf - 대기 중인 항목 폐기")
+    class DiscardIfTest {
+
+        @Test
+        @DisplayName("성공: 조건에 맞는 대기 항목만 버리고 나머지는 기록한다")
+        void success() throws InterruptedException {
+            // given
+            RecordingSink sink = new RecordingSink(1);
+            BatchingWriter<String> discarding = writer(sink, 100, 100, 60_000, OverflowPolicy.DROP);
+            discarding.offer("keep");
+            discarding.offer("drop-1");
+            discarding.offer("drop-2");
+
+            // when
+            int discarded = discarding.discardIf(item -> item.startsWith("drop"));
+            discarding.stop();
+
+            // then
+            assertThat(discarded).isEqualTo(2);
+            assertThat(sink.batches).containsExactly(List.of("keep"));
+        }
+    }
+
+    @Nested
+    @DisplayName("stop - 종료 시 남은 항목 기록")
+    class StopTest {
+
+        @Test
+        @DisplayName("성공: 종료하면 대기열에 남은 항목을 batch-size 단위로 모두 기록한다")
+        void success() throws InterruptedException {
+            // given
+            RecordingSink sink = new RecordingSink(2);
+            BatchingWriter<String> stopping = writer(sink, 100, 2, 60_000, OverflowPolicy.DROP);
+            stopping.offer("a");
+            stopping.offer("b");
+            stopping.offer("c");
+
+            // when
+            stopping.stop();
+
+            // then
+            assertThat(sink.batches).hasSize(2);
+            assertThat(sink.itemCount()).isEqualTo(3);
+            assertThat(stopping.pendingCount()).isZero();
+        }
+    }
+}
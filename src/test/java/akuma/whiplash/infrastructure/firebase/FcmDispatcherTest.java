@@ -0,0 +1,81 @@
+package akuma.whiplash.infrastructure.firebase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.infrastructure.firebase.dto.FcmBatch;
+import akuma.whiplash.infrastructure.firebase.dto.FcmBatchResult;
+import akuma.whiplash.infrastructure.firebase.dto.FcmSendOutcome;
+import akuma.whiplash.infrastructure.firebase.transport.FakeFcmTransport;
+import akuma.whiplash.infrastructure.firebase.transport.FcmTransport;
+import com.google.firebase.messaging.MulticastMessage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FcmDispatcher Unit Test")
+class FcmDispatcherTest {
+
+    private FcmBatch<String> batch(String label, List<String> tokens) {
+        MulticastMessage message = MulticastMessage.builder()
+            .addAllTokens(tokens)
+            .putData("title", "눈 떠")
+            .build();
+        return new FcmBatch<>(label, tokens, tokens, message);
+    }
+
+    @Nested
+    @DisplayName("dispatch - 멀티캐스트 배치 동시 전송")
+    class DispatchTest {
+
+        @Test
+        @DisplayName("성공: 동시에 진행 중인 배치 수는 설정한 상한을 넘지 않고, 결과는 입력 순서대로 집계된다")
+        void success_boundedInFlight() {
+            // given
+            FakeFcmTransport transport = new FakeFcmTransport(50, "invalid-");
+            FcmDispatcher dispatcher = new FcmDispatcher(transport, 3, 1000);
+            List<FcmBatch<String>> batches = IntStream.range(0, 10)
+                .mapToObj(i -> batch("batch-" + i, List.of("token-" + i, "invalid-" + i)))
+                .toList();
+
+            // when
+            List<FcmBatchResult<String>> results = dispatcher.dispatch(batches);
+
+            // then
+            assertThat(transport.getMaxInFlight()).isBetween(2, 3);
+            assertThat(results).extracting(r -> r.batch().label())
+                .containsExactlyElementsOf(batches.stream().map(FcmBatch::label).toList());
+            assertThat(results).allSatisfy(r -> {
+                assertThat(r.completed()).isTrue();
+                assertThat(r.successCount()).isEqualTo(1);
+                assertThat(r.failureCount()).isEqualTo(1);
+            });
+            assertThat(dispatcher.availableSlots()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("실패: 제한 시간 안에 응답하지 않은 배치는 전체 실패로 처리되고, 슬롯은 전송이 실제로 끝나야 반납된다")
+        void fail_batchTimeout() {
+            // given
+            CompletableFuture<List<FcmSendOutcome>> pending = new CompletableFuture<>();
+            FcmTransport hangingTransport = (tokens, message) -> pending;
+            FcmDispatcher dispatcher = new FcmDispatcher(hangingTransport, 2, 50);
+
+            // when
+            List<FcmBatchResult<String>> results = dispatcher.dispatch(
+                List.of(batch("slow", List.of("token-1", "token-2"))));
+
+            // then
+            assertThat(results).singleElement().satisfies(r -> {
+                assertThat(r.completed()).isFalse();
+                assertThat(r.failureCount()).isEqualTo(2);
+            });
+            assertThat(dispatcher.availableSlots()).isEqualTo(1);
+
+            pending.complete(List.of());
+            assertThat(dispatcher.availableSlots()).isEqualTo(2);
+        }
+    }
+}
@@ -22,6 +22,8 @@ class FcmServiceTest {
     private FcmService fcmService;
     @Mock
     private RedisService redisService;
+    @Mock
+    private FcmDispatcher fcmDispatcher;
 
     @Nested
     @DisplayName("registerFcmToken - FCM 토큰 등록")
@@ -4,14 +4,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import akuma.whiplash.common.config.RedisContainerInitializer;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @DisplayName("RedisRepository Slice Test")
 @DataRedisTest
@@ -22,6 +30,25 @@ class RedisRepositoryTest {
     @Autowired
     private RedisRepository redisRepository;
 
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 운영 설정(RedisConfig)과 같이 트랜잭션 지원(MULTI)이 켜진 redisTemplate으로 구성
+     */
+    private RedisRepository transactionalRedisRepository() {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setEnableTransactionSupport(true);
+        redisTemplate.afterPropertiesSet();
+        return new RedisRepositoryImpl(redisTemplate, stringRedisTemplate);
+    }
+
     @Nested
     @DisplayName("deleteValues - 리프레시 토큰 삭제")
     class DeleteValuesTest {
@@ -70,4 +97,76 @@ class RedisRepositoryTest {
             assertThat(result).isEmpty();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("addSetValue / removeSetValue - 회원별 리프레시 토큰 디바이스 Set")
+    class SetValueTest {
+
+        @Test
+        @DisplayName("성공: 추가한 디바이스는 조회되고, 제거한 디바이스는 조회되지 않는다")
+        void success() {
+            // given
+            String key = "REFRESH_DEVICES:1";
+            redisRepository.addSetValue(key, "device-1", Duration.ofMinutes(10));
+            redisRepository.addSetValue(key, "device-2", Duration.ofMinutes(10));
+
+            // when
+            redisRepository.removeSetValue(key, "device-1");
+
+            // then
+            assertThat(redisRepository.getSetValues(key)).containsExactly("device-2");
+        }
+
+        @Test
+        @DisplayName("성공: 트랜잭션 안에서도 디바이스 Set을 조회한다 (MULTI 큐에 쌓이지 않음)")
+        void success_insideTransaction() {
+            // given
+            String key = "REFRESH_DEVICES:2";
+            redisRepository.addSetValue(key, "device-1", Duration.ofMinutes(10));
+            redisRepository.addSetValue(key, "device-2", Duration.ofMinutes(10));
+            RedisRepository repository = transactionalRedisRepository();
+
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                // when
+                Set<String> devices = repository.getSetValues(key);
+
+                // then
+                assertThat(devices).containsExactlyInAnyOrder("device-1", "device-2");
+            } finally {
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 존재하지 않는 키는 빈 Set을 반환한다")
+        void success_empty() {
+            // when & then
+            assertThat(redisRepository.getSetValues("REFRESH_DEVICES:999")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getKeys - SCAN 기반 키 패턴 조회")
+    class GetKeysTest {
+
+        @Test
+        @DisplayName("성공: 패턴에 맞는 키만 모두 반환한다")
+        void success() {
+            // given
+            redisRepository.setValues("REFRESH:2:device-1", "token1", Duration.ofMinutes(5));
+            redisRepository.setValues("REFRESH:2:device-2", "token2", Duration.ofMinutes(5));
+            redisRepository.setValues("REFRESH:3:device-1", "token3", Duration.ofMinutes(5));
+
+            // when
+            List<String> keys = redisRepository.getKeys("REFRESH:2:*");
+
+            // then
+            assertThat(keys).containsExactlyInAnyOrder("REFRESH:2:device-1", "REFRESH:2:device-2");
+        }
+    }
+}
@@ -5,6 +5,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 
 import akuma.whiplash.common.config.RedisContainerInitializer;
+import akuma.whiplash.domains.alarm.application.dto.etc.RingingPushInfo;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,8 +20,12 @@ import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @DisplayName("RedisService Repository Test")
 @DataRedisTest
@@ -30,6 +40,19 @@ class RedisServiceTest {
     @Autowired
     private RedisConnectionFactory connectionFactory;
 
+    /**
+     * 운영 설정(RedisConfig)과 같이 트랜잭션 지원(MULTI)이 켜진 redisTemplate으로 구성
+     */
+    private RedisService transactionalRedisService() {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setEnableTransactionSupport(true);
+        redisTemplate.afterPropertiesSet();
+        return new RedisService(redisTemplate);
+    }
+
     @AfterEach
     void clean() {
         try (RedisConnection conn = connectionFactory.getConnection()) {
@@ -83,4 +106,148 @@ class RedisServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    @Nested
+    @DisplayName("getFcmTokensBulk - 여러 회원의 FCM 토큰 일괄 조회")
+    class GetFcmTokensBulkTest {
+
+        @Test
+        @DisplayName("성공: 회원별 토큰 Set을 한 번에 조회하고, 토큰이 없는 회원은 빈 Set으로 반환한다")
+        void success() {
+            redisService.upsertFcmToken(1L, "deviceA", "tokenA");
+            redisService.upsertFcmToken(1L, "deviceB", "tokenB");
+            redisService.upsertFcmToken(2L, "deviceC", "tokenC");
+
+            Map<Long, Set<String>> result = redisService.getFcmTokensBulk(List.of(1L, 2L, 3L, 1L));
+
+            assertThat(result).hasSize(3);
+            assertThat(result.get(1L)).containsExactlyInAnyOrder("tokenA", "tokenB");
+            assertThat(result.get(2L)).containsExactly("tokenC");
+            assertThat(result.get(3L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 빈 목록을 조회하면 빈 Map을 반환한다")
+        void success_empty() {
+            assertThat(redisService.getFcmTokensBulk(List.of())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getRingingAlarms - 울리는 중인 알람 조회")
+    class GetRingingAlarmsTest {
+
+        private final long now = System.currentTimeMillis();
+
+        @Test
+        @DisplayName("성공: 등록된 울리는 중인 알람을 반환하고, 해제된 알람은 제외한다")
+        void success() {
+            redisService.addRingingAlarm(10L, 1L, 100L, now);
+            redisService.addRingingAlarm(11L, 2L, 100L, now);
+            redisService.addRingingAlarm(12L, 3L, 200L, now);
+
+            redisService.removeRingingAlarm(10L, 1L, 100L);
+            redisService.removeRingingAlarms(List.of(12L), 3L, 200L);
+
+            List<RingingPushInfo> result = redisService.getRingingAlarms(now);
+
+            assertThat(result).extracting(RingingPushInfo::occurrenceId).containsExactly(11L);
+            assertThat(result.get(0).alarmId()).isEqualTo(2L);
+            assertThat(result.get(0).memberId()).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("성공: 만료 시간이 지난(방치된) 알람은 정리되어 조회되지 않는다")
+        void success_expired() {
+            redisService.addRingingAlarm(10L, 1L, 100L, now - Duration.ofHours(2).toMillis());
+            redisService.addRingingAlarm(11L, 2L, 100L, now);
+
+            List<RingingPushInfo> result = redisService.getRingingAlarms(now);
+
+            assertThat(result).extracting(RingingPushInfo::occurrenceId).containsExactly(11L);
+        }
+
+        @Test
+        @DisplayName("성공: 울림 시작 시각과 마지막 푸시 전송 시각을 함께 반환한다")
+        void success_lastSent() {
+            redisService.addRingingAlarm(10L, 1L, 100L, now - 5000);
+            redisService.addRingingAlarm(11L, 2L, 100L, now);
+
+            redisService.markRingingPushSent(redisService.getRingingAlarms(now).subList(0, 1), now);
+            List<RingingPushInfo> result = redisService.getRingingAlarms(now);
+
+            assertThat(result).extracting(RingingPushInfo::occurrenceId).containsExactly(10L, 11L);
+            assertThat(result.get(0).ringStartedAtMillis()).isEqualTo(now - 5000);
+            assertThat(result.get(0).lastSentAtMillis()).isEqualTo(now);
+            assertThat(result.get(1).lastSentAtMillis()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 해제 후 다시 울리면 마지막 푸시 전송 시각이 초기화된다")
+        void success_resetLastSentOnRemove() {
+            redisService.addRingingAlarm(10L, 1L, 100L, now);
+            redisService.markRingingPushSent(redisService.getRingingAlarms(now), now);
+
+            redisService.removeRingingAlarm(10L, 1L, 100L);
+            redisService.addRingingAlarm(10L, 1L, 100L, now);
+
+            assertThat(redisService.getRingingAlarms(now).get(0).lastSentAtMillis()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 회원의 울리는 중인 알람을 모두 제거한다")
+        void success_removeMember() {
+            redisService.addRingingAlarm(10L, 1L, 1L, now);
+            redisService.addRingingAlarm(11L, 2L, 11L, now);
+
+            redisService.removeRingingAlarmsOfMember(1L);
+
+            assertThat(redisService.getRingingAlarms(now))
+                .extracting(RingingPushInfo::memberId).containsExactly(11L);
+        }
+
+        @Test
+        @DisplayName("성공: 트랜잭션 안에서 호출해도 커밋 시 회원의 울리는 중인 알람을 제거한다 (MULTI 큐에 쌓이지 않음)")
+        void success_removeMemberInsideTransaction() {
+            redisService.addRingingAlarm(10L, 1L, 1L, now);
+            redisService.addRingingAlarm(11L, 2L, 11L, now);
+            redisService.addRingingAlarm(12L, 3L, 11L, now);
+            RedisService transactional = transactionalRedisService();
+
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                // 앞선 쓰기로 MULTI 커넥션이 이미 트랜잭션에 묶인 상태
+                transactional.removeRingingAlarm(12L, 3L, 11L);
+                transactional.removeRingingAlarmsOfMember(1L);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(redisService.getRingingAlarms(now))
+                .extracting(RingingPushInfo::alarmId).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getReminderWatermarks - 리마인드 스캔 워터마크 조회")
+    class ReminderWatermarkTest {
+
+        @Test
+        @DisplayName("성공: 샤드별로 저장한 워터마크를 반환하고, 저장하지 않은 샤드는 제외한다")
+        void success() {
+            LocalDateTime watermark = LocalDateTime.of(2025, 8, 27, 9, 0);
+            redisService.setReminderWatermarks(List.of(0, 1), watermark);
+
+            Map<Integer, LocalDateTime> result = redisService.getReminderWatermarks(List.of(0, 1, 2));
+
+            assertThat(result).containsOnly(Map.entry(0, watermark), Map.entry(1, watermark));
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package akuma.whiplash.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akuma.whiplash.common.config.RedisContainerInitializer;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * 한 JVM 안에서 여러 노드(코디네이터 인스턴스)가 같은 Redis를 공유하는 상황을 재현한다.
+ */
+@DisplayName("SchedulerShardCoordinator Redis Test")
+@DataRedisTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {RedisContainerInitializer.class})
+class SchedulerShardCoordinatorTest {
+
+    private static final int SHARD_COUNT = 16;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @AfterEach
+    void clean() {
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            conn.serverCommands().flushAll();
+        }
+    }
+
+    private SchedulerShardCoordinator node(long leaseMillis) {
+        return new SchedulerShardCoordinator(redisTemplate, true, SHARD_COUNT, leaseMillis);
+    }
+
+    private void heartbeatRounds(int rounds, List<SchedulerShardCoordinator> nodes) {
+        for (int i = 0; i < rounds; i++) {
+            nodes.forEach(SchedulerShardCoordinator::heartbeat);
+        }
+    }
+
+    private void assertPartitioned(List<SchedulerShardCoordinator> nodes) {
+        Set<Integer> union = new HashSet<>();
+        int total = 0;
+        for (SchedulerShardCoordinator node : nodes) {
+            union.addAll(node.getOwnedShards());
+            total += node.getOwnedShards().size();
+        }
+
+        assertThat(total).as("샤드는 한 노드만 점유").isEqualTo(SHARD_COUNT);
+        assertThat(union).containsExactlyInAnyOrderElementsOf(IntStream.range(0, SHARD_COUNT).boxed().toList());
+    }
+
+    @Nested
+    @DisplayName("heartbeat - 샤드 점유/재분배")
+    class HeartbeatTest {
+
+        @Test
+        @DisplayName("성공: 여러 노드가 샤드를 겹치지 않게 고르게 나눠 가진다")
+        void success_partition() {
+            List<SchedulerShardCoordinator> nodes = List.of(node(10_000), node(10_000), node(10_000));
+
+            heartbeatRounds(3, nodes);
+
+            assertPartitioned(nodes);
+            nodes.forEach(node -> assertThat(node.getOwnedShards().size()).isLessThanOrEqualTo(6));
+        }
+
+        @Test
+        @DisplayName("성공: 새 노드가 들어오면 기존 노드가 목표치를 넘는 샤드를 반납한다")
+        void success_join() {
+            SchedulerShardCoordinator first = node(10_000);
+            heartbeatRounds(1, List.of(first));
+            assertThat(first.getOwnedShards()).hasSize(SHARD_COUNT);
+
+            SchedulerShardCoordinator second = node(10_000);
+            heartbeatRounds(3, List.of(first, second));
+
+            assertPartitioned(List.of(first, second));
+            assertThat(second.getOwnedShards()).hasSize(SHARD_COUNT / 2);
+        }
+
+        @Test
+        @DisplayName("성공: 노드의 lease가 만료되면 남은 노드가 해당 샤드를 가져간다")
+        void success_rebalanceOnExpiry() throws InterruptedException {
+            SchedulerShardCoordinator dead = node(500);
+            SchedulerShardCoordinator alive1 = node(500);
+            SchedulerShardCoordinator alive2 = node(500);
+            heartbeatRounds(3, List.of(dead, alive1, alive2));
+
+            // dead 노드는 더 이상 heartbeat 하지 않음
+            Thread.sleep(700);
+            heartbeatRounds(3, List.of(alive1, alive2));
+
+            assertPartitioned(List.of(alive1, alive2));
+        }
+
+        @Test
+        @DisplayName("성공: 정상 종료한 노드의 샤드는 lease 만료를 기다리지 않고 바로 가져간다")
+        void success_leave() {
+            SchedulerShardCoordinator leaving = node(10_000);
+            SchedulerShardCoordinator staying = node(10_000);
+            heartbeatRounds(3, List.of(leaving, staying));
+
+            leaving.leave();
+            heartbeatRounds(1, List.of(staying));
+
+            assertThat(staying.getOwnedShards()).hasSize(SHARD_COUNT);
+        }
+    }
+
+    @Nested
+    @DisplayName("filterOwned - 점유 샤드 대상 필터링")
+    class FilterOwnedTest {
+
+        @Test
+        @DisplayName("성공: 모든 회원은 정확히 한 노드에서만 처리된다")
+        void success() {
+            List<SchedulerShardCoordinator> nodes = List.of(node(10_000), node(10_000));
+            heartbeatRounds(3, nodes);
+            List<Long> memberIds = IntStream.rangeClosed(1, 100).mapToObj(Long::valueOf).toList();
+
+            int processed = nodes.stream()
+                .mapToInt(node -> node.filterOwned(memberIds, memberId -> memberId).size())
+                .sum();
+
+            assertThat(processed).isEqualTo(memberIds.size());
+        }
+
+        @Test
+        @DisplayName("성공: coordination이 꺼져 있으면 모든 대상을 처리한다")
+        void success_disabled() {
+            SchedulerShardCoordinator disabled = new SchedulerShardCoordinator(redisTemplate, false, SHARD_COUNT, 10_000);
+
+            assertThat(disabled.filterOwned(List.of(1L, 2L, 3L), memberId -> memberId)).hasSize(3);
+            assertThat(disabled.ownsMember(1L)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("tryAcquireJob - 단일 실행 작업 권한")
+    class TryAcquireJobTest {
+
+        @Test
+        @DisplayName("성공: 같은 실행 키로는 한 노드만 실행 권한을 얻는다")
+        void success() {
+            SchedulerShardCoordinator node1 = node(10_000);
+            SchedulerShardCoordinator node2 = node(10_000);
+
+            boolean first = node1.tryAcquireJob("batch", "2025-08-27", Duration.ofMinutes(1));
+            boolean second = node2.tryAcquireJob("batch", "2025-08-27", Duration.ofMinutes(1));
+            boolean nextDay = node2.tryAcquireJob("batch", "2025-08-28", Duration.ofMinutes(1));
+
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(nextDay).isTrue();
+        }
+    }
+}